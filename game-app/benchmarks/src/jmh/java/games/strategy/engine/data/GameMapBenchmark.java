@@ -0,0 +1,73 @@
+package games.strategy.engine.data;
+
+import games.strategy.triplea.delegate.Matches;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.triplea.benchmarks.GameXmls;
+
+/**
+ * Measures {@link GameMap#getDistance} and {@link GameMap#getRoute} between a fixed set of
+ * territory pairs, picked at random with a constant seed so that every run measures the same pairs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GameMapBenchmark {
+  private static final int PAIRS = 256;
+
+  @Param({
+    "Big_World_1942_v3rules.xml",
+    "Total_World_War_Dec1941.xml",
+    "ww2_g40_balanced.xml",
+    "Napoleonic_Empires.xml"
+  })
+  public String gameXml;
+
+  private GameMap gameMap;
+  private final Territory[] starts = new Territory[PAIRS];
+  private final Territory[] ends = new Territory[PAIRS];
+
+  @Setup
+  public void pickTerritoryPairs() {
+    gameMap = GameXmls.parse(gameXml).getMap();
+    final List<Territory> territories = gameMap.getTerritories();
+    final Random random = new Random(42);
+    for (int i = 0; i < PAIRS; i++) {
+      starts[i] = territories.get(random.nextInt(territories.size()));
+      ends[i] = territories.get(random.nextInt(territories.size()));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(PAIRS)
+  public void getDistance(final Blackhole blackhole) {
+    for (int i = 0; i < PAIRS; i++) {
+      blackhole.consume(gameMap.getDistance(starts[i], ends[i]));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(PAIRS)
+  public void getLandRoute(final Blackhole blackhole) {
+    for (int i = 0; i < PAIRS; i++) {
+      blackhole.consume(gameMap.getRoute(starts[i], ends[i], Matches.territoryIsLand()));
+    }
+  }
+}
@@ -0,0 +1,50 @@
+package games.strategy.engine.data.gameparser;
+
+import games.strategy.engine.data.GameData;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.triplea.benchmarks.GameXmls;
+
+/**
+ * Measures a full {@link GameParser} parse of game XMLs, from reading the file to a game data that
+ * can be played, without the parsed game cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GameParserBenchmark {
+  @Param({
+    "Big_World_1942_v3rules.xml",
+    "Total_World_War_Dec1941.xml",
+    "ww2_g40_balanced.xml",
+    "Napoleonic_Empires.xml"
+  })
+  public String gameXml;
+
+  private Path xmlFile;
+
+  @Setup
+  public void locateGameXml() {
+    xmlFile = GameXmls.path(gameXml);
+  }
+
+  @Benchmark
+  public GameData parse() {
+    return GameParser.parse(xmlFile, new XmlGameElementMapper(), GameXmls.ENGINE_VERSION)
+        .orElseThrow();
+  }
+}
@@ -0,0 +1,65 @@
+package games.strategy.engine.framework;
+
+import games.strategy.engine.data.GameData;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.triplea.benchmarks.GameXmls;
+import org.triplea.io.IoUtils;
+
+/**
+ * Measures copying a game with {@link GameDataUtils#cloneGameData}, as the AI and the battle
+ * calculator do, and saving and loading a game with {@link GameDataManager}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GameDataBenchmark {
+  @Param({
+    "Big_World_1942_v3rules.xml",
+    "Total_World_War_Dec1941.xml",
+    "ww2_g40_balanced.xml",
+    "Napoleonic_Empires.xml"
+  })
+  public String gameXml;
+
+  private GameData gameData;
+  private byte[] savedGame;
+
+  @Setup
+  public void parseGame() throws IOException {
+    gameData = GameXmls.parse(gameXml);
+    savedGame = saveGame();
+  }
+
+  @Benchmark
+  public GameData cloneGameData() {
+    return GameDataUtils.cloneGameData(gameData, false, GameXmls.ENGINE_VERSION).orElseThrow();
+  }
+
+  @Benchmark
+  public byte[] saveGame() throws IOException {
+    return IoUtils.writeToMemory(
+        os -> GameDataManager.saveGame(os, gameData, GameXmls.ENGINE_VERSION));
+  }
+
+  @Benchmark
+  public GameData loadGame() throws IOException {
+    return IoUtils.readFromMemory(
+            savedGame, is -> GameDataManager.loadGame(GameXmls.ENGINE_VERSION, is))
+        .orElseThrow();
+  }
+}
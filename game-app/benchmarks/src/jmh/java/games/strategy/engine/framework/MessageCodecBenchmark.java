@@ -0,0 +1,111 @@
+package games.strategy.engine.framework;
+
+import games.strategy.engine.data.Change;
+import games.strategy.engine.data.CompositeChange;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.changefactory.ChangeFactory;
+import games.strategy.engine.message.HubInvoke;
+import games.strategy.engine.message.RemoteMethodCall;
+import games.strategy.net.MessageHeader;
+import games.strategy.net.Node;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.triplea.benchmarks.GameXmls;
+import org.triplea.io.IoUtils;
+import org.triplea.java.function.ThrowingFunction;
+
+/**
+ * Measures writing and reading a typical game change message, a unit move broadcast on the game
+ * modified channel, with the standard and the compact encoding of {@link GameObjectStreamFactory}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MessageCodecBenchmark {
+  private GameObjectStreamFactory factory;
+  private MessageHeader message;
+  private byte[] standardMessage;
+  private byte[] compactMessage;
+
+  @Setup
+  public void createMessage() throws Exception {
+    final GameData gameData = GameXmls.parse("ww2_g40_balanced.xml");
+    factory = new GameObjectStreamFactory(gameData);
+    final Territory from = gameData.getMap().getTerritory("Germany");
+    final Territory to = gameData.getMap().getTerritory("Poland");
+    final Change change =
+        new CompositeChange(
+            ChangeFactory.moveUnits(from, to, from.getUnitCollection().getUnits()),
+            ChangeFactory.changeOwner(to, gameData.getPlayerList().getPlayerId("Russians")));
+    final RemoteMethodCall call =
+        new RemoteMethodCall(
+            IGame.GAME_MODIFICATION_CHANNEL.getName(),
+            IGameModifiedChannel.class.getMethod("gameDataChanged", Change.class),
+            new Object[] {change});
+    final Node server = new Node("server", InetAddress.getLoopbackAddress(), 3300);
+    message = new MessageHeader(null, server, new HubInvoke(null, false, call));
+    standardMessage = writeStandard();
+    compactMessage = writeCompact();
+  }
+
+  private byte[] write(
+      final ThrowingFunction<OutputStream, ObjectOutputStream, IOException> streamFactory)
+      throws IOException {
+    return IoUtils.writeToMemory(
+        os -> {
+          try (ObjectOutputStream out = streamFactory.apply(os)) {
+            out.writeObject(message);
+          }
+        });
+  }
+
+  private Object read(final byte[] bytes) throws IOException {
+    return IoUtils.readFromMemory(
+        bytes,
+        is -> {
+          try (ObjectInputStream in = factory.create(is)) {
+            return in.readObject();
+          } catch (final ClassNotFoundException e) {
+            throw new IOException(e);
+          }
+        });
+  }
+
+  @Benchmark
+  public byte[] writeStandard() throws IOException {
+    return write(factory::create);
+  }
+
+  @Benchmark
+  public byte[] writeCompact() throws IOException {
+    return write(factory::createCompact);
+  }
+
+  @Benchmark
+  public Object readStandard() throws IOException {
+    return read(standardMessage);
+  }
+
+  @Benchmark
+  public Object readCompact() throws IOException {
+    return read(compactMessage);
+  }
+}
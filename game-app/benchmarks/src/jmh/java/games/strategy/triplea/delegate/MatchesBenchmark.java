@@ -0,0 +1,98 @@
+package games.strategy.triplea.delegate;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GamePlayer;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import games.strategy.triplea.attachments.UnitAttachment;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.triplea.benchmarks.GameXmls;
+import org.triplea.java.collections.CollectionUtils;
+
+/**
+ * Measures {@link CollectionUtils#getMatches} over all units of a game with a chain of unit type
+ * predicates, once with the {@link Matches} predicates that test the unit type capabilities and
+ * once with equivalent predicates that look up the unit attachment of every unit. Also measures
+ * the owner and enemy unit queries made on the unit collection of every territory. Run with {@code
+ * ./gradlew :game-app:benchmarks:jmh}, results are written to {@code
+ * build/results/jmh/results-<version>.json}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MatchesBenchmark {
+  @Param({"Total_World_War_Dec1941.xml", "ww2_g40_balanced.xml"})
+  public String gameXml;
+
+  private final List<Unit> units = new ArrayList<>();
+  private List<Territory> territories;
+  private Predicate<Unit> ownedMatch;
+  private Predicate<Unit> enemyMatch;
+
+  private final Predicate<Unit> capabilityMatch =
+      Matches.unitIsLand()
+          .and(Matches.unitIsNotInfrastructure())
+          .and(Matches.unitIsNotAa())
+          .and(Matches.unitIsFirstStrike().negate());
+
+  private final Predicate<Unit> attachmentMatch =
+      ((Predicate<Unit>) unit -> !UnitAttachment.get(unit.getType()).getIsSea())
+          .and(unit -> !UnitAttachment.get(unit.getType()).getIsAir())
+          .and(unit -> !UnitAttachment.get(unit.getType()).getIsInfrastructure())
+          .and(
+              unit -> {
+                final UnitAttachment ua = UnitAttachment.get(unit.getType());
+                return !ua.getIsAaForBombingThisUnitOnly()
+                    && !ua.getIsAaForCombatOnly()
+                    && !ua.getIsAaForFlyOverOnly();
+              })
+          .and(unit -> !UnitAttachment.get(unit.getType()).getIsFirstStrike());
+
+  @Setup
+  public void parseGame() {
+    final GameData gameData = GameXmls.parse(gameXml);
+    territories = gameData.getMap().getTerritories();
+    for (final Territory territory : territories) {
+      units.addAll(territory.getUnitCollection().getUnits());
+    }
+    final GamePlayer player = gameData.getPlayerList().getPlayers().get(0);
+    ownedMatch = Matches.unitIsOwnedBy(player);
+    enemyMatch = Matches.enemyUnit(player, gameData.getRelationshipTracker());
+  }
+
+  @Benchmark
+  public List<Unit> getMatchesWithCapabilities() {
+    return CollectionUtils.getMatches(units, capabilityMatch);
+  }
+
+  @Benchmark
+  public List<Unit> getMatchesWithAttachmentLookups() {
+    return CollectionUtils.getMatches(units, attachmentMatch);
+  }
+
+  @Benchmark
+  public void getTerritoryMatches(final Blackhole blackhole) {
+    for (final Territory territory : territories) {
+      blackhole.consume(territory.getUnitCollection().getMatches(ownedMatch));
+      blackhole.consume(territory.getUnitCollection().getMatches(enemyMatch));
+    }
+  }
+}
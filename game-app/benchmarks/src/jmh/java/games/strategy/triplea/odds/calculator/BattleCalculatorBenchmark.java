@@ -0,0 +1,72 @@
+package games.strategy.triplea.odds.calculator;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GamePlayer;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import games.strategy.triplea.delegate.Matches;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.triplea.benchmarks.GameXmls;
+
+/**
+ * Measures {@link BattleCalculator#calculate} for canned land battles of the ww2_g40_balanced game:
+ * a Russian army attacks the German units placed at the start of the game in a small (Poland) and
+ * a large (Germany) battle.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BattleCalculatorBenchmark {
+  private static final int RUN_COUNT = 200;
+
+  @Param({"Poland", "Germany"})
+  public String battleSite;
+
+  private BattleCalculator battleCalculator;
+  private GamePlayer attacker;
+  private GamePlayer defender;
+  private Territory location;
+  private final List<Unit> attacking = new ArrayList<>();
+  private List<Unit> defending;
+
+  @Setup
+  public void setUpBattle() {
+    final GameData gameData = GameXmls.parse("ww2_g40_balanced.xml");
+    attacker = gameData.getPlayerList().getPlayerId("Russians");
+    defender = gameData.getPlayerList().getPlayerId("Germans");
+    location = gameData.getMap().getTerritory(battleSite);
+    defending = location.getUnitCollection().getMatches(Matches.unitIsOwnedBy(defender));
+    addAttackers(gameData, "infantry", 12);
+    addAttackers(gameData, "artillery", 4);
+    addAttackers(gameData, "armour", 6);
+    addAttackers(gameData, "fighter", 3);
+    battleCalculator = new BattleCalculator(gameData, false, GameXmls.ENGINE_VERSION);
+  }
+
+  private void addAttackers(final GameData gameData, final String unitType, final int quantity) {
+    attacking.addAll(
+        gameData.getUnitTypeList().getUnitType(unitType).create(quantity, attacker));
+  }
+
+  @Benchmark
+  public AggregateResults calculate() {
+    return battleCalculator.calculate(
+        attacker, defender, location, attacking, defending, List.of(), List.of(), false, RUN_COUNT);
+  }
+}
@@ -0,0 +1,28 @@
+package org.triplea.benchmarks;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.gameparser.GameParser;
+import games.strategy.engine.data.gameparser.XmlGameElementMapper;
+import java.nio.file.Path;
+import org.triplea.util.Version;
+
+/**
+ * Locates and parses the game XMLs the benchmarks run on. The XMLs are read from the folder in the
+ * {@code gameXmlDir} system property, which the build points to the game-core test resources.
+ */
+public final class GameXmls {
+  /** Engine version the benchmarks parse, save and load games with. */
+  public static final Version ENGINE_VERSION = new Version("2.0.0");
+
+  private GameXmls() {}
+
+  public static Path path(final String gameXml) {
+    return Path.of(System.getProperty("gameXmlDir"), gameXml);
+  }
+
+  public static GameData parse(final String gameXml) {
+    final Path xmlFile = path(gameXml);
+    return GameParser.parse(xmlFile, new XmlGameElementMapper(), ENGINE_VERSION)
+        .orElseThrow(() -> new IllegalStateException("Error parsing: " + xmlFile));
+  }
+}
@@ -0,0 +1,136 @@
+package org.triplea.http.client.web.socket;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.triplea.domain.data.ChatParticipant;
+import org.triplea.domain.data.LobbyGame;
+import org.triplea.domain.data.UserName;
+import org.triplea.http.client.lobby.game.lobby.watcher.LobbyGameListing;
+import org.triplea.http.client.web.socket.messages.WebSocketMessage;
+import org.triplea.http.client.web.socket.messages.envelopes.chat.ChatReceivedMessage;
+import org.triplea.http.client.web.socket.messages.envelopes.chat.ChatterListingMessage;
+import org.triplea.http.client.web.socket.messages.envelopes.game.listing.LobbyGameUpdatedMessage;
+
+/**
+ * Measures encoding and decoding typical lobby messages in each {@link EnvelopeFormat}: a chat
+ * message, a game listing update and the chatter listing sent to a player joining the lobby.
+ * Encoding creates a new envelope per operation, as a broadcast encodes once per format.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MessageEnvelopeCodecBenchmark {
+  @Param({"chat", "gameListing", "chatterListing"})
+  public String messageName;
+
+  private WebSocketMessage message;
+  private String legacyMessage;
+  private String inlineMessage;
+  private ByteBuffer deflatedMessage;
+
+  @Setup
+  public void createMessage() {
+    message = newMessage(messageName);
+    legacyMessage = MessageEnvelopeCodec.encode(message.toEnvelope(), EnvelopeFormat.LEGACY);
+    inlineMessage = MessageEnvelopeCodec.encode(message.toEnvelope(), EnvelopeFormat.INLINE);
+    MessageEnvelopeCodec.send(
+        message.toEnvelope(),
+        EnvelopeFormat.INLINE_DEFLATE,
+        text -> deflatedMessage = null,
+        data -> deflatedMessage = data);
+  }
+
+  private static WebSocketMessage newMessage(final String messageName) {
+    switch (messageName) {
+      case "chat":
+        return new ChatReceivedMessage(
+            UserName.of("player"), "Anyone up for a game of Global 1940? Allies please.");
+      case "gameListing":
+        return new LobbyGameUpdatedMessage(
+            LobbyGameListing.builder()
+                .gameId("4f8e2a3c-5b1d-4c7e-9a6f-2d3b8c1e0f7a")
+                .lobbyGame(
+                    LobbyGame.builder()
+                        .hostAddress("127.0.0.1")
+                        .hostPort(3300)
+                        .hostName("Bot01_Server")
+                        .mapName("World War II Global 1940 2nd Edition")
+                        .playerCount(2)
+                        .gameRound(12)
+                        .epochMilliTimeStarted(1_600_000_000_000L)
+                        .passworded(false)
+                        .status("In Progress")
+                        .comments("automated host, ranked games welcome")
+                        .build())
+                .build());
+      case "chatterListing":
+        return new ChatterListingMessage(
+            IntStream.range(0, 200)
+                .mapToObj(
+                    i ->
+                        ChatParticipant.builder()
+                            .userName("player" + i)
+                            .playerChatId("chat-id-" + i)
+                            .isModerator(i % 50 == 0)
+                            .status(i % 3 == 0 ? "Playing in Bot0" + (i % 10) + "_Server" : "")
+                            .build())
+                .collect(Collectors.toList()));
+      default:
+        throw new IllegalArgumentException("Unknown message: " + messageName);
+    }
+  }
+
+  @Benchmark
+  public String encodeLegacy() {
+    return MessageEnvelopeCodec.encode(message.toEnvelope(), EnvelopeFormat.LEGACY);
+  }
+
+  @Benchmark
+  public String encodeInline() {
+    return MessageEnvelopeCodec.encode(message.toEnvelope(), EnvelopeFormat.INLINE);
+  }
+
+  @Benchmark
+  public void encodeInlineDeflate(final Blackhole blackhole) {
+    MessageEnvelopeCodec.send(
+        message.toEnvelope(),
+        EnvelopeFormat.INLINE_DEFLATE,
+        blackhole::consume,
+        blackhole::consume);
+  }
+
+  @Benchmark
+  public Object decodeLegacy() {
+    return MessageEnvelopeCodec.decode(legacyMessage).getPayload(message.getClass());
+  }
+
+  @Benchmark
+  public Object decodeInline() {
+    return MessageEnvelopeCodec.decode(inlineMessage).getPayload(message.getClass());
+  }
+
+  @Benchmark
+  public Object decodeInlineDeflate() {
+    return deflatedMessage == null
+        ? decodeInline()
+        : MessageEnvelopeCodec.decode(MessageEnvelopeCodec.inflate(deflatedMessage.duplicate()))
+            .getPayload(message.getClass());
+  }
+}
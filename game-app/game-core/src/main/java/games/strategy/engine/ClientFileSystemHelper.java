@@ -74,6 +74,14 @@ public final class ClientFileSystemHelper {
     return Files.exists(rootDir) ? rootDir : userHome.resolve("triplea");
   }
 
+  /**
+   * Returns location of the folder where data derived from other user content is cached, for
+   * example indexes of the downloaded maps. Contents of this folder can be deleted at any time.
+   */
+  public static Path getUserCacheFolder() {
+    return getUserRootFolder().resolve("cache");
+  }
+
   /**
    * Returns location of the folder containing downloaded TripleA maps. The folder will be created
    * if it does not exist.
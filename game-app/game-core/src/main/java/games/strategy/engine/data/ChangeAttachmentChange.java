@@ -95,6 +95,9 @@ public class ChangeAttachmentChange extends Change {
               newValue, property, attachmentName, attachedTo),
           e);
     }
+    if (attachedTo instanceof UnitType) {
+      ((UnitType) attachedTo).resetCapabilities();
+    }
   }
 
   @Override
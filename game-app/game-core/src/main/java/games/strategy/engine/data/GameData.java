@@ -3,6 +3,7 @@ package games.strategy.engine.data;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.MoreObjects;
 import games.strategy.engine.data.events.GameDataChangeListener;
+import games.strategy.engine.data.events.TerritoryChanges;
 import games.strategy.engine.data.events.TerritoryListener;
 import games.strategy.engine.data.properties.GameProperties;
 import games.strategy.engine.delegate.IDelegate;
@@ -22,9 +23,11 @@ import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -39,6 +42,8 @@ import org.triplea.io.IoUtils;
 import org.triplea.java.RemoveOnNextMajorRelease;
 import org.triplea.map.description.file.MapDescriptionYaml;
 import org.triplea.map.game.notes.GameNotes;
+import org.triplea.performance.Metrics;
+import org.triplea.performance.Timer;
 import org.triplea.util.Tuple;
 import org.triplea.util.Version;
 
@@ -74,6 +79,8 @@ public class GameData implements Serializable, GameState {
   /** When we load a game from a save file, this property will be the name of that file. */
   private static final String SAVE_GAME_FILE_NAME_PROPERTY = "save.game.file.name";
 
+  private static final Timer performChangeTimer = Metrics.timer("game-data.perform-change");
+
   private transient ReadWriteLock readWriteLock = new ReentrantReadWriteLock();
   private transient volatile boolean forceInSwingEventThread = false;
   private String gameName;
@@ -109,6 +116,24 @@ public class GameData implements Serializable, GameState {
   private final Map<String, TerritoryEffect> territoryEffectList = new HashMap<>();
   private final BattleRecordsList battleRecordsList = new BattleRecordsList(this);
   private transient GameDataEventListeners gameDataEventListeners = new GameDataEventListeners();
+  private transient volatile GameDataIndex index;
+  /** Territory notifications collected while a change is performed, null otherwise. */
+  private transient volatile TerritoryChangeBatch territoryChangeBatch;
+
+  /** Collects the territory notifications of the thread performing a change. */
+  private static final class TerritoryChangeBatch {
+    private final Thread thread = Thread.currentThread();
+    private final Set<Territory> unitsChanged = new LinkedHashSet<>();
+    private final Set<Territory> ownerChanged = new LinkedHashSet<>();
+    private final Set<Territory> attachmentChanged = new LinkedHashSet<>();
+
+    TerritoryChanges toTerritoryChanges() {
+      return new TerritoryChanges(
+          Collections.unmodifiableSet(unitsChanged),
+          Collections.unmodifiableSet(ownerChanged),
+          Collections.unmodifiableSet(attachmentChanged));
+    }
+  }
 
   private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
     // The process of deserializing makes use of this lock,
@@ -280,15 +305,96 @@ public class GameData implements Serializable, GameState {
   }
 
   void notifyTerritoryUnitsChanged(final Territory t) {
-    territoryListeners.forEach(territoryListener -> territoryListener.unitsChanged(t));
+    final GameDataIndex index = this.index;
+    if (index != null) {
+      index.territoryUnitsChanged(t);
+    }
+    final TerritoryChangeBatch batch = getCurrentTerritoryChangeBatch();
+    if (batch != null) {
+      batch.unitsChanged.add(t);
+    } else {
+      territoryListeners.forEach(territoryListener -> territoryListener.unitsChanged(t));
+    }
+  }
+
+  void notifyUnitOwnerChanged(final Unit unit) {
+    final GameDataIndex index = this.index;
+    // units that are not in a territory, like the ones being constructed, are not indexed by owner
+    if (index == null || index.getTerritory(unit).isEmpty()) {
+      return;
+    }
+    if (getCurrentTerritoryChangeBatch() != null) {
+      // a change re-indexes the territories of its units once, when it has been performed
+      index.unitOwnerChanged(unit);
+      return;
+    }
+    acquireWriteLock();
+    try {
+      index.unitOwnerChanged(unit);
+      index.updateUnitOwners();
+    } finally {
+      releaseWriteLock();
+    }
   }
 
   void notifyTerritoryAttachmentChanged(final Territory t) {
-    territoryListeners.forEach(territoryListener -> territoryListener.attachmentChanged(t));
+    final TerritoryChangeBatch batch = getCurrentTerritoryChangeBatch();
+    if (batch != null) {
+      batch.attachmentChanged.add(t);
+    } else {
+      territoryListeners.forEach(territoryListener -> territoryListener.attachmentChanged(t));
+    }
   }
 
   void notifyTerritoryOwnerChanged(final Territory t) {
-    territoryListeners.forEach(territoryListener -> territoryListener.ownerChanged(t));
+    final GameDataIndex index = this.index;
+    if (index != null) {
+      index.territoryOwnerChanged(t);
+    }
+    final TerritoryChangeBatch batch = getCurrentTerritoryChangeBatch();
+    if (batch != null) {
+      batch.ownerChanged.add(t);
+    } else {
+      territoryListeners.forEach(territoryListener -> territoryListener.ownerChanged(t));
+    }
+  }
+
+  /** Returns the batch of the change being performed by the current thread, if any. */
+  private TerritoryChangeBatch getCurrentTerritoryChangeBatch() {
+    final TerritoryChangeBatch batch = territoryChangeBatch;
+    return batch != null && batch.thread == Thread.currentThread() ? batch : null;
+  }
+
+  /**
+   * Returns the secondary indexes of territories and units by owner. The index is built on first
+   * use and is then kept up to date as changes are performed. As with all other game data, the read
+   * lock should be held while reading the index.
+   *
+   * <p>The index is built while holding the read lock, so that no change can be performed between
+   * the scan of the game data and the index being published to receive change notifications.
+   */
+  public GameDataIndex getIndex() {
+    GameDataIndex index = this.index;
+    if (index == null) {
+      acquireReadLock();
+      try {
+        synchronized (this) {
+          index = this.index;
+          if (index == null) {
+            index = new GameDataIndex(map);
+            this.index = index;
+          }
+        }
+      } finally {
+        releaseReadLock();
+      }
+    }
+    return index;
+  }
+
+  /** Discards the index after changes that it does not track, such as adding territories. */
+  void invalidateIndex() {
+    index = null;
   }
 
   public void fireGameDataEvent(final GameDataEvent event) {
@@ -489,19 +595,44 @@ public class GameData implements Serializable, GameState {
     sequence.setStepIndex(Math.max(0, Math.min(sequence.size() - 1, currentIndex - toSubtract)));
   }
 
-  /** Executes a change and notifies listeners. */
+  /**
+   * Executes a change and notifies listeners. Territory listeners are notified once, after the
+   * change has been performed, with all territories the change touched (see {@link
+   * TerritoryListener#territoriesChanged(TerritoryChanges)}).
+   */
   public void performChange(final Change change) {
     if (areChangesOnlyInSwingEventThread() && !SwingUtilities.isEventDispatchThread()) {
       throw new IllegalStateException("Wrong thread");
     }
+    final long start = performChangeTimer.start();
+    TerritoryChangeBatch batch = null;
     try {
       acquireWriteLock();
+      // a change performed from within another change is part of the outer change's batch
+      if (getCurrentTerritoryChangeBatch() == null) {
+        batch = new TerritoryChangeBatch();
+        territoryChangeBatch = batch;
+      }
       change.perform(this);
     } finally {
+      if (batch != null) {
+        territoryChangeBatch = null;
+        final GameDataIndex index = this.index;
+        if (index != null) {
+          index.updateUnitOwners();
+        }
+      }
       releaseWriteLock();
     }
+    if (batch != null) {
+      final TerritoryChanges territoryChanges = batch.toTerritoryChanges();
+      if (!territoryChanges.isEmpty()) {
+        territoryListeners.forEach(listener -> listener.territoriesChanged(territoryChanges));
+      }
+    }
     dataChangeListeners.forEach(dataChangelistener -> dataChangelistener.gameDataChanged(change));
     GameDataEvent.lookupEvent(change).ifPresent(this::fireGameDataEvent);
+    performChangeTimer.stop(start);
   }
 
   @Override
@@ -0,0 +1,188 @@
+package games.strategy.engine.data;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.triplea.java.collections.IntegerMap;
+
+/**
+ * Secondary indexes over the territories of a {@link GameData} and the units in them, answering
+ * "what does a player own" without scanning every territory and unit:
+ *
+ * <ul>
+ *   <li>territories by owner
+ *   <li>territories with units by unit owner
+ *   <li>unit counts by owner and unit type, per territory and in total
+ *   <li>unit id to the territory the unit is currently in
+ * </ul>
+ *
+ * <p>The index is built from a full scan the first time it is used and is then kept up to date by
+ * {@link GameData} as territory owners, territory units and unit owners change (see {@link
+ * GameData#getIndex()}). Like the rest of the game data it must only be read while holding the game
+ * data read lock. Query results are copies and list territories in the order of {@link
+ * GameMap#getTerritories()}.
+ */
+public final class GameDataIndex {
+  private final List<Territory> territories;
+  private final Map<Territory, Integer> territoryIndexes = new HashMap<>();
+  private final GamePlayer[] owners;
+  private final Map<GamePlayer, BitSet> territoriesByOwner = new HashMap<>();
+
+  /** The units of each territory as of the last update, used to find removed units. */
+  private final List<List<Unit>> unitsByTerritory;
+  /** Unit counts by owner and unit type, for each territory. */
+  private final List<Map<GamePlayer, IntegerMap<UnitType>>> unitCountsByTerritory;
+
+  private final Map<GamePlayer, BitSet> territoriesWithUnitsByOwner = new HashMap<>();
+  private final Map<GamePlayer, IntegerMap<UnitType>> unitCountsByOwner = new HashMap<>();
+  /**
+   * Concurrent, because units look themselves up when their owner is set, which also happens for
+   * units created on other threads while a change holds the write lock.
+   */
+  private final Map<UUID, Territory> unitLocations = new ConcurrentHashMap<>();
+  /** Territories of units whose owner changed and that are yet to be re-indexed. */
+  private final Set<Territory> territoriesWithUnitOwnerChanges = new LinkedHashSet<>();
+
+  GameDataIndex(final GameMap map) {
+    territories = List.copyOf(map.getTerritories());
+    owners = new GamePlayer[territories.size()];
+    unitsByTerritory = new ArrayList<>(territories.size());
+    unitCountsByTerritory = new ArrayList<>(territories.size());
+    for (int i = 0; i < territories.size(); i++) {
+      final Territory territory = territories.get(i);
+      territoryIndexes.put(territory, i);
+      owners[i] = territory.getOwner();
+      territoriesByOwner.computeIfAbsent(owners[i], owner -> new BitSet()).set(i);
+      unitsByTerritory.add(List.of());
+      unitCountsByTerritory.add(Map.of());
+      territoryUnitsChanged(territory);
+    }
+  }
+
+  void territoryOwnerChanged(final Territory territory) {
+    final Integer index = territoryIndexes.get(territory);
+    if (index == null) {
+      return;
+    }
+    territoriesByOwner.get(owners[index]).clear(index);
+    owners[index] = territory.getOwner();
+    territoriesByOwner.computeIfAbsent(owners[index], owner -> new BitSet()).set(index);
+  }
+
+  /** Re-indexes the units of a territory, takes time proportional to the units in it. */
+  void territoryUnitsChanged(final Territory territory) {
+    final Integer index = territoryIndexes.get(territory);
+    if (index == null) {
+      return;
+    }
+    for (final Unit unit : unitsByTerritory.get(index)) {
+      // the unit might have been added to its new territory already
+      unitLocations.remove(unit.getId(), territory);
+    }
+    for (final Map.Entry<GamePlayer, IntegerMap<UnitType>> entry :
+        unitCountsByTerritory.get(index).entrySet()) {
+      territoriesWithUnitsByOwner.get(entry.getKey()).clear(index);
+      updateUnitCountsByOwner(entry.getKey(), entry.getValue(), -1);
+    }
+
+    final List<Unit> units = List.copyOf(territory.getUnitCollection().getUnits());
+    final Map<GamePlayer, IntegerMap<UnitType>> unitCounts = new HashMap<>();
+    for (final Unit unit : units) {
+      unitLocations.put(unit.getId(), territory);
+      unitCounts
+          .computeIfAbsent(unit.getOwner(), owner -> new IntegerMap<>())
+          .add(unit.getType(), 1);
+    }
+    for (final Map.Entry<GamePlayer, IntegerMap<UnitType>> entry : unitCounts.entrySet()) {
+      territoriesWithUnitsByOwner.computeIfAbsent(entry.getKey(), owner -> new BitSet()).set(index);
+      updateUnitCountsByOwner(entry.getKey(), entry.getValue(), 1);
+    }
+    unitsByTerritory.set(index, units);
+    unitCountsByTerritory.set(index, unitCounts);
+  }
+
+  private void updateUnitCountsByOwner(
+      final GamePlayer owner, final IntegerMap<UnitType> unitCounts, final int multiple) {
+    final IntegerMap<UnitType> ownerUnitCounts =
+        unitCountsByOwner.computeIfAbsent(owner, key -> new IntegerMap<>());
+    for (final UnitType unitType : unitCounts.keySet()) {
+      ownerUnitCounts.add(unitType, multiple * unitCounts.getInt(unitType));
+      if (ownerUnitCounts.getInt(unitType) == 0) {
+        ownerUnitCounts.removeKey(unitType);
+      }
+    }
+  }
+
+  /**
+   * Notes the territory of a unit whose owner changed. The territory is re-indexed by {@link
+   * #updateUnitOwners()}, so that a change of the owner of many units in one territory re-indexes
+   * that territory only once. Must be called while holding the game data write lock.
+   */
+  void unitOwnerChanged(final Unit unit) {
+    final Territory territory = unitLocations.get(unit.getId());
+    if (territory != null) {
+      territoriesWithUnitOwnerChanges.add(territory);
+    }
+  }
+
+  /**
+   * Re-indexes the territories of the units whose owner changed since the last call. Must be called
+   * while holding the game data write lock.
+   */
+  void updateUnitOwners() {
+    if (territoriesWithUnitOwnerChanges.isEmpty()) {
+      return;
+    }
+    territoriesWithUnitOwnerChanges.forEach(this::territoryUnitsChanged);
+    territoriesWithUnitOwnerChanges.clear();
+  }
+
+  private List<Territory> getTerritories(
+      final Map<GamePlayer, BitSet> territoriesByPlayer, final GamePlayer player) {
+    final BitSet indexes = territoriesByPlayer.get(player);
+    if (indexes == null) {
+      return new ArrayList<>();
+    }
+    final List<Territory> result = new ArrayList<>(indexes.cardinality());
+    for (int i = indexes.nextSetBit(0); i >= 0; i = indexes.nextSetBit(i + 1)) {
+      result.add(territories.get(i));
+    }
+    return result;
+  }
+
+  /** Returns the territories owned by the given player. */
+  public List<Territory> getTerritoriesOwnedBy(final GamePlayer player) {
+    return getTerritories(territoriesByOwner, player);
+  }
+
+  /** Returns the territories containing at least one unit owned by the given player. */
+  public List<Territory> getTerritoriesWithUnitsOwnedBy(final GamePlayer player) {
+    return getTerritories(territoriesWithUnitsByOwner, player);
+  }
+
+  /** Returns the number of units of each type the given player has in the given territory. */
+  public IntegerMap<UnitType> getUnitCounts(final Territory territory, final GamePlayer owner) {
+    final Integer index = territoryIndexes.get(territory);
+    final IntegerMap<UnitType> unitCounts =
+        index == null ? null : unitCountsByTerritory.get(index).get(owner);
+    return unitCounts == null ? new IntegerMap<>() : new IntegerMap<>(unitCounts);
+  }
+
+  /** Returns the number of units of each type the given player has in all territories. */
+  public IntegerMap<UnitType> getUnitCounts(final GamePlayer owner) {
+    final IntegerMap<UnitType> unitCounts = unitCountsByOwner.get(owner);
+    return unitCounts == null ? new IntegerMap<>() : new IntegerMap<>(unitCounts);
+  }
+
+  /** Returns the territory the given unit is in, empty if the unit is not in a territory. */
+  public Optional<Territory> getTerritory(final Unit unit) {
+    return Optional.ofNullable(unitLocations.get(unit.getId()));
+  }
+}
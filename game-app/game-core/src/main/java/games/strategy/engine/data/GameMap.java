@@ -57,6 +57,9 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
     territories.add(t1);
     connections.put(t1, Set.of());
     territoryLookup.put(t1.getName(), t1);
+    if (getData() != null) {
+      getData().invalidateIndex();
+    }
   }
 
   /** Bi-directional. T1 connects to T2, and T2 connects to T1. */
@@ -468,9 +471,12 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
   }
 
   public List<Territory> getTerritoriesOwnedBy(final GamePlayer player) {
-    return territories.stream()
-        .filter(t -> t.getOwner().equals(player))
-        .collect(Collectors.toList());
+    return getData().getIndex().getTerritoriesOwnedBy(player);
+  }
+
+  /** Returns the territories containing at least one unit owned by the given player. */
+  public List<Territory> getTerritoriesWithUnitsOwnedBy(final GamePlayer player) {
+    return getData().getIndex().getTerritoriesWithUnitsOwnedBy(player);
   }
 
   /**
@@ -1,18 +1,21 @@
 package games.strategy.engine.data;
 
 import games.strategy.engine.framework.GameObjectStreamFactory;
+import games.strategy.net.CompactObjectInputStream;
 import games.strategy.triplea.settings.ClientSetting;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.ObjectInputStream;
 
-/** Please refer to the comments on GameObjectOutputStream. */
-public class GameObjectInputStream extends ObjectInputStream {
+/**
+ * Please refer to the comments on GameObjectOutputStream. Reads both standard Java serialization
+ * and the compact encoding registered in {@link GameObjectStreamFactory#MESSAGE_TYPES}.
+ */
+public class GameObjectInputStream extends CompactObjectInputStream {
   private final GameObjectStreamFactory dataSource;
 
   public GameObjectInputStream(final GameObjectStreamFactory dataSource, final InputStream input)
       throws IOException {
-    super(input);
+    super(input, GameObjectStreamFactory.MESSAGE_TYPES);
     this.dataSource = dataSource;
     enableResolveObject(true);
   }
@@ -1,8 +1,10 @@
 package games.strategy.engine.data;
 
+import games.strategy.net.ClassIdRegistry;
+import games.strategy.net.CompactObjectOutputStream;
 import java.io.IOException;
-import java.io.ObjectOutputStream;
 import java.io.OutputStream;
+import javax.annotation.Nullable;
 
 /**
  * To maintain == relationships and the singleton nature of many classes in GameData we do some work
@@ -12,11 +14,19 @@ import java.io.OutputStream;
  * other side, the territory name is read, and the territory returned by the GameObjectInputStream
  * is the territory with that name belonging to the GameData associated with the
  * GameObjectInputStream. This ensures the state of the territory remains consistent.
+ *
+ * <p>Streams created with a {@link ClassIdRegistry} write the compact encoding described in {@link
+ * CompactObjectOutputStream}; all others write standard Java serialization.
  */
-public class GameObjectOutputStream extends ObjectOutputStream {
+public class GameObjectOutputStream extends CompactObjectOutputStream {
 
   public GameObjectOutputStream(final OutputStream output) throws IOException {
-    super(output);
+    this(output, null);
+  }
+
+  public GameObjectOutputStream(final OutputStream output, @Nullable final ClassIdRegistry registry)
+      throws IOException {
+    super(output, registry);
     enableReplaceObject(true);
   }
 
@@ -118,6 +118,10 @@ public class Unit extends GameDataComponent implements DynamicallyModifiable {
 
   public void setOwner(final @Nullable GamePlayer player) {
     owner = Optional.ofNullable(player).orElse(GamePlayer.NULL_PLAYERID);
+    final GameData data = getData();
+    if (data != null) {
+      data.notifyUnitOwnerChanged(this);
+    }
   }
 
   public boolean isEquivalent(final Unit unit) {
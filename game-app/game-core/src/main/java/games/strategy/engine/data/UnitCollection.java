@@ -233,7 +233,9 @@ public class UnitCollection extends GameDataComponent implements Collection<Unit
 
   @Override
   public boolean retainAll(final Collection<?> collection) {
-    return units.retainAll(collection);
+    final boolean result = units.retainAll(collection);
+    holder.notifyChanged();
+    return result;
   }
 
   @Override
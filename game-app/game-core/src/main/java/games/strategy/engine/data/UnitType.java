@@ -1,5 +1,6 @@
 package games.strategy.engine.data;
 
+import games.strategy.triplea.attachments.UnitCapability;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
@@ -9,10 +10,43 @@ import java.util.stream.IntStream;
 public class UnitType extends NamedAttachable {
   private static final long serialVersionUID = 4885339076798905247L;
 
+  /** The capabilities mask computed by {@link UnitCapability#computeMask}, 0 until first used. */
+  private transient volatile long capabilities;
+
   public UnitType(final String name, final GameData data) {
     super(name, data);
   }
 
+  /**
+   * Returns true if this unit type has the given capability. The capabilities are computed from the
+   * unit attachment on first use and are cached until {@link #resetCapabilities()} is called.
+   */
+  public final boolean hasCapability(final UnitCapability capability) {
+    long capabilities = this.capabilities;
+    if (capabilities == 0) {
+      capabilities = UnitCapability.computeMask(this);
+      this.capabilities = capabilities;
+    }
+    return capability.isIn(capabilities);
+  }
+
+  /** Discards the cached capabilities, must be called whenever the unit attachment changes. */
+  public final void resetCapabilities() {
+    capabilities = 0;
+  }
+
+  @Override
+  public void addAttachment(final String key, final IAttachment value) {
+    super.addAttachment(key, value);
+    resetCapabilities();
+  }
+
+  @Override
+  public void removeAttachment(final String keyString) {
+    super.removeAttachment(keyString);
+    resetCapabilities();
+  }
+
   public List<Unit> create(final int quantity, final GamePlayer owner) {
     return create(quantity, owner, false, 0, 0);
   }
@@ -6,6 +6,7 @@ import games.strategy.engine.data.Attachable;
 import games.strategy.engine.data.Change;
 import games.strategy.engine.data.GameState;
 import games.strategy.engine.data.IAttachment;
+import games.strategy.engine.data.UnitType;
 
 /** Resets the value to the default value. */
 class AttachmentPropertyReset extends Change {
@@ -40,6 +41,9 @@ class AttachmentPropertyReset extends Change {
   public void perform(final GameState data) {
     final IAttachment attachment = attachedTo.getAttachment(attachmentName);
     attachment.getPropertyOrThrow(property).resetValue();
+    if (attachedTo instanceof UnitType) {
+      ((UnitType) attachedTo).resetCapabilities();
+    }
   }
 
   @Override
@@ -5,6 +5,7 @@ import games.strategy.engine.data.Change;
 import games.strategy.engine.data.GameState;
 import games.strategy.engine.data.IAttachment;
 import games.strategy.engine.data.MutableProperty;
+import games.strategy.engine.data.UnitType;
 
 class AttachmentPropertyResetUndo extends Change {
   private static final long serialVersionUID = 5943939650116851332L;
@@ -37,6 +38,9 @@ class AttachmentPropertyResetUndo extends Change {
               newValue, property, attachmentName, attachedTo),
           e);
     }
+    if (attachedTo instanceof UnitType) {
+      ((UnitType) attachedTo).resetCapabilities();
+    }
   }
 
   @Override
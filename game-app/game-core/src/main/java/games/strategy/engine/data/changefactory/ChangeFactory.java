@@ -231,4 +231,22 @@ public class ChangeFactory {
     return unitPropertyChange(
         unit, new BigDecimal(unit.getMaxMovementAllowed() + 1), Unit.ALREADY_MOVED);
   }
+
+  /**
+   * Returns the change types that are sent between game nodes most often. Used to register them
+   * with the compact network encoding, so the order of this list must not change.
+   */
+  public static List<Class<? extends Change>> getCommonChangeTypes() {
+    return List.of(
+        AddUnits.class,
+        RemoveUnits.class,
+        OwnerChange.class,
+        PlayerOwnerChange.class,
+        ChangeResourceChange.class,
+        ObjectPropertyChange.class,
+        UnitDamageReceivedChange.class,
+        BombingUnitDamageChange.class,
+        AddBattleRecordsChange.class,
+        RemoveBattleRecordsChange.class);
+  }
 }
@@ -0,0 +1,20 @@
+package games.strategy.engine.data.events;
+
+import games.strategy.engine.data.Territory;
+import java.util.Set;
+import lombok.Value;
+
+/**
+ * The territories touched by one or more game data changes, grouped by what changed. A territory
+ * is listed at most once per group, no matter how many times it was touched.
+ */
+@Value
+public class TerritoryChanges {
+  Set<Territory> unitsChanged;
+  Set<Territory> ownerChanged;
+  Set<Territory> attachmentChanged;
+
+  public boolean isEmpty() {
+    return unitsChanged.isEmpty() && ownerChanged.isEmpty() && attachmentChanged.isEmpty();
+  }
+}
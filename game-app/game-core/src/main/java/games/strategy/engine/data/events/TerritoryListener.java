@@ -9,4 +9,15 @@ public interface TerritoryListener {
   void ownerChanged(Territory territory);
 
   void attachmentChanged(Territory territory);
+
+  /**
+   * Invoked once for all territories touched by a performed change, however many times each of
+   * them was touched. The default implementation forwards each territory to the single territory
+   * callbacks, listeners that update in bulk should override it.
+   */
+  default void territoriesChanged(final TerritoryChanges changes) {
+    changes.getUnitsChanged().forEach(this::unitsChanged);
+    changes.getOwnerChanged().forEach(this::ownerChanged);
+    changes.getAttachmentChanged().forEach(this::attachmentChanged);
+  }
 }
@@ -95,7 +95,8 @@ public final class GameParser {
   }
 
   /**
-   * Performs a deep parse of the game XML file at the specified URI.
+   * Performs a deep parse of the game XML file at the specified URI. Games parsed before are read
+   * from {@link ParsedGameCache} instead as long as the XML file is unchanged.
    *
    * @param xmlFile The game XML file to be parsed.
    * @return A complete {@link GameData} instance that can be used to play the game, otherwise
@@ -103,9 +104,11 @@ public final class GameParser {
    */
   public static Optional<GameData> parse(final Path xmlFile) {
     log.debug("Parsing game XML: {}", xmlFile.toAbsolutePath());
+    final Version engineVersion = Injections.getInstance().getEngineVersion();
     final Optional<GameData> gameData =
-        GameParser.parse(
-            xmlFile, new XmlGameElementMapper(), Injections.getInstance().getEngineVersion());
+        ParsedGameCache.inUserCacheFolder(engineVersion)
+            .getOrParse(
+                xmlFile, file -> GameParser.parse(file, new XmlGameElementMapper(), engineVersion));
 
     // if parsed, find the 'map.yml' from a parent folder and set the 'mapName' property
     // using the 'map name' from 'map.yml'
@@ -206,6 +209,8 @@ public final class GameParser {
       final Map<String, List<String>> variables =
           variableParser.parseVariables(game.getVariableList());
       parseAttachments(game.getAttachmentList(), variables);
+      // attachment options are set after the attachments are added, drop anything computed before
+      data.getUnitTypeList().forEach(UnitType::resetCapabilities);
     }
 
     if (game.getInitialize() != null) {
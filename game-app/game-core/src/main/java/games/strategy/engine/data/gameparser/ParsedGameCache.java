@@ -0,0 +1,264 @@
+package games.strategy.engine.data.gameparser;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Suppliers;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.io.MoreFiles;
+import games.strategy.engine.ClientFileSystemHelper;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.framework.GameDataManager;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.CodeSource;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import javax.annotation.Nullable;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.triplea.util.Version;
+
+/**
+ * Keeps freshly parsed game XML files in serialized form so that starting the same game again,
+ * which headless bots do many times a day, skips XML parsing. There is one cache file per XML file,
+ * holding the hash of the XML content, the engine version and the build of the game classes the
+ * game was parsed with. The build is identified by a hash of the jar (or class folder) the game
+ * classes are loaded from, so that serialized games never outlive a change of the classes, even
+ * when the engine version stays the same. A cache file that does not match all of them, or that
+ * cannot be read, is stale and is deleted, then replaced by parsing the XML file again.
+ *
+ * <p>The cache folder is kept below a maximum size by deleting the least recently used cache files
+ * first whenever a cache file is written. Reading a cache file marks it as used by updating its
+ * last-modified time.
+ */
+@Slf4j
+public class ParsedGameCache {
+  private static final int FORMAT_VERSION = 2;
+  private static final String CACHE_FILE_EXTENSION = ".ser";
+  // a parsed game takes up to a few MB, this keeps the games of about a hundred maps
+  private static final long MAX_CACHE_SIZE = 256L * 1024 * 1024;
+  private static final Supplier<Optional<String>> currentBuildId =
+      Suppliers.memoize(ParsedGameCache::readCurrentBuildId);
+
+  private final Path cacheFolder;
+  private final Version engineVersion;
+  @Nullable private final String buildId;
+  private final long maxCacheSize;
+
+  @VisibleForTesting
+  ParsedGameCache(
+      final Path cacheFolder,
+      final Version engineVersion,
+      @Nullable final String buildId,
+      final long maxCacheSize) {
+    this.cacheFolder = cacheFolder;
+    this.engineVersion = engineVersion;
+    this.buildId = buildId;
+    this.maxCacheSize = maxCacheSize;
+  }
+
+  /**
+   * Returns a cache stored in the user cache folder. Games are not cached if the build of the game
+   * classes cannot be identified.
+   */
+  public static ParsedGameCache inUserCacheFolder(final Version engineVersion) {
+    return new ParsedGameCache(
+        ClientFileSystemHelper.getUserCacheFolder().resolve("parsed-games"),
+        engineVersion,
+        currentBuildId.get().orElse(null),
+        MAX_CACHE_SIZE);
+  }
+
+  private static Optional<String> readCurrentBuildId() {
+    final CodeSource codeSource = GameData.class.getProtectionDomain().getCodeSource();
+    if (codeSource == null) {
+      log.info("Not caching parsed games, the location of the game classes is unknown");
+      return Optional.empty();
+    }
+    try {
+      return Optional.of(buildIdOf(Path.of(codeSource.getLocation().toURI())));
+    } catch (final IOException | URISyntaxException | RuntimeException e) {
+      log.info("Not caching parsed games, unable to identify the build: {}", e.getMessage());
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Identifies the build loaded from the given jar or class folder: the hash of the jar content, or
+   * the hash of the names, sizes and last-modified times of the files in the class folder.
+   */
+  @VisibleForTesting
+  static String buildIdOf(final Path codeSource) throws IOException {
+    if (!Files.isDirectory(codeSource)) {
+      return MoreFiles.asByteSource(codeSource).hash(Hashing.sha256()).toString();
+    }
+    final Hasher hasher = Hashing.sha256().newHasher();
+    try (Stream<Path> files = Files.walk(codeSource)) {
+      for (final Path file : (Iterable<Path>) files.sorted()::iterator) {
+        final BasicFileAttributes attributes =
+            Files.readAttributes(file, BasicFileAttributes.class);
+        hasher
+            .putString(codeSource.relativize(file).toString(), StandardCharsets.UTF_8)
+            .putLong(attributes.size())
+            .putLong(attributes.lastModifiedTime().toMillis());
+      }
+    } catch (final UncheckedIOException e) {
+      throw e.getCause();
+    }
+    return hasher.hash().toString();
+  }
+
+  /**
+   * Reads the game of the given XML file from cache, or parses it with {@code parser} and caches
+   * the result if there is no up-to-date cache file.
+   */
+  public Optional<GameData> getOrParse(
+      final Path xmlFile, final Function<Path, Optional<GameData>> parser) {
+    if (buildId == null) {
+      return parser.apply(xmlFile);
+    }
+    final String contentHash;
+    try {
+      contentHash = Hashing.sha256().hashBytes(Files.readAllBytes(xmlFile)).toString();
+    } catch (final IOException e) {
+      return parser.apply(xmlFile);
+    }
+
+    final Path cacheFile = cacheFileFor(xmlFile);
+    final Optional<GameData> cachedGame = read(cacheFile, contentHash);
+    if (cachedGame.isPresent()) {
+      log.debug("Loaded game from cache: {}", xmlFile.toAbsolutePath());
+      return cachedGame;
+    }
+
+    final Optional<GameData> gameData = parser.apply(xmlFile);
+    gameData.ifPresent(data -> write(cacheFile, contentHash, data));
+    return gameData;
+  }
+
+  private Path cacheFileFor(final Path xmlFile) {
+    final String pathHash =
+        Hashing.sha256()
+            .hashString(xmlFile.toAbsolutePath().normalize().toString(), StandardCharsets.UTF_8)
+            .toString();
+    return cacheFolder.resolve(pathHash + CACHE_FILE_EXTENSION);
+  }
+
+  private Optional<GameData> read(final Path cacheFile, final String contentHash) {
+    if (!Files.exists(cacheFile)) {
+      return Optional.empty();
+    }
+    try (ObjectInputStream in =
+        new ObjectInputStream(new BufferedInputStream(Files.newInputStream(cacheFile)))) {
+      if (in.readInt() == FORMAT_VERSION
+          && in.readUTF().equals(engineVersion.toString())
+          && in.readUTF().equals(buildId)
+          && in.readUTF().equals(contentHash)) {
+        final GameData gameData = GameDataManager.readGameData(in);
+        markUsed(cacheFile);
+        return Optional.of(gameData);
+      }
+      log.debug("Deleting stale cache file: {}", cacheFile);
+    } catch (final IOException | ClassNotFoundException | RuntimeException e) {
+      log.info("Deleting unreadable cache file: {}, {}", cacheFile, e.getMessage());
+    }
+    delete(cacheFile);
+    return Optional.empty();
+  }
+
+  private static void markUsed(final Path cacheFile) {
+    try {
+      Files.setLastModifiedTime(cacheFile, FileTime.fromMillis(System.currentTimeMillis()));
+    } catch (final IOException e) {
+      log.debug("Unable to mark cache file as used: {}", cacheFile, e);
+    }
+  }
+
+  private static void delete(final Path file) {
+    try {
+      Files.deleteIfExists(file);
+    } catch (final IOException e) {
+      log.debug("Unable to delete cache file: {}", file, e);
+    }
+  }
+
+  /** Writes to a temporary file first so that a concurrent read never sees a partial file. */
+  private void write(final Path cacheFile, final String contentHash, final GameData gameData) {
+    Path tempFile = null;
+    try {
+      Files.createDirectories(cacheFolder);
+      tempFile = Files.createTempFile(cacheFolder, null, CACHE_FILE_EXTENSION);
+      try (ObjectOutputStream out =
+          new ObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+        out.writeInt(FORMAT_VERSION);
+        out.writeUTF(engineVersion.toString());
+        out.writeUTF(buildId);
+        out.writeUTF(contentHash);
+        GameDataManager.writeGameData(out, gameData, true);
+      }
+      Files.move(
+          tempFile,
+          cacheFile,
+          StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+    } catch (final IOException | RuntimeException e) {
+      log.info("Unable to write cache file: {}, {}", cacheFile, e.getMessage());
+      if (tempFile != null) {
+        delete(tempFile);
+      }
+      return;
+    }
+    prune();
+  }
+
+  /** Deletes the least recently used cache files until the cache folder fits the maximum size. */
+  @VisibleForTesting
+  void prune() {
+    final List<CacheFile> cacheFiles = new ArrayList<>();
+    try (Stream<Path> files = Files.list(cacheFolder)) {
+      for (final Path file : (Iterable<Path>) files::iterator) {
+        if (file.getFileName().toString().endsWith(CACHE_FILE_EXTENSION)) {
+          final BasicFileAttributes attributes =
+              Files.readAttributes(file, BasicFileAttributes.class);
+          cacheFiles.add(
+              new CacheFile(file, attributes.size(), attributes.lastModifiedTime().toMillis()));
+        }
+      }
+    } catch (final IOException | UncheckedIOException e) {
+      log.info("Unable to list cache folder: {}, {}", cacheFolder, e.getMessage());
+      return;
+    }
+    long cacheSize = cacheFiles.stream().mapToLong(CacheFile::getSize).sum();
+    cacheFiles.sort(Comparator.comparingLong(CacheFile::getLastModified));
+    for (final CacheFile cacheFile : cacheFiles) {
+      if (cacheSize <= maxCacheSize) {
+        return;
+      }
+      delete(cacheFile.getPath());
+      cacheSize -= cacheFile.getSize();
+    }
+  }
+
+  @Value
+  private static class CacheFile {
+    Path path;
+    long size;
+    long lastModified;
+  }
+}
@@ -0,0 +1,59 @@
+package games.strategy.engine.data.util;
+
+import games.strategy.engine.data.Territory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The distances between one territory, the origin, and every territory of a map, as found by a
+ * single breadth first search (see {@link DistanceFields}). Depending on how the field was built,
+ * the distances are either from the origin or to the origin.
+ */
+public final class DistanceField {
+  /** The distance of territories that are not connected to the origin. */
+  public static final int UNREACHABLE = -1;
+
+  private final Map<Territory, Integer> territoryIndexes;
+  private final List<Territory> territories;
+  private final int[] distances;
+  /** The indexes of the reached territories in the order they were reached, origin first. */
+  private final int[] reached;
+
+  private final int reachedCount;
+
+  DistanceField(
+      final Map<Territory, Integer> territoryIndexes,
+      final List<Territory> territories,
+      final int[] distances,
+      final int[] reached,
+      final int reachedCount) {
+    this.territoryIndexes = territoryIndexes;
+    this.territories = territories;
+    this.distances = distances;
+    this.reached = reached;
+    this.reachedCount = reachedCount;
+  }
+
+  /**
+   * Returns the number of steps between the origin and the given territory, 0 for the origin itself
+   * or {@link #UNREACHABLE} if they are not connected.
+   */
+  public int getDistance(final Territory territory) {
+    final Integer index = territoryIndexes.get(territory);
+    return index == null ? UNREACHABLE : distances[index];
+  }
+
+  /**
+   * Returns the territories at least 1 and at most {@code maxDistance} steps away from the origin,
+   * closest first.
+   */
+  public List<Territory> getTerritoriesWithin(final int maxDistance) {
+    final List<Territory> result = new ArrayList<>();
+    // territories were reached in order of distance, skip the origin
+    for (int i = 1; i < reachedCount && distances[reached[i]] <= maxDistance; i++) {
+      result.add(territories.get(reached[i]));
+    }
+    return result;
+  }
+}
@@ -0,0 +1,89 @@
+package games.strategy.engine.data.util;
+
+import games.strategy.engine.data.GameMap;
+import games.strategy.engine.data.Territory;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiPredicate;
+
+/**
+ * Builds {@link DistanceField}s over one map with one route condition. Use it to replace many
+ * {@link GameMap#getDistance(Territory, Territory, BiPredicate)} calls to the same few targets: one
+ * search per target then answers the distance from every territory in constant time.
+ *
+ * <p>The route condition is tested like {@link GameMap#getDistance(Territory, Territory,
+ * BiPredicate)} does, with the territory a step starts in and the territory it ends in, so a field
+ * {@link #to(Territory) to} a target gives the same distances as searching from each territory to
+ * the target. Fields to targets are cached, so instances are meant to live for one computation
+ * while the game data does not change. Not thread safe.
+ */
+public final class DistanceFields {
+  private final GameMap map;
+  private final BiPredicate<Territory, Territory> routeCondition;
+  private final List<Territory> territories;
+  private final Map<Territory, Integer> territoryIndexes;
+  private final Map<Territory, DistanceField> fieldsToTargets = new HashMap<>();
+
+  public DistanceFields(final GameMap map, final BiPredicate<Territory, Territory> routeCondition) {
+    this.map = map;
+    this.routeCondition = routeCondition;
+    territories = List.copyOf(map.getTerritories());
+    territoryIndexes = new HashMap<>(territories.size() * 2);
+    for (int i = 0; i < territories.size(); i++) {
+      territoryIndexes.put(territories.get(i), i);
+    }
+  }
+
+  /** Returns the distances from every territory to the given target, searching once per target. */
+  public DistanceField to(final Territory target) {
+    // search backwards: a step from a territory to its neighbor is a step from the neighbor on a
+    // route to the target
+    return fieldsToTargets.computeIfAbsent(
+        target,
+        key ->
+            search(
+                key,
+                Integer.MAX_VALUE,
+                (territory, neighbor) -> routeCondition.test(neighbor, territory)));
+  }
+
+  /**
+   * Returns the distances from the given source to every territory at most {@code maxDistance}
+   * steps away, territories further away are {@link DistanceField#UNREACHABLE}.
+   */
+  public DistanceField from(final Territory source, final int maxDistance) {
+    return search(source, maxDistance, routeCondition);
+  }
+
+  private DistanceField search(
+      final Territory origin,
+      final int maxDistance,
+      final BiPredicate<Territory, Territory> stepCondition) {
+    final int[] distances = new int[territories.size()];
+    Arrays.fill(distances, DistanceField.UNREACHABLE);
+    final int[] queue = new int[territories.size()];
+    final int originIndex = territoryIndexes.get(origin);
+    distances[originIndex] = 0;
+    queue[0] = originIndex;
+    int queueEnd = 1;
+    for (int next = 0; next < queueEnd; next++) {
+      final int index = queue[next];
+      final int distance = distances[index] + 1;
+      if (distance > maxDistance) {
+        break;
+      }
+      final Territory territory = territories.get(index);
+      for (final Territory neighbor : map.getNeighbors(territory)) {
+        final int neighborIndex = territoryIndexes.get(neighbor);
+        if (distances[neighborIndex] == DistanceField.UNREACHABLE
+            && stepCondition.test(territory, neighbor)) {
+          distances[neighborIndex] = distance;
+          queue[queueEnd++] = neighborIndex;
+        }
+      }
+    }
+    return new DistanceField(territoryIndexes, territories, distances, queue, queueEnd);
+  }
+}
@@ -12,6 +12,8 @@ public class CliProperties {
   public static final String LOBBY_URI = "triplea.lobby.uri";
   public static final String LOBBY_GAME_COMMENTS = "triplea.lobby.game.comments";
   public static final String MAP_FOLDER = "triplea.map.folder";
+  public static final String METRICS_REPORT_SECONDS = "triplea.metrics.reportSeconds";
+  public static final String METRICS_JSON_FILE = "triplea.metrics.jsonFile";
   static final String TRIPLEA_MAP_DOWNLOAD = "triplea.map.download";
 
   private CliProperties() {}
@@ -184,6 +184,14 @@ public class ClientGame extends AbstractGame {
     }
   }
 
+  /**
+   * Applies the game modifications this node missed while it loaded the game from a snapshot, as
+   * if they had been received on the game modification channel.
+   */
+  public void replayGameModifications(final GameModificationLog modificationLog) {
+    modificationLog.replay(gameModifiedChannel);
+  }
+
   public static RemoteName getRemoteStepAdvancerName(final INode node) {
     return new RemoteName(
         ClientGame.class.getName() + ".REMOTE_STEP_ADVANCER:" + node.getPlayerName(),
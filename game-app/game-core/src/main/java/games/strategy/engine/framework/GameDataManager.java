@@ -74,10 +74,7 @@ public final class GameDataManager {
 
       if (isCompatibleVersion(ourVersion, version)
           || !ClientSetting.saveGameCompatibilityCheck.getSetting()) {
-        final GameData data = (GameData) input.readObject();
-        data.postDeSerialize();
-        loadDelegates(input, data);
-        return Optional.of(data);
+        return Optional.of(readGameData(input));
       } else {
         return Optional.empty();
       }
@@ -133,6 +130,19 @@ public final class GameDataManager {
     }
   }
 
+  /**
+   * Reads game data and its delegates written by {@link #writeGameData(ObjectOutputStream,
+   * GameData, boolean)}. Unlike {@link #loadGame(Version, InputStream)} no version header is read
+   * and errors are thrown to the caller.
+   */
+  public static GameData readGameData(final ObjectInputStream input)
+      throws ClassNotFoundException, IOException {
+    final GameData data = (GameData) input.readObject();
+    data.postDeSerialize();
+    loadDelegates(input, data);
+    return data;
+  }
+
   private static void loadDelegates(final ObjectInputStream input, final GameData data)
       throws ClassNotFoundException, IOException {
     for (Object endMarker = input.readObject();
@@ -193,17 +203,7 @@ public final class GameDataManager {
           OutputStream zippedOutStream = new GZIPOutputStream(bufferedOutStream);
           ObjectOutputStream outStream = new ObjectOutputStream(zippedOutStream)) {
         outStream.writeObject(engineVersion);
-        data.acquireReadLock();
-        try {
-          outStream.writeObject(data);
-          if (saveDelegateInfo) {
-            writeDelegates(data, outStream);
-          } else {
-            outStream.writeObject(DELEGATE_LIST_END);
-          }
-        } finally {
-          data.releaseReadLock();
-        }
+        writeGameData(outStream, data, saveDelegateInfo);
       }
 
       // now write to sink (ensure sink is closed per method contract)
@@ -216,6 +216,26 @@ public final class GameDataManager {
     }
   }
 
+  /**
+   * Writes game data and, if {@code saveDelegateInfo} is set, the state of its delegates without a
+   * version header. Read it back with {@link #readGameData(ObjectInputStream)}.
+   */
+  public static void writeGameData(
+      final ObjectOutputStream out, final GameData data, final boolean saveDelegateInfo)
+      throws IOException {
+    data.acquireReadLock();
+    try {
+      out.writeObject(data);
+      if (saveDelegateInfo) {
+        writeDelegates(data, out);
+      } else {
+        out.writeObject(DELEGATE_LIST_END);
+      }
+    } finally {
+      data.releaseReadLock();
+    }
+  }
+
   private static void writeDelegates(final GameData data, final ObjectOutputStream out)
       throws IOException {
     for (final IDelegate delegate : data.getDelegates()) {
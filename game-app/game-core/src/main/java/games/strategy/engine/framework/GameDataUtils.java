@@ -10,11 +10,17 @@ import java.util.Optional;
 import lombok.extern.slf4j.Slf4j;
 import org.triplea.injection.Injections;
 import org.triplea.io.IoUtils;
+import org.triplea.performance.Histogram;
+import org.triplea.performance.Metrics;
+import org.triplea.performance.Timer;
 import org.triplea.util.Version;
 
 /** A collection of useful methods for working with instances of {@link GameData}. */
 @Slf4j
 public final class GameDataUtils {
+  private static final Timer cloneTimer = Metrics.timer("game-data.clone");
+  private static final Histogram cloneBytes = Metrics.histogram("game-data.clone-bytes");
+
   private GameDataUtils() {}
 
   /**
@@ -62,15 +68,19 @@ public final class GameDataUtils {
    */
   public static Optional<GameData> cloneGameData(
       final GameData data, final boolean copyDelegates, final Version engineVersion) {
+    final long start = cloneTimer.start();
     try {
       final byte[] bytes =
           IoUtils.writeToMemory(
               os -> GameDataManager.saveGame(os, data, copyDelegates, engineVersion));
+      cloneBytes.record(bytes.length);
       return IoUtils.readFromMemory(
           bytes, inputStream -> GameDataManager.loadGame(engineVersion, inputStream));
     } catch (final IOException e) {
       log.error("Failed to clone game data", e);
       return Optional.empty();
+    } finally {
+      cloneTimer.stop(start);
     }
   }
 
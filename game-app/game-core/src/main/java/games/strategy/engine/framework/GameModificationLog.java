@@ -0,0 +1,152 @@
+package games.strategy.engine.framework;
+
+import games.strategy.engine.data.Change;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GameObjectOutputStream;
+import games.strategy.engine.data.GamePlayer;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import org.triplea.io.IoUtils;
+
+/**
+ * Records the calls made on the {@link IGameModifiedChannel} so that they can be replayed to a node
+ * that loaded the game from a snapshot taken before the calls were made. This lets an observer join
+ * from a snapshot while the game keeps running and catch up on the changes and history events it
+ * missed while loading.
+ */
+public class GameModificationLog implements IGameModifiedChannel, Serializable {
+  private static final long serialVersionUID = -5271306487823657262L;
+
+  private final List<Modification> modifications = new ArrayList<>();
+
+  private interface Modification extends Serializable {
+    void replay(IGameModifiedChannel channel);
+  }
+
+  @AllArgsConstructor
+  private static class DataChange implements Modification {
+    private static final long serialVersionUID = 3853375302208575339L;
+    private final Change change;
+
+    @Override
+    public void replay(final IGameModifiedChannel channel) {
+      channel.gameDataChanged(change);
+    }
+  }
+
+  @AllArgsConstructor
+  private static class HistoryEvent implements Modification {
+    private static final long serialVersionUID = -3128823924577302436L;
+    private final String event;
+    private final Object renderingData;
+
+    @Override
+    public void replay(final IGameModifiedChannel channel) {
+      channel.startHistoryEvent(event, renderingData);
+    }
+  }
+
+  @AllArgsConstructor
+  private static class HistoryEventChild implements Modification {
+    private static final long serialVersionUID = 6675383616307785024L;
+    private final String text;
+    private final Object renderingData;
+
+    @Override
+    public void replay(final IGameModifiedChannel channel) {
+      channel.addChildToEvent(text, renderingData);
+    }
+  }
+
+  @AllArgsConstructor
+  private static class StepChange implements Modification {
+    private static final long serialVersionUID = -2380961413526406101L;
+    private final String stepName;
+    private final String delegateName;
+    private final GamePlayer player;
+    private final int round;
+    private final String displayName;
+    private final boolean loadedFromSavedGame;
+
+    @Override
+    public void replay(final IGameModifiedChannel channel) {
+      channel.stepChanged(
+          stepName, delegateName, player, round, displayName, loadedFromSavedGame);
+    }
+  }
+
+  @Override
+  public synchronized void gameDataChanged(final Change change) {
+    modifications.add(new DataChange(change));
+  }
+
+  @Override
+  public synchronized void startHistoryEvent(final String event, final Object renderingData) {
+    modifications.add(new HistoryEvent(event, renderingData));
+  }
+
+  @Override
+  public void startHistoryEvent(final String event) {
+    startHistoryEvent(event, null);
+  }
+
+  @Override
+  public synchronized void addChildToEvent(final String text, final Object renderingData) {
+    modifications.add(new HistoryEventChild(text, renderingData));
+  }
+
+  @Override
+  public synchronized void stepChanged(
+      final String stepName,
+      final String delegateName,
+      final GamePlayer player,
+      final int round,
+      final String displayName,
+      final boolean loadedFromSavedGame) {
+    modifications.add(
+        new StepChange(stepName, delegateName, player, round, displayName, loadedFromSavedGame));
+  }
+
+  @Override
+  public void shutDown() {
+    // the joining node learns about a shut down game through the channel itself
+  }
+
+  public synchronized int size() {
+    return modifications.size();
+  }
+
+  /** Replays the recorded calls, in the order they were made, on the given channel. */
+  public synchronized void replay(final IGameModifiedChannel channel) {
+    modifications.forEach(modification -> modification.replay(channel));
+  }
+
+  /** Serializes this log, the game objects it references are written by name. */
+  public synchronized byte[] toBytes() throws IOException {
+    return IoUtils.writeToMemory(
+        os -> {
+          try (ObjectOutputStream out = new GameObjectOutputStream(os)) {
+            out.writeObject(this);
+          }
+        });
+  }
+
+  /** Reads a log written by {@link #toBytes()}, resolving its game objects in {@code data}. */
+  public static GameModificationLog fromBytes(final byte[] bytes, final GameData data)
+      throws IOException {
+    return IoUtils.readFromMemory(
+        bytes,
+        is -> {
+          try (ObjectInputStream in = new GameObjectStreamFactory(data).create(is)) {
+            return (GameModificationLog) in.readObject();
+          } catch (final ClassNotFoundException e) {
+            throw new IOException(e);
+          }
+        });
+  }
+}
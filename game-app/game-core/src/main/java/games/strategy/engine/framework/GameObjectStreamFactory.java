@@ -1,14 +1,45 @@
 package games.strategy.engine.framework;
 
+import com.google.common.collect.ImmutableList;
+import games.strategy.engine.data.Change;
+import games.strategy.engine.data.ChangeAttachmentChange;
+import games.strategy.engine.data.CompositeChange;
 import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GameDataComponent;
 import games.strategy.engine.data.GameObjectInputStream;
 import games.strategy.engine.data.GameObjectOutputStream;
+import games.strategy.engine.data.GameObjectStreamData;
+import games.strategy.engine.data.Unit;
+import games.strategy.engine.data.UnitHitsChange;
+import games.strategy.engine.data.changefactory.ChangeFactory;
+import games.strategy.engine.message.HubInvocationResults;
+import games.strategy.engine.message.HubInvoke;
+import games.strategy.engine.message.RemoteMethodCallResults;
+import games.strategy.engine.message.SpokeInvocationResults;
+import games.strategy.engine.message.SpokeInvoke;
+import games.strategy.engine.message.unifiedmessenger.HasEndPointImplementor;
+import games.strategy.engine.message.unifiedmessenger.InvocationResults;
+import games.strategy.engine.message.unifiedmessenger.Invoke;
+import games.strategy.engine.message.unifiedmessenger.NoLongerHasEndPointImplementor;
+import games.strategy.net.ClassIdRegistry;
 import games.strategy.net.IObjectStreamFactory;
+import games.strategy.net.MessageHeader;
+import games.strategy.net.Node;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.OutputStream;
+import java.net.Inet4Address;
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.UUID;
+import org.triplea.java.collections.IntegerMap;
 
 /**
  * Implementation of {@link IObjectStreamFactory} that uses {@link GameObjectOutputStream} and
@@ -17,6 +48,49 @@ import java.io.OutputStream;
  * being made during the serialization and deserialization process.
  */
 public class GameObjectStreamFactory implements IObjectStreamFactory {
+  /**
+   * The types most frequently sent between game nodes, written as short ids by the compact
+   * encoding. Types may only be appended, and the version must be incremented whenever this list
+   * or the serialized form of a listed type changes.
+   */
+  public static final ClassIdRegistry MESSAGE_TYPES =
+      new ClassIdRegistry(
+          1,
+          ImmutableList.<Class<?>>builder()
+              .add(
+                  MessageHeader.class,
+                  Node.class,
+                  InetAddress.class,
+                  Inet4Address.class,
+                  UUID.class,
+                  Invoke.class,
+                  HubInvoke.class,
+                  SpokeInvoke.class,
+                  InvocationResults.class,
+                  HubInvocationResults.class,
+                  SpokeInvocationResults.class,
+                  RemoteMethodCallResults.class,
+                  HasEndPointImplementor.class,
+                  NoLongerHasEndPointImplementor.class,
+                  GameObjectStreamData.class,
+                  GameDataComponent.class,
+                  Unit.class,
+                  Change.class,
+                  CompositeChange.class,
+                  ChangeAttachmentChange.class,
+                  UnitHitsChange.class,
+                  IntegerMap.class,
+                  ArrayList.class,
+                  HashMap.class,
+                  HashSet.class,
+                  LinkedHashMap.class,
+                  LinkedHashSet.class,
+                  Number.class,
+                  Integer.class,
+                  Boolean.class)
+              .addAll(ChangeFactory.getCommonChangeTypes())
+              .build());
+
   private GameData gameData;
 
   public GameObjectStreamFactory(final GameData data) {
@@ -33,6 +107,16 @@ public class GameObjectStreamFactory implements IObjectStreamFactory {
     return new GameObjectOutputStream(stream);
   }
 
+  @Override
+  public Optional<ClassIdRegistry> getClassIdRegistry() {
+    return Optional.of(MESSAGE_TYPES);
+  }
+
+  @Override
+  public ObjectOutputStream createCompact(final OutputStream stream) throws IOException {
+    return new GameObjectOutputStream(stream, MESSAGE_TYPES);
+  }
+
   public void setData(final GameData data) {
     gameData = data;
   }
@@ -48,11 +48,14 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
 import org.triplea.java.Interruptibles;
 import org.triplea.java.ThreadRunner;
+import org.triplea.performance.Metrics;
+import org.triplea.performance.Timer;
 import org.triplea.util.ExitStatus;
 
 /** Implementation of {@link IGame} for a network server node. */
@@ -60,6 +63,7 @@ import org.triplea.util.ExitStatus;
 public class ServerGame extends AbstractGame {
   public static final String GAME_HAS_BEEN_SAVED_PROPERTY =
       "games.strategy.engine.framework.ServerGame.GameHasBeenSaved";
+  private static final Timer saveGameTimer = Metrics.timer("server-game.save-game");
   static final RemoteName SERVER_REMOTE =
       new RemoteName(
           "games.strategy.engine.framework.ServerGame.SERVER_REMOTE", IServerRemote.class);
@@ -80,6 +84,8 @@ public class ServerGame extends AbstractGame {
   private final CountDownLatch delegateExecutionStoppedLatch = new CountDownLatch(1);
   /** Has the delegate signaled that delegate execution should stop. */
   private volatile boolean delegateExecutionStopped = false;
+  /** Records the game modifications made since the snapshot of each joining observer. */
+  private final Collection<GameModificationLog> joiningObserverLogs = new CopyOnWriteArrayList<>();
 
   public ServerGame(
       final GameData data,
@@ -96,6 +102,7 @@ public class ServerGame extends AbstractGame {
           @Override
           public void gameDataChanged(final Change change) {
             assertCorrectCaller();
+            joiningObserverLogs.forEach(log -> log.gameDataChanged(change));
             gameData.performChange(change);
             gameData.getHistory().getHistoryWriter().addChange(change);
           }
@@ -108,7 +115,9 @@ public class ServerGame extends AbstractGame {
 
           @Override
           public void startHistoryEvent(final String event, final Object renderingData) {
-            startHistoryEvent(event);
+            assertCorrectCaller();
+            joiningObserverLogs.forEach(log -> log.startHistoryEvent(event, renderingData));
+            gameData.getHistory().getHistoryWriter().startEvent(event);
             if (renderingData != null) {
               setRenderingData(renderingData);
             }
@@ -116,13 +125,13 @@ public class ServerGame extends AbstractGame {
 
           @Override
           public void startHistoryEvent(final String event) {
-            assertCorrectCaller();
-            gameData.getHistory().getHistoryWriter().startEvent(event);
+            startHistoryEvent(event, null);
           }
 
           @Override
           public void addChildToEvent(final String text, final Object renderingData) {
             assertCorrectCaller();
+            joiningObserverLogs.forEach(log -> log.addChildToEvent(text, renderingData));
             gameData
                 .getHistory()
                 .getHistoryWriter()
@@ -143,6 +152,10 @@ public class ServerGame extends AbstractGame {
               final String displayName,
               final boolean loadedFromSavedGame) {
             assertCorrectCaller();
+            joiningObserverLogs.forEach(
+                log ->
+                    log.stepChanged(
+                        stepName, delegateName, player, round, displayName, loadedFromSavedGame));
             if (loadedFromSavedGame) {
               return;
             }
@@ -190,51 +203,108 @@ public class ServerGame extends AbstractGame {
     }
   }
 
-  /** Adds a new observer (non-participant) node to this server game. */
+  /**
+   * Adds a new observer (non-participant) node to this server game. Delegate execution is only
+   * blocked while the game snapshot is written and again while the observer catches up on what
+   * happened in the game since the snapshot, the game keeps running while the observer transfers
+   * and loads the snapshot.
+   */
   public void addObserver(
       final IObserverWaitingToJoin blockingObserver,
       final IObserverWaitingToJoin nonBlockingObserver,
       final INode newNode) {
+    final GameModificationLog modificationLog = new GameModificationLog();
+    try {
+      if (!blockDelegateExecution(nonBlockingObserver)) {
+        return;
+      }
+      final byte[] snapshot;
+      try {
+        snapshot = GameDataWriter.writeToBytes(gameData, delegateExecutionManager);
+        joiningObserverLogs.add(modificationLog);
+      } finally {
+        delegateExecutionManager.resumeDelegateExecution();
+      }
+
+      if (!callObserver(
+          () -> blockingObserver.loadGameSnapshot(snapshot), nonBlockingObserver, newNode)) {
+        return;
+      }
+
+      if (!blockDelegateExecution(nonBlockingObserver)) {
+        return;
+      }
+      try {
+        joiningObserverLogs.remove(modificationLog);
+        log.debug(
+            "Observer {} catching up on {} game modifications",
+            newNode.getName(),
+            modificationLog.size());
+        final byte[] modifications = modificationLog.toBytes();
+        callObserver(
+            () ->
+                blockingObserver.catchUpAndJoinGame(
+                    modifications, playerManager.getPlayerMapping()),
+            nonBlockingObserver,
+            newNode);
+      } finally {
+        delegateExecutionManager.resumeDelegateExecution();
+      }
+    } catch (final Exception e) {
+      log.error("Failed to join game", e);
+      nonBlockingObserver.cannotJoinGame(e.getMessage());
+    } finally {
+      joiningObserverLogs.remove(modificationLog);
+    }
+  }
+
+  private boolean blockDelegateExecution(final IObserverWaitingToJoin nonBlockingObserver) {
     try {
       if (!delegateExecutionManager.blockDelegateExecution(2000)) {
         nonBlockingObserver.cannotJoinGame("Could not block delegate execution");
-        return;
+        return false;
       }
+      return true;
     } catch (final InterruptedException e) {
       Thread.currentThread().interrupt();
       nonBlockingObserver.cannotJoinGame(e.getMessage());
-      return;
+      return false;
     }
-    try {
-      final CountDownLatch waitOnObserver = new CountDownLatch(1);
-      final byte[] bytes = GameDataWriter.writeToBytes(gameData, delegateExecutionManager);
-      ThreadRunner.runInNewThread(
-          () -> {
-            try {
-              blockingObserver.joinGame(bytes, playerManager.getPlayerMapping());
-              waitOnObserver.countDown();
-            } catch (final Exception e) {
-              if (e.getCause() instanceof ConnectionLostException) {
-                log.error("Connection lost to observer while joining: " + newNode.getName(), e);
-              } else {
-                log.error("Failed to join game", e);
-              }
+  }
+
+  /**
+   * Makes a blocking call on the joining observer, waiting at most {@link
+   * ClientSetting#serverObserverJoinWaitTime} for it to return.
+   *
+   * @return true if the call returned in time.
+   */
+  private static boolean callObserver(
+      final Runnable call, final IObserverWaitingToJoin nonBlockingObserver, final INode newNode) {
+    final CountDownLatch waitOnObserver = new CountDownLatch(1);
+    ThreadRunner.runInNewThread(
+        () -> {
+          try {
+            call.run();
+            waitOnObserver.countDown();
+          } catch (final Exception e) {
+            if (e.getCause() instanceof ConnectionLostException) {
+              log.error("Connection lost to observer while joining: " + newNode.getName(), e);
+            } else {
+              log.error("Failed to join game", e);
             }
-          });
-      try {
-        if (!waitOnObserver.await(
-            ClientSetting.serverObserverJoinWaitTime.getValueOrThrow(), TimeUnit.SECONDS)) {
-          nonBlockingObserver.cannotJoinGame("Taking too long to join.");
-        }
-      } catch (final InterruptedException e) {
-        Thread.currentThread().interrupt();
-        nonBlockingObserver.cannotJoinGame(e.getMessage());
+          }
+        });
+    try {
+      if (!waitOnObserver.await(
+          ClientSetting.serverObserverJoinWaitTime.getValueOrThrow(), TimeUnit.SECONDS)) {
+        nonBlockingObserver.cannotJoinGame("Taking too long to join.");
+        return false;
       }
-    } catch (final Exception e) {
-      log.error("Failed to join game", e);
+      return true;
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
       nonBlockingObserver.cannotJoinGame(e.getMessage());
-    } finally {
-      delegateExecutionManager.resumeDelegateExecution();
+      return false;
     }
   }
 
@@ -387,7 +457,9 @@ public class ServerGame extends AbstractGame {
       }
     }
 
+    final long start = saveGameTimer.start();
     GameDataWriter.writeToFile(gameData, delegateExecutionManager, file);
+    saveGameTimer.stop(start);
   }
 
   private void runStep(final boolean stepIsRestoredFromSavedGame) {
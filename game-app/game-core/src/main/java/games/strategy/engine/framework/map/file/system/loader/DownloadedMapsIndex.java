@@ -0,0 +1,261 @@
+package games.strategy.engine.framework.map.file.system.loader;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.annotation.Nullable;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.triplea.map.description.file.MapDescriptionYaml;
+import org.triplea.yaml.YamlReader;
+import org.triplea.yaml.YamlWriter;
+
+/**
+ * Persistent index of the downloaded maps folder. Each entry is keyed by a map folder and holds the
+ * contents of the map's 'map.yml' file along with the size and last modified time of that file. As
+ * long as the size and last modified time are unchanged the map is loaded from the index without
+ * reading or parsing the 'map.yml' file.
+ *
+ * <p>Folders that do not contain a map for which a 'map.yml' file can be found or generated are
+ * indexed with the latest last modified time of the folder and all files and folders within it,
+ * generation is not re-attempted until anything in the folder changes.
+ */
+@Slf4j
+class DownloadedMapsIndex {
+  private static final int INDEX_VERSION = 2;
+
+  private final Path indexFile;
+  private final Map<Path, Entry> entries = new ConcurrentHashMap<>();
+
+  private interface YamlKeys {
+    String INDEX_VERSION = "index_version";
+    String MAPS = "maps";
+    String FOLDER = "folder";
+    String MAP_YAML = "map_yml";
+    String SIZE = "size";
+    String LAST_MODIFIED = "last_modified";
+    String MAP_NAME = "map_name";
+    String VERSION = "version";
+    String GAMES = "games";
+    String GAME_NAME = "game_name";
+    String FILE_NAME = "file_name";
+  }
+
+  /** An indexed map folder. */
+  @AllArgsConstructor
+  private static class Entry {
+    /** The map description read from 'map.yml', null if the folder contains no valid map. */
+    @Nullable private final MapDescriptionYaml mapDescriptionYaml;
+    /** The size of the 'map.yml' file, or -1 if the folder contains no valid map. */
+    private final long size;
+    /**
+     * Last modified time of 'map.yml' file or, if the folder contains no valid map, the latest last
+     * modified time within the folder.
+     */
+    private final long lastModified;
+
+    boolean isCurrent(final Path mapFolder) {
+      try {
+        if (mapDescriptionYaml == null) {
+          return lastModifiedWithin(mapFolder) == lastModified;
+        }
+        final Path mapYaml = Path.of(mapDescriptionYaml.getYamlFileLocation());
+        return Files.size(mapYaml) == size
+            && Files.getLastModifiedTime(mapYaml).toMillis() == lastModified;
+      } catch (final IOException e) {
+        return false;
+      }
+    }
+  }
+
+  @VisibleForTesting
+  DownloadedMapsIndex(final Path indexFile) {
+    this.indexFile = indexFile;
+  }
+
+  /** Reads the index from the given file, returns an empty index if the file cannot be read. */
+  static DownloadedMapsIndex load(final Path indexFile) {
+    final DownloadedMapsIndex index = new DownloadedMapsIndex(indexFile);
+    if (Files.exists(indexFile)) {
+      try {
+        index.read(YamlReader.readMap(Files.readString(indexFile)));
+      } catch (final IOException | RuntimeException e) {
+        log.info("Ignoring unreadable downloaded maps index: {}, {}", indexFile, e.getMessage());
+        index.entries.clear();
+      }
+    }
+    return index;
+  }
+
+  @SuppressWarnings("unchecked")
+  private void read(final Map<String, Object> yamlData) {
+    if (!Integer.valueOf(INDEX_VERSION).equals(yamlData.get(YamlKeys.INDEX_VERSION))) {
+      return;
+    }
+    for (final Map<String, Object> entry :
+        (List<Map<String, Object>>) yamlData.get(YamlKeys.MAPS)) {
+      final Path folder = Path.of((String) entry.get(YamlKeys.FOLDER));
+      final long lastModified = ((Number) entry.get(YamlKeys.LAST_MODIFIED)).longValue();
+      final String mapYaml = (String) entry.get(YamlKeys.MAP_YAML);
+      if (mapYaml == null) {
+        entries.put(folder, new Entry(null, -1, lastModified));
+      } else {
+        final MapDescriptionYaml mapDescriptionYaml =
+            MapDescriptionYaml.builder()
+                .yamlFileLocation(Path.of(mapYaml).toUri())
+                .mapName((String) entry.get(YamlKeys.MAP_NAME))
+                .mapVersion((Integer) entry.get(YamlKeys.VERSION))
+                .mapGameList(readGameList((List<Map<String, String>>) entry.get(YamlKeys.GAMES)))
+                .build();
+        final long size = ((Number) entry.get(YamlKeys.SIZE)).longValue();
+        entries.put(folder, new Entry(mapDescriptionYaml, size, lastModified));
+      }
+    }
+  }
+
+  private static List<MapDescriptionYaml.MapGame> readGameList(
+      final List<Map<String, String>> games) {
+    return games.stream()
+        .map(
+            game ->
+                MapDescriptionYaml.MapGame.builder()
+                    .gameName(game.get(YamlKeys.GAME_NAME))
+                    .xmlFileName(game.get(YamlKeys.FILE_NAME))
+                    .build())
+        .collect(Collectors.toList());
+  }
+
+  /** Returns true if the given folder is indexed and has not changed since it was indexed. */
+  boolean isCurrent(final Path mapFolder) {
+    final Entry entry = entries.get(mapFolder);
+    return entry != null && entry.isCurrent(mapFolder);
+  }
+
+  /**
+   * Returns the indexed map of the given folder. Returns empty if the folder is not indexed or is
+   * indexed as not containing a valid map.
+   */
+  Optional<MapDescriptionYaml> getMapDescriptionYaml(final Path mapFolder) {
+    return Optional.ofNullable(entries.get(mapFolder)).map(entry -> entry.mapDescriptionYaml);
+  }
+
+  /**
+   * Indexes the given folder. If {@code mapDescriptionYaml} is empty the folder is indexed as not
+   * containing a valid map.
+   */
+  void put(final Path mapFolder, final Optional<MapDescriptionYaml> mapDescriptionYaml) {
+    try {
+      if (mapDescriptionYaml.isPresent()) {
+        final Path mapYaml = Path.of(mapDescriptionYaml.get().getYamlFileLocation());
+        entries.put(
+            mapFolder,
+            new Entry(
+                mapDescriptionYaml.get(),
+                Files.size(mapYaml),
+                Files.getLastModifiedTime(mapYaml).toMillis()));
+      } else {
+        entries.put(mapFolder, new Entry(null, -1, lastModifiedWithin(mapFolder)));
+      }
+    } catch (final IOException e) {
+      log.info("Unable to index map folder: {}, {}", mapFolder, e.getMessage());
+      entries.remove(mapFolder);
+    }
+  }
+
+  /**
+   * Returns the latest last modified time of the folder and all files and folders within it, so
+   * that files added, removed or edited in sub-folders are noticed.
+   */
+  private static long lastModifiedWithin(final Path folder) throws IOException {
+    try (Stream<Path> paths = Files.walk(folder)) {
+      return paths
+          .mapToLong(
+              path -> {
+                try {
+                  return Files.getLastModifiedTime(path).toMillis();
+                } catch (final IOException e) {
+                  throw new UncheckedIOException(e);
+                }
+              })
+          .max()
+          .orElseThrow();
+    } catch (final UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
+  /** Removes all entries whose folder is not in {@code mapFolders}. */
+  void retainAll(final Collection<Path> mapFolders) {
+    final Set<Path> folders = Set.copyOf(mapFolders);
+    entries.keySet().removeIf(folder -> !folders.contains(folder));
+  }
+
+  /** Writes the index to its file. */
+  void save() {
+    final Map<String, Object> yamlData = new HashMap<>();
+    yamlData.put(YamlKeys.INDEX_VERSION, INDEX_VERSION);
+    yamlData.put(
+        YamlKeys.MAPS,
+        entries.entrySet().stream()
+            .map(entry -> toYamlData(entry.getKey(), entry.getValue()))
+            .collect(Collectors.toList()));
+    // written to a temporary file that replaces the index, so a crash never leaves a partial index
+    Path tempFile = null;
+    try {
+      Files.createDirectories(indexFile.getParent());
+      tempFile =
+          Files.createTempFile(indexFile.getParent(), indexFile.getFileName().toString(), ".tmp");
+      Files.writeString(tempFile, YamlWriter.writeToString(yamlData));
+      Files.move(
+          tempFile,
+          indexFile,
+          StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+    } catch (final IOException e) {
+      log.info("Failed to write downloaded maps index: {}, {}", indexFile, e.getMessage());
+      if (tempFile != null) {
+        try {
+          Files.deleteIfExists(tempFile);
+        } catch (final IOException deleteError) {
+          log.debug("Unable to delete temporary index file: {}", tempFile, deleteError);
+        }
+      }
+    }
+  }
+
+  private static Map<String, Object> toYamlData(final Path folder, final Entry entry) {
+    final Map<String, Object> yamlData = new HashMap<>();
+    yamlData.put(YamlKeys.FOLDER, folder.toString());
+    yamlData.put(YamlKeys.LAST_MODIFIED, entry.lastModified);
+    if (entry.mapDescriptionYaml != null) {
+      final MapDescriptionYaml mapDescriptionYaml = entry.mapDescriptionYaml;
+      yamlData.put(
+          YamlKeys.MAP_YAML, Path.of(mapDescriptionYaml.getYamlFileLocation()).toString());
+      yamlData.put(YamlKeys.SIZE, entry.size);
+      yamlData.put(YamlKeys.MAP_NAME, mapDescriptionYaml.getMapName());
+      yamlData.put(YamlKeys.VERSION, mapDescriptionYaml.getMapVersion());
+      yamlData.put(
+          YamlKeys.GAMES,
+          mapDescriptionYaml.getMapGameList().stream()
+              .map(
+                  game ->
+                      Map.of(
+                          YamlKeys.GAME_NAME, game.getGameName(),
+                          YamlKeys.FILE_NAME, game.getXmlFileName()))
+              .collect(Collectors.toList()));
+    }
+    return yamlData;
+  }
+}
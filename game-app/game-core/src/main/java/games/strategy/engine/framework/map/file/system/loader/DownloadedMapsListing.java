@@ -1,5 +1,6 @@
 package games.strategy.engine.framework.map.file.system.loader;
 
+import com.google.common.annotations.VisibleForTesting;
 import games.strategy.engine.ClientFileSystemHelper;
 import games.strategy.engine.framework.ui.DefaultGameChooserEntry;
 import java.io.File;
@@ -9,8 +10,13 @@ import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.triplea.io.FileUtils;
 import org.triplea.map.description.file.MapDescriptionYaml;
 
@@ -19,7 +25,10 @@ import org.triplea.map.description.file.MapDescriptionYaml;
  * onto their hard drive.
  */
 @AllArgsConstructor
+@Slf4j
 public class DownloadedMapsListing {
+  private static final String INDEX_FILE_NAME = "downloadedMapsIndex.yml";
+
   private final Collection<DownloadedMap> downloadedMaps;
 
   private DownloadedMapsListing() {
@@ -35,17 +44,74 @@ public class DownloadedMapsListing {
   }
 
   private static Collection<DownloadedMap> readMapYamlsAndGenerateMissingMapYamls() {
-    // loop over all maps, find and parse a 'map.yml' file, if not found attempt to generate it
-    return FileUtils.listFiles(ClientFileSystemHelper.getUserMapsFolder()).stream()
-        .filter(Files::isDirectory)
-        .map(
-            mapFolder ->
-                MapDescriptionYaml.fromMap(mapFolder)
-                    .or(() -> MapDescriptionYaml.generateForMap(mapFolder)))
-        .filter(Optional::isPresent)
-        .map(Optional::get)
-        .map(DownloadedMap::new)
-        .collect(Collectors.toList());
+    final DownloadedMapsIndex index =
+        DownloadedMapsIndex.load(
+            ClientFileSystemHelper.getUserCacheFolder().resolve(INDEX_FILE_NAME));
+    final Collection<DownloadedMap> downloadedMaps =
+        readMapYamlsAndGenerateMissingMapYamls(
+            ClientFileSystemHelper.getUserMapsFolder(), index);
+    index.save();
+    return downloadedMaps;
+  }
+
+  /**
+   * Loops over all map folders and finds and parses the 'map.yml' file of each, if not found
+   * attempts to generate it. Folders that are unchanged since they were last read are loaded from
+   * {@code index}. The folders are read in parallel using a bounded number of threads.
+   */
+  @VisibleForTesting
+  static Collection<DownloadedMap> readMapYamlsAndGenerateMissingMapYamls(
+      final Path mapsFolder, final DownloadedMapsIndex index) {
+    final List<Path> mapFolders =
+        FileUtils.listFiles(mapsFolder).stream()
+            .filter(Files::isDirectory)
+            .collect(Collectors.toList());
+    index.retainAll(mapFolders);
+    if (mapFolders.isEmpty()) {
+      return List.of();
+    }
+
+    final ExecutorService executorService =
+        Executors.newFixedThreadPool(
+            Math.min(mapFolders.size(), Runtime.getRuntime().availableProcessors()));
+    try {
+      final List<Future<Optional<MapDescriptionYaml>>> mapDescriptionYamls =
+          mapFolders.stream()
+              .map(mapFolder -> executorService.submit(() -> readMapFolder(mapFolder, index)))
+              .collect(Collectors.toList());
+      return mapDescriptionYamls.stream()
+          .map(DownloadedMapsListing::getMapDescriptionYaml)
+          .flatMap(Optional::stream)
+          .map(DownloadedMap::new)
+          .collect(Collectors.toList());
+    } finally {
+      executorService.shutdown();
+    }
+  }
+
+  private static Optional<MapDescriptionYaml> readMapFolder(
+      final Path mapFolder, final DownloadedMapsIndex index) {
+    if (index.isCurrent(mapFolder)) {
+      return index.getMapDescriptionYaml(mapFolder);
+    }
+    final Optional<MapDescriptionYaml> mapDescriptionYaml =
+        MapDescriptionYaml.fromMap(mapFolder)
+            .or(() -> MapDescriptionYaml.generateForMap(mapFolder));
+    index.put(mapFolder, mapDescriptionYaml);
+    return mapDescriptionYaml;
+  }
+
+  private static Optional<MapDescriptionYaml> getMapDescriptionYaml(
+      final Future<Optional<MapDescriptionYaml>> future) {
+    try {
+      return future.get();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return Optional.empty();
+    } catch (final ExecutionException e) {
+      log.error("Error reading map folder: " + e.getCause().getMessage(), e.getCause());
+      return Optional.empty();
+    }
   }
 
   /** Returns the list of all installed game names. */
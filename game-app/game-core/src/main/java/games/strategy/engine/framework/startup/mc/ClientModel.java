@@ -11,6 +11,7 @@ import games.strategy.engine.chat.ChatPanel;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.framework.ClientGame;
 import games.strategy.engine.framework.GameDataManager;
+import games.strategy.engine.framework.GameModificationLog;
 import games.strategy.engine.framework.GameObjectStreamFactory;
 import games.strategy.engine.framework.GameRunner;
 import games.strategy.engine.framework.GameState;
@@ -43,6 +44,7 @@ import games.strategy.triplea.settings.ClientSetting;
 import java.awt.Component;
 import java.awt.Frame;
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -52,8 +54,10 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.swing.Action;
 import javax.swing.JOptionPane;
 import javax.swing.SwingUtilities;
@@ -93,19 +97,39 @@ public class ClientModel implements IMessengerErrorListener {
   // server
   // however, if we cancel, we want to restore the old game data.
   private GameData gameDataOnStartup;
+  /** The game snapshot loaded by an observer joining a running game, until it has caught up. */
+  @Nullable private volatile GameData gameSnapshot;
   private Map<String, String> playersToNodes = new HashMap<>();
   private final IObserverWaitingToJoin observerWaitingToJoin =
       new IObserverWaitingToJoin() {
         @Override
-        public void joinGame(final byte[] gameData, final Map<String, INode> players) {
+        public void loadGameSnapshot(final byte[] gameData) {
+          showGameLoadingWindow();
+          // this normally takes a couple seconds, but can take up to 60 seconds for a huge game
+          gameSnapshot = GameDataManager.loadGame(new ByteArrayInputStream(gameData)).orElse(null);
+        }
+
+        @Override
+        public void catchUpAndJoinGame(
+            final byte[] gameModifications, final Map<String, INode> players) {
           messengers.unregisterRemote(
               ServerModel.getObserverWaitingToStartName(messenger.getLocalNode()));
-          final CountDownLatch latch = new CountDownLatch(1);
-          startGame(gameData, players, latch, true);
+          final GameData data = gameSnapshot;
+          gameSnapshot = null;
+          if (data == null) {
+            log.warn("Failed to join game, the game snapshot sent by the host could not be loaded");
+            gameLoadingWindow.doneWait();
+            cannotJoinGame("the game sent by the host could not be loaded");
+            return;
+          }
           try {
-            latch.await(GameRunner.MINIMUM_CLIENT_GAMEDATA_LOAD_GRACE_TIME, TimeUnit.SECONDS);
-          } catch (final InterruptedException e) {
-            Thread.currentThread().interrupt();
+            final GameModificationLog modificationLog =
+                GameModificationLog.fromBytes(gameModifications, data);
+            startGameInNewThread(
+                data, players, true, game -> game.replayGameModifications(modificationLog));
+          } catch (final IOException | RuntimeException e) {
+            gameLoadingWindow.doneWait();
+            throw new IllegalStateException("Failed to join game", e);
           }
         }
 
@@ -318,12 +342,7 @@ public class ClientModel implements IMessengerErrorListener {
       final Map<String, INode> players,
       final CountDownLatch onDone,
       final boolean gameRunning) {
-    SwingUtilities.invokeLater(
-        () -> {
-          gameLoadingWindow.setVisible(true);
-          gameLoadingWindow.setLocationRelativeTo(JOptionPane.getFrameForComponent(ui));
-          gameLoadingWindow.showWait();
-        });
+    showGameLoadingWindow();
     try {
       startGameInNewThread(gameData, players, gameRunning);
     } catch (final RuntimeException e) {
@@ -336,6 +355,15 @@ public class ClientModel implements IMessengerErrorListener {
     }
   }
 
+  private void showGameLoadingWindow() {
+    SwingUtilities.invokeLater(
+        () -> {
+          gameLoadingWindow.setVisible(true);
+          gameLoadingWindow.setLocationRelativeTo(JOptionPane.getFrameForComponent(ui));
+          gameLoadingWindow.showWait();
+        });
+  }
+
   private void startGameInNewThread(
       final byte[] gameData, final Map<String, INode> players, final boolean gameRunning) {
     // this normally takes a couple seconds, but can take up to 60 seconds for a huge game
@@ -343,6 +371,20 @@ public class ClientModel implements IMessengerErrorListener {
     if (data == null) {
       return;
     }
+    startGameInNewThread(data, players, gameRunning, game -> {});
+  }
+
+  /**
+   * Starts the game with the given data.
+   *
+   * @param beforeStart Invoked with the client game once it listens to the game channels, before
+   *     the game is started.
+   */
+  private void startGameInNewThread(
+      final GameData data,
+      final Map<String, INode> players,
+      final boolean gameRunning,
+      final Consumer<ClientGame> beforeStart) {
     objectStreamFactory.setData(data);
     final Map<String, PlayerTypes.Type> playerMapping =
         playersToNodes.entrySet().stream()
@@ -351,6 +393,7 @@ public class ClientModel implements IMessengerErrorListener {
             .collect(Collectors.toMap(Map.Entry::getKey, e -> PlayerTypes.CLIENT_PLAYER));
     final Set<Player> playerSet = data.getGameLoader().newPlayers(playerMapping);
     game = new ClientGame(data, playerSet, players, messengers, clientNetworkBridge);
+    beforeStart.accept(game);
     ThreadRunner.runInNewThread(
         () -> {
           SwingUtilities.invokeLater(() -> JOptionPane.getFrameForComponent(ui).setVisible(false));
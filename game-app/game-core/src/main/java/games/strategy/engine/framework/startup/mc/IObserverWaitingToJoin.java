@@ -11,11 +11,21 @@ import java.util.Map;
  */
 public interface IObserverWaitingToJoin extends IRemote {
   /**
-   * This method should not return until the client is ready to start the game. This includes the
-   * display running, with all remote and channel listeners set up.
+   * Loads a snapshot of the running game. The game keeps running on the server while the snapshot
+   * is loaded, the server follows up with {@link #catchUpAndJoinGame(byte[], Map)}. This method
+   * should not return until the snapshot is loaded.
    */
   @RemoteActionCode(1)
-  void joinGame(byte[] gameData, Map<String, INode> players);
+  void loadGameSnapshot(byte[] gameData);
+
+  /**
+   * Replays the game modifications made on the server since the snapshot was taken (see {@link
+   * games.strategy.engine.framework.GameModificationLog}) and starts the game. This method should
+   * not return until the client is ready to start the game. This includes the display running,
+   * with all remote and channel listeners set up.
+   */
+  @RemoteActionCode(2)
+  void catchUpAndJoinGame(byte[] gameModifications, Map<String, INode> players);
 
   /** You could not join the game, usually this is due to an error. */
   @RemoteActionCode(0)
@@ -29,11 +29,16 @@ import java.util.concurrent.Executors;
 import lombok.extern.slf4j.Slf4j;
 import org.triplea.java.Interruptibles;
 import org.triplea.java.concurrency.AsyncRunner;
+import org.triplea.performance.Metrics;
+import org.triplea.performance.Timer;
 
 /** A messenger general enough that both Channel and Remote messenger can be based on it. */
 @Slf4j
 public class UnifiedMessenger {
   private static final ExecutorService threadPool = Executors.newFixedThreadPool(15);
+  private static final Timer invokeLocalTimer = Metrics.timer("messenger.invoke-and-wait.local");
+  private static final Timer invokeRemoteTimer =
+      Metrics.timer("messenger.invoke-and-wait.remote");
   // the messenger we are based on
   private final IMessenger messenger;
   // lock on this for modifications to create or remove local end points
@@ -88,13 +93,20 @@ public class UnifiedMessenger {
       local = localEndPoints.get(endPointName);
     }
     if (local == null) {
-      return invokeAndWaitRemote(remoteCall);
-      // we have the implementor here, just invoke it
+      final long start = invokeRemoteTimer.start();
+      try {
+        return invokeAndWaitRemote(remoteCall);
+      } finally {
+        invokeRemoteTimer.stop(start);
+      }
     }
 
+    // we have the implementor here, just invoke it
     final long number = local.takeANumber();
+    final long start = invokeLocalTimer.start();
     final List<RemoteMethodCallResults> results =
         local.invokeLocal(remoteCall, number, getLocalNode());
+    invokeLocalTimer.stop(start);
     if (results.isEmpty()) {
       throw new RemoteNotFoundException(
           "Not found:"
@@ -13,7 +13,16 @@ public final class PlainRandomSource implements IRandomSource {
   private final Object lock = new Object();
 
   @GuardedBy("lock")
-  private final RandomGenerator random = new MersenneTwister();
+  private final RandomGenerator random;
+
+  public PlainRandomSource() {
+    random = new MersenneTwister();
+  }
+
+  /** Creates a random source that returns the same sequence of numbers for the same seed. */
+  public PlainRandomSource(final long seed) {
+    random = new MersenneTwister(seed);
+  }
 
   @Override
   public int[] getRandom(final int max, final int count, final String annotation) {
@@ -0,0 +1,56 @@
+package games.strategy.net;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import javax.annotation.Nullable;
+import lombok.Getter;
+
+/**
+ * An ordered set of classes, each identified by a small integer id, that is shared by both ends of
+ * a connection using the compact object stream encoding (see {@link CompactObjectOutputStream}).
+ *
+ * <p>Registered classes are written as their id instead of a full class descriptor, and the reader
+ * uses its local descriptor for them. Both ends must therefore agree on the registered classes,
+ * their order and their serialized form. Any change to either requires a new {@link #getVersion()
+ * version}; streams written with a different version are rejected.
+ */
+public final class ClassIdRegistry {
+  @Getter private final int version;
+  private final List<Class<?>> types;
+  private final Map<Class<?>, Integer> idsByType = new HashMap<>();
+  private final Map<String, Class<?>> typesByName = new HashMap<>();
+
+  public ClassIdRegistry(final int version, final List<Class<?>> types) {
+    checkArgument(version > 0 && version <= 0xFF, "version must fit in an unsigned byte");
+    checkArgument(types.size() <= Short.MAX_VALUE, "too many types");
+    this.version = version;
+    this.types = List.copyOf(types);
+    for (int i = 0; i < this.types.size(); i++) {
+      final Class<?> type = this.types.get(i);
+      checkArgument(idsByType.put(type, i) == null, "duplicate type: " + type);
+      typesByName.put(type.getName(), type);
+    }
+  }
+
+  /** Returns the id of the specified class or -1 if it is not registered. */
+  int getId(final Class<?> type) {
+    checkNotNull(type);
+    return idsByType.getOrDefault(type, -1);
+  }
+
+  /** Returns the class registered with the specified id. */
+  Optional<Class<?>> getType(final int id) {
+    return (id >= 0 && id < types.size()) ? Optional.of(types.get(id)) : Optional.empty();
+  }
+
+  /** Returns the registered class with the specified name or {@code null} if there is none. */
+  @Nullable
+  Class<?> getType(final String name) {
+    return typesByName.get(name);
+  }
+}
@@ -0,0 +1,95 @@
+package games.strategy.net;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamClass;
+import java.io.StreamCorruptedException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * An {@link ObjectInputStream} that reads both the encoding written by {@link
+ * CompactObjectOutputStream} and standard Java serialization. The encoding is detected from the
+ * stream header.
+ */
+public class CompactObjectInputStream extends ObjectInputStream {
+  private final ClassIdRegistry registry;
+  /** True if the stream being read uses the compact encoding. */
+  @Getter private final boolean compact;
+
+  public CompactObjectInputStream(final InputStream in, final ClassIdRegistry registry)
+      throws IOException {
+    this(StreamHeader.read(in, checkNotNull(registry)), registry);
+  }
+
+  private CompactObjectInputStream(final StreamHeader header, final ClassIdRegistry registry)
+      throws IOException {
+    super(header.in);
+    this.registry = registry;
+    this.compact = header.compact;
+  }
+
+  @Override
+  protected void readStreamHeader() {
+    // already read by StreamHeader.read()
+  }
+
+  @Override
+  protected ObjectStreamClass readClassDescriptor() throws IOException, ClassNotFoundException {
+    if (!compact) {
+      return super.readClassDescriptor();
+    }
+    final short id = readShort();
+    if (id == CompactObjectOutputStream.UNREGISTERED_CLASS_ID) {
+      return super.readClassDescriptor();
+    }
+    final Class<?> type =
+        registry
+            .getType(id)
+            .orElseThrow(() -> new InvalidClassException("Unknown class id: " + id));
+    return ObjectStreamClass.lookupAny(type);
+  }
+
+  @Override
+  protected Class<?> resolveClass(final ObjectStreamClass desc)
+      throws IOException, ClassNotFoundException {
+    final Class<?> registered = compact ? registry.getType(desc.getName()) : null;
+    return registered != null ? registered : super.resolveClass(desc);
+  }
+
+  @AllArgsConstructor
+  private static final class StreamHeader {
+    private final InputStream in;
+    private final boolean compact;
+
+    static StreamHeader read(final InputStream in, final ClassIdRegistry registry)
+        throws IOException {
+      // DataInputStream does not buffer, so only the header bytes are consumed from 'in'
+      final DataInputStream dataIn = new DataInputStream(in);
+      final short magic = dataIn.readShort();
+      if (magic == STREAM_MAGIC) {
+        final short version = dataIn.readShort();
+        if (version != STREAM_VERSION) {
+          throw new StreamCorruptedException(
+              String.format("invalid stream header: %04X%04X", magic, version));
+        }
+        return new StreamHeader(in, false);
+      } else if (magic == CompactObjectOutputStream.COMPACT_STREAM_MAGIC) {
+        final int version = dataIn.readUnsignedByte();
+        if (version != registry.getVersion()) {
+          throw new StreamCorruptedException(
+              String.format(
+                  "unsupported compact stream version: %d, expected: %d",
+                  version, registry.getVersion()));
+        }
+        return new StreamHeader(in, true);
+      }
+      throw new StreamCorruptedException(String.format("invalid stream header: %04X", magic));
+    }
+  }
+}
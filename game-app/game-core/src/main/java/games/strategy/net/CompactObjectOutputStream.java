@@ -0,0 +1,85 @@
+package games.strategy.net;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import javax.annotation.Nullable;
+
+/**
+ * An {@link ObjectOutputStream} that writes a compact variant of Java serialization.
+ *
+ * <p>The compact encoding differs from standard Java serialization in two places only:
+ *
+ * <ul>
+ *   <li>The stream header is {@link #COMPACT_STREAM_MAGIC} followed by the {@link ClassIdRegistry}
+ *       version instead of the standard magic and version.
+ *   <li>Each class descriptor is written as a 16-bit id. Classes registered in the {@link
+ *       ClassIdRegistry} are written as their id only; any other class is written as -1 followed by
+ *       its full standard descriptor.
+ * </ul>
+ *
+ * <p>Everything else, including {@code writeReplace}, {@code Externalizable} and back references,
+ * behaves exactly like standard serialization. The encoding is read by {@link
+ * CompactObjectInputStream}, which also reads standard streams.
+ */
+public class CompactObjectOutputStream extends ObjectOutputStream {
+  /** Stream magic of the compact encoding; differs from {@code STREAM_MAGIC} (0xACED). */
+  static final short COMPACT_STREAM_MAGIC = (short) 0x7AC0;
+
+  static final short UNREGISTERED_CLASS_ID = -1;
+
+  @Nullable private final ClassIdRegistry registry;
+
+  /**
+   * Creates a stream that writes the compact encoding if {@code registry} is not null or standard
+   * Java serialization otherwise.
+   */
+  public CompactObjectOutputStream(
+      final OutputStream out, @Nullable final ClassIdRegistry registry) throws IOException {
+    // The header is written before the super constructor runs so that it can depend on the
+    // registry; see writeStreamHeader()
+    super(writeHeader(out, registry));
+    this.registry = registry;
+  }
+
+  private static OutputStream writeHeader(
+      final OutputStream out, @Nullable final ClassIdRegistry registry) throws IOException {
+    // DataOutputStream does not buffer, so the header is written to 'out' immediately
+    final DataOutputStream dataOut = new DataOutputStream(out);
+    if (registry == null) {
+      dataOut.writeShort(STREAM_MAGIC);
+      dataOut.writeShort(STREAM_VERSION);
+    } else {
+      dataOut.writeShort(COMPACT_STREAM_MAGIC);
+      dataOut.writeByte(registry.getVersion());
+    }
+    return out;
+  }
+
+  @Override
+  protected void writeStreamHeader() {
+    // already written by writeHeader()
+  }
+
+  @Override
+  protected void writeClassDescriptor(final ObjectStreamClass desc) throws IOException {
+    if (registry == null) {
+      super.writeClassDescriptor(desc);
+      return;
+    }
+    final int id = registry.getId(desc.forClass());
+    if (id == UNREGISTERED_CLASS_ID) {
+      writeShort(UNREGISTERED_CLASS_ID);
+      super.writeClassDescriptor(desc);
+    } else {
+      writeShort(id);
+    }
+  }
+
+  /** Returns true if this stream writes the compact encoding. */
+  public boolean isCompact() {
+    return registry != null;
+  }
+}
@@ -5,14 +5,34 @@ import java.io.InputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.OutputStream;
+import java.util.Optional;
 
 /**
  * Factory for creating matching pairs of {@link ObjectInputStream} and {@link ObjectOutputStream}.
  * The extra layer of indirection permits customizing the serialization and deserialization process
  * for a particular object graph.
+ *
+ * <p>Factories may additionally support the compact encoding described in {@link
+ * CompactObjectOutputStream}. The input streams of such factories must read both encodings.
  */
 public interface IObjectStreamFactory {
   ObjectInputStream create(InputStream stream) throws IOException;
 
   ObjectOutputStream create(OutputStream stream) throws IOException;
+
+  /**
+   * Returns the registry used by the compact encoding of this factory or empty if this factory
+   * only supports standard Java serialization.
+   */
+  default Optional<ClassIdRegistry> getClassIdRegistry() {
+    return Optional.empty();
+  }
+
+  /**
+   * Creates an output stream that writes the compact encoding if {@link #getClassIdRegistry()} is
+   * not empty, otherwise the same stream as {@link #create(OutputStream)}.
+   */
+  default ObjectOutputStream createCompact(final OutputStream stream) throws IOException {
+    return create(stream);
+  }
 }
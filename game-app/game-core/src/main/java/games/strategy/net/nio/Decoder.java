@@ -1,12 +1,16 @@
 package games.strategy.net.nio;
 
+import games.strategy.net.CompactObjectInputStream;
 import games.strategy.net.CouldNotLogInException;
 import games.strategy.net.IObjectStreamFactory;
 import games.strategy.net.MessageHeader;
 import games.strategy.net.nio.QuarantineConversation.Action;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
 import java.net.Socket;
 import java.nio.channels.SocketChannel;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import lombok.extern.slf4j.Slf4j;
 import org.triplea.io.IoUtils;
@@ -25,6 +29,11 @@ class Decoder {
    */
   private final ConcurrentHashMap<SocketChannel, QuarantineConversation> quarantine =
       new ConcurrentHashMap<>();
+  /**
+   * The channels whose peer reads the compact encoding, i.e. that sent us a compact message or
+   * advertised the compact encoding version we use. See {@link Encoder}.
+   */
+  private final Set<SocketChannel> compactEncodingChannels;
 
   private final Thread thread;
 
@@ -32,10 +41,12 @@ class Decoder {
       final NioSocket nioSocket,
       final NioReader reader,
       final ErrorReporter reporter,
-      final IObjectStreamFactory objectStreamFactory) {
+      final IObjectStreamFactory objectStreamFactory,
+      final Set<SocketChannel> compactEncodingChannels) {
     this.reader = reader;
     errorReporter = reporter;
     this.objectStreamFactory = objectStreamFactory;
+    this.compactEncodingChannels = compactEncodingChannels;
     this.nioSocket = nioSocket;
     thread = new Thread(this::loop, "Decoder");
     thread.start();
@@ -56,15 +67,7 @@ class Decoder {
 
         try {
           final MessageHeader header =
-              IoUtils.readFromMemory(
-                  data.getData(),
-                  is -> {
-                    try {
-                      return (MessageHeader) objectStreamFactory.create(is).readObject();
-                    } catch (final ClassNotFoundException e) {
-                      throw new IOException(e);
-                    }
-                  });
+              IoUtils.readFromMemory(data.getData(), is -> read(data.getChannel(), is));
           // make sure we are still open
           final Socket s = data.getChannel().socket();
           if (!running || s == null || s.isInputShutdown()) {
@@ -99,6 +102,33 @@ class Decoder {
     }
   }
 
+  private MessageHeader read(final SocketChannel channel, final InputStream is)
+      throws IOException {
+    final ObjectInputStream in = objectStreamFactory.create(is);
+    final MessageHeader header;
+    try {
+      header = (MessageHeader) in.readObject();
+    } catch (final ClassNotFoundException e) {
+      throw new IOException(e);
+    }
+    if (in instanceof CompactObjectInputStream
+        && (((CompactObjectInputStream) in).isCompact() || readsCompactEncoding(in))
+        && channel.isOpen()) {
+      compactEncodingChannels.add(channel);
+    }
+    return header;
+  }
+
+  /** Returns true if the message trailer advertises the compact encoding version we use. */
+  private boolean readsCompactEncoding(final ObjectInputStream in) throws IOException {
+    final int advertisedVersion = in.read();
+    return advertisedVersion != -1
+        && objectStreamFactory
+            .getClassIdRegistry()
+            .map(registry -> registry.getVersion() == advertisedVersion)
+            .orElse(false);
+  }
+
   private void sendQuarantine(
       final SocketChannel channel,
       final QuarantineConversation conversation,
@@ -119,6 +149,7 @@ class Decoder {
   }
 
   void close(final SocketChannel channel) {
+    compactEncodingChannels.remove(channel);
     // remove if it exists
     final QuarantineConversation conversation = quarantine.remove(channel);
     if (conversation != null) {
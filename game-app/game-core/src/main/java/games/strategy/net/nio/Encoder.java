@@ -2,21 +2,34 @@ package games.strategy.net.nio;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import games.strategy.net.ClassIdRegistry;
 import games.strategy.net.IObjectStreamFactory;
 import games.strategy.net.MessageHeader;
 import java.io.IOException;
 import java.io.ObjectOutputStream;
+import java.io.OutputStream;
 import java.nio.channels.SocketChannel;
+import java.util.Optional;
+import java.util.Set;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.triplea.io.IoUtils;
 
-/** Encodes data to be written by a writer. */
+/**
+ * Encodes data to be written by a writer.
+ *
+ * <p>If the stream factory supports the compact encoding, messages are written with it to every
+ * channel whose peer is known to read it. Messages to any other channel use standard Java
+ * serialization and advertise the compact encoding with a trailing byte holding its version, which
+ * peers without compact encoding support never read.
+ */
 @Slf4j
 @AllArgsConstructor
 class Encoder {
   private final NioWriter writer;
   private final IObjectStreamFactory objectStreamFactory;
+  /** The channels whose peer reads the compact encoding; maintained by the {@link Decoder}. */
+  private final Set<SocketChannel> compactEncodingChannels;
 
   void write(final SocketChannel to, final MessageHeader header) {
     checkNotNull(to);
@@ -24,8 +37,7 @@ class Encoder {
       throw new IllegalArgumentException("No from node");
     }
     try {
-      final byte[] bytes =
-          IoUtils.writeToMemory(os -> write(header, objectStreamFactory.create(os)));
+      final byte[] bytes = IoUtils.writeToMemory(os -> write(to, header, os));
       final SocketWriteData data = new SocketWriteData(bytes);
       writer.enque(data, to);
     } catch (final IOException e) {
@@ -34,7 +46,23 @@ class Encoder {
     }
   }
 
-  private void write(final MessageHeader header, final ObjectOutputStream out) throws IOException {
+  private void write(final SocketChannel to, final MessageHeader header, final OutputStream os)
+      throws IOException {
+    final Optional<ClassIdRegistry> registry = objectStreamFactory.getClassIdRegistry();
+    if (registry.isPresent() && compactEncodingChannels.contains(to)) {
+      write(header, objectStreamFactory.createCompact(os));
+    } else {
+      final ObjectOutputStream out = objectStreamFactory.create(os);
+      write(header, out);
+      if (registry.isPresent()) {
+        out.writeByte(registry.get().getVersion());
+        out.flush();
+      }
+    }
+  }
+
+  private static void write(final MessageHeader header, final ObjectOutputStream out)
+      throws IOException {
     checkNotNull(header.getFrom());
     out.writeObject(header);
     out.reset();
@@ -15,6 +15,8 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.LinkedBlockingQueue;
 import lombok.extern.slf4j.Slf4j;
 import org.triplea.java.ThreadRunner;
+import org.triplea.performance.Histogram;
+import org.triplea.performance.Metrics;
 
 /**
  * A thread that reads socket data using NIO from a collection of sockets. Data is read in packets,
@@ -23,6 +25,8 @@ import org.triplea.java.ThreadRunner;
  */
 @Slf4j
 class NioReader {
+  private static final Histogram queueSizes = Metrics.histogram("net.reader.queued-packets");
+
   private final LinkedBlockingQueue<SocketReadData> outputQueue = new LinkedBlockingQueue<>();
   private volatile boolean running = true;
   private final Map<SocketChannel, SocketReadData> reading = new ConcurrentHashMap<>();
@@ -119,6 +123,7 @@ class NioReader {
   private void enque(final SocketReadData packet) {
     reading.remove(packet.getChannel());
     outputQueue.offer(packet);
+    queueSizes.record(outputQueue.size());
   }
 
   private SocketReadData getReadData(final SocketChannel channel) {
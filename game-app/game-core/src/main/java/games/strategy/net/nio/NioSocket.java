@@ -8,6 +8,9 @@ import games.strategy.net.MessageHeader;
 import java.io.IOException;
 import java.net.Socket;
 import java.nio.channels.SocketChannel;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -28,8 +31,9 @@ public class NioSocket implements ErrorReporter {
     this.listener = listener;
     writer = new NioWriter(this);
     reader = new NioReader(this);
-    decoder = new Decoder(this, reader, this, factory);
-    encoder = new Encoder(writer, factory);
+    final Set<SocketChannel> compactEncodingChannels = ConcurrentHashMap.newKeySet();
+    decoder = new Decoder(this, reader, this, factory, compactEncodingChannels);
+    encoder = new Encoder(writer, factory, compactEncodingChannels);
   }
 
   INode getLocalNode() {
@@ -99,6 +103,14 @@ public class NioSocket implements ErrorReporter {
     reader.close(channel);
   }
 
+  /**
+   * Returns statistics about the data written to the specified channel or empty if no data has
+   * been written to it.
+   */
+  public Optional<WriteStatistics> getWriteStatistics(final SocketChannel channel) {
+    return writer.getStatistics(channel);
+  }
+
   void messageReceived(final MessageHeader header, final SocketChannel channel) {
     listener.messageReceived(header, channel);
   }
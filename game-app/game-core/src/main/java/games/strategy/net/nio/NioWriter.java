@@ -1,33 +1,34 @@
 package games.strategy.net.nio;
 
 import java.io.IOException;
+import java.nio.channels.CancelledKeyException;
 import java.nio.channels.ClosedChannelException;
 import java.nio.channels.SelectionKey;
 import java.nio.channels.Selector;
 import java.nio.channels.SocketChannel;
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.Iterator;
-import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import lombok.extern.slf4j.Slf4j;
 import org.triplea.java.ThreadRunner;
 
 /**
- * A thread that writes socket data using NIO. Data is written in packets that are enqueued on our
- * buffer. Packets are sent to the sockets in the order that they are received.
+ * A thread that writes socket data using NIO. Data is written in packets that are enqueued on a
+ * per-channel {@link WriteQueue}. Packets are sent to the sockets in the order that they are
+ * received; all packets queued for a channel are coalesced into a single gathering write.
  */
 @Slf4j
 class NioWriter {
   private final Selector selector;
   private final ErrorReporter errorReporter;
   // this is the data we are writing
-  private final Map<SocketChannel, List<SocketWriteData>> writing = new HashMap<>();
+  private final Map<SocketChannel, WriteQueue> writing = new ConcurrentHashMap<>();
   // these are the sockets we arent selecting on, but should now
-  private List<SocketChannel> socketsToWake = new ArrayList<>();
-  // the writing thread and threads adding data to write synchronize on this lock
-  private final Object mutex = new Object();
+  private final Queue<SocketChannel> socketsToWake = new ConcurrentLinkedQueue<>();
   private volatile boolean running = true;
 
   NioWriter(final ErrorReporter reporter) {
@@ -51,19 +52,23 @@ class NioWriter {
   }
 
   private void addNewSocketsToSelector() {
-    final List<SocketChannel> socketsToWriteCopy;
-    synchronized (mutex) {
-      if (socketsToWake.isEmpty()) {
-        return;
+    SocketChannel channel;
+    while ((channel = socketsToWake.poll()) != null) {
+      final WriteQueue queue = writing.get(channel);
+      if (queue == null) {
+        // closed in the meantime
+        continue;
       }
-      socketsToWriteCopy = socketsToWake;
-      socketsToWake = new ArrayList<>();
-    }
-    for (final SocketChannel channel : socketsToWriteCopy) {
       try {
-        channel.register(selector, SelectionKey.OP_WRITE);
-      } catch (final ClosedChannelException e) {
+        final SelectionKey key = channel.keyFor(selector);
+        if (key == null) {
+          channel.register(selector, SelectionKey.OP_WRITE, queue);
+        } else {
+          key.interestOps(SelectionKey.OP_WRITE);
+        }
+      } catch (final ClosedChannelException | CancelledKeyException e) {
         log.debug("socket already closed", e);
+        writing.remove(channel);
       }
     }
   }
@@ -83,25 +88,7 @@ class NioWriter {
           final SelectionKey key = iter.next();
           iter.remove();
           if (key.isValid() && key.isWritable()) {
-            final SocketChannel channel = (SocketChannel) key.channel();
-            final SocketWriteData packet = getData(channel);
-            if (packet != null) {
-              try {
-                final boolean done = packet.write(channel);
-                if (done) {
-                  removeLast(channel);
-                }
-              } catch (final Exception e) {
-                log.debug("exception writing", e);
-                errorReporter.error(channel, e);
-                key.cancel();
-              }
-            } else {
-              // nothing to write
-              // cancel the key, otherwise we will spin forever as the socket will always be
-              // writable
-              key.cancel();
-            }
+            write(key);
           }
         }
       } catch (final Exception e) {
@@ -111,59 +98,46 @@ class NioWriter {
     }
   }
 
-  /** Remove the data for this channel. */
-  void close(final SocketChannel channel) {
-    removeAll(channel);
-  }
-
-  private void removeAll(final SocketChannel to) {
-    synchronized (mutex) {
-      writing.remove(to);
+  private void write(final SelectionKey key) {
+    final SocketChannel channel = (SocketChannel) key.channel();
+    final WriteQueue queue = (WriteQueue) key.attachment();
+    try {
+      if (queue.write(channel)) {
+        // nothing to write, stop selecting, otherwise we will spin forever as the socket will
+        // always be writable
+        key.interestOps(0);
+        queue.unschedule();
+        // data may have been enqueued before the queue was unscheduled
+        if (!queue.isEmpty() && queue.schedule()) {
+          key.interestOps(SelectionKey.OP_WRITE);
+        }
+      }
+    } catch (final Exception e) {
+      log.debug("exception writing", e);
+      errorReporter.error(channel, e);
+      key.cancel();
     }
   }
 
-  private void removeLast(final SocketChannel to) {
-    synchronized (mutex) {
-      final List<SocketWriteData> values = writing.get(to);
-      if (values == null) {
-        log.error("NO socket data to:" + to);
-        return;
-      }
-      values.remove(0);
-      // remove empty lists, so we can detect that we need to wake up the socket
-      if (values.isEmpty()) {
-        writing.remove(to);
-      }
-    }
+  /** Remove the data for this channel. */
+  void close(final SocketChannel channel) {
+    writing.remove(channel);
   }
 
-  private SocketWriteData getData(final SocketChannel to) {
-    synchronized (mutex) {
-      if (!writing.containsKey(to)) {
-        return null;
-      }
-      final List<SocketWriteData> values = writing.get(to);
-      if (values.isEmpty()) {
-        return null;
-      }
-      return values.get(0);
-    }
+  /** Returns statistics about the data written to the specified channel. */
+  Optional<WriteStatistics> getStatistics(final SocketChannel channel) {
+    return Optional.ofNullable(writing.get(channel)).map(WriteQueue::getStatistics);
   }
 
   void enque(final SocketWriteData data, final SocketChannel channel) {
-    synchronized (mutex) {
-      if (!running) {
-        return;
-      }
-      if (writing.containsKey(channel)) {
-        writing.get(channel).add(data);
-      } else {
-        final List<SocketWriteData> values = new ArrayList<>();
-        values.add(data);
-        writing.put(channel, values);
-        socketsToWake.add(channel);
-        selector.wakeup();
-      }
+    if (!running) {
+      return;
+    }
+    final WriteQueue queue = writing.computeIfAbsent(channel, c -> new WriteQueue());
+    queue.add(data);
+    if (queue.schedule()) {
+      socketsToWake.add(channel);
+      selector.wakeup();
     }
   }
 }
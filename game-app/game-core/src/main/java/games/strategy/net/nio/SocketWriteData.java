@@ -1,8 +1,6 @@
 package games.strategy.net.nio;
 
-import java.io.IOException;
 import java.nio.ByteBuffer;
-import java.nio.channels.SocketChannel;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
@@ -15,47 +13,31 @@ import java.util.concurrent.atomic.AtomicInteger;
  */
 class SocketWriteData {
   private static final AtomicInteger counter = new AtomicInteger();
-  private final ByteBuffer size;
-  private final ByteBuffer content;
+  private final ByteBuffer buffer;
   private final int number = counter.incrementAndGet();
 
   SocketWriteData(final byte[] data) {
-    content = ByteBuffer.allocate(data.length);
-    content.put(data);
-    size = ByteBuffer.allocate(4);
     if (data.length > SocketReadData.MAX_MESSAGE_SIZE) {
       throw new IllegalStateException("Invalid message size: " + data.length);
     }
-    size.putInt(data.length ^ SocketReadData.MAGIC);
-    size.flip();
-    content.flip();
+    buffer = ByteBuffer.allocate(Integer.BYTES + data.length);
+    buffer.putInt(data.length ^ SocketReadData.MAGIC);
+    buffer.put(data);
+    buffer.flip();
   }
 
-  /**
-   * Writes any pending data to the specified channel.
-   *
-   * @return true if the write has written the entire message.
-   */
-  boolean write(final SocketChannel channel) throws IOException {
-    if (size.hasRemaining()) {
-      final int count = channel.write(size);
-      if (count == -1) {
-        throw new IOException("triplea: end of stream detected");
-      }
-      // we could not write everything
-      if (size.hasRemaining()) {
-        return false;
-      }
-    }
-    final int count = channel.write(content);
-    if (count == -1) {
-      throw new IOException("triplea: end of stream detected");
-    }
-    return !content.hasRemaining();
+  /** Returns the size and data of this packet; the buffer position tracks what has been written. */
+  ByteBuffer getBuffer() {
+    return buffer;
+  }
+
+  /** Returns the total number of bytes of this packet on the wire. */
+  int size() {
+    return buffer.limit();
   }
 
   @Override
   public String toString() {
-    return "<id:" + number + " size:" + content.capacity() + ">";
+    return "<id:" + number + " size:" + (buffer.limit() - Integer.BYTES) + ">";
   }
 }
@@ -0,0 +1,118 @@
+package games.strategy.net.nio;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.triplea.performance.Counter;
+import org.triplea.performance.Histogram;
+import org.triplea.performance.Metrics;
+
+/**
+ * The packets waiting to be written to a single channel.
+ *
+ * <p>Any thread may add packets. Only the writer thread writes them, coalescing all queued packets
+ * (up to {@link #MAX_PACKETS_PER_WRITE}) into a single gathering write.
+ */
+class WriteQueue {
+  /** Keeps gathering writes well below the usual operating system limit of 1024 buffers. */
+  static final int MAX_PACKETS_PER_WRITE = 64;
+
+  private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+  private static final Histogram queueSizes = Metrics.histogram("net.writer.queued-packets");
+  private static final Histogram packetsPerWrite =
+      Metrics.histogram("net.writer.packets-per-write");
+  private static final Counter allBytesWritten = Metrics.counter("net.writer.bytes-written");
+
+  private final Queue<SocketWriteData> packets = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger queuedPackets = new AtomicInteger();
+  private final AtomicLong queuedBytes = new AtomicLong();
+  private final AtomicBoolean scheduled = new AtomicBoolean();
+  private final AtomicLong bytesWritten = new AtomicLong();
+  private volatile long bytesPerSecond;
+
+  // only accessed by the writer thread
+  private final ByteBuffer[] buffers = new ByteBuffer[MAX_PACKETS_PER_WRITE];
+  private long rateWindowStart = System.nanoTime();
+  private long rateWindowBytes;
+
+  void add(final SocketWriteData packet) {
+    queueSizes.record(queuedPackets.incrementAndGet());
+    queuedBytes.addAndGet(packet.size());
+    packets.add(packet);
+  }
+
+  boolean isEmpty() {
+    return packets.isEmpty();
+  }
+
+  /**
+   * Marks this queue as scheduled for writing.
+   *
+   * @return true if the queue was not scheduled before, i.e. the caller must make sure the writer
+   *     thread selects the channel for writing.
+   */
+  boolean schedule() {
+    return scheduled.compareAndSet(false, true);
+  }
+
+  void unschedule() {
+    scheduled.set(false);
+  }
+
+  /**
+   * Writes as many queued packets as the channel accepts with a single gathering write.
+   *
+   * @return true if every queued packet has been written.
+   */
+  boolean write(final GatheringByteChannel channel) throws IOException {
+    int count = 0;
+    for (final SocketWriteData packet : packets) {
+      if (count == buffers.length) {
+        break;
+      }
+      buffers[count++] = packet.getBuffer();
+    }
+    if (count == 0) {
+      return true;
+    }
+    // a closed peer makes the write throw, writes never signal the end of stream by returning -1
+    final long written = channel.write(buffers, 0, count);
+    for (int i = 0; i < count && !buffers[i].hasRemaining(); i++) {
+      final SocketWriteData packet = packets.remove();
+      queuedPackets.decrementAndGet();
+      queuedBytes.addAndGet(-packet.size());
+    }
+    Arrays.fill(buffers, 0, count, null);
+    packetsPerWrite.record(count);
+    recordWritten(written);
+    return packets.isEmpty();
+  }
+
+  private void recordWritten(final long written) {
+    final long total = bytesWritten.addAndGet(written);
+    allBytesWritten.add(written);
+    final long now = System.nanoTime();
+    final long elapsed = now - rateWindowStart;
+    if (elapsed >= NANOS_PER_SECOND) {
+      bytesPerSecond = (total - rateWindowBytes) * NANOS_PER_SECOND / elapsed;
+      rateWindowStart = now;
+      rateWindowBytes = total;
+    }
+  }
+
+  WriteStatistics getStatistics() {
+    return WriteStatistics.builder()
+        .queuedPackets(queuedPackets.get())
+        .queuedBytes(queuedBytes.get())
+        .bytesWritten(bytesWritten.get())
+        .bytesPerSecond(bytesPerSecond)
+        .build();
+  }
+}
@@ -0,0 +1,18 @@
+package games.strategy.net.nio;
+
+import lombok.Builder;
+import lombok.Value;
+
+/** A snapshot of the outgoing traffic of a single connection. */
+@Value
+@Builder
+public class WriteStatistics {
+  /** Number of packets waiting to be written. */
+  int queuedPackets;
+  /** Number of bytes waiting to be written. */
+  long queuedBytes;
+  /** Total number of bytes written. */
+  long bytesWritten;
+  /** Bytes written per second, measured over the most recent window of at least one second. */
+  long bytesPerSecond;
+}
@@ -359,10 +359,8 @@ public abstract class AbstractBuiltInAi extends AbstractBasePlayer {
             if (capitals.isEmpty()) {
               capitals.addAll(
                   CollectionUtils.getMatches(
-                      data.getMap().getTerritories(),
-                      Matches.isTerritoryOwnedBy(me)
-                          .and(Matches.territoryHasUnitsOwnedBy(me))
-                          .and(Matches.territoryIsLand())));
+                      data.getMap().getTerritoriesWithUnitsOwnedBy(me),
+                      Matches.isTerritoryOwnedBy(me).and(Matches.territoryIsLand())));
             }
             final List<Territory> doesNotHaveFactoryYet =
                 CollectionUtils.getMatches(
@@ -398,10 +396,8 @@ public abstract class AbstractBuiltInAi extends AbstractBasePlayer {
             if (capitals.isEmpty()) {
               capitals.addAll(
                   CollectionUtils.getMatches(
-                      data.getMap().getTerritories(),
-                      Matches.isTerritoryOwnedBy(me)
-                          .and(Matches.territoryHasUnitsOwnedBy(me))
-                          .and(Matches.territoryIsLand())));
+                      data.getMap().getTerritoriesWithUnitsOwnedBy(me),
+                      Matches.isTerritoryOwnedBy(me).and(Matches.territoryIsLand())));
             }
             if (capitals.isEmpty()) {
               picked = territoryChoices.get(0);
@@ -433,10 +429,8 @@ public abstract class AbstractBuiltInAi extends AbstractBasePlayer {
           if (capitals.isEmpty()) {
             capitals.addAll(
                 CollectionUtils.getMatches(
-                    data.getMap().getTerritories(),
-                    Matches.isTerritoryOwnedBy(me)
-                        .and(Matches.territoryHasUnitsOwnedBy(me))
-                        .and(Matches.territoryIsLand())));
+                    data.getMap().getTerritoriesWithUnitsOwnedBy(me),
+                    Matches.isTerritoryOwnedBy(me).and(Matches.territoryIsLand())));
           }
           if (capitals.isEmpty()) {
             picked = territoryChoices.get(0);
@@ -10,7 +10,6 @@ import games.strategy.triplea.Properties;
 import games.strategy.triplea.ai.pro.data.ProPurchaseOption;
 import games.strategy.triplea.ai.pro.data.ProPurchaseOptionMap;
 import games.strategy.triplea.attachments.TerritoryAttachment;
-import games.strategy.triplea.delegate.Matches;
 import games.strategy.triplea.util.TuvUtils;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -18,7 +17,6 @@ import java.util.List;
 import java.util.Map;
 import javax.annotation.Nullable;
 import lombok.Getter;
-import org.triplea.java.collections.CollectionUtils;
 import org.triplea.java.collections.IntegerMap;
 
 /** Pro AI data. */
@@ -72,9 +70,7 @@ public final class ProData {
     }
     myCapital =
         TerritoryAttachment.getFirstOwnedCapitalOrFirstUnownedCapital(player, data.getMap());
-    myUnitTerritories =
-        CollectionUtils.getMatches(
-            data.getMap().getTerritories(), Matches.territoryHasUnitsOwnedBy(player));
+    myUnitTerritories = data.getMap().getTerritoriesWithUnitsOwnedBy(player);
     unitTerritoryMap = newUnitTerritoryMap(data);
     unitValueMap = TuvUtils.getCostsForTuv(player, data);
     purchaseOptions = new ProPurchaseOptionMap(player, data);
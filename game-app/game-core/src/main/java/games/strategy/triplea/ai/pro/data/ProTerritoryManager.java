@@ -505,8 +505,7 @@ public class ProTerritoryManager {
     // territory
     for (final GamePlayer alliedPlayer : alliedPlayers) {
       final List<Territory> alliedUnitTerritories =
-          CollectionUtils.getMatches(
-              data.getMap().getTerritories(), Matches.territoryHasUnitsOwnedBy(alliedPlayer));
+          data.getMap().getTerritoriesWithUnitsOwnedBy(alliedPlayer);
       final Map<Territory, ProTerritory> attackMap = new HashMap<>();
       final Map<Unit, Set<Territory>> unitAttackMap = new HashMap<>();
       final Map<Unit, Set<Territory>> transportAttackMap = new HashMap<>();
@@ -548,8 +547,7 @@ public class ProTerritoryManager {
     // territory
     for (final GamePlayer enemyPlayer : enemyPlayers) {
       final List<Territory> enemyUnitTerritories =
-          CollectionUtils.getMatches(
-              data.getMap().getTerritories(), Matches.territoryHasUnitsOwnedBy(enemyPlayer));
+          data.getMap().getTerritoriesWithUnitsOwnedBy(enemyPlayer);
       enemyUnitTerritories.removeAll(clearedTerritories);
       final Map<Territory, ProTerritory> attackMap = new HashMap<>();
       final Map<Unit, Set<Territory>> unitAttackMap = new HashMap<>();
@@ -724,8 +722,7 @@ public class ProTerritoryManager {
     // territory
     for (final GamePlayer enemyPlayer : enemyPlayers) {
       final List<Territory> enemyUnitTerritories =
-          CollectionUtils.getMatches(
-              data.getMap().getTerritories(), Matches.territoryHasUnitsOwnedBy(enemyPlayer));
+          data.getMap().getTerritoriesWithUnitsOwnedBy(enemyPlayer);
       final Map<Territory, ProTerritory> moveMap = new HashMap<>();
       final Map<Unit, Set<Territory>> unitMoveMap = new HashMap<>();
       final Map<Unit, Set<Territory>> transportMoveMap = new HashMap<>();
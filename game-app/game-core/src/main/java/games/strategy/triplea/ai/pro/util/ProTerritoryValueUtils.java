@@ -6,6 +6,8 @@ import games.strategy.engine.data.GameState;
 import games.strategy.engine.data.Route;
 import games.strategy.engine.data.Territory;
 import games.strategy.engine.data.util.BreadthFirstSearch;
+import games.strategy.engine.data.util.DistanceField;
+import games.strategy.engine.data.util.DistanceFields;
 import games.strategy.triplea.ai.pro.ProData;
 import games.strategy.triplea.attachments.TerritoryAttachment;
 import games.strategy.triplea.delegate.Matches;
@@ -17,6 +19,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.BiPredicate;
 import java.util.function.Predicate;
 import org.triplea.java.collections.CollectionUtils;
 
@@ -64,6 +67,10 @@ public final class ProTerritoryValueUtils {
     final Map<Territory, Double> enemyCapitalsAndFactoriesMap =
         findEnemyCapitalsAndFactoriesValue(
             player, maxLandMassSize, territoriesThatCantBeHeld, territoriesToAttack);
+    // shared by all territories, so there is one search per enemy capital or factory
+    final DistanceFields landDistances =
+        new DistanceFields(
+            proData.getData().getMap(), landRouteCondition(player, proData.getData()));
 
     final Map<Territory, Double> territoryValueMap = new HashMap<>();
     for (final Territory t : territoriesToCheck) {
@@ -75,6 +82,7 @@ public final class ProTerritoryValueUtils {
                 player,
                 maxLandMassSize,
                 enemyCapitalsAndFactoriesMap,
+                landDistances,
                 territoriesThatCantBeHeld,
                 territoriesToAttack);
         territoryValueMap.put(t, value);
@@ -90,6 +98,7 @@ public final class ProTerritoryValueUtils {
                 player,
                 maxLandMassSize,
                 enemyCapitalsAndFactoriesMap,
+                landDistances,
                 territoriesThatCantBeHeld,
                 territoriesToAttack,
                 territoryValueMap);
@@ -238,6 +247,10 @@ public final class ProTerritoryValueUtils {
     enemyCapitalsAndFactories.removeAll(territoriesToAttack);
 
     // Find value for each enemy capital and factory
+    final Predicate<Territory> canMoveLandUnits =
+        ProMatches.territoryCanPotentiallyMoveLandUnits(player, data.getProperties());
+    final DistanceFields landMassDistances =
+        new DistanceFields(data.getMap(), (t1, t2) -> canMoveLandUnits.test(t2));
     final Map<Territory, Double> enemyCapitalsAndFactoriesMap = new HashMap<>();
     for (final Territory t : enemyCapitalsAndFactories) {
 
@@ -257,13 +270,7 @@ public final class ProTerritoryValueUtils {
       // Calculate value
       final int isNeutral = ProUtils.isNeutralLand(t) ? 1 : 0;
       final int landMassSize =
-          1
-              + data.getMap()
-                  .getNeighbors(
-                      t,
-                      6,
-                      ProMatches.territoryCanPotentiallyMoveLandUnits(player, data.getProperties()))
-                  .size();
+          1 + landMassDistances.from(t, 6).getTerritoriesWithin(6).size();
       final double value =
           Math.sqrt(factoryProduction + Math.sqrt(playerProduction))
               * 32
@@ -282,6 +289,7 @@ public final class ProTerritoryValueUtils {
       final GamePlayer player,
       final int maxLandMassSize,
       final Map<Territory, Double> enemyCapitalsAndFactoriesMap,
+      final DistanceFields landDistances,
       final List<Territory> territoriesThatCantBeHeld,
       final List<Territory> territoriesToAttack) {
 
@@ -295,15 +303,7 @@ public final class ProTerritoryValueUtils {
     final Collection<Territory> nearbyEnemyCapitalsAndFactories =
         findNearbyEnemyCapitalsAndFactories(t, enemyCapitalsAndFactoriesMap.keySet());
     for (final Territory enemyCapitalOrFactory : nearbyEnemyCapitalsAndFactories) {
-      final int distance =
-          data.getMap()
-              .getDistance(
-                  t,
-                  enemyCapitalOrFactory,
-                  (t1, t2) ->
-                      ProMatches.territoryCanPotentiallyMoveLandUnits(player, data.getProperties())
-                              .test(t2)
-                          && ProMatches.noCanalsBetweenTerritories(player, data).test(t1, t2));
+      final int distance = landDistances.to(enemyCapitalOrFactory).getDistance(t);
       if (distance > 0) {
         values.add(enemyCapitalsAndFactoriesMap.get(enemyCapitalOrFactory) / Math.pow(2, distance));
       }
@@ -317,31 +317,15 @@ public final class ProTerritoryValueUtils {
 
     // Determine value based on nearby territory production
     double nearbyEnemyValue = 0;
-    final Set<Territory> nearbyTerritories =
-        data.getMap()
-            .getNeighbors(
-                t,
-                2,
-                (t1, t2) ->
-                    ProMatches.territoryCanPotentiallyMoveLandUnits(player, data.getProperties())
-                            .test(t2)
-                        && ProMatches.noCanalsBetweenTerritories(player, data).test(t1, t2));
+    final DistanceField nearbyDistances = landDistances.from(t, 6);
     final List<Territory> nearbyEnemyTerritories =
         CollectionUtils.getMatches(
-            nearbyTerritories,
+            nearbyDistances.getTerritoriesWithin(2),
             ProMatches.territoryIsEnemyOrCantBeHeld(
                 player, data.getRelationshipTracker(), territoriesThatCantBeHeld));
     nearbyEnemyTerritories.removeAll(territoriesToAttack);
     for (final Territory nearbyEnemyTerritory : nearbyEnemyTerritories) {
-      final int distance =
-          data.getMap()
-              .getDistance(
-                  t,
-                  nearbyEnemyTerritory,
-                  (t1, t2) ->
-                      ProMatches.territoryCanPotentiallyMoveLandUnits(player, data.getProperties())
-                              .test(t2)
-                          && ProMatches.noCanalsBetweenTerritories(player, data).test(t1, t2));
+      final int distance = nearbyDistances.getDistance(nearbyEnemyTerritory);
       if (distance > 0) {
         double value = TerritoryAttachment.getProduction(nearbyEnemyTerritory);
         if (ProUtils.isNeutralLand(nearbyEnemyTerritory)) {
@@ -356,18 +340,7 @@ public final class ProTerritoryValueUtils {
         }
       }
     }
-    final int landMassSize =
-        1
-            + data.getMap()
-                .getNeighbors(
-                    t,
-                    6,
-                    (t1, t2) ->
-                        ProMatches.territoryCanPotentiallyMoveLandUnits(
-                                    player, data.getProperties())
-                                .test(t2)
-                            && ProMatches.noCanalsBetweenTerritories(player, data).test(t1, t2))
-                .size();
+    final int landMassSize = 1 + nearbyDistances.getTerritoriesWithin(6).size();
     double value = nearbyEnemyValue * landMassSize / maxLandMassSize + capitalOrFactoryValue;
     if (ProMatches.territoryHasInfraFactoryAndIsLand().test(t)) {
       value *= 1.1; // prefer territories with factories
@@ -376,12 +349,26 @@ public final class ProTerritoryValueUtils {
     return value;
   }
 
+  /**
+   * Returns the condition for a land route step: the units can move into the end territory and no
+   * canal between the territories blocks them.
+   */
+  private static BiPredicate<Territory, Territory> landRouteCondition(
+      final GamePlayer player, final GameData data) {
+    final Predicate<Territory> canMoveLandUnits =
+        ProMatches.territoryCanPotentiallyMoveLandUnits(player, data.getProperties());
+    final BiPredicate<Territory, Territory> noCanals =
+        ProMatches.noCanalsBetweenTerritories(player, data);
+    return (t1, t2) -> canMoveLandUnits.test(t2) && noCanals.test(t1, t2);
+  }
+
   private static double findWaterValue(
       final ProData proData,
       final Territory t,
       final GamePlayer player,
       final int maxLandMassSize,
       final Map<Territory, Double> enemyCapitalsAndFactoriesMap,
+      final DistanceFields landDistances,
       final List<Territory> territoriesThatCantBeHeld,
       final List<Territory> territoriesToAttack,
       final Map<Territory, Double> territoryValueMap) {
@@ -461,6 +448,7 @@ public final class ProTerritoryValueUtils {
                   player,
                   maxLandMassSize,
                   enemyCapitalsAndFactoriesMap,
+                  landDistances,
                   territoriesThatCantBeHeld,
                   territoriesToAttack);
           territoryValueMap.put(nearbyLandTerritory, value);
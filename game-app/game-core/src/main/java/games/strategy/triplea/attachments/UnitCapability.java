@@ -0,0 +1,74 @@
+package games.strategy.triplea.attachments;
+
+import games.strategy.engine.data.UnitType;
+import java.util.function.Predicate;
+
+/**
+ * Boolean capabilities of a unit type that depend only on its {@link UnitAttachment}. The
+ * capabilities of each unit type are computed once into a bit mask that is cached on the {@link
+ * UnitType} (see {@link UnitType#hasCapability(UnitCapability)}), so that testing one of them does
+ * not need the attachment lookup by name that {@link UnitAttachment#get(UnitType)} does.
+ *
+ * <p>Only capabilities that do not depend on the player, game properties or techs belong here.
+ */
+public enum UnitCapability {
+  SEA(UnitAttachment::getIsSea),
+  AIR(UnitAttachment::getIsAir),
+  LAND(ua -> !ua.getIsSea() && !ua.getIsAir()),
+  CAN_TRANSPORT(ua -> ua.getTransportCapacity() != -1),
+  SEA_TRANSPORT(ua -> ua.getTransportCapacity() != -1 && ua.getIsSea()),
+  COMBAT_TRANSPORT(ua -> ua.getIsCombatTransport() && ua.getIsSea()),
+  LAND_TRANSPORT(UnitAttachment::getIsLandTransport),
+  LAND_TRANSPORTABLE(UnitAttachment::getIsLandTransportable),
+  AIR_TRANSPORT(UnitAttachment::getIsAirTransport),
+  DESTROYER(UnitAttachment::getIsDestroyer),
+  FIRST_STRIKE(UnitAttachment::getIsFirstStrike),
+  CAN_EVADE(UnitAttachment::getCanEvade),
+  INFRASTRUCTURE(UnitAttachment::getIsInfrastructure),
+  CAN_BE_DAMAGED(UnitAttachment::getCanBeDamaged),
+  CAN_PRODUCE_UNITS(UnitAttachment::getCanProduceUnits),
+  AIR_BASE(UnitAttachment::getIsAirBase),
+  CARRIER(ua -> ua.getCarrierCapacity() != -1),
+  CAN_LAND_ON_CARRIER(ua -> ua.getCarrierCost() != -1),
+  STRATEGIC_BOMBER(UnitAttachment::getIsStrategicBomber),
+  ROCKET(UnitAttachment::getIsRocket),
+  KAMIKAZE(UnitAttachment::getIsKamikaze),
+  SUICIDE_ON_ATTACK(UnitAttachment::getIsSuicideOnAttack),
+  SUICIDE_ON_HIT(UnitAttachment::getIsSuicideOnHit),
+  AA_FOR_COMBAT_ONLY(UnitAttachment::getIsAaForCombatOnly),
+  AA_FOR_BOMBING_THIS_UNIT_ONLY(UnitAttachment::getIsAaForBombingThisUnitOnly),
+  AA_FOR_FLY_OVER_ONLY(UnitAttachment::getIsAaForFlyOverOnly),
+  CAN_SCRAMBLE(UnitAttachment::getCanScramble),
+  CAN_INTERCEPT(UnitAttachment::getCanIntercept),
+  CAN_ESCORT(UnitAttachment::getCanEscort),
+  CAN_AIR_BATTLE(UnitAttachment::getCanAirBattle),
+  CAN_NOT_MOVE_DURING_COMBAT_MOVE(UnitAttachment::getCanNotMoveDuringCombatMove);
+
+  /** Set in every computed mask so that a computed mask is never 0. */
+  public static final long COMPUTED = 1L << 63;
+
+  private final Predicate<UnitAttachment> test;
+  private final long mask;
+
+  UnitCapability(final Predicate<UnitAttachment> test) {
+    this.test = test;
+    this.mask = 1L << ordinal();
+  }
+
+  /** Returns true if the capability is set in the given mask. */
+  public boolean isIn(final long capabilities) {
+    return (capabilities & mask) != 0;
+  }
+
+  /** Computes the capabilities mask of the given unit type from its unit attachment. */
+  public static long computeMask(final UnitType unitType) {
+    final UnitAttachment unitAttachment = UnitAttachment.get(unitType);
+    long capabilities = COMPUTED;
+    for (final UnitCapability capability : values()) {
+      if (capability.test.test(unitAttachment)) {
+        capabilities |= capability.mask;
+      }
+    }
+    return capabilities;
+  }
+}
@@ -403,7 +403,8 @@ public abstract class AbstractEndTurnDelegate extends BaseTripleADelegate
     final boolean inAllTerritories = pa.getGiveUnitControlInAllTerritories();
     final CompositeChange change = new CompositeChange();
     final Collection<Tuple<Territory, Collection<Unit>>> changeList = new ArrayList<>();
-    for (final Territory currTerritory : bridge.getData().getMap().getTerritories()) {
+    for (final Territory currTerritory :
+        bridge.getData().getMap().getTerritoriesWithUnitsOwnedBy(player)) {
       final TerritoryAttachment ta = TerritoryAttachment.get(currTerritory);
       // if ownership should change in this territory
       if (inAllTerritories || (ta != null && !ta.getChangeUnitOwners().isEmpty())) {
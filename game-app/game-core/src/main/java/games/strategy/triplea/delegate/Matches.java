@@ -24,6 +24,7 @@ import games.strategy.triplea.attachments.RulesAttachment;
 import games.strategy.triplea.attachments.TechAttachment;
 import games.strategy.triplea.attachments.TerritoryAttachment;
 import games.strategy.triplea.attachments.UnitAttachment;
+import games.strategy.triplea.attachments.UnitCapability;
 import games.strategy.triplea.attachments.UnitSupportAttachment;
 import games.strategy.triplea.delegate.battle.BattleTracker;
 import games.strategy.triplea.delegate.battle.DependentBattle;
@@ -93,7 +94,7 @@ public final class Matches {
   }
 
   public static Predicate<Unit> unitIsSea() {
-    return unit -> UnitAttachment.get(unit.getType()).getIsSea();
+    return unit -> unit.getType().hasCapability(UnitCapability.SEA);
   }
 
   public static Predicate<Unit> unitHasSubBattleAbilities() {
@@ -101,11 +102,11 @@ public final class Matches {
   }
 
   public static Predicate<Unit> unitCanEvade() {
-    return unit -> UnitAttachment.get(unit.getType()).getCanEvade();
+    return unit -> unit.getType().hasCapability(UnitCapability.CAN_EVADE);
   }
 
   public static Predicate<Unit> unitIsFirstStrike() {
-    return unit -> UnitAttachment.get(unit.getType()).getIsFirstStrike();
+    return unit -> unit.getType().hasCapability(UnitCapability.FIRST_STRIKE);
   }
 
   public static Predicate<Unit> unitIsFirstStrikeOnDefense(final GameProperties properties) {
@@ -143,10 +144,7 @@ public final class Matches {
   }
 
   private static Predicate<Unit> unitIsCombatTransport() {
-    return unit -> {
-      final UnitAttachment ua = UnitAttachment.get(unit.getType());
-      return ua.getIsCombatTransport() && ua.getIsSea();
-    };
+    return unit -> unit.getType().hasCapability(UnitCapability.COMBAT_TRANSPORT);
   }
 
   public static Predicate<Unit> unitIsNotCombatTransport() {
@@ -155,31 +153,30 @@ public final class Matches {
 
   public static Predicate<Unit> unitIsTransportButNotCombatTransport() {
     return unit -> {
-      final UnitAttachment ua = UnitAttachment.get(unit.getType());
-      return ua.getTransportCapacity() != -1 && ua.getIsSea() && !ua.getIsCombatTransport();
+      final UnitType type = unit.getType();
+      return type.hasCapability(UnitCapability.SEA_TRANSPORT)
+          && !UnitAttachment.get(type).getIsCombatTransport();
     };
   }
 
   public static Predicate<Unit> unitIsNotTransportButCouldBeCombatTransport() {
     return unit -> {
-      final UnitAttachment ua = UnitAttachment.get(unit.getType());
-      return ua.getTransportCapacity() == -1 || (ua.getIsCombatTransport() && ua.getIsSea());
+      final UnitType type = unit.getType();
+      return !type.hasCapability(UnitCapability.CAN_TRANSPORT)
+          || type.hasCapability(UnitCapability.COMBAT_TRANSPORT);
     };
   }
 
   public static Predicate<Unit> unitIsDestroyer() {
-    return unit -> UnitAttachment.get(unit.getType()).getIsDestroyer();
+    return unit -> unit.getType().hasCapability(UnitCapability.DESTROYER);
   }
 
   public static Predicate<UnitType> unitTypeIsDestroyer() {
-    return type -> UnitAttachment.get(type).getIsDestroyer();
+    return type -> type.hasCapability(UnitCapability.DESTROYER);
   }
 
   public static Predicate<Unit> unitIsTransport() {
-    return unit -> {
-      final UnitAttachment ua = UnitAttachment.get(unit.getType());
-      return ua.getTransportCapacity() != -1 && ua.getIsSea();
-    };
+    return unit -> unit.getType().hasCapability(UnitCapability.SEA_TRANSPORT);
   }
 
   public static Predicate<Unit> unitIsNotTransport() {
@@ -188,8 +185,9 @@ public final class Matches {
 
   public static Predicate<Unit> unitIsTransportAndNotDestroyer() {
     return unit -> {
-      final UnitAttachment ua = UnitAttachment.get(unit.getType());
-      return !unitIsDestroyer().test(unit) && ua.getTransportCapacity() != -1 && ua.getIsSea();
+      final UnitType type = unit.getType();
+      return !type.hasCapability(UnitCapability.DESTROYER)
+          && type.hasCapability(UnitCapability.SEA_TRANSPORT);
     };
   }
 
@@ -243,30 +241,27 @@ public final class Matches {
   }
 
   public static Predicate<Unit> unitIsNotSea() {
-    return unit -> !UnitAttachment.get(unit.getType()).getIsSea();
+    return unit -> !unit.getType().hasCapability(UnitCapability.SEA);
   }
 
   public static Predicate<UnitType> unitTypeIsSea() {
-    return type -> UnitAttachment.get(type).getIsSea();
+    return type -> type.hasCapability(UnitCapability.SEA);
   }
 
   public static Predicate<UnitType> unitTypeIsNotSea() {
-    return type -> !UnitAttachment.get(type).getIsSea();
+    return type -> !type.hasCapability(UnitCapability.SEA);
   }
 
   public static Predicate<UnitType> unitTypeIsSeaOrAir() {
-    return type -> {
-      final UnitAttachment ua = UnitAttachment.get(type);
-      return ua.getIsSea() || ua.getIsAir();
-    };
+    return type -> !type.hasCapability(UnitCapability.LAND);
   }
 
   public static Predicate<Unit> unitIsAir() {
-    return unit -> UnitAttachment.get(unit.getType()).getIsAir();
+    return unit -> unit.getType().hasCapability(UnitCapability.AIR);
   }
 
   public static Predicate<Unit> unitIsNotAir() {
-    return unit -> !UnitAttachment.get(unit.getType()).getIsAir();
+    return unit -> !unit.getType().hasCapability(UnitCapability.AIR);
   }
 
   public static Predicate<UnitType> unitTypeCanBombard(final GamePlayer gamePlayer) {
@@ -345,11 +340,11 @@ public final class Matches {
   }
 
   public static Predicate<Unit> unitIsAirBase() {
-    return unit -> UnitAttachment.get(unit.getType()).getIsAirBase();
+    return unit -> unit.getType().hasCapability(UnitCapability.AIR_BASE);
   }
 
   public static Predicate<UnitType> unitTypeCanBeDamaged() {
-    return ut -> UnitAttachment.get(ut).getCanBeDamaged();
+    return ut -> ut.hasCapability(UnitCapability.CAN_BE_DAMAGED);
   }
 
   public static Predicate<Unit> unitCanBeDamaged() {
@@ -423,7 +418,7 @@ public final class Matches {
   }
 
   public static Predicate<UnitType> unitTypeIsInfrastructure() {
-    return ut -> UnitAttachment.get(ut).getIsInfrastructure();
+    return ut -> ut.hasCapability(UnitCapability.INFRASTRUCTURE);
   }
 
   public static Predicate<Unit> unitIsInfrastructure() {
@@ -469,7 +464,7 @@ public final class Matches {
   }
 
   public static Predicate<Unit> unitCanScramble() {
-    return unit -> UnitAttachment.get(unit.getType()).getCanScramble();
+    return unit -> unit.getType().hasCapability(UnitCapability.CAN_SCRAMBLE);
   }
 
   public static Predicate<Unit> unitWasScrambled() {
@@ -489,7 +484,7 @@ public final class Matches {
   }
 
   public static Predicate<Unit> unitIsLandTransport() {
-    return unit -> UnitAttachment.get(unit.getType()).getIsLandTransport();
+    return unit -> unit.getType().hasCapability(UnitCapability.LAND_TRANSPORT);
   }
 
   public static Predicate<Unit> unitIsLandTransportWithCapacity() {
@@ -503,12 +498,12 @@ public final class Matches {
   public static Predicate<Unit> unitIsNotInfrastructureAndNotCapturedOnEntering(
       final GamePlayer player, final Territory terr, final GameProperties properties) {
     return unit ->
-        !UnitAttachment.get(unit.getType()).getIsInfrastructure()
+        !unit.getType().hasCapability(UnitCapability.INFRASTRUCTURE)
             && !unitCanBeCapturedOnEnteringToInThisTerritory(player, terr, properties).test(unit);
   }
 
   public static Predicate<UnitType> unitTypeIsSuicideOnAttack() {
-    return type -> UnitAttachment.get(type).getIsSuicideOnAttack();
+    return type -> type.hasCapability(UnitCapability.SUICIDE_ON_ATTACK);
   }
 
   public static Predicate<UnitType> unitTypeIsSuicideOnDefense() {
@@ -516,7 +511,7 @@ public final class Matches {
   }
 
   public static Predicate<Unit> unitIsSuicideOnAttack() {
-    return unit -> UnitAttachment.get(unit.getType()).getIsSuicideOnAttack();
+    return unit -> unit.getType().hasCapability(UnitCapability.SUICIDE_ON_ATTACK);
   }
 
   public static Predicate<Unit> unitIsSuicideOnDefense() {
@@ -524,27 +519,23 @@ public final class Matches {
   }
 
   public static Predicate<Unit> unitIsSuicideOnHit() {
-    return unit -> UnitAttachment.get(unit.getType()).getIsSuicideOnHit();
+    return unit -> unit.getType().hasCapability(UnitCapability.SUICIDE_ON_HIT);
   }
 
   public static Predicate<Unit> unitIsKamikaze() {
-    return unit -> UnitAttachment.get(unit.getType()).getIsKamikaze();
+    return unit -> unit.getType().hasCapability(UnitCapability.KAMIKAZE);
   }
 
   public static Predicate<UnitType> unitTypeIsAir() {
-    return type -> UnitAttachment.get(type).getIsAir();
-  }
-
-  private static Predicate<UnitType> unitTypeIsNotAir() {
-    return type -> !UnitAttachment.get(type).getIsAir();
+    return type -> type.hasCapability(UnitCapability.AIR);
   }
 
   public static Predicate<Unit> unitCanLandOnCarrier() {
-    return unit -> UnitAttachment.get(unit.getType()).getCarrierCost() != -1;
+    return unit -> unit.getType().hasCapability(UnitCapability.CAN_LAND_ON_CARRIER);
   }
 
   public static Predicate<Unit> unitIsCarrier() {
-    return unit -> UnitAttachment.get(unit.getType()).getCarrierCapacity() != -1;
+    return unit -> unit.getType().hasCapability(UnitCapability.CARRIER);
   }
 
   public static Predicate<Territory> territoryHasOwnedCarrier(final GamePlayer player) {
@@ -587,11 +578,11 @@ public final class Matches {
   }
 
   public static Predicate<Unit> unitCanTransport() {
-    return unit -> UnitAttachment.get(unit.getType()).getTransportCapacity() != -1;
+    return unit -> unit.getType().hasCapability(UnitCapability.CAN_TRANSPORT);
   }
 
   public static Predicate<UnitType> unitTypeCanProduceUnits() {
-    return obj -> UnitAttachment.get(obj).getCanProduceUnits();
+    return obj -> obj.hasCapability(UnitCapability.CAN_PRODUCE_UNITS);
   }
 
   public static Predicate<Unit> unitCanProduceUnits() {
@@ -603,7 +594,7 @@ public final class Matches {
   }
 
   public static Predicate<UnitType> unitTypeIsRocket() {
-    return obj -> UnitAttachment.get(obj).getIsRocket();
+    return obj -> obj.hasCapability(UnitCapability.ROCKET);
   }
 
   static Predicate<Unit> unitIsRocket() {
@@ -619,7 +610,7 @@ public final class Matches {
   }
 
   public static Predicate<UnitType> unitTypeCanNotMoveDuringCombatMove() {
-    return type -> UnitAttachment.get(type).getCanNotMoveDuringCombatMove();
+    return type -> type.hasCapability(UnitCapability.CAN_NOT_MOVE_DURING_COMBAT_MOVE);
   }
 
   public static Predicate<Unit> unitCanNotMoveDuringCombatMove() {
@@ -724,7 +715,7 @@ public final class Matches {
   }
 
   private static Predicate<UnitType> unitTypeIsAaForCombatOnly() {
-    return obj -> UnitAttachment.get(obj).getIsAaForCombatOnly();
+    return obj -> obj.hasCapability(UnitCapability.AA_FOR_COMBAT_ONLY);
   }
 
   public static Predicate<Unit> unitIsAaForCombatOnly() {
@@ -732,7 +723,7 @@ public final class Matches {
   }
 
   public static Predicate<UnitType> unitTypeIsAaForBombingThisUnitOnly() {
-    return obj -> UnitAttachment.get(obj).getIsAaForBombingThisUnitOnly();
+    return obj -> obj.hasCapability(UnitCapability.AA_FOR_BOMBING_THIS_UNIT_ONLY);
   }
 
   public static Predicate<Unit> unitIsAaForBombingThisUnitOnly() {
@@ -740,7 +731,7 @@ public final class Matches {
   }
 
   private static Predicate<UnitType> unitTypeIsAaForFlyOverOnly() {
-    return obj -> UnitAttachment.get(obj).getIsAaForFlyOverOnly();
+    return obj -> obj.hasCapability(UnitCapability.AA_FOR_FLY_OVER_ONLY);
   }
 
   static Predicate<Unit> unitIsAaForFlyOverOnly() {
@@ -748,12 +739,10 @@ public final class Matches {
   }
 
   public static Predicate<UnitType> unitTypeIsAaForAnything() {
-    return obj -> {
-      final UnitAttachment ua = UnitAttachment.get(obj);
-      return ua.getIsAaForBombingThisUnitOnly()
-          || ua.getIsAaForCombatOnly()
-          || ua.getIsAaForFlyOverOnly();
-    };
+    return obj ->
+        obj.hasCapability(UnitCapability.AA_FOR_BOMBING_THIS_UNIT_ONLY)
+            || obj.hasCapability(UnitCapability.AA_FOR_COMBAT_ONLY)
+            || obj.hasCapability(UnitCapability.AA_FOR_FLY_OVER_ONLY);
   }
 
   public static Predicate<Unit> unitIsAaForAnything() {
@@ -795,7 +784,7 @@ public final class Matches {
   }
 
   public static Predicate<Unit> unitIsLandTransportable() {
-    return unit -> UnitAttachment.get(unit.getType()).getIsLandTransportable();
+    return unit -> unit.getType().hasCapability(UnitCapability.LAND_TRANSPORTABLE);
   }
 
   public static Predicate<Unit> unitIsNotLandTransportable() {
@@ -824,9 +813,7 @@ public final class Matches {
       if (!ta.getParatroopers()) {
         return false;
       }
-      final UnitType type = obj.getType();
-      final UnitAttachment ua = UnitAttachment.get(type);
-      return ua.getIsAirTransport();
+      return obj.getType().hasCapability(UnitCapability.AIR_TRANSPORT);
     };
   }
 
@@ -1538,11 +1525,11 @@ public final class Matches {
   }
 
   public static Predicate<Unit> unitIsLand() {
-    return unitIsNotSea().and(unitIsNotAir());
+    return unit -> unit.getType().hasCapability(UnitCapability.LAND);
   }
 
   public static Predicate<UnitType> unitTypeIsLand() {
-    return unitTypeIsNotSea().and(unitTypeIsNotAir());
+    return type -> type.hasCapability(UnitCapability.LAND);
   }
 
   public static Predicate<Unit> unitIsNotLand() {
@@ -1570,7 +1557,7 @@ public final class Matches {
   }
 
   public static Predicate<UnitType> unitTypeIsFirstStrike() {
-    return type -> UnitAttachment.get(type).getIsFirstStrike();
+    return type -> type.hasCapability(UnitCapability.FIRST_STRIKE);
   }
 
   public static Predicate<Unit> unitOwnerHasImprovedArtillerySupportTech() {
@@ -2276,7 +2263,7 @@ public final class Matches {
   }
 
   public static Predicate<Unit> unitCanIntercept() {
-    return u -> UnitAttachment.get(u.getType()).getCanIntercept();
+    return u -> u.getType().hasCapability(UnitCapability.CAN_INTERCEPT);
   }
 
   public static Predicate<Unit> unitRequiresAirBaseToIntercept() {
@@ -2284,11 +2271,11 @@ public final class Matches {
   }
 
   static Predicate<Unit> unitCanEscort() {
-    return u -> UnitAttachment.get(u.getType()).getCanEscort();
+    return u -> u.getType().hasCapability(UnitCapability.CAN_ESCORT);
   }
 
   public static Predicate<Unit> unitCanAirBattle() {
-    return u -> UnitAttachment.get(u.getType()).getCanAirBattle();
+    return u -> u.getType().hasCapability(UnitCapability.CAN_AIR_BATTLE);
   }
 
   public static Predicate<Territory> //
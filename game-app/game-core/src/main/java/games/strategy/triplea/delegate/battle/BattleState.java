@@ -5,6 +5,7 @@ import games.strategy.engine.data.GamePlayer;
 import games.strategy.engine.data.Territory;
 import games.strategy.engine.data.TerritoryEffect;
 import games.strategy.engine.data.Unit;
+import games.strategy.triplea.delegate.power.calculator.SupportCache;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumSet;
@@ -83,6 +84,9 @@ public interface BattleState {
 
   Collection<TerritoryEffect> getTerritoryEffects();
 
+  /** Returns the supporters found for the combat values of this battle so far. */
+  SupportCache getSupportCache();
+
   @ChangeOnNextMajorRelease("Use a BattleId class instead of UUID")
   UUID getBattleId();
 
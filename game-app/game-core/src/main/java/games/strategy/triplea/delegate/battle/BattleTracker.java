@@ -35,9 +35,12 @@ import games.strategy.triplea.delegate.data.BattleRecords;
 import games.strategy.triplea.delegate.power.calculator.CombatValueBuilder;
 import games.strategy.triplea.delegate.power.calculator.PowerStrengthAndRolls;
 import games.strategy.triplea.formatter.MyFormatter;
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -48,7 +51,6 @@ import java.util.UUID;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
 import org.triplea.java.collections.CollectionUtils;
@@ -66,6 +68,11 @@ public class BattleTracker implements Serializable {
   // List of battle dependencies
   // maps blocked -> Collection of battles that must precede
   private final Map<IBattle, Set<IBattle>> dependencies = new HashMap<>();
+  // indexes of the pending battles and of the dependencies, rebuilt when a game is loaded
+  private transient Map<Territory, Map<BattleType, IBattle>> pendingBattlesBySite = new HashMap<>();
+  private transient Map<UUID, IBattle> pendingBattlesById = new HashMap<>();
+  // maps blocking -> Collection of battles that must wait for it
+  private transient Map<IBattle, Set<IBattle>> blockedBattles = new HashMap<>();
   // enemy and neutral territories that have been conquered
   // blitzed is a subset of this
   private final Set<Territory> conquered = new HashSet<>();
@@ -86,6 +93,46 @@ public class BattleTracker implements Serializable {
           Tuple<Tuple<GamePlayer, GamePlayer>, Tuple<RelationshipType, RelationshipType>>>
       relationshipChangesThisTurn = new ArrayList<>();
 
+  private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    pendingBattlesBySite = new HashMap<>();
+    pendingBattlesById = new HashMap<>();
+    pendingBattles.forEach(this::indexPendingBattle);
+    blockedBattles = new HashMap<>();
+    dependencies.forEach(
+        (blocked, blockingBattles) ->
+            blockingBattles.forEach(
+                blocking ->
+                    blockedBattles.computeIfAbsent(blocking, k -> new HashSet<>()).add(blocked)));
+  }
+
+  private void addPendingBattle(final IBattle battle) {
+    if (pendingBattles.add(battle)) {
+      indexPendingBattle(battle);
+    }
+  }
+
+  private void indexPendingBattle(final IBattle battle) {
+    pendingBattlesBySite
+        .computeIfAbsent(battle.getTerritory(), k -> new EnumMap<>(BattleType.class))
+        .put(battle.getBattleType(), battle);
+    pendingBattlesById.put(battle.getBattleId(), battle);
+  }
+
+  private void removePendingBattle(final IBattle battle) {
+    if (!pendingBattles.remove(battle)) {
+      return;
+    }
+    final Map<BattleType, IBattle> battlesAtSite = pendingBattlesBySite.get(battle.getTerritory());
+    if (battlesAtSite != null) {
+      battlesAtSite.remove(battle.getBattleType());
+      if (battlesAtSite.isEmpty()) {
+        pendingBattlesBySite.remove(battle.getTerritory());
+      }
+    }
+    pendingBattlesById.remove(battle.getBattleId());
+  }
+
   void addToConquered(final Territory territory) {
     conquered.add(territory);
   }
@@ -236,10 +283,12 @@ public class BattleTracker implements Serializable {
     if (battleRecords != null) {
       battleRecords.removeBattle(player, battle.getBattleId());
     }
-    pendingBattles.remove(battle);
-    dependencies.remove(battle);
-    for (final Collection<IBattle> battles : dependencies.values()) {
-      battles.remove(battle);
+    removePendingBattle(battle);
+    for (final IBattle blocking : List.copyOf(dependencies.getOrDefault(battle, Set.of()))) {
+      removeDependency(battle, blocking);
+    }
+    for (final IBattle blocked : List.copyOf(blockedBattles.getOrDefault(battle, Set.of()))) {
+      removeDependency(blocked, battle);
     }
   }
 
@@ -252,7 +301,7 @@ public class BattleTracker implements Serializable {
     IBattle battle = getPendingBattle(route.getEnd(), BattleType.BOMBING_RAID);
     if (battle == null) {
       battle = new StrategicBombingRaidBattle(route.getEnd(), data, attacker, this);
-      pendingBattles.add(battle);
+      addPendingBattle(battle);
       getBattleRecords()
           .addBattle(attacker, battle.getBattleId(), route.getEnd(), battle.getBattleType());
     }
@@ -370,7 +419,7 @@ public class BattleTracker implements Serializable {
     IBattle battle = getPendingBattle(route.getEnd(), battleType);
     if (battle == null) {
       battle = new AirBattle(route.getEnd(), battleType, data, attacker, this);
-      pendingBattles.add(battle);
+      addPendingBattle(battle);
       getBattleRecords()
           .addBattle(attacker, battle.getBattleId(), route.getEnd(), battle.getBattleType());
     }
@@ -465,7 +514,7 @@ public class BattleTracker implements Serializable {
                 data,
                 BattleRecord.BattleResultDescription.CONQUERED,
                 WhoWon.ATTACKER);
-        pendingBattles.add(nonFight);
+        addPendingBattle(nonFight);
         getBattleRecords()
             .addBattle(gamePlayer, nonFight.getBattleId(), current, nonFight.getBattleType());
       }
@@ -490,7 +539,7 @@ public class BattleTracker implements Serializable {
         IBattle nonFight = getPendingBattle(route.getEnd(), BattleType.NORMAL);
         if (nonFight == null) {
           nonFight = new NonFightingBattle(route.getEnd(), gamePlayer, this, data);
-          pendingBattles.add(nonFight);
+          addPendingBattle(nonFight);
           getBattleRecords()
               .addBattle(
                   gamePlayer, nonFight.getBattleId(), route.getEnd(), nonFight.getBattleType());
@@ -522,7 +571,7 @@ public class BattleTracker implements Serializable {
                   data,
                   BattleRecord.BattleResultDescription.CONQUERED,
                   WhoWon.ATTACKER);
-          pendingBattles.add(nonFight);
+          addPendingBattle(nonFight);
           getBattleRecords()
               .addBattle(
                   gamePlayer, nonFight.getBattleId(), route.getEnd(), nonFight.getBattleType());
@@ -1119,7 +1168,7 @@ public class BattleTracker implements Serializable {
     // If there are no pending battles- add one for units already in the combat zone
     if (battle == null) {
       battle = new MustFightBattle(site, gamePlayer, data, this);
-      pendingBattles.add(battle);
+      addPendingBattle(battle);
       getBattleRecords().addBattle(gamePlayer, battle.getBattleId(), site, battle.getBattleType());
     }
     // Add the units that moved into the battle
@@ -1159,9 +1208,7 @@ public class BattleTracker implements Serializable {
   }
 
   public Collection<IBattle> getPendingBattles(final Territory t) {
-    return pendingBattles.stream()
-        .filter(b -> b.getTerritory().equals(t))
-        .collect(Collectors.toSet());
+    return new HashSet<>(pendingBattlesBySite.getOrDefault(t, Map.of()).values());
   }
 
   public boolean hasPendingNonBombingBattle(final Territory t) {
@@ -1179,12 +1226,8 @@ public class BattleTracker implements Serializable {
 
   @Nullable
   public IBattle getPendingBattle(final Territory t, final BattleType type) {
-    for (final IBattle battle : pendingBattles) {
-      if (battle.getTerritory().equals(t) && type == battle.getBattleType()) {
-        return battle;
-      }
-    }
-    return null;
+    final Map<BattleType, IBattle> battlesAtSite = pendingBattlesBySite.get(t);
+    return battlesAtSite == null ? null : battlesAtSite.get(type);
   }
 
   public IBattle getPendingBattle(final UUID uuid) {
@@ -1192,7 +1235,7 @@ public class BattleTracker implements Serializable {
       return null;
     }
 
-    return pendingBattles.stream().filter(b -> b.getBattleId().equals(uuid)).findAny().orElse(null);
+    return pendingBattlesById.get(uuid);
   }
 
   /**
@@ -1244,20 +1287,32 @@ public class BattleTracker implements Serializable {
    * @param blocking the battle that is blocking the other battles.
    */
   public Collection<IBattle> getBlocked(final IBattle blocking) {
-    return dependencies.keySet().stream()
-        .filter(current -> getDependentOn(current).contains(blocking))
-        .collect(Collectors.toList());
+    // empty battles do not block anything, see getDependentOn
+    final Collection<IBattle> blocked = blockedBattles.get(blocking);
+    if (blocked == null || blocking.isEmpty()) {
+      return List.of();
+    }
+    return new ArrayList<>(blocked);
   }
 
   public void addDependency(final IBattle blocked, final IBattle blocking) {
     dependencies.computeIfAbsent(blocked, k -> new HashSet<>()).add(blocking);
+    blockedBattles.computeIfAbsent(blocking, k -> new HashSet<>()).add(blocked);
   }
 
   private void removeDependency(final IBattle blocked, final IBattle blocking) {
-    final Collection<IBattle> dependencies = this.dependencies.get(blocked);
-    dependencies.remove(blocking);
-    if (dependencies.isEmpty()) {
-      this.dependencies.remove(blocked);
+    removeFromIndex(dependencies, blocked, blocking);
+    removeFromIndex(blockedBattles, blocking, blocked);
+  }
+
+  private static void removeFromIndex(
+      final Map<IBattle, Set<IBattle>> index, final IBattle key, final IBattle value) {
+    final Collection<IBattle> values = index.get(key);
+    if (values != null) {
+      values.remove(value);
+      if (values.isEmpty()) {
+        index.remove(key);
+      }
     }
   }
 
@@ -1267,7 +1322,7 @@ public class BattleTracker implements Serializable {
       for (final IBattle current : getBlocked(battle)) {
         removeDependency(current, battle);
       }
-      pendingBattles.remove(battle);
+      removePendingBattle(battle);
       foughtBattles.add(battle.getTerritory());
       try {
         data.getBattleDelegate().clearCurrentBattle(battle);
@@ -1284,10 +1339,13 @@ public class BattleTracker implements Serializable {
   public void clear() {
     finishedBattlesUnitAttackFromMap.clear();
     pendingBattles.clear();
+    pendingBattlesBySite.clear();
+    pendingBattlesById.clear();
     blitzed.clear();
     foughtBattles.clear();
     conquered.clear();
     dependencies.clear();
+    blockedBattles.clear();
     defendingAirThatCanNotLand.clear();
     noBombardAllowed.clear();
     relationshipChangesThisTurn.clear();
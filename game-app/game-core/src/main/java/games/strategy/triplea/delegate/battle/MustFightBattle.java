@@ -60,6 +60,7 @@ import games.strategy.triplea.delegate.battle.steps.retreat.sub.SubmergeSubsVsOn
 import games.strategy.triplea.delegate.data.BattleRecord;
 import games.strategy.triplea.delegate.move.validation.AirMovementValidator;
 import games.strategy.triplea.delegate.move.validation.MoveValidator;
+import games.strategy.triplea.delegate.power.calculator.SupportCache;
 import games.strategy.triplea.formatter.MyFormatter;
 import games.strategy.triplea.util.TuvUtils;
 import java.util.ArrayList;
@@ -141,6 +142,8 @@ public class MustFightBattle extends DependentBattle
   private final List<Unit> defendingUnitsRetreated = new ArrayList<>();
   // -1 would mean forever until one side is eliminated (the default is infinite)
   private final int maxRounds;
+  // not saved with the battle as it is only a cache, that is filled again when needed
+  private transient SupportCache supportCache;
 
   public MustFightBattle(
       final Territory battleSite,
@@ -354,6 +357,14 @@ public class MustFightBattle extends DependentBattle
     return battleTracker.getBlocked(this);
   }
 
+  @Override
+  public SupportCache getSupportCache() {
+    if (supportCache == null) {
+      supportCache = new SupportCache();
+    }
+    return supportCache;
+  }
+
   @Override
   public GamePlayer getPlayer(final Side side) {
     return side == OFFENSE ? getAttacker() : getDefender();
@@ -1,5 +1,6 @@
 package games.strategy.triplea.delegate.battle;
 
+import games.strategy.engine.data.GamePlayer;
 import games.strategy.engine.data.GameState;
 import games.strategy.engine.data.Unit;
 import games.strategy.engine.data.UnitType;
@@ -11,6 +12,7 @@ import games.strategy.triplea.delegate.power.calculator.CombatValue;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.List;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Value;
@@ -176,4 +178,118 @@ public class UnitBattleComparator implements Comparator<Unit> {
     }
     return ua1.getMovement(u1.getOwner()) - ua2.getMovement(u2.getOwner());
   }
+
+  /**
+   * Calculates the values this comparator looks at once for each of the given units, so that they
+   * can be compared by their index without calculating their power for every comparison.
+   */
+  public IndexedUnits index(final List<Unit> units) {
+    return new IndexedUnits(units);
+  }
+
+  /**
+   * The given units with the values {@link #compare} looks at. {@link #compare(int, int)} returns
+   * a value of the same sign as {@link #compare(Unit, Unit)} for the units at the given indices.
+   */
+  public final class IndexedUnits {
+    private final Unit[] units;
+    private final UnitAttachment[] unitAttachments;
+    private final GamePlayer[] owners;
+    private final boolean[] wasAmphibious;
+    private final boolean[] transporting;
+    private final boolean[] subDestroyer;
+    private final boolean[] multiHpCanRepair;
+    private final boolean[] airOrCarrierOrTransport;
+    private final int[] power;
+    private final int[] powerReverse;
+    private final int[] cost;
+    private final int[] movement;
+
+    private IndexedUnits(final List<Unit> units) {
+      final int size = units.size();
+      this.units = units.toArray(new Unit[0]);
+      unitAttachments = new UnitAttachment[size];
+      owners = new GamePlayer[size];
+      wasAmphibious = new boolean[size];
+      transporting = new boolean[size];
+      subDestroyer = new boolean[size];
+      multiHpCanRepair = new boolean[size];
+      airOrCarrierOrTransport = new boolean[size];
+      power = new int[size];
+      powerReverse = new int[size];
+      cost = new int[size];
+      movement = new int[size];
+      for (int i = 0; i < size; i++) {
+        final Unit unit = this.units[i];
+        unitAttachments[i] = UnitAttachment.get(unit.getType());
+        owners[i] = unit.getOwner();
+        wasAmphibious[i] = unit.getWasAmphibious();
+        transporting[i] = TransportTracker.isTransporting(unit);
+        subDestroyer[i] =
+            Matches.unitHasSubBattleAbilities().test(unit) || Matches.unitIsDestroyer().test(unit);
+        multiHpCanRepair[i] = multiHitpointCanRepair.contains(unit.getType());
+        airOrCarrierOrTransport[i] =
+            Matches.unitIsAir().test(unit)
+                || Matches.unitIsCarrier().test(unit)
+                || (!transporting[i] && Matches.unitIsTransport().test(unit));
+        // the bonus of a unit only counts when the other unit does not have it, which is the same
+        // as both units getting their bonus as the difference is what matters
+        final int bonusPower =
+            bonus
+                ? (subDestroyer[i] ? 4 : 0)
+                    + (multiHpCanRepair[i] ? 1 : 0)
+                    + (transporting[i] ? 1 : 0)
+                    + (airOrCarrierOrTransport[i] ? 1 : 0)
+                : 0;
+        if (!ignorePrimaryPower) {
+          power[i] = 8 * combatValueCalculator.getPower().getValue(unit) + bonusPower;
+        }
+        powerReverse[i] = 8 * reversedCombatValueCalculator.getPower().getValue(unit) + bonusPower;
+        cost[i] = costs.getInt(unit.getType());
+        movement[i] = unitAttachments[i].getMovement(owners[i]);
+      }
+    }
+
+    public Unit get(final int index) {
+      return units[index];
+    }
+
+    public int size() {
+      return units.length;
+    }
+
+    /** Compares the units at the given indices. */
+    public int compare(final int i, final int j) {
+      if (units[i].equals(units[j])) {
+        return 0;
+      }
+      if (unitAttachments[i].equals(unitAttachments[j])
+          && owners[i].equals(owners[j])
+          && wasAmphibious[i] == wasAmphibious[j]) {
+        return Boolean.compare(transporting[i], transporting[j]);
+      }
+      if (power[i] != power[j]) {
+        return power[i] - power[j];
+      }
+      if (cost[i] != cost[j]) {
+        return cost[i] - cost[j];
+      }
+      if (powerReverse[i] != powerReverse[j]) {
+        return powerReverse[i] - powerReverse[j];
+      }
+      if (subDestroyer[i] != subDestroyer[j]) {
+        return Boolean.compare(subDestroyer[i], subDestroyer[j]);
+      }
+      if (multiHpCanRepair[i] != multiHpCanRepair[j]) {
+        return Boolean.compare(multiHpCanRepair[i], multiHpCanRepair[j]);
+      }
+      if (transporting[i] != transporting[j]) {
+        return Boolean.compare(transporting[i], transporting[j]);
+      }
+      if (airOrCarrierOrTransport[i] != airOrCarrierOrTransport[j]) {
+        return Boolean.compare(airOrCarrierOrTransport[i], airOrCarrierOrTransport[j]);
+      }
+      return movement[i] - movement[j];
+    }
+  }
 }
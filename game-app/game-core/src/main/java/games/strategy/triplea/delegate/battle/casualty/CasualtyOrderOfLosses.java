@@ -12,14 +12,12 @@ import games.strategy.triplea.delegate.power.calculator.CombatValue;
 import games.strategy.triplea.delegate.power.calculator.PowerStrengthAndRolls;
 import games.strategy.triplea.delegate.power.calculator.UnitPowerStrengthAndRolls;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import javax.annotation.Nonnull;
 import lombok.Builder;
@@ -68,177 +66,251 @@ class CasualtyOrderOfLosses {
     // Check OOL cache
     final List<AmphibType> stored = oolCache.get(key);
     if (stored != null) {
+      // a unit matches the stored amphib types equal to its own, marine or not
+      final Map<AmphibType, List<Unit>> unitsByType = new HashMap<>();
+      for (final Unit unit : parameters.targetsToPickFrom) {
+        unitsByType.computeIfAbsent(AmphibType.of(unit), type -> new ArrayList<>()).add(unit);
+      }
       final List<Unit> result = new ArrayList<>();
-      final List<Unit> selectFrom = new ArrayList<>(parameters.targetsToPickFrom);
       for (final AmphibType amphibType : stored) {
-        for (final Iterator<Unit> it = selectFrom.iterator(); it.hasNext(); ) {
-          final Unit unit = it.next();
-          if (amphibType.matches(unit)) {
-            result.add(unit);
-            it.remove();
-          }
+        final List<Unit> units = unitsByType.remove(amphibType);
+        if (units != null) {
+          result.addAll(units);
         }
       }
       return result;
     }
-    // Sort enough units to kill off
-    final List<Unit> sortedUnitsList = new ArrayList<>(parameters.targetsToPickFrom);
-    sortedUnitsList.sort(
-        new UnitBattleComparator(
-                parameters.costs,
-                parameters.data,
-                parameters.combatValue.buildWithNoUnitSupports(),
-                true,
-                false)
-            .reversed());
-    // Sort units starting with strongest so that support gets added to them first
-    final UnitBattleComparator unitComparatorWithoutPrimaryPower =
-        new UnitBattleComparator(
-            parameters.costs,
-            parameters.data,
-            parameters.combatValue.buildWithNoUnitSupports(),
-            true,
-            true);
-    final PowerStrengthAndRolls unitPowerAndRolls =
-        PowerStrengthAndRolls.buildWithPreSortedUnits(sortedUnitsList, parameters.combatValue);
+    final List<Unit> sortedWellEnoughUnitsList = new SupportGraph(parameters).sortWorstFirst();
+    // Cache result and all subsets of the result
+    final List<AmphibType> unitTypes = new ArrayList<>();
+    for (final Unit u : sortedWellEnoughUnitsList) {
+      unitTypes.add(AmphibType.of(u));
+    }
+    for (final Iterator<AmphibType> it = unitTypes.iterator(); it.hasNext(); ) {
+      oolCache.put(key, new ArrayList<>(unitTypes));
+      final AmphibType unitTypeToRemove = it.next();
+      targetTypes.remove(unitTypeToRemove);
+      key = computeOolCacheKey(parameters, targetTypes);
+      it.remove();
+    }
+    return sortedWellEnoughUnitsList;
+  }
 
-    final Map<Unit, IntegerMap<Unit>> unitSupportPowerMap =
-        unitPowerAndRolls.getUnitSupportPowerMap();
-    final Map<Unit, IntegerMap<Unit>> unitSupportRollsMap =
-        unitPowerAndRolls.getUnitSupportRollsMap();
+  /**
+   * The units to sort with the support they give each other, held in arrays by the index of the
+   * unit in {@link #units} so that finding the worst unit of each round only does arithmetic.
+   */
+  private static final class SupportGraph {
+    private final List<Unit> units;
+    private final UnitBattleComparator.IndexedUnits unitsWithoutPrimaryPower;
+    private final int[] unitTypeIds;
+    private final UnitPowerStrengthAndRolls[] originalStrengthAndRolls;
+    // null once the unit is taken as casualty
+    private final UnitPowerStrengthAndRolls[] strengthAndRolls;
+    // the units a unit gives strength to and how much, with the rolls it also gives to them
+    private final int[][] strengthSupported;
+    private final int[][] strengthGiven;
+    private final int[][] rollsGivenWithStrength;
+    private final boolean[] givesRolls;
+    // the units a unit gives rolls to and how many
+    private final int[][] rollsSupported;
+    private final int[][] rollsGiven;
+    // the units not taken as casualty yet, those that lost support most recently first
+    private final int[] remaining;
+    private int remainingCount;
 
-    final Map<Unit, UnitPowerStrengthAndRolls> unitPowerAndRollsMap =
-        unitPowerAndRolls.getTotalStrengthAndTotalRollsByUnit();
+    SupportGraph(final Parameters parameters) {
+      units = new ArrayList<>(parameters.targetsToPickFrom);
+      final int unitCount = units.size();
+      final CombatValue combatValueWithNoUnitSupports =
+          parameters.combatValue.buildWithNoUnitSupports();
+      final UnitBattleComparator.IndexedUnits unitsWithPrimaryPower =
+          new UnitBattleComparator(
+                  parameters.costs, parameters.data, combatValueWithNoUnitSupports, true, false)
+              .index(units);
+      unitsWithoutPrimaryPower =
+          new UnitBattleComparator(
+                  parameters.costs, parameters.data, combatValueWithNoUnitSupports, true, true)
+              .index(units);
 
-    // Sort units starting with weakest for finding the worst units
-    Collections.reverse(sortedUnitsList);
-    final List<Unit> sortedWellEnoughUnitsList = new ArrayList<>();
-    final Map<Unit, UnitPowerStrengthAndRolls> originalUnitPowerAndRollsMap =
-        new HashMap<>(unitPowerAndRollsMap);
-    for (int i = 0; i < sortedUnitsList.size(); ++i) {
-      // Loop through all target units to find the best unit to take as casualty
-      Unit worstUnit = null;
-      int minPower = Integer.MAX_VALUE;
-      final Set<UnitType> unitTypes = new HashSet<>();
-      for (final Unit u : sortedUnitsList) {
-        if (unitTypes.contains(u.getType())) {
-          continue;
-        }
-        unitTypes.add(u.getType());
-        // Find unit power
-        int power = originalUnitPowerAndRollsMap.get(u).getPower();
-        // Add any support power that it provides to other units
-        final IntegerMap<Unit> unitSupportPowerMapForUnit = unitSupportPowerMap.get(u);
-        if (unitSupportPowerMapForUnit != null) {
-          for (final Unit supportedUnit : unitSupportPowerMapForUnit.keySet()) {
-            UnitPowerStrengthAndRolls strengthAndRolls = unitPowerAndRollsMap.get(supportedUnit);
-            if (strengthAndRolls == null) {
-              continue;
-            }
-            // Remove any rolls provided by this support so they aren't counted twice
-            final IntegerMap<Unit> unitSupportRollsMapForUnit = unitSupportRollsMap.get(u);
-            if (unitSupportRollsMapForUnit != null) {
-              strengthAndRolls =
-                  strengthAndRolls.subtractRolls(unitSupportRollsMapForUnit.getInt(supportedUnit));
-            }
-            // If one roll then just add the power
-            if (strengthAndRolls.getRolls() == 1) {
-              power += unitSupportPowerMapForUnit.getInt(supportedUnit);
-              continue;
-            }
-            // Find supported unit power with support
-            final int powerWithSupport = strengthAndRolls.getPower();
-            // Find supported unit power without support
+      // Sort units starting with strongest so that support gets added to them first
+      final Integer[] strongestFirst = new Integer[unitCount];
+      final Map<Unit, Integer> indices = new HashMap<>();
+      final Map<UnitType, Integer> unitTypeIndices = new HashMap<>();
+      unitTypeIds = new int[unitCount];
+      for (int i = 0; i < unitCount; i++) {
+        strongestFirst[i] = i;
+        indices.put(units.get(i), i);
+        unitTypeIds[i] =
+            unitTypeIndices.computeIfAbsent(units.get(i).getType(), type -> unitTypeIndices.size());
+      }
+      Arrays.sort(strongestFirst, (i, j) -> unitsWithPrimaryPower.compare(j, i));
+      final List<Unit> sortedUnits = new ArrayList<>(unitCount);
+      for (final int i : strongestFirst) {
+        sortedUnits.add(units.get(i));
+      }
+      final PowerStrengthAndRolls unitPowerAndRolls =
+          PowerStrengthAndRolls.buildWithPreSortedUnits(sortedUnits, parameters.combatValue);
+
+      strengthAndRolls = new UnitPowerStrengthAndRolls[unitCount];
+      unitPowerAndRolls
+          .getTotalStrengthAndTotalRollsByUnit()
+          .forEach((unit, unitPower) -> strengthAndRolls[indices.get(unit)] = unitPower);
+      originalStrengthAndRolls = strengthAndRolls.clone();
+
+      strengthSupported = new int[unitCount][];
+      strengthGiven = new int[unitCount][];
+      rollsGivenWithStrength = new int[unitCount][];
+      givesRolls = new boolean[unitCount];
+      rollsSupported = new int[unitCount][];
+      rollsGiven = new int[unitCount][];
+      final Map<Unit, IntegerMap<Unit>> unitSupportPowerMap =
+          unitPowerAndRolls.getUnitSupportPowerMap();
+      final Map<Unit, IntegerMap<Unit>> unitSupportRollsMap =
+          unitPowerAndRolls.getUnitSupportRollsMap();
+      for (int i = 0; i < unitCount; i++) {
+        final Unit unit = units.get(i);
+        final IntegerMap<Unit> strengthSupport =
+            unitSupportPowerMap.getOrDefault(unit, new IntegerMap<>());
+        final IntegerMap<Unit> rollsSupport =
+            unitSupportRollsMap.getOrDefault(unit, new IntegerMap<>());
+        givesRolls[i] = unitSupportRollsMap.containsKey(unit);
+        strengthSupported[i] = toIndices(strengthSupport, indices);
+        strengthGiven[i] = toValues(strengthSupport, strengthSupported[i]);
+        rollsGivenWithStrength[i] = toValues(rollsSupport, strengthSupported[i]);
+        rollsSupported[i] = toIndices(rollsSupport, indices);
+        rollsGiven[i] = toValues(rollsSupport, rollsSupported[i]);
+      }
+
+      // Sort units starting with weakest for finding the worst units
+      remaining = new int[unitCount];
+      for (int i = 0; i < unitCount; i++) {
+        remaining[i] = strongestFirst[unitCount - 1 - i];
+      }
+      remainingCount = unitCount;
+    }
+
+    /** Returns the indices of the supported units, in the order of the given support. */
+    private static int[] toIndices(
+        final IntegerMap<Unit> support, final Map<Unit, Integer> indices) {
+      // units outside of the targets do not get support from the targets
+      return support.keySet().stream()
+          .map(indices::get)
+          .filter(index -> index != null)
+          .mapToInt(Integer::intValue)
+          .toArray();
+    }
+
+    private int[] toValues(final IntegerMap<Unit> support, final int[] supported) {
+      final int[] values = new int[supported.length];
+      for (int i = 0; i < supported.length; i++) {
+        values[i] = support.getInt(units.get(supported[i]));
+      }
+      return values;
+    }
 
-            final int powerWithoutSupport =
-                strengthAndRolls
-                    .subtractStrength(unitSupportPowerMapForUnit.getInt(supportedUnit))
-                    .getPower();
-            // Add the actual power provided by the support
-            final int addedPower = powerWithSupport - powerWithoutSupport;
-            power += addedPower;
+    List<Unit> sortWorstFirst() {
+      final List<Unit> sortedWellEnoughUnitsList = new ArrayList<>(units.size());
+      final int[] unitTypeCheckedInRound = new int[units.size()];
+      Arrays.fill(unitTypeCheckedInRound, -1);
+      // the worst unit is searched for until half of the units are taken, the others follow in
+      // the order they are in by then, which is well enough
+      for (int round = 0; round < remainingCount; round++) {
+        // Loop through all target units to find the best unit to take as casualty
+        int worstUnit = -1;
+        int minPower = Integer.MAX_VALUE;
+        for (int position = 0; position < remainingCount; position++) {
+          final int unit = remaining[position];
+          if (unitTypeCheckedInRound[unitTypeIds[unit]] == round) {
+            continue;
+          }
+          unitTypeCheckedInRound[unitTypeIds[unit]] = round;
+          final int power = getPowerWithSupportGiven(unit);
+          // Check if unit has lower power
+          if (power < minPower
+              || (power == minPower && unitsWithoutPrimaryPower.compare(unit, worstUnit) < 0)) {
+            worstUnit = unit;
+            minPower = power;
           }
         }
-        // Add any power from support rolls that it provides to other units
-        final IntegerMap<Unit> unitSupportRollsMapForUnit = unitSupportRollsMap.get(u);
-        if (unitSupportRollsMapForUnit != null) {
-          for (final Unit supportedUnit : unitSupportRollsMapForUnit.keySet()) {
-            final UnitPowerStrengthAndRolls strengthAndRolls =
-                unitPowerAndRollsMap.get(supportedUnit);
-            if (strengthAndRolls == null) {
-              continue;
-            }
-            // Find supported unit power with support
-            final int powerWithSupport = strengthAndRolls.getPower();
-            // Find supported unit power without support
-            final int powerWithoutSupport =
-                strengthAndRolls
-                    .subtractRolls(unitSupportRollsMap.get(u).getInt(supportedUnit))
-                    .getPower();
-            // Add the actual power provided by the support
-            final int addedPower = powerWithSupport - powerWithoutSupport;
-            power += addedPower;
+        // Add worst unit to sorted list, update any units it supported, and remove it
+        for (int i = 0; i < strengthSupported[worstUnit].length; i++) {
+          final int supportedUnit = strengthSupported[worstUnit][i];
+          if (strengthAndRolls[supportedUnit] != null) {
+            strengthAndRolls[supportedUnit] =
+                strengthAndRolls[supportedUnit].subtractStrength(strengthGiven[worstUnit][i]);
+            moveToFront(supportedUnit);
           }
         }
-        // Check if unit has lower power
-        if (power < minPower
-            || (power == minPower && unitComparatorWithoutPrimaryPower.compare(u, worstUnit) < 0)) {
-          worstUnit = u;
-          minPower = power;
+        for (int i = 0; i < rollsSupported[worstUnit].length; i++) {
+          final int supportedUnit = rollsSupported[worstUnit][i];
+          if (strengthAndRolls[supportedUnit] != null) {
+            strengthAndRolls[supportedUnit] =
+                strengthAndRolls[supportedUnit].subtractRolls(rollsGiven[worstUnit][i]);
+            moveToFront(supportedUnit);
+          }
         }
+        sortedWellEnoughUnitsList.add(units.get(worstUnit));
+        remove(worstUnit);
+        strengthAndRolls[worstUnit] = null;
       }
-      // Add worst unit to sorted list, update any units it supported, and remove from other
-      // collections
-      final IntegerMap<Unit> unitSupportPowerMapForUnit = unitSupportPowerMap.get(worstUnit);
-      if (unitSupportPowerMapForUnit != null) {
-        for (final Unit supportedUnit : unitSupportPowerMapForUnit.keySet()) {
-          final UnitPowerStrengthAndRolls strengthAndRolls =
-              unitPowerAndRollsMap.get(supportedUnit);
-          if (strengthAndRolls == null) {
-            continue;
-          }
-          final UnitPowerStrengthAndRolls strengthAndRollsWithoutSupport =
-              strengthAndRolls.subtractStrength(unitSupportPowerMapForUnit.getInt(supportedUnit));
-          unitPowerAndRollsMap.put(supportedUnit, strengthAndRollsWithoutSupport);
-          sortedUnitsList.remove(supportedUnit);
-          sortedUnitsList.add(0, supportedUnit);
+      for (int position = 0; position < remainingCount; position++) {
+        sortedWellEnoughUnitsList.add(units.get(remaining[position]));
+      }
+      return sortedWellEnoughUnitsList;
+    }
+
+    /** Returns the power of the unit plus the power that the support it gives adds. */
+    private int getPowerWithSupportGiven(final int unit) {
+      int power = originalStrengthAndRolls[unit].getPower();
+      // Add any support power that it provides to other units
+      for (int i = 0; i < strengthSupported[unit].length; i++) {
+        UnitPowerStrengthAndRolls supported = strengthAndRolls[strengthSupported[unit][i]];
+        if (supported == null) {
+          continue;
         }
+        // Remove any rolls provided by this support so they aren't counted twice
+        if (givesRolls[unit]) {
+          supported = supported.subtractRolls(rollsGivenWithStrength[unit][i]);
+        }
+        // If one roll then just add the power
+        if (supported.getRolls() == 1) {
+          power += strengthGiven[unit][i];
+          continue;
+        }
+        // Add the actual power provided by the support
+        power +=
+            supported.getPower() - supported.subtractStrength(strengthGiven[unit][i]).getPower();
       }
-      final IntegerMap<Unit> unitSupportRollsMapForUnit = unitSupportRollsMap.get(worstUnit);
-      if (unitSupportRollsMapForUnit != null) {
-        for (final Unit supportedUnit : unitSupportRollsMapForUnit.keySet()) {
-          final UnitPowerStrengthAndRolls strengthAndRolls =
-              unitPowerAndRollsMap.get(supportedUnit);
-          if (strengthAndRolls == null) {
-            continue;
-          }
-          final UnitPowerStrengthAndRolls strengthAndRollsWithoutSupport =
-              strengthAndRolls.subtractRolls(unitSupportRollsMapForUnit.getInt(supportedUnit));
-          unitPowerAndRollsMap.put(supportedUnit, strengthAndRollsWithoutSupport);
-          sortedUnitsList.remove(supportedUnit);
-          sortedUnitsList.add(0, supportedUnit);
+      // Add any power from support rolls that it provides to other units
+      for (int i = 0; i < rollsSupported[unit].length; i++) {
+        final UnitPowerStrengthAndRolls supported = strengthAndRolls[rollsSupported[unit][i]];
+        if (supported != null) {
+          power += supported.getPower() - supported.subtractRolls(rollsGiven[unit][i]).getPower();
         }
       }
-      sortedWellEnoughUnitsList.add(worstUnit);
-      sortedUnitsList.remove(worstUnit);
-      unitPowerAndRollsMap.remove(worstUnit);
-      unitSupportPowerMap.remove(worstUnit);
-      unitSupportRollsMap.remove(worstUnit);
+      return power;
     }
-    sortedWellEnoughUnitsList.addAll(sortedUnitsList);
-    // Cache result and all subsets of the result
-    final List<AmphibType> unitTypes = new ArrayList<>();
-    for (final Unit u : sortedWellEnoughUnitsList) {
-      unitTypes.add(AmphibType.of(u));
+
+    private void moveToFront(final int unit) {
+      final int position = indexOf(unit);
+      System.arraycopy(remaining, 0, remaining, 1, position);
+      remaining[0] = unit;
     }
-    for (final Iterator<AmphibType> it = unitTypes.iterator(); it.hasNext(); ) {
-      oolCache.put(key, new ArrayList<>(unitTypes));
-      final AmphibType unitTypeToRemove = it.next();
-      targetTypes.remove(unitTypeToRemove);
-      key = computeOolCacheKey(parameters, targetTypes);
-      it.remove();
+
+    private void remove(final int unit) {
+      final int position = indexOf(unit);
+      System.arraycopy(remaining, position + 1, remaining, position, remainingCount - position - 1);
+      remainingCount--;
+    }
+
+    private int indexOf(final int unit) {
+      int position = 0;
+      while (remaining[position] != unit) {
+        position++;
+      }
+      return position;
     }
-    return sortedWellEnoughUnitsList;
   }
 
   @Value
@@ -251,12 +323,6 @@ class CasualtyOrderOfLosses {
       // only track amphibious if both marine and was amphibious
       return new AmphibType(unit.getType(), ua.getIsMarine() != 0 && unit.getWasAmphibious());
     }
-
-    boolean matches(final Unit unit) {
-      final UnitAttachment ua = UnitAttachment.get(unit.getType());
-      return type.equals(unit.getType())
-          && (ua.getIsMarine() == 0 || isAmphibious == unit.getWasAmphibious());
-    }
   }
 
   static String computeOolCacheKey(
@@ -87,6 +87,7 @@ public class CheckGeneralBattleEnd implements BattleStep {
                     Properties.getLhtrHeavyBombers(battleState.getGameData().getProperties()))
                 .gameDiceSides(battleState.getGameData().getDiceSides())
                 .territoryEffects(battleState.getTerritoryEffects())
+                .supportCache(battleState.getSupportCache())
                 .build())
         .hasStrengthOrRolls();
   }
@@ -37,6 +37,7 @@ public class MainDiceRoller
                 Properties.getLhtrHeavyBombers(step.getBattleState().getGameData().getProperties()))
             .gameDiceSides(step.getBattleState().getGameData().getDiceSides())
             .territoryEffects(step.getBattleState().getTerritoryEffects())
+            .supportCache(step.getBattleState().getSupportCache())
             .build());
   }
 }
@@ -169,6 +169,7 @@ public class SelectMainBattleCasualties
                       step.getBattleState().getGameData().getProperties()))
               .gameDiceSides(step.getBattleState().getGameData().getDiceSides())
               .territoryEffects(step.getBattleState().getTerritoryEffects())
+              .supportCache(step.getBattleState().getSupportCache())
               .build(),
           step.getBattleState().getBattleSite(),
           bridge,
@@ -85,6 +85,7 @@ public abstract class AaFireAndCasualtyStep implements BattleStep {
                       step.getBattleState().getGameData().getProperties()))
               .gameDiceSides(step.getBattleState().getGameData().getDiceSides())
               .territoryEffects(step.getBattleState().getTerritoryEffects())
+              .supportCache(step.getBattleState().getSupportCache())
               .build(),
           CombatValueBuilder.aaCombatValue()
               .enemyUnits(step.getBattleState().filterUnits(ALIVE, step.getSide().getOpposite()))
@@ -6,6 +6,7 @@ import games.strategy.engine.data.Unit;
 import games.strategy.triplea.attachments.UnitSupportAttachment;
 import games.strategy.triplea.delegate.battle.BattleState;
 import java.util.Collection;
+import javax.annotation.Nullable;
 import lombok.Builder;
 import lombok.experimental.UtilityClass;
 
@@ -21,17 +22,19 @@ public class CombatValueBuilder {
       final Collection<UnitSupportAttachment> supportAttachments,
       final boolean lhtrHeavyBombers,
       final int gameDiceSides,
-      final Collection<TerritoryEffect> territoryEffects) {
+      final Collection<TerritoryEffect> territoryEffects,
+      @Nullable final SupportCache supportCache) {
 
     // Get all friendly supports
     final AvailableSupports supportFromFriends =
         AvailableSupports.getSortedSupport(
-            new SupportCalculator(friendlyUnits, supportAttachments, side, true));
+            newSupportCalculator(supportCache, friendlyUnits, supportAttachments, side, true));
 
     // Get all enemy supports
     final AvailableSupports supportFromEnemies =
         AvailableSupports.getSortedSupport(
-            new SupportCalculator(enemyUnits, supportAttachments, side.getOpposite(), false));
+            newSupportCalculator(
+                supportCache, enemyUnits, supportAttachments, side.getOpposite(), false));
 
     return side == BattleState.Side.DEFENSE
         ? MainDefenseCombatValue.builder()
@@ -64,6 +67,18 @@ public class CombatValueBuilder {
             .build();
   }
 
+  /** Takes the supporters from the ones found for earlier combat values if there is a cache. */
+  private static SupportCalculator newSupportCalculator(
+      @Nullable final SupportCache supportCache,
+      final Collection<Unit> unitsGivingTheSupport,
+      final Collection<UnitSupportAttachment> rules,
+      final BattleState.Side side,
+      final boolean allies) {
+    return supportCache == null
+        ? new SupportCalculator(unitsGivingTheSupport, rules, side, allies)
+        : supportCache.getSupportCalculator(unitsGivingTheSupport, rules, side, allies);
+  }
+
   @Builder(builderMethodName = "aaCombatValue", builderClassName = "AaBuilder")
   static CombatValue buildAaCombatValue(
       final Collection<Unit> enemyUnits,
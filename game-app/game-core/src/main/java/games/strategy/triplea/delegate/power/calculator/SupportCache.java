@@ -0,0 +1,111 @@
+package games.strategy.triplea.delegate.power.calculator;
+
+import com.google.common.collect.Iterables;
+import games.strategy.engine.data.GamePlayer;
+import games.strategy.engine.data.Unit;
+import games.strategy.triplea.attachments.UnitSupportAttachment;
+import games.strategy.triplea.delegate.battle.BattleState;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Remembers the units that can give support for each support rule, for the sides of one battle.
+ *
+ * <p>From round to round the units of a side only get fewer, so the supporters are then taken from
+ * the ones found before instead of matching all units against all rules again. The supporters are
+ * found again from scratch if units were added or reordered, changed owner, or the rules changed.
+ */
+public class SupportCache {
+  private final Map<BattleState.Side, Supporters> supportersOfAllies =
+      new EnumMap<>(BattleState.Side.class);
+  private final Map<BattleState.Side, Supporters> supportersOfEnemies =
+      new EnumMap<>(BattleState.Side.class);
+
+  /** Returns the same as the {@link SupportCalculator} constructor with these arguments. */
+  SupportCalculator getSupportCalculator(
+      final Collection<Unit> unitsGivingTheSupport,
+      final Collection<UnitSupportAttachment> rules,
+      final BattleState.Side side,
+      final boolean allies) {
+    final List<Unit> units =
+        unitsGivingTheSupport == null ? List.of() : new ArrayList<>(unitsGivingTheSupport);
+    final Map<BattleState.Side, Supporters> supportersBySide =
+        allies ? supportersOfAllies : supportersOfEnemies;
+    final Supporters previousSupporters = supportersBySide.get(side);
+    final Supporters supporters =
+        previousSupporters != null && previousSupporters.canBeReducedTo(units, rules)
+            ? previousSupporters.reduceTo(units)
+            : new Supporters(
+                units,
+                List.copyOf(rules),
+                SupportCalculator.findSupporters(units, rules, side, allies));
+    supportersBySide.put(side, supporters);
+    return new SupportCalculator(supporters.supportersByRule, side, allies);
+  }
+
+  private static final class Supporters {
+    private final List<Unit> units;
+    private final List<GamePlayer> owners;
+    private final List<UnitSupportAttachment> rules;
+    private final Map<UnitSupportAttachment, List<Unit>> supportersByRule;
+
+    Supporters(
+        final List<Unit> units,
+        final List<UnitSupportAttachment> rules,
+        final Map<UnitSupportAttachment, List<Unit>> supportersByRule) {
+      this.units = units;
+      owners = units.stream().map(Unit::getOwner).collect(Collectors.toList());
+      this.rules = rules;
+      this.supportersByRule = supportersByRule;
+    }
+
+    /**
+     * Checks if the units are some of the units these supporters were found among, in the same
+     * order and with the same owners, and the rules are the same.
+     */
+    boolean canBeReducedTo(
+        final List<Unit> remainingUnits, final Collection<UnitSupportAttachment> remainingRules) {
+      if (remainingUnits.size() > units.size()
+          || !Iterables.elementsEqual(rules, remainingRules)) {
+        return false;
+      }
+      int index = 0;
+      for (final Unit unit : remainingUnits) {
+        while (index < units.size() && !units.get(index).equals(unit)) {
+          index++;
+        }
+        if (index == units.size() || !owners.get(index).equals(unit.getOwner())) {
+          return false;
+        }
+        index++;
+      }
+      return true;
+    }
+
+    /** Returns the supporters among the units, which {@link #canBeReducedTo}. */
+    Supporters reduceTo(final List<Unit> remainingUnits) {
+      if (remainingUnits.size() == units.size()) {
+        return this;
+      }
+      final Set<Unit> remaining = new HashSet<>(remainingUnits);
+      final Map<UnitSupportAttachment, List<Unit>> remainingSupportersByRule =
+          new LinkedHashMap<>();
+      supportersByRule.forEach(
+          (rule, supporters) -> {
+            final List<Unit> remainingSupporters =
+                supporters.stream().filter(remaining::contains).collect(Collectors.toList());
+            if (!remainingSupporters.isEmpty()) {
+              remainingSupportersByRule.put(rule, remainingSupporters);
+            }
+          });
+      return new Supporters(remainingUnits, rules, remainingSupportersByRule);
+    }
+  }
+}
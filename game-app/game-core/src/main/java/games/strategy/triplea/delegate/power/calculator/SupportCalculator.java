@@ -8,6 +8,7 @@ import games.strategy.triplea.delegate.battle.BattleState;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -39,13 +40,52 @@ public class SupportCalculator {
       final Collection<UnitSupportAttachment> rules,
       final BattleState.Side side,
       final boolean allies) {
+    this(findSupporters(unitsGivingTheSupport, rules, side, allies), side, allies);
+  }
+
+  /**
+   * @param supporters the units that can give support by rule, as found by {@link #findSupporters}
+   */
+  SupportCalculator(
+      final Map<UnitSupportAttachment, List<Unit>> supporters,
+      final BattleState.Side side,
+      final boolean allies) {
     this.side = side;
     this.allies = allies;
     supportRules = new HashMap<>();
     supportUnits = new HashMap<>();
 
+    supporters.forEach(
+        (rule, supportersOfRule) -> {
+          final List<Unit> impArtTechUnits =
+              rule.getImpArtTech()
+                  ? CollectionUtils.getMatches(
+                      supportersOfRule, Matches.unitOwnerHasImprovedArtillerySupportTech())
+                  : List.of();
+
+          final IntegerMap<Unit> unitsForRule = new IntegerMap<>();
+          supportersOfRule.forEach(unit -> unitsForRule.put(unit, rule.getNumber()));
+          impArtTechUnits.forEach(unit -> unitsForRule.add(unit, rule.getNumber()));
+          supportUnits.put(rule, unitsForRule);
+          supportRules
+              .computeIfAbsent(rule.getBonusType(), (bonusType) -> new ArrayList<>())
+              .add(rule);
+        });
+  }
+
+  /**
+   * Finds the units that can give support for each of the rules that apply to the side.
+   *
+   * @return the supporters by rule, in the order of the rules, leaving out rules without supporters
+   */
+  static Map<UnitSupportAttachment, List<Unit>> findSupporters(
+      final Collection<Unit> unitsGivingTheSupport,
+      final Collection<UnitSupportAttachment> rules,
+      final BattleState.Side side,
+      final boolean allies) {
+    final Map<UnitSupportAttachment, List<Unit>> supporters = new LinkedHashMap<>();
     if (unitsGivingTheSupport == null || unitsGivingTheSupport.isEmpty()) {
-      return;
+      return supporters;
     }
 
     for (final UnitSupportAttachment rule : rules) {
@@ -63,22 +103,13 @@ public class SupportCalculator {
       final Predicate<Unit> canSupport =
           Matches.unitIsOfType((UnitType) rule.getAttachedTo())
               .and(Matches.unitOwnedBy(rule.getPlayers()));
-      final List<Unit> supporters = CollectionUtils.getMatches(unitsGivingTheSupport, canSupport);
-      if (supporters.isEmpty()) {
-        continue;
+      final List<Unit> supportersOfRule =
+          CollectionUtils.getMatches(unitsGivingTheSupport, canSupport);
+      if (!supportersOfRule.isEmpty()) {
+        supporters.put(rule, supportersOfRule);
       }
-      final List<Unit> impArtTechUnits =
-          rule.getImpArtTech()
-              ? CollectionUtils.getMatches(
-                  supporters, Matches.unitOwnerHasImprovedArtillerySupportTech())
-              : List.of();
-
-      final IntegerMap<Unit> unitsForRule = new IntegerMap<>();
-      supporters.forEach(unit -> unitsForRule.put(unit, rule.getNumber()));
-      impArtTechUnits.forEach(unit -> unitsForRule.add(unit, rule.getNumber()));
-      supportUnits.put(rule, unitsForRule);
-      supportRules.computeIfAbsent(rule.getBonusType(), (bonusType) -> new ArrayList<>()).add(rule);
     }
+    return supporters;
   }
 
   public int getSupport(final UnitSupportAttachment rule) {
@@ -0,0 +1,280 @@
+package games.strategy.triplea.image;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import games.strategy.engine.ClientFileSystemHelper;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.awt.image.WritableRaster;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.triplea.java.ThreadRunner;
+
+/**
+ * Keeps decoded map tiles on disk as raw pixels so that showing the same map again skips PNG
+ * decoding. Cache files are read with a single bulk read, which makes loading a tile little more
+ * than copying its pixels into a new image. There is one cache file per tile and rendering variant,
+ * holding a stamp of the last-modified time and size of the source images. A cache file that does
+ * not match the stamp, or that cannot be read, is stale and is replaced by decoding the tile again.
+ *
+ * <p>Only images with a standard byte or int pixel layout are cached, others are returned as
+ * decoded.
+ *
+ * <p>The cache folder is kept below a maximum size by {@link #prune()}, which deletes the least
+ * recently used cache files first. Reading a cache file marks it as used by updating its
+ * last-modified time.
+ */
+@Slf4j
+class DecodedTileCache {
+  private static final int FORMAT_VERSION = 1;
+  private static final String CACHE_FILE_EXTENSION = ".tile";
+  // magic, format version, stamp, width, height, image type
+  private static final int HEADER_SIZE = 4 + 4 + 8 + 4 + 4 + 4;
+  // written in native byte order, reads on a machine with another byte order see a bad magic
+  private static final int MAGIC = 0x54696C65;
+  private static final Set<Integer> CACHEABLE_IMAGE_TYPES =
+      Set.of(
+          BufferedImage.TYPE_INT_RGB,
+          BufferedImage.TYPE_INT_ARGB,
+          BufferedImage.TYPE_INT_ARGB_PRE,
+          BufferedImage.TYPE_INT_BGR,
+          BufferedImage.TYPE_3BYTE_BGR,
+          BufferedImage.TYPE_4BYTE_ABGR,
+          BufferedImage.TYPE_4BYTE_ABGR_PRE);
+
+  // a decoded tile takes up to 256 KB, this keeps about 8000 tiles
+  private static final long MAX_CACHE_SIZE = 2048L * 1024 * 1024;
+
+  private final Path cacheFolder;
+  private final long maxCacheSize;
+
+  @VisibleForTesting
+  DecodedTileCache(final Path cacheFolder, final long maxCacheSize) {
+    this.cacheFolder = cacheFolder;
+    this.maxCacheSize = maxCacheSize;
+  }
+
+  /**
+   * Returns a cache stored in the user cache folder. The cache folder is pruned in the background.
+   */
+  static DecodedTileCache inUserCacheFolder() {
+    final DecodedTileCache cache =
+        new DecodedTileCache(
+            ClientFileSystemHelper.getUserCacheFolder().resolve("tiles"), MAX_CACHE_SIZE);
+    ThreadRunner.runInNewThread(cache::prune);
+    return cache;
+  }
+
+  /**
+   * Deletes the least recently used cache files until the cache files take up no more than the
+   * maximum cache size.
+   */
+  void prune() {
+    if (!Files.isDirectory(cacheFolder)) {
+      return;
+    }
+    final List<CacheFile> cacheFiles = new ArrayList<>();
+    try (Stream<Path> files = Files.list(cacheFolder)) {
+      for (final Path file : (Iterable<Path>) files::iterator) {
+        if (file.getFileName().toString().endsWith(CACHE_FILE_EXTENSION)) {
+          final BasicFileAttributes attributes =
+              Files.readAttributes(file, BasicFileAttributes.class);
+          cacheFiles.add(
+              new CacheFile(file, attributes.size(), attributes.lastModifiedTime().toMillis()));
+        }
+      }
+    } catch (final IOException | UncheckedIOException e) {
+      log.info("Unable to list cache folder: {}, {}", cacheFolder, e.getMessage());
+      return;
+    }
+    long cacheSize = cacheFiles.stream().mapToLong(CacheFile::getSize).sum();
+    cacheFiles.sort(Comparator.comparingLong(CacheFile::getLastModified));
+    for (final CacheFile cacheFile : cacheFiles) {
+      if (cacheSize <= maxCacheSize) {
+        return;
+      }
+      try {
+        Files.deleteIfExists(cacheFile.getPath());
+        cacheSize -= cacheFile.getSize();
+      } catch (final IOException e) {
+        log.debug("Unable to delete cache file: {}", cacheFile.getPath(), e);
+      }
+    }
+  }
+
+  @Value
+  private static class CacheFile {
+    Path path;
+    long size;
+    long lastModified;
+  }
+
+  /**
+   * Reads the tile rendered from the given source images from cache, or decodes it with {@code
+   * decoder} and caches the result if there is no up-to-date cache file.
+   *
+   * @param variant Identifies how the sources are rendered into the tile, for example the blend
+   *     mode.
+   */
+  BufferedImage getOrDecode(
+      final String variant,
+      final Collection<URL> sources,
+      final Supplier<BufferedImage> decoder) {
+    final Hasher identity = Hashing.sha256().newHasher();
+    identity.putString(variant, StandardCharsets.UTF_8);
+    final Hasher stamp = Hashing.sha256().newHasher();
+    for (final URL source : sources) {
+      identity.putString(source.toString(), StandardCharsets.UTF_8);
+      try {
+        final URLConnection connection = source.openConnection();
+        stamp.putLong(connection.getLastModified()).putLong(connection.getContentLengthLong());
+      } catch (final IOException e) {
+        return decoder.get();
+      }
+    }
+
+    final Path cacheFile = cacheFolder.resolve(identity.hash() + CACHE_FILE_EXTENSION);
+    final long sourceStamp = stamp.hash().asLong();
+    final Optional<BufferedImage> cachedImage = read(cacheFile, sourceStamp);
+    if (cachedImage.isPresent()) {
+      markUsed(cacheFile);
+      return cachedImage.get();
+    }
+
+    final BufferedImage image = decoder.get();
+    if (image != null && CACHEABLE_IMAGE_TYPES.contains(image.getType())) {
+      write(cacheFile, sourceStamp, image);
+    }
+    return image;
+  }
+
+  private static Optional<BufferedImage> read(final Path cacheFile, final long sourceStamp) {
+    if (!Files.exists(cacheFile)) {
+      return Optional.empty();
+    }
+    try (FileChannel channel = FileChannel.open(cacheFile, StandardOpenOption.READ)) {
+      // read to the heap, a mapping would keep the file open until the buffer is garbage collected
+      final ByteBuffer buffer =
+          ByteBuffer.allocate(Math.toIntExact(channel.size())).order(ByteOrder.nativeOrder());
+      while (buffer.hasRemaining() && channel.read(buffer) != -1) {
+        // read until the buffer is full
+      }
+      buffer.flip();
+      if (buffer.getInt() == MAGIC
+          && buffer.getInt() == FORMAT_VERSION
+          && buffer.getLong() == sourceStamp) {
+        final int width = buffer.getInt();
+        final int height = buffer.getInt();
+        final int imageType = buffer.getInt();
+        if (CACHEABLE_IMAGE_TYPES.contains(imageType)) {
+          final BufferedImage image = new BufferedImage(width, height, imageType);
+          readPixels(buffer, image.getRaster());
+          return Optional.of(image);
+        }
+      }
+      log.debug("Replacing stale cache file: {}", cacheFile);
+    } catch (final IOException | RuntimeException e) {
+      log.info("Replacing unreadable cache file: {}, {}", cacheFile, e.getMessage());
+    }
+    return Optional.empty();
+  }
+
+  private static void markUsed(final Path cacheFile) {
+    try {
+      Files.setLastModifiedTime(cacheFile, FileTime.fromMillis(System.currentTimeMillis()));
+    } catch (final IOException e) {
+      log.debug("Unable to mark cache file as used: {}", cacheFile, e);
+    }
+  }
+
+  /**
+   * Copies the pixels with a single bulk transfer, setting them through the raster (rather than
+   * wrapping an array in a data buffer) keeps the image eligible for hardware acceleration.
+   */
+  private static void readPixels(final ByteBuffer buffer, final WritableRaster raster) {
+    final int length = raster.getWidth() * raster.getHeight() * raster.getNumDataElements();
+    final Object pixels;
+    if (raster.getTransferType() == DataBuffer.TYPE_INT) {
+      final int[] ints = new int[length];
+      buffer.slice().order(ByteOrder.nativeOrder()).asIntBuffer().get(ints);
+      pixels = ints;
+    } else {
+      final byte[] bytes = new byte[length];
+      buffer.get(bytes);
+      pixels = bytes;
+    }
+    raster.setDataElements(0, 0, raster.getWidth(), raster.getHeight(), pixels);
+  }
+
+  /** Writes to a temporary file first so that a concurrent read never sees a partial file. */
+  private void write(final Path cacheFile, final long sourceStamp, final BufferedImage image) {
+    final WritableRaster raster = image.getRaster();
+    final Object pixels =
+        raster.getDataElements(0, 0, raster.getWidth(), raster.getHeight(), null);
+    final boolean intPixels = pixels instanceof int[];
+    final int dataSize = intPixels ? ((int[]) pixels).length * 4 : ((byte[]) pixels).length;
+    final ByteBuffer buffer =
+        ByteBuffer.allocate(HEADER_SIZE + dataSize).order(ByteOrder.nativeOrder());
+    buffer
+        .putInt(MAGIC)
+        .putInt(FORMAT_VERSION)
+        .putLong(sourceStamp)
+        .putInt(image.getWidth())
+        .putInt(image.getHeight())
+        .putInt(image.getType());
+    if (intPixels) {
+      buffer.asIntBuffer().put((int[]) pixels);
+    } else {
+      buffer.put((byte[]) pixels);
+    }
+    buffer.rewind();
+
+    Path tempFile = null;
+    try {
+      Files.createDirectories(cacheFolder);
+      tempFile = Files.createTempFile(cacheFolder, null, CACHE_FILE_EXTENSION);
+      try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+        while (buffer.hasRemaining()) {
+          channel.write(buffer);
+        }
+      }
+      Files.move(
+          tempFile,
+          cacheFile,
+          StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+    } catch (final IOException | RuntimeException e) {
+      log.info("Unable to write cache file: {}, {}", cacheFile, e.getMessage());
+      if (tempFile != null) {
+        try {
+          Files.deleteIfExists(tempFile);
+        } catch (final IOException deleteError) {
+          log.debug("Unable to delete temporary cache file: {}", tempFile, deleteError);
+        }
+      }
+    }
+  }
+}
@@ -1,48 +1,83 @@
 package games.strategy.triplea.image;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import games.strategy.triplea.ResourceLoader;
 import games.strategy.triplea.image.BlendComposite.BlendingMode;
+import games.strategy.triplea.settings.ClientSetting;
 import games.strategy.ui.Util;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.GraphicsConfiguration;
 import java.awt.GraphicsEnvironment;
 import java.awt.Image;
+import java.awt.Point;
 import java.awt.Transparency;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
-import java.lang.ref.SoftReference;
 import java.net.URL;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.prefs.BackingStoreException;
 import java.util.prefs.Preferences;
+import javax.annotation.Nullable;
 import javax.imageio.ImageIO;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 
-/** A factory for creating the base tile images used to render a map. */
+/**
+ * A factory for creating the base tile images used to render a map. Decoded tiles are kept in a
+ * bounded least-recently-used cache, tiles about to be scrolled into view can be decoded ahead of
+ * time on a background thread with {@link #prefetchTiles(Collection)}, and if enabled, decoded
+ * pixels are kept on disk by {@link DecodedTileCache} for later launches of the same map.
+ */
 @Slf4j
 public final class TileImageFactory {
   // one instance in the application
-  private static boolean isDirty = false;
+  // the settings are volatile as tiles are also loaded on the prefetch threads
+  private static volatile boolean isDirty = false;
   private static final String SHOW_RELIEF_IMAGES_PREFERENCE = "ShowRelief2";
-  private static boolean showReliefImages;
+  private static volatile boolean showReliefImages;
   private static final String SHOW_MAP_BLENDS_PREFERENCE = "ShowBlends";
-  private static boolean showMapBlends;
+  private static volatile boolean showMapBlends;
   private static final String SHOW_MAP_BLEND_MODE = "BlendMode";
-  private static String showMapBlendMode;
+  private static volatile String showMapBlendMode;
   private static final String SHOW_MAP_BLEND_ALPHA = "BlendAlpha";
-  private static float showMapBlendAlpha;
+  private static volatile float showMapBlendAlpha;
+  private static final String BLANK_RELIEF_FILE_NAME = "reliefTiles/blank_relief.png";
   private static final GraphicsConfiguration configuration =
       GraphicsEnvironment.getLocalGraphicsEnvironment()
           .getDefaultScreenDevice()
           .getDefaultConfiguration();
-  // maps image name to ImageRef
-  private final Map<String, SoftReference<Image>> imageCache =
-      Collections.synchronizedMap(new HashMap<>());
-  private ResourceLoader resourceLoader;
+  // a decoded tile takes up to 256 KB, use at most an eighth of the heap
+  private static final int MAX_CACHED_IMAGES =
+      (int) Math.max(64, Math.min(1024, Runtime.getRuntime().maxMemory() / 8 / (256 * 1024)));
+  // maps image name to the decoded image, or to empty if there is no image
+  private final Cache<ImageKey, Optional<Image>> imageCache =
+      CacheBuilder.newBuilder().maximumSize(MAX_CACHED_IMAGES).build();
+  /**
+   * Incremented when the cached images become stale. An image that was being loaded at that time
+   * is cached under the previous generation, where it is never looked up again.
+   */
+  private final AtomicInteger generation = new AtomicInteger();
+
+  private final ThreadPoolExecutor prefetchExecutor = newPrefetchExecutor();
+  private volatile ResourceLoader resourceLoader;
+  @Nullable private volatile DecodedTileCache diskCache;
+
+  @Value
+  private static class ImageKey {
+    int generation;
+    String fileName;
+  }
 
   static {
     final Preferences prefs = Preferences.userNodeForPackage(TileImageFactory.class);
@@ -116,24 +151,59 @@ public final class TileImageFactory {
     }
   }
 
+  private static ThreadPoolExecutor newPrefetchExecutor() {
+    final ThreadPoolExecutor executor =
+        new ThreadPoolExecutor(
+            2,
+            2,
+            2L,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            runnable -> {
+              final Thread thread = new Thread(runnable, "Map tile prefetch");
+              thread.setDaemon(true);
+              thread.setPriority(Thread.MIN_PRIORITY);
+              return thread;
+            });
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
   public void setMapDir(final ResourceLoader loader) {
     resourceLoader = loader;
-    imageCache.clear();
+    diskCache =
+        ClientSetting.cacheDecodedMapTiles.getValueOrThrow()
+            ? DecodedTileCache.inUserCacheFolder()
+            : null;
+    invalidateImages();
   }
 
-  private Image isImageLoaded(final String fileName) {
-    if (imageCache.get(fileName) == null) {
-      return null;
+  private void invalidateImages() {
+    generation.incrementAndGet();
+    prefetchExecutor.getQueue().clear();
+    imageCache.invalidateAll();
+  }
+
+  /**
+   * Decodes the base and relief tiles at the given tile coordinates on a background thread, so
+   * they are cached by the time they are drawn. Replaces the tiles of any earlier call that have
+   * not been decoded yet, as those are no longer ahead of the visible area.
+   */
+  public void prefetchTiles(final Collection<Point> tiles) {
+    prefetchExecutor.getQueue().clear();
+    for (final Point tile : tiles) {
+      prefetchExecutor.execute(
+          () -> {
+            getBaseTile(tile.x, tile.y);
+            if (showReliefImages) {
+              getReliefTile(tile.x, tile.y);
+            }
+          });
     }
-    return imageCache.get(fileName).get();
   }
 
   public Image getBaseTile(final int x, final int y) {
-    final String fileName = getBaseTileImageName(x, y);
-    if (resourceLoader.getResource(fileName) == null) {
-      return null;
-    }
-    return getImage(fileName, false);
+    return getImage(getBaseTileImageName(x, y), false);
   }
 
   private static String getBaseTileImageName(final int x, final int y) {
@@ -141,22 +211,24 @@ public final class TileImageFactory {
     return "baseTiles" + "/" + x + "_" + y + ".png";
   }
 
-  private Image getImage(final String fileName, final boolean transparent) {
+  /**
+   * Returns the cached image or loads it. Concurrent calls for the same image, for example from a
+   * prefetch and a tile being drawn, wait for a single load.
+   */
+  private @Nullable Image getImage(final String fileName, final boolean transparent) {
     if (isDirty) {
       isDirty = false;
-      imageCache.clear();
-    }
-    final Image image = isImageLoaded(fileName);
-    if (image != null) {
-      return image;
+      invalidateImages();
     }
-    // This is null if there is no image
-    final URL url = resourceLoader.getResource(fileName);
-
-    if ((!showMapBlends || !showReliefImages || !transparent) && url == null) {
-      return null;
+    try {
+      return imageCache
+          .get(
+              new ImageKey(generation.get(), fileName),
+              () -> Optional.ofNullable(loadImage(fileName, transparent)))
+          .orElse(null);
+    } catch (final ExecutionException e) {
+      throw new IllegalStateException("Failed to load image: " + fileName, e.getCause());
     }
-    return loadImage(url, fileName, transparent);
   }
 
   public Image getReliefTile(final int a, final int b) {
@@ -181,25 +253,55 @@ public final class TileImageFactory {
     return compatibleImage;
   }
 
-  private Image loadImage(
-      final URL imageLocation, final String fileName, final boolean transparent) {
-    return (showMapBlends && showReliefImages && transparent)
-        ? loadBlendedImage(fileName)
-        : loadUnblendedImage(imageLocation, fileName, transparent);
+  private @Nullable Image loadImage(final String fileName, final boolean transparent) {
+    // This is null if there is no image
+    final URL url = resourceLoader.getResource(fileName);
+    if (showMapBlends && showReliefImages && transparent) {
+      return diskCache == null
+          ? loadBlendedImage(fileName)
+          : diskCache.getOrDecode(
+              "blended:" + getShowMapBlendMode() + ":" + getShowMapBlendAlpha(),
+              findBlendSources(fileName),
+              () -> loadBlendedImage(fileName));
+    } else if (url == null) {
+      return null;
+    }
+    final BufferedImage image =
+        diskCache == null
+            ? loadUnblendedImage(url, transparent)
+            : diskCache.getOrDecode(
+                "unblended:" + transparent,
+                List.of(url),
+                () -> loadUnblendedImage(url, transparent));
+    return image != null ? image : new BufferedImage(1, 1, BufferedImage.TYPE_INT_RGB);
+  }
+
+  private static String getReliefFileName(final String fileName) {
+    return fileName.replace("baseTiles", "reliefTiles");
   }
 
-  private Image loadBlendedImage(final String fileName) {
+  private static String getBaseFileName(final String fileName) {
+    return fileName.replace("reliefTiles", "baseTiles");
+  }
+
+  private List<URL> findBlendSources(final String fileName) {
+    final List<URL> sources = new ArrayList<>();
+    for (final String source :
+        List.of(getReliefFileName(fileName), getBaseFileName(fileName), BLANK_RELIEF_FILE_NAME)) {
+      Optional.ofNullable(resourceLoader.getResource(source)).ifPresent(sources::add);
+    }
+    return sources;
+  }
+
+  private BufferedImage loadBlendedImage(final String fileName) {
     BufferedImage reliefFile = null;
     BufferedImage baseFile = null;
     // The relief tile
-    final String reliefFileName = fileName.replace("baseTiles", "reliefTiles");
-    final URL urlRelief = resourceLoader.getResource(reliefFileName);
+    final URL urlRelief = resourceLoader.getResource(getReliefFileName(fileName));
     // The base tile
-    final String baseFileName = fileName.replace("reliefTiles", "baseTiles");
-    final URL urlBase = resourceLoader.getResource(baseFileName);
+    final URL urlBase = resourceLoader.getResource(getBaseFileName(fileName));
     // blank relief tile
-    final String blankReliefFileName = "reliefTiles/blank_relief.png";
-    final URL urlBlankRelief = resourceLoader.getResource(blankReliefFileName);
+    final URL urlBlankRelief = resourceLoader.getResource(BLANK_RELIEF_FILE_NAME);
 
     // Get buffered images
     try {
@@ -237,19 +339,14 @@ public final class TileImageFactory {
       final BlendComposite blendComposite = BlendComposite.getInstance(blendMode).derive(alpha);
       g2.setComposite(blendComposite);
       g2.drawImage(baseFile, 0, 0, null);
-      final SoftReference<Image> ref = new SoftReference<>(blendedImage);
-      imageCache.put(fileName, ref);
       return blendedImage;
     }
-
-    final SoftReference<Image> ref = new SoftReference<>(baseFile);
-    imageCache.put(fileName, ref);
     return baseFile;
   }
 
-  private Image loadUnblendedImage(
-      final URL imageLocation, final String fileName, final boolean transparent) {
-    Image image;
+  /** Returns the decoded image, or null if it cannot be read. */
+  private static @Nullable BufferedImage loadUnblendedImage(
+      final URL imageLocation, final boolean transparent) {
     try {
       final BufferedImage fromFile = ImageIO.read(imageLocation);
       // if we don't copy, drawing the tile to the screen takes significantly longer
@@ -257,17 +354,17 @@ public final class TileImageFactory {
       // some images can be copied quickly to the screen
       // this step is a significant bottle neck in the image drawing process
       // we should try to find a way to avoid it, and load the png directly as the right type
-      image = Util.newImage(fromFile.getWidth(null), fromFile.getHeight(null), transparent);
+      final BufferedImage image =
+          Util.newImage(fromFile.getWidth(null), fromFile.getHeight(null), transparent);
       final Graphics2D g = (Graphics2D) image.getGraphics();
       g.drawImage(fromFile, 0, 0, null);
       g.dispose();
       fromFile.flush();
+      return image;
     } catch (final IOException e) {
       log.error("Could not load image, url: " + imageLocation.toString(), e);
-      image = new BufferedImage(1, 1, BufferedImage.TYPE_INT_RGB);
+      return null;
     }
-    imageCache.put(fileName, new SoftReference<>(image));
-    return image;
   }
 
   private static BufferedImage loadCompatibleImage(final URL resource) throws IOException {
@@ -17,6 +17,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.triplea.injection.Injections;
 import org.triplea.java.concurrency.AsyncRunner;
 import org.triplea.java.concurrency.CountUpAndDownLatch;
+import org.triplea.performance.Histogram;
+import org.triplea.performance.Metrics;
+import org.triplea.performance.Timer;
 
 /**
  * Concurrent wrapper class for the OddsCalculator. It spawns multiple worker threads and splits up
@@ -26,6 +29,8 @@ import org.triplea.java.concurrency.CountUpAndDownLatch;
 @Slf4j
 public class ConcurrentBattleCalculator implements IBattleCalculator {
   private static final int MAX_THREADS = Runtime.getRuntime().availableProcessors();
+  private static final Timer calculateTimer = Metrics.timer("battle-calculator.calculate");
+  private static final Histogram calculateRuns = Metrics.histogram("battle-calculator.runs");
 
   private final List<BattleCalculator> workers = new CopyOnWriteArrayList<>();
   // do not let calc be set up til data is set
@@ -223,6 +228,8 @@ public class ConcurrentBattleCalculator implements IBattleCalculator {
         // causing it to abort with null data
         return new AggregateResults(0);
       }
+      final long timerStart = calculateTimer.start();
+      calculateRuns.record(runCount);
       final var runCountDistributor = new RunCountDistributor(runCount, workers.size());
       final AggregateResults results =
           new AggregateResults(
@@ -243,6 +250,7 @@ public class ConcurrentBattleCalculator implements IBattleCalculator {
                   .flatMap(Collection::parallelStream)
                   .collect(Collectors.toList()));
       results.setTime(System.currentTimeMillis() - start);
+      calculateTimer.stop(timerStart);
       return results;
     }
   }
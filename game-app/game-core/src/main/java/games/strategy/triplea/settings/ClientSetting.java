@@ -59,6 +59,8 @@ public abstract class ClientSetting<T> implements GameSetting<T> {
       new IntegerClientSetting("BATTLE_CALC_SIMULATION_COUNT_DICE", 200);
   public static final ClientSetting<Integer> battleCalcSimulationCountLowLuck =
       new IntegerClientSetting("BATTLE_CALC_SIMULATION_COUNT_LOW_LUCK", 500);
+  public static final ClientSetting<Boolean> cacheDecodedMapTiles =
+      new BooleanClientSetting("CACHE_DECODED_MAP_TILES");
   public static final ClientSetting<Boolean> confirmDefensiveRolls =
       new BooleanClientSetting("CONFIRM_DEFENSIVE_ROLLS");
   public static final ClientSetting<Boolean> confirmEnemyCasualties =
@@ -170,6 +170,18 @@ enum ClientSettingSwingUiBinding implements GameSettingUiBinding<JComponent> {
     }
   },
 
+  CACHE_DECODED_MAP_TILES_BINDING(
+      "Cache Decoded Map Tiles",
+      SettingType.MAP_SCROLLING,
+      "Keeps decoded map tiles on disk so that maps load and scroll faster when played again, "
+          + "at the cost of disk space (up to 2 GB, least recently used tiles are deleted first).\n"
+          + "Takes effect when a map is next loaded") {
+    @Override
+    public SelectionComponent<JComponent> newSelectionComponent() {
+      return booleanRadioButtons(ClientSetting.cacheDecodedMapTiles);
+    }
+  },
+
   NOTIFY_ALL_UNITS_MOVED(
       "Notify When All Units Moved",
       SettingType.GAME,
@@ -106,6 +106,7 @@ public class MovePanel extends AbstractMovePanel {
   private final @Nullable Image warningImage;
   private final @Nullable Image errorImage;
   private Route routeCached = null;
+  private final ReachabilityCache reachabilityCache = new ReachabilityCache();
   private String displayText = "Combat Move";
   private MoveType moveType = MoveType.DEFAULT;
   private final UnitScroller unitScroller;
@@ -1108,13 +1109,18 @@ public class MovePanel extends AbstractMovePanel {
     // can't rely on current player being the unit owner in Edit Mode
     // look at the units being moved to determine allies and enemies
     final GamePlayer owner = getUnitOwner(selectedUnits);
-    return MoveValidator.getBestRoute(
+    return reachabilityCache.getRoute(
         start,
         end,
-        getData(),
-        owner,
         selectedUnits,
-        !GameStepPropertiesHelper.isAirborneMove(getData()));
+        () ->
+            MoveValidator.getBestRoute(
+                start,
+                end,
+                getData(),
+                owner,
+                selectedUnits,
+                !GameStepPropertiesHelper.isAirborneMove(getData())));
   }
 
   private void updateUnitsThatCanMoveOnRoute(final Collection<Unit> units, final Route route) {
@@ -1136,7 +1142,14 @@ public class MovePanel extends AbstractMovePanel {
             moveType,
             getUndoableMoves(),
             dependentUnits);
-    final var result = unitsFilter.filterUnitsThatCanMove(units);
+    final var result =
+        reachabilityCache.getMovableUnits(
+            units,
+            route,
+            nonCombat,
+            moveType,
+            dependentUnits,
+            () -> unitsFilter.filterUnitsThatCanMove(units));
     switch (result.getStatus()) {
       case NO_UNITS_CAN_MOVE:
         setStatusErrorMessage(result.getWarningOrErrorMessage().orElseThrow());
@@ -1509,6 +1522,8 @@ public class MovePanel extends AbstractMovePanel {
 
   @Override
   protected final void cleanUpSpecific() {
+    getData().removeDataChangeListener(reachabilityCache);
+    reachabilityCache.clear();
     getMap().removeMapSelectionListener(mapSelectionListener);
     getMap().removeUnitSelectionListener(unitSelectionListener);
     getMap().removeMouseOverUnitListener(mouseOverUnitListener);
@@ -1550,6 +1565,8 @@ public class MovePanel extends AbstractMovePanel {
 
   @Override
   protected final void setUpSpecific() {
+    reachabilityCache.clear();
+    getData().addDataChangeListener(reachabilityCache);
     setFirstSelectedTerritory(null);
     forced = null;
     getMap().addMapSelectionListener(mapSelectionListener);
@@ -0,0 +1,121 @@
+package games.strategy.triplea.ui.panel.move;
+
+import games.strategy.engine.data.Change;
+import games.strategy.engine.data.Route;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import games.strategy.engine.data.events.GameDataChangeListener;
+import games.strategy.triplea.delegate.AbstractMoveDelegate.MoveType;
+import games.strategy.triplea.ui.panel.move.MovableUnitsFilter.FilterOperationResult;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import javax.annotation.Nullable;
+import lombok.Value;
+
+/**
+ * Remembers the best routes and the units that can move on them while the player drags units
+ * across the map, so that moving the mouse back and forth over the same territories does not find
+ * and validate the same moves again. The cache lives for a single move: it is cleared when the move
+ * panel starts waiting for a move and whenever the game data changes, because unit moves, changes
+ * of ownership, relationships and canal control all arrive as game data changes.
+ */
+final class ReachabilityCache implements GameDataChangeListener {
+  private final Map<RouteKey, Optional<Route>> routes = new HashMap<>();
+  private final Map<FilterKey, FilterOperationResult> movableUnits = new HashMap<>();
+  // incremented on every clear, results computed before a clear are not cached
+  private long generation;
+
+  @Value
+  private static class RouteKey {
+    Territory start;
+    Territory end;
+    Set<Unit> units;
+  }
+
+  @Value
+  private static class FilterKey {
+    List<Unit> units;
+    Route route;
+    boolean nonCombat;
+    MoveType moveType;
+    Map<Unit, Set<Unit>> dependentUnits;
+  }
+
+  /** Returns the cached best route for the units, finding it with {@code routeFinder} if needed. */
+  @Nullable
+  Route getRoute(
+      final Territory start,
+      final Territory end,
+      final Collection<Unit> units,
+      final Supplier<Route> routeFinder) {
+    final RouteKey key = new RouteKey(start, end, Set.copyOf(units));
+    final long computedGeneration;
+    synchronized (this) {
+      final Optional<Route> route = routes.get(key);
+      if (route != null) {
+        return route.orElse(null);
+      }
+      computedGeneration = generation;
+    }
+    final Route route = routeFinder.get();
+    synchronized (this) {
+      if (computedGeneration == generation) {
+        routes.put(key, Optional.ofNullable(route));
+      }
+    }
+    return route;
+  }
+
+  /**
+   * Returns the cached result of filtering the units that can move on the route, filtering them
+   * with {@code unitsFilter} if needed.
+   */
+  FilterOperationResult getMovableUnits(
+      final Collection<Unit> units,
+      final Route route,
+      final boolean nonCombat,
+      final MoveType moveType,
+      final Map<Unit, Collection<Unit>> dependentUnits,
+      final Supplier<FilterOperationResult> unitsFilter) {
+    final FilterKey key =
+        new FilterKey(
+            List.copyOf(units),
+            route,
+            nonCombat,
+            moveType,
+            dependentUnits.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, e -> Set.copyOf(e.getValue()))));
+    final long computedGeneration;
+    synchronized (this) {
+      final FilterOperationResult result = movableUnits.get(key);
+      if (result != null) {
+        return result;
+      }
+      computedGeneration = generation;
+    }
+    final FilterOperationResult result = unitsFilter.get();
+    synchronized (this) {
+      if (computedGeneration == generation) {
+        movableUnits.put(key, result);
+      }
+    }
+    return result;
+  }
+
+  synchronized void clear() {
+    routes.clear();
+    movableUnits.clear();
+    generation++;
+  }
+
+  @Override
+  public void gameDataChanged(final Change change) {
+    clear();
+  }
+}
@@ -12,6 +12,7 @@ import games.strategy.engine.data.Route;
 import games.strategy.engine.data.Territory;
 import games.strategy.engine.data.Unit;
 import games.strategy.engine.data.events.GameDataChangeListener;
+import games.strategy.engine.data.events.TerritoryChanges;
 import games.strategy.engine.data.events.TerritoryListener;
 import games.strategy.triplea.Constants;
 import games.strategy.triplea.delegate.BaseEditDelegate;
@@ -56,6 +57,7 @@ import java.awt.image.BufferedImage;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
@@ -65,6 +67,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -106,26 +109,45 @@ public class MapPanel extends ImageScrollerLargeView {
   @Getter private Collection<Collection<Unit>> highlightedUnits = List.of();
   private Cursor hiddenCursor = null;
   private final MapRouteDrawer routeDrawer;
+  private final AtomicBoolean repaintScheduled = new AtomicBoolean();
+  // the last scroll position, to tell the direction of scrolling
+  private int lastScrollX;
+  private int lastScrollY;
 
   private final TerritoryListener territoryListener =
       new TerritoryListener() {
         @Override
         public void unitsChanged(final Territory territory) {
-          updateCountries(Set.of(territory));
-          SwingUtilities.invokeLater(MapPanel.this::repaint);
+          updateCountryUnits(Set.of(territory));
         }
 
         @Override
         public void ownerChanged(final Territory territory) {
           smallMapImageManager.updateTerritoryOwner(territory, gameData, uiContext.getMapData());
           updateCountries(Set.of(territory));
-          SwingUtilities.invokeLater(MapPanel.this::repaint);
         }
 
         @Override
         public void attachmentChanged(final Territory territory) {
           updateCountries(Set.of(territory));
-          SwingUtilities.invokeLater(MapPanel.this::repaint);
+        }
+
+        @Override
+        public void territoriesChanged(final TerritoryChanges changes) {
+          for (final Territory territory : changes.getOwnerChanged()) {
+            smallMapImageManager.updateTerritoryOwner(territory, gameData, uiContext.getMapData());
+          }
+          final Set<Territory> redrawn = new HashSet<>(changes.getOwnerChanged());
+          redrawn.addAll(changes.getAttachmentChanged());
+          if (!redrawn.isEmpty()) {
+            updateCountries(redrawn);
+          }
+          // a full territory update already includes the units
+          final Set<Territory> unitsChanged = new HashSet<>(changes.getUnitsChanged());
+          unitsChanged.removeAll(redrawn);
+          if (!unitsChanged.isEmpty()) {
+            updateCountryUnits(unitsChanged);
+          }
         }
       };
 
@@ -286,6 +308,7 @@ public class MapPanel extends ImageScrollerLargeView {
                   }
                 }));
     addScrollListener((x2, y2) -> SwingUtilities.invokeLater(this::repaint));
+    addScrollListener(this::prefetchTilesAhead);
     addComponentListener(
         new ComponentAdapter() {
           @Override
@@ -587,12 +610,29 @@ public class MapPanel extends ImageScrollerLargeView {
 
   public void updateCountries(final Collection<Territory> countries) {
     tileManager.updateTerritories(countries, gameData, uiContext.getMapData());
+    repaintAfterCountriesUpdate();
+  }
+
+  /**
+   * Like {@link #updateCountries(Collection)}, but only re-renders units and overlays; the cached
+   * territory backgrounds are kept.
+   */
+  private void updateCountryUnits(final Collection<Territory> countries) {
+    tileManager.updateTerritoryUnits(countries, gameData, uiContext.getMapData());
+    repaintAfterCountriesUpdate();
+  }
+
+  private void repaintAfterCountriesUpdate() {
     smallMapImageManager.update(uiContext.getMapData());
-    SwingUtilities.invokeLater(
-        () -> {
-          smallView.repaint();
-          repaint();
-        });
+    // updates arriving before the scheduled repaint has run are covered by it
+    if (repaintScheduled.compareAndSet(false, true)) {
+      SwingUtilities.invokeLater(
+          () -> {
+            repaintScheduled.set(false);
+            smallView.repaint();
+            repaint();
+          });
+    }
   }
 
   public void setGameData(final GameData data) {
@@ -790,6 +830,57 @@ public class MapPanel extends ImageScrollerLargeView {
     }
   }
 
+  /**
+   * Has the map tiles of the area one screen ahead in the scroll direction decoded in the
+   * background, nearest first, so they are ready by the time they are scrolled into view.
+   */
+  private void prefetchTilesAhead(final int x, final int y) {
+    final int dx = Integer.signum(x - lastScrollX);
+    final int dy = Integer.signum(y - lastScrollY);
+    lastScrollX = x;
+    lastScrollY = y;
+    if (dx == 0 && dy == 0) {
+      return;
+    }
+    final int width = (int) getScaledWidth();
+    final int height = (int) getScaledHeight();
+    final int tileColumns = ceilDiv((int) getImageDimensions().getWidth(), TileManager.TILE_SIZE);
+    final int tileRows = ceilDiv((int) getImageDimensions().getHeight(), TileManager.TILE_SIZE);
+    final int aheadX = x + dx * width;
+    final int aheadY = y + dy * height;
+    final List<Point> aheadTiles = new ArrayList<>();
+    for (int column = Math.floorDiv(aheadX, TileManager.TILE_SIZE);
+        column * TileManager.TILE_SIZE < aheadX + width;
+        column++) {
+      for (int row = Math.floorDiv(aheadY, TileManager.TILE_SIZE);
+          row * TileManager.TILE_SIZE < aheadY + height;
+          row++) {
+        aheadTiles.add(new Point(column, row));
+      }
+    }
+    final Point center =
+        new Point(
+            Math.floorDiv(x + width / 2, TileManager.TILE_SIZE),
+            Math.floorDiv(y + height / 2, TileManager.TILE_SIZE));
+    aheadTiles.sort(Comparator.comparingDouble(center::distanceSq));
+
+    final List<Point> tiles = new ArrayList<>();
+    for (final Point tile : aheadTiles) {
+      final int tileX =
+          uiContext.getMapData().scrollWrapX() ? Math.floorMod(tile.x, tileColumns) : tile.x;
+      final int tileY =
+          uiContext.getMapData().scrollWrapY() ? Math.floorMod(tile.y, tileRows) : tile.y;
+      if (tileX >= 0 && tileX < tileColumns && tileY >= 0 && tileY < tileRows) {
+        tiles.add(new Point(tileX, tileY));
+      }
+    }
+    uiContext.getTileImageFactory().prefetchTiles(tiles);
+  }
+
+  private static int ceilDiv(final int dividend, final int divisor) {
+    return -Math.floorDiv(-dividend, divisor);
+  }
+
   private void drawTiles(
       final Graphics2D g,
       final List<Tile> images,
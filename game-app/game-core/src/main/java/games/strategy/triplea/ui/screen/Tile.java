@@ -12,14 +12,28 @@ import java.awt.RenderingHints;
 import java.awt.geom.AffineTransform;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.PriorityQueue;
 import java.util.Queue;
 import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.Getter;
+import org.triplea.performance.Metrics;
+import org.triplea.performance.Timer;
 
-/** Responsible for rendering a single map tile. */
+/**
+ * Responsible for rendering a single map tile.
+ *
+ * <p>A tile is rendered in two layers. The background layer contains every drawable whose {@link
+ * IDrawable.DrawLevel#isBackground() level is part of the background} (base map, relief,
+ * ownership, markers, decorations and names) and is cached until one of those drawables is added
+ * or removed. The foreground (battles, units and overlays) is composited on top of the cached
+ * background each time the tile is redrawn, so unit changes do not re-rasterize the background.
+ */
 public class Tile {
+  private static final Timer drawTimer = Metrics.timer("tile.draw");
+  private static final Timer drawBackgroundTimer = Metrics.timer("tile.draw-background");
+
   private volatile boolean isDirty = true;
   private AtomicBoolean isDrawing = new AtomicBoolean(false);
 
@@ -30,6 +44,11 @@ public class Tile {
   private final Object mutex = new Object();
   private final Queue<IDrawable> contents = new PriorityQueue<>();
 
+  /** Cached rendering of the background drawables; guarded by {@link #mutex}. */
+  private Image background;
+
+  private boolean isBackgroundDirty = true;
+
   Tile(final Rectangle bounds) {
     this.bounds = bounds;
     this.image = Util.newImage(bounds.width, bounds.height, true);
@@ -42,29 +61,42 @@ public class Tile {
   /** Returns the image representing this tile, re-rendering it first if the tile is dirty. */
   public void drawImage(final GameData data, final MapData mapData) {
     if (isDirty && !isDrawing.getAndSet(true)) {
+      final long start = drawTimer.start();
       final Image backImage = Util.newImage(bounds.width, bounds.height, true);
-      final Graphics2D g = (Graphics2D) backImage.getGraphics();
-      g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
-      g.setRenderingHint(
-          RenderingHints.KEY_ALPHA_INTERPOLATION, RenderingHints.VALUE_ALPHA_INTERPOLATION_QUALITY);
-      g.setRenderingHint(
-          RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
-      g.setRenderingHint(
-          RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+      final Graphics2D g = newGraphics(backImage);
       draw(g, data, mapData);
       g.dispose();
       image = backImage;
       isDrawing.set(false);
+      drawTimer.stop(start);
     }
   }
 
+  private static Graphics2D newGraphics(final Image image) {
+    final Graphics2D g = (Graphics2D) image.getGraphics();
+    g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+    g.setRenderingHint(
+        RenderingHints.KEY_ALPHA_INTERPOLATION, RenderingHints.VALUE_ALPHA_INTERPOLATION_QUALITY);
+    g.setRenderingHint(
+        RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+    g.setRenderingHint(
+        RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+    return g;
+  }
+
   private void draw(final Graphics2D g, final GameData data, final MapData mapData) {
-    final AffineTransform original = g.getTransform();
-    // clear
-    g.setColor(Color.BLACK);
-    g.fill(new Rectangle(0, 0, bounds.width, bounds.height));
     synchronized (mutex) {
       final Queue<IDrawable> queue = new PriorityQueue<>(contents);
+      if (background == null || isBackgroundDirty) {
+        background = drawBackground(queue, data, mapData);
+        isBackgroundDirty = false;
+      } else {
+        while (!queue.isEmpty() && queue.peek().getLevel().isBackground()) {
+          queue.remove();
+        }
+      }
+      g.drawImage(background, 0, 0, null);
+      final AffineTransform original = g.getTransform();
       while (!queue.isEmpty()) {
         queue.remove().draw(bounds, data, g, mapData);
         // Make sure we don't mess up other draws
@@ -74,6 +106,29 @@ public class Tile {
     }
   }
 
+  /**
+   * Renders and removes the background drawables at the head of {@code queue}, leaving only the
+   * foreground drawables in it.
+   */
+  private Image drawBackground(
+      final Queue<IDrawable> queue, final GameData data, final MapData mapData) {
+    final long start = drawBackgroundTimer.start();
+    final Image backgroundImage = Util.newImage(bounds.width, bounds.height, true);
+    final Graphics2D g = newGraphics(backgroundImage);
+    final AffineTransform original = g.getTransform();
+    // clear
+    g.setColor(Color.BLACK);
+    g.fill(new Rectangle(0, 0, bounds.width, bounds.height));
+    while (!queue.isEmpty() && queue.peek().getLevel().isBackground()) {
+      queue.remove().draw(bounds, data, g, mapData);
+      // Make sure we don't mess up other draws
+      g.setTransform(original);
+    }
+    g.dispose();
+    drawBackgroundTimer.stop(start);
+    return backgroundImage;
+  }
+
   void addDrawables(final Collection<IDrawable> drawables) {
     drawables.forEach(this::addDrawable);
   }
@@ -82,13 +137,21 @@ public class Tile {
     synchronized (mutex) {
       contents.add(d);
       isDirty = true;
+      isBackgroundDirty |= d.getLevel().isBackground();
     }
   }
 
   void removeDrawables(final Collection<IDrawable> c) {
     synchronized (mutex) {
-      contents.removeAll(c);
-      isDirty = true;
+      final Iterator<IDrawable> iterator = contents.iterator();
+      while (iterator.hasNext()) {
+        final IDrawable d = iterator.next();
+        if (c.contains(d)) {
+          iterator.remove();
+          isDirty = true;
+          isBackgroundDirty |= d.getLevel().isBackground();
+        }
+      }
     }
   }
 
@@ -96,6 +159,7 @@ public class Tile {
     synchronized (mutex) {
       contents.clear();
       isDirty = true;
+      isBackgroundDirty = true;
     }
   }
 
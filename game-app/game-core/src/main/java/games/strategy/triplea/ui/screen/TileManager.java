@@ -61,6 +61,8 @@ public class TileManager {
   private final Map<String, IDrawable> territoryOverlays = new HashMap<>();
   private final Map<String, Set<IDrawable>> territoryDrawables = new HashMap<>();
   private final Map<String, Set<Tile>> territoryTiles = new HashMap<>();
+  private final Map<String, Set<IDrawable>> territoryForegroundDrawables = new HashMap<>();
+  private final Map<String, Set<Tile>> territoryForegroundTiles = new HashMap<>();
   private final Collection<UnitsDrawer> allUnitDrawables = new ArrayList<>();
   private final UiContext uiContext;
 
@@ -221,6 +223,28 @@ public class TileManager {
     }
   }
 
+  /**
+   * Re-renders the units, battle highlights and overlays of the specified territories. Unlike
+   * {@link #updateTerritories(Collection, GameData, MapData)}, the cached tile backgrounds (map,
+   * ownership, markers and names) are left untouched.
+   */
+  public void updateTerritoryUnits(
+      final Collection<Territory> territories, final GameData data, final MapData mapData) {
+    data.acquireReadLock();
+    try {
+      synchronized (mutex) {
+        if (territories == null) {
+          return;
+        }
+        for (final Territory territory : territories) {
+          updateTerritoryForeground(territory, data, mapData);
+        }
+      }
+    } finally {
+      data.releaseReadLock();
+    }
+  }
+
   private void updateTerritory(
       final Territory territory, final GameData data, final MapData mapData) {
     data.acquireReadLock();
@@ -234,15 +258,36 @@ public class TileManager {
     }
   }
 
+  private void updateTerritoryForeground(
+      final Territory territory, final GameData data, final MapData mapData) {
+    data.acquireReadLock();
+    try {
+      synchronized (mutex) {
+        clearDrawables(territory, territoryForegroundDrawables, territoryForegroundTiles);
+        drawTerritoryForeground(territory, mapData);
+      }
+    } finally {
+      data.releaseReadLock();
+    }
+  }
+
   private void clearTerritory(final Territory territory) {
-    if (territoryTiles.get(territory.getName()) == null) {
+    clearDrawables(territory, territoryDrawables, territoryTiles);
+    clearDrawables(territory, territoryForegroundDrawables, territoryForegroundTiles);
+  }
+
+  private void clearDrawables(
+      final Territory territory,
+      final Map<String, Set<IDrawable>> drawablesByTerritory,
+      final Map<String, Set<Tile>> tilesByTerritory) {
+    if (tilesByTerritory.get(territory.getName()) == null) {
       return;
     }
-    final Collection<IDrawable> drawables = territoryDrawables.get(territory.getName());
+    final Collection<IDrawable> drawables = drawablesByTerritory.get(territory.getName());
     if (drawables == null || drawables.isEmpty()) {
       return;
     }
-    for (final Tile tile : territoryTiles.get(territory.getName())) {
+    for (final Tile tile : tilesByTerritory.get(territory.getName())) {
       tile.removeDrawables(drawables);
     }
     allUnitDrawables.removeAll(drawables);
@@ -250,18 +295,34 @@ public class TileManager {
 
   private void drawTerritory(
       final Territory territory, final GameState data, final MapData mapData) {
+    drawTerritoryBackground(territory, data, mapData);
+    drawTerritoryForeground(territory, mapData);
+  }
+
+  /** Adds the drawables of the specified territory that change with units and overlays. */
+  private void drawTerritoryForeground(final Territory territory, final MapData mapData) {
     final Set<Tile> drawnOn = new HashSet<>();
     final Set<IDrawable> drawing = new HashSet<>();
     if (territoryOverlays.get(territory.getName()) != null) {
       drawing.add(territoryOverlays.get(territory.getName()));
     }
-    if (uiContext.getShowTerritoryEffects()) {
-      drawTerritoryEffects(territory, mapData, drawing);
-    }
     if (uiContext.getShowUnits()) {
       drawUnits(territory, mapData, drawnOn, drawing);
     }
     drawing.add(new BattleDrawable(territory.getName()));
+    addToTiles(territory, mapData, drawing, drawnOn);
+    territoryForegroundDrawables.put(territory.getName(), drawing);
+    territoryForegroundTiles.put(territory.getName(), drawnOn);
+  }
+
+  /** Adds the drawables of the specified territory that make up the cached tile backgrounds. */
+  private void drawTerritoryBackground(
+      final Territory territory, final GameState data, final MapData mapData) {
+    final Set<Tile> drawnOn = new HashSet<>();
+    final Set<IDrawable> drawing = new HashSet<>();
+    if (uiContext.getShowTerritoryEffects()) {
+      drawTerritoryEffects(territory, mapData, drawing);
+    }
     final TerritoryAttachment ta = TerritoryAttachment.get(territory);
     if (!territory.isWater()) {
       drawing.add(new LandTerritoryDrawable(territory.getName()));
@@ -294,13 +355,20 @@ public class TileManager {
     if (ta != null && (ta.getVictoryCity() != 0)) {
       drawing.add(new VcDrawable(territory));
     }
-    // add to the relevant tiles
+    addToTiles(territory, mapData, drawing, drawnOn);
+    territoryDrawables.put(territory.getName(), drawing);
+    territoryTiles.put(territory.getName(), drawnOn);
+  }
+
+  private void addToTiles(
+      final Territory territory,
+      final MapData mapData,
+      final Set<IDrawable> drawing,
+      final Set<Tile> drawnOn) {
     for (final Tile tile : getTiles(mapData.getBoundingRect(territory.getName()))) {
       drawnOn.add(tile);
       tile.addDrawables(drawing);
     }
-    territoryDrawables.put(territory.getName(), drawing);
-    territoryTiles.put(territory.getName(), drawnOn);
   }
 
   private static void drawTerritoryEffects(
@@ -564,7 +632,7 @@ public class TileManager {
           new TerritoryOverLayDrawable(color, territory.getName(), alpha, Operation.DRAW);
       territoryOverlays.put(territory.getName(), drawable);
     }
-    updateTerritory(territory, data, mapData);
+    updateTerritoryForeground(territory, data, mapData);
   }
 
   public void setTerritoryOverlayForTile(
@@ -578,7 +646,7 @@ public class TileManager {
           new TerritoryOverLayDrawable(color, territory.getName(), alpha, Operation.FILL);
       territoryOverlays.put(territory.getName(), drawable);
     }
-    updateTerritory(territory, data, mapData);
+    updateTerritoryForeground(territory, data, mapData);
   }
 
   public void setTerritoryOverlayForBorder(
@@ -588,7 +656,7 @@ public class TileManager {
           new TerritoryOverLayDrawable(color, territory.getName(), Operation.DRAW);
       territoryOverlays.put(territory.getName(), drawable);
     }
-    updateTerritory(territory, data, mapData);
+    updateTerritoryForeground(territory, data, mapData);
   }
 
   public void clearTerritoryOverlay(
@@ -596,6 +664,6 @@ public class TileManager {
     synchronized (mutex) {
       territoryOverlays.remove(territory.getName());
     }
-    updateTerritory(territory, data, mapData);
+    updateTerritoryForeground(territory, data, mapData);
   }
 }
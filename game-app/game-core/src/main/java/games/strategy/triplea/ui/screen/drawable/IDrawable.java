@@ -17,6 +17,11 @@ public interface IDrawable extends Comparable<IDrawable> {
   /**
    * Util enum to determine the drawing order of tiles. The tiles will be drawn in ascending ordinal
    * order.
+   *
+   * <p>Levels below {@link #BATTLE_HIGHLIGHT_LEVEL} make up the background of a tile. They only
+   * change with the map itself, territory ownership or territory attachments, so each tile renders
+   * them once into a cached layer and only redraws the levels above it when units or overlays
+   * change.
    */
   enum DrawLevel {
     BASE_MAP_LEVEL,
@@ -39,7 +44,12 @@ public interface IDrawable extends Comparable<IDrawable> {
 
     UNITS_LEVEL,
 
-    TERRITORY_OVERLAY_LEVEL,
+    TERRITORY_OVERLAY_LEVEL;
+
+    /** Returns true if drawables at this level are part of the cached tile background. */
+    public boolean isBackground() {
+      return ordinal() < BATTLE_HIGHLIGHT_LEVEL.ordinal();
+    }
   }
 
   /**
@@ -3,6 +3,8 @@ package org.triplea.game.server;
 import static games.strategy.engine.framework.CliProperties.LOBBY_GAME_COMMENTS;
 import static games.strategy.engine.framework.CliProperties.LOBBY_URI;
 import static games.strategy.engine.framework.CliProperties.MAP_FOLDER;
+import static games.strategy.engine.framework.CliProperties.METRICS_JSON_FILE;
+import static games.strategy.engine.framework.CliProperties.METRICS_REPORT_SECONDS;
 import static games.strategy.engine.framework.CliProperties.TRIPLEA_GAME;
 import static games.strategy.engine.framework.CliProperties.TRIPLEA_NAME;
 import static games.strategy.engine.framework.CliProperties.TRIPLEA_PORT;
@@ -32,6 +34,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.triplea.game.startup.SetupModel;
 import org.triplea.java.Interruptibles;
 import org.triplea.java.ThreadRunner;
+import org.triplea.performance.MetricsReporter;
 import org.triplea.util.ExitStatus;
 
 /** A way of hosting a game, but headless. */
@@ -278,6 +281,7 @@ public class HeadlessGameServer {
 
     ArgParser.handleCommandLineArgs(args);
     handleHeadlessGameServerArgs();
+    startMetricsReport();
     ZippedMapsExtractor.builder()
         .downloadedMapsFolder(ClientSetting.mapFolderOverride.getValueOrThrow())
         .progressIndicator(
@@ -295,6 +299,19 @@ public class HeadlessGameServer {
     }
   }
 
+  /**
+   * Logs the engine metrics every {@code triplea.metrics.reportSeconds} if that property is set,
+   * and writes them as JSON to the file {@code triplea.metrics.jsonFile} if that is set too.
+   */
+  private static void startMetricsReport() {
+    final long reportSeconds = Long.parseLong(System.getProperty(METRICS_REPORT_SECONDS, "0"));
+    if (reportSeconds > 0) {
+      MetricsReporter.startPeriodicReport(
+          reportSeconds,
+          Optional.ofNullable(System.getProperty(METRICS_JSON_FILE)).map(Path::of).orElse(null));
+    }
+  }
+
   private static void usage() {
     // TODO replace this method with the generated usage of commons-cli
     log.info(
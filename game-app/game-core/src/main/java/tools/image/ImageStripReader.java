@@ -0,0 +1,339 @@
+package tools.image;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.ColorModel;
+import java.awt.image.ComponentSampleModel;
+import java.awt.image.DataBuffer;
+import java.awt.image.DataBufferByte;
+import java.awt.image.DataBufferInt;
+import java.awt.image.MultiPixelPackedSampleModel;
+import java.awt.image.Raster;
+import java.awt.image.SampleModel;
+import java.awt.image.SinglePixelPackedSampleModel;
+import java.awt.image.WritableRaster;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Set;
+import javax.imageio.IIOException;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageTypeSpecifier;
+import javax.imageio.event.IIOReadUpdateListener;
+import javax.imageio.stream.ImageInputStream;
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Reads an image in horizontal strips, so that map images too large to be held in memory in full
+ * can be processed. Images stored row by row, like non-interlaced PNGs, are decoded once into a
+ * buffer the size of a single strip. Images stored otherwise, like interlaced ones, are read in
+ * full and then handed out in strips.
+ */
+@UtilityClass
+@Slf4j
+class ImageStripReader {
+  // formats whose readers write to the destination image through its raster only, others may
+  // expect a data buffer of a standard type
+  private static final Set<String> ROW_BY_ROW_FORMATS = Set.of("png", "gif");
+
+  /** Receives the strips of an image, top to bottom. */
+  @FunctionalInterface
+  interface StripConsumer {
+    /**
+     * Called with each strip of the image.
+     *
+     * @param strip The strip, which is not used by the reader after this call.
+     * @param y The row of the image at which the strip starts.
+     */
+    void accept(BufferedImage strip, int y) throws IOException;
+  }
+
+  /**
+   * Reads the image in strips of {@code stripHeight} rows, the last one possibly being shorter.
+   *
+   * @throws IOException If the image cannot be read, or {@code consumer} throws.
+   */
+  static void read(final Path image, final int stripHeight, final StripConsumer consumer)
+      throws IOException {
+    try {
+      if (!readRowByRow(image, stripHeight, consumer)) {
+        log.info("Image is not stored row by row, reading it in full: " + image);
+        readInFull(image, stripHeight, consumer);
+      }
+    } catch (final UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
+  private static ImageReader newReader(final ImageInputStream in, final Path image)
+      throws IOException {
+    if (in == null) {
+      throw new IOException("Cannot open image: " + image);
+    }
+    final Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+    if (!readers.hasNext()) {
+      throw new IOException("Unsupported image format: " + image);
+    }
+    final ImageReader reader = readers.next();
+    reader.setInput(in, true, true);
+    return reader;
+  }
+
+  private static void readInFull(
+      final Path image, final int stripHeight, final StripConsumer consumer) throws IOException {
+    final BufferedImage fullImage;
+    try (ImageInputStream in = ImageIO.createImageInputStream(image.toFile())) {
+      final ImageReader reader = newReader(in, image);
+      try {
+        fullImage = reader.read(0);
+      } finally {
+        reader.dispose();
+      }
+    }
+    for (int y = 0; y < fullImage.getHeight(); y += stripHeight) {
+      consumer.accept(
+          fullImage.getSubimage(
+              0, y, fullImage.getWidth(), Math.min(stripHeight, fullImage.getHeight() - y)),
+          y);
+    }
+  }
+
+  /**
+   * Decodes the image into a destination whose pixels all map to the rows of a single strip, and
+   * hands out a copy of the strip each time the reader completes its last row.
+   *
+   * @return False if the image cannot be read this way, before any strip was handed out.
+   */
+  private static boolean readRowByRow(
+      final Path image, final int stripHeight, final StripConsumer consumer) throws IOException {
+    try (ImageInputStream in = ImageIO.createImageInputStream(image.toFile())) {
+      final ImageReader reader = newReader(in, image);
+      try {
+        if (!ROW_BY_ROW_FORMATS.contains(reader.getFormatName().toLowerCase(Locale.ROOT))) {
+          return false;
+        }
+        final int width = reader.getWidth(0);
+        final int height = reader.getHeight(0);
+        final ImageTypeSpecifier imageType = reader.getImageTypes(0).next();
+        final WritableRaster strip =
+            Raster.createWritableRaster(
+                imageType.getSampleModel(width, Math.min(stripHeight, height)), null);
+        final int rowLength = getScanlineStride(strip.getSampleModel());
+        if (rowLength <= 0
+            || strip.getDataBuffer().getNumBanks() != 1
+            || strip.getDataBuffer().getSize() != rowLength * strip.getHeight()
+            || (long) rowLength * height > Integer.MAX_VALUE) {
+          return false;
+        }
+
+        final RollingDataBuffer rollingBuffer =
+            new RollingDataBuffer(strip.getDataBuffer(), rowLength * height);
+        final ColorModel colorModel = imageType.getColorModel();
+        final ImageReadParam param = reader.getDefaultReadParam();
+        param.setDestination(
+            new BufferedImage(
+                colorModel,
+                Raster.createWritableRaster(
+                    imageType.getSampleModel(width, height), rollingBuffer, null),
+                colorModel.isAlphaPremultiplied(),
+                null));
+        final StripCollector collector =
+            new StripCollector(reader, strip, rowLength, rollingBuffer, colorModel, consumer);
+        reader.addIIOReadUpdateListener(collector);
+        try {
+          reader.read(0, param);
+        } catch (final IIOException e) {
+          // readers may wrap the errors of the consumer
+          if (e.getCause() instanceof UncheckedIOException) {
+            throw (UncheckedIOException) e.getCause();
+          }
+          throw e;
+        }
+        return collector.inOrder
+            && collector.nextRow == height
+            && !rollingBuffer.accessedOutsideOfStrip;
+      } finally {
+        reader.dispose();
+      }
+    }
+  }
+
+  private static int getScanlineStride(final SampleModel sampleModel) {
+    if (sampleModel instanceof ComponentSampleModel) {
+      return ((ComponentSampleModel) sampleModel).getScanlineStride();
+    } else if (sampleModel instanceof SinglePixelPackedSampleModel) {
+      return ((SinglePixelPackedSampleModel) sampleModel).getScanlineStride();
+    } else if (sampleModel instanceof MultiPixelPackedSampleModel) {
+      return ((MultiPixelPackedSampleModel) sampleModel).getScanlineStride();
+    }
+    return -1;
+  }
+
+  /**
+   * A data buffer the size of a whole image that stores the rows of one strip only, starting at
+   * {@link #offset}. Accesses outside of the strip are dropped and recorded. Accesses go to the
+   * backing array of the strip where there is one, as this is called for every sample of the image.
+   */
+  private static final class RollingDataBuffer extends DataBuffer {
+    private final DataBuffer strip;
+    private final int stripSize;
+    private final byte[] bytes;
+    private final int[] ints;
+    private int offset;
+    private boolean accessedOutsideOfStrip;
+
+    RollingDataBuffer(final DataBuffer strip, final int size) {
+      super(strip.getDataType(), size);
+      this.strip = strip;
+      stripSize = strip.getSize();
+      bytes = strip instanceof DataBufferByte ? ((DataBufferByte) strip).getData() : null;
+      ints = strip instanceof DataBufferInt ? ((DataBufferInt) strip).getData() : null;
+    }
+
+    @Override
+    public int getElem(final int bank, final int i) {
+      final int index = i - offset;
+      if (index < 0 || index >= stripSize) {
+        accessedOutsideOfStrip = true;
+        return 0;
+      } else if (bytes != null) {
+        return bytes[index] & 0xFF;
+      } else if (ints != null) {
+        return ints[index];
+      }
+      return strip.getElem(index);
+    }
+
+    @Override
+    public void setElem(final int bank, final int i, final int val) {
+      final int index = i - offset;
+      if (index < 0 || index >= stripSize) {
+        accessedOutsideOfStrip = true;
+      } else if (bytes != null) {
+        bytes[index] = (byte) val;
+      } else if (ints != null) {
+        ints[index] = val;
+      } else {
+        strip.setElem(index, val);
+      }
+    }
+  }
+
+  /**
+   * Follows the rows completed by the reader. Aborts the read if they are not completed top to
+   * bottom one at a time, as then the rows of a strip would be overwritten before it is complete.
+   */
+  private static final class StripCollector implements IIOReadUpdateListener {
+    private final ImageReader reader;
+    private final WritableRaster strip;
+    private final int rowLength;
+    private final RollingDataBuffer rollingBuffer;
+    private final ColorModel colorModel;
+    private final StripConsumer consumer;
+    private boolean inOrder = true;
+    private int nextRow;
+    private int stripStart;
+
+    StripCollector(
+        final ImageReader reader,
+        final WritableRaster strip,
+        final int rowLength,
+        final RollingDataBuffer rollingBuffer,
+        final ColorModel colorModel,
+        final StripConsumer consumer) {
+      this.reader = reader;
+      this.strip = strip;
+      this.rowLength = rowLength;
+      this.rollingBuffer = rollingBuffer;
+      this.colorModel = colorModel;
+      this.consumer = consumer;
+    }
+
+    @Override
+    public void imageUpdate(
+        final ImageReader source,
+        final BufferedImage theImage,
+        final int minX,
+        final int minY,
+        final int width,
+        final int height,
+        final int periodX,
+        final int periodY,
+        final int[] bands) {
+      if (periodY == 1 && minY >= stripStart && minY + height <= nextRow) {
+        // more columns of rows that are already complete
+        return;
+      } else if (minY != nextRow
+          || (height > 1 && periodY != 1)
+          || rollingBuffer.accessedOutsideOfStrip) {
+        inOrder = false;
+        reader.abort();
+        return;
+      }
+      nextRow = minY + height;
+      if (nextRow - stripStart >= strip.getHeight() || nextRow == theImage.getHeight()) {
+        final int rows = nextRow - stripStart;
+        final WritableRaster stripCopy =
+            strip.createCompatibleWritableRaster(strip.getWidth(), rows);
+        stripCopy.setRect(strip.createChild(0, 0, strip.getWidth(), rows, 0, 0, null));
+        try {
+          consumer.accept(
+              new BufferedImage(colorModel, stripCopy, colorModel.isAlphaPremultiplied(), null),
+              stripStart);
+        } catch (final IOException e) {
+          throw new UncheckedIOException(e);
+        }
+        stripStart = nextRow;
+        rollingBuffer.offset = stripStart * rowLength;
+      }
+    }
+
+    @Override
+    public void passStarted(
+        final ImageReader source,
+        final BufferedImage theImage,
+        final int pass,
+        final int minPass,
+        final int maxPass,
+        final int minX,
+        final int minY,
+        final int periodX,
+        final int periodY,
+        final int[] bands) {}
+
+    @Override
+    public void passComplete(final ImageReader source, final BufferedImage theImage) {}
+
+    @Override
+    public void thumbnailPassStarted(
+        final ImageReader source,
+        final BufferedImage theThumbnail,
+        final int pass,
+        final int minPass,
+        final int maxPass,
+        final int minX,
+        final int minY,
+        final int periodX,
+        final int periodY,
+        final int[] bands) {}
+
+    @Override
+    public void thumbnailUpdate(
+        final ImageReader source,
+        final BufferedImage theThumbnail,
+        final int minX,
+        final int minY,
+        final int width,
+        final int height,
+        final int periodX,
+        final int periodY,
+        final int[] bands) {}
+
+    @Override
+    public void thumbnailPassComplete(final ImageReader source, final BufferedImage theThumbnail) {}
+  }
+}
@@ -0,0 +1,247 @@
+package tools.image;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Point;
+import java.awt.Polygon;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
+import java.awt.image.DataBufferInt;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Finds the polygons of territories on a map image with 1 pixel wide black borders. The black
+ * pixels are read from the raster data of the image once, so finding polygons does not touch the
+ * image and can be done from several threads.
+ */
+@Slf4j
+final class PolygonFinder {
+  private static final int STRIP_HEIGHT = 256;
+  private static final int MAX_OUTLINE_STEPS = 100000;
+
+  private final int width;
+  private final int height;
+  private final BitSet blackPixels;
+
+  private PolygonFinder(final BlackPixelCollector collector) {
+    width = collector.width;
+    height = collector.height;
+    blackPixels = collector.blackPixels;
+  }
+
+  /** Returns a finder for the borders of the given image. */
+  static PolygonFinder of(final BufferedImage image) {
+    final BlackPixelCollector collector = new BlackPixelCollector();
+    for (int y = 0; y < image.getHeight(); y += STRIP_HEIGHT) {
+      final int stripHeight = Math.min(STRIP_HEIGHT, image.getHeight() - y);
+      collector.accept(image.getSubimage(0, y, image.getWidth(), stripHeight), y);
+    }
+    return new PolygonFinder(collector);
+  }
+
+  /** Returns a finder for the borders of the given image file, which is read in strips. */
+  static PolygonFinder read(final Path image) throws IOException {
+    final BlackPixelCollector collector = new BlackPixelCollector();
+    ImageStripReader.read(image, STRIP_HEIGHT, collector);
+    return new PolygonFinder(collector);
+  }
+
+  /** Checks if the given coordinates are in bounds and the pixel there is black. */
+  boolean isBlack(final int x, final int y) {
+    return inBounds(x, y) && blackPixels.get(y * width + x);
+  }
+
+  private boolean inBounds(final int x, final int y) {
+    return x >= 0 && x < width && y >= 0 && y < height;
+  }
+
+  /**
+   * Finds the polygon around the given point, by walking up to the first black pixel and then
+   * following the border.
+   *
+   * @return Empty if the border cannot be followed back to where it started, which usually is due
+   *     to anti-aliasing or gaps in the border.
+   */
+  Optional<Polygon> findPolygon(final int x, final int y) {
+    // walk up, find the first black point
+    final Point startPoint = new Point(x, y);
+    while (inBounds(startPoint.x, startPoint.y - 1) && !isBlack(startPoint.x, startPoint.y)) {
+      startPoint.y--;
+    }
+    final List<Point> points = new ArrayList<>(100);
+    points.add(new Point(startPoint));
+    int currentDirection = 2;
+    Point currentPoint = new Point(startPoint);
+    int iterCount = 0;
+    while (!currentPoint.equals(startPoint) || points.size() == 1) {
+      iterCount++;
+      if (iterCount > MAX_OUTLINE_STEPS) {
+        log.info("Failed to grab the polygon at point: " + currentPoint.x + "," + currentPoint.y);
+        return Optional.empty();
+      }
+      for (int i = 2; i >= -3; i--) {
+        final int tempDirection = Math.floorMod(currentDirection + i, 8);
+        if (isOnEdge(tempDirection, currentPoint)) {
+          // if we need to change our course
+          if (i != 0) {
+            points.add(currentPoint);
+            currentPoint = new Point(currentPoint);
+            move(currentPoint, tempDirection);
+            currentDirection = tempDirection;
+          } else {
+            move(currentPoint, currentDirection);
+          }
+          break;
+        }
+      }
+    }
+    final int[] xpoints = new int[points.size()];
+    final int[] ypoints = new int[points.size()];
+    int i = 0;
+    for (final Point item : points) {
+      xpoints[i] = item.x;
+      ypoints[i] = item.y;
+      i++;
+    }
+    log.info("Done finding polygon. total points;" + xpoints.length);
+    return Optional.of(new Polygon(xpoints, ypoints, xpoints.length));
+  }
+
+  /**
+   * Moves to a specified direction. Directions 0 - North 1 - North east 2 - East 3 - South east 4
+   * - South 5 - South west 6 - West 7 - North west
+   */
+  private static void move(final Point p, final int direction) {
+    if (direction < 0 || direction > 7) {
+      throw new IllegalArgumentException("Not a direction :" + direction);
+    }
+    if (direction == 1 || direction == 2 || direction == 3) {
+      p.x++;
+    } else if (direction == 5 || direction == 6 || direction == 7) {
+      p.x--;
+    }
+    if (direction == 5 || direction == 4 || direction == 3) {
+      p.y++;
+    } else if (direction == 7 || direction == 0 || direction == 1) {
+      p.y--;
+    }
+  }
+
+  /** Checks to see if the direction we're going is on the edge. */
+  private boolean isOnEdge(final int direction, final Point currentPoint) {
+    final Point testPoint = new Point(currentPoint);
+    move(testPoint, direction);
+    return testPoint.x == 0
+        || testPoint.y == 0
+        || testPoint.y == height
+        || testPoint.x == width
+        || isBlack(testPoint.x, testPoint.y);
+  }
+
+  /** Checks if any black pixel lies inside the polygon, not counting the polygon's own outline. */
+  boolean containsBlackInside(final Polygon polygon) {
+    // contains counts the outline as inside, so its pixels are marked to be skipped, on a gray
+    // image as lines are drawn with other pixels on binary ones
+    final Rectangle bounds = polygon.getBounds();
+    final int outlineWidth = bounds.width + 1;
+    final BufferedImage outline =
+        new BufferedImage(outlineWidth, bounds.height + 1, BufferedImage.TYPE_BYTE_GRAY);
+    final Graphics2D g = outline.createGraphics();
+    g.setColor(Color.WHITE);
+    g.translate(-bounds.x, -bounds.y);
+    g.drawPolygon(polygon);
+    g.dispose();
+    final byte[] outlinePixels = ((DataBufferByte) outline.getRaster().getDataBuffer()).getData();
+    for (int x = bounds.x; x < bounds.x + bounds.width; x++) {
+      for (int y = bounds.y; y < bounds.y + bounds.height; y++) {
+        if (isBlack(x, y)
+            && outlinePixels[(y - bounds.y) * outlineWidth + x - bounds.x] == 0
+            && polygon.contains(x, y)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Finds the polygons of the territories with the given centers, in parallel. Territories are left
+   * out if the polygon found does not contain their center, or contains anything else than their
+   * center, like the center of another territory or any border, as those (often islands) need to
+   * be grabbed by hand to get all their parts.
+   */
+  Map<String, List<Polygon>> findPolygons(final Map<String, Point> centers) {
+    return centers.entrySet().parallelStream()
+        .flatMap(
+            center ->
+                findTerritoryPolygon(center.getKey(), center.getValue(), centers.values())
+                    .map(polygon -> Map.entry(center.getKey(), polygon))
+                    .stream())
+        .collect(
+            Collectors.toMap(
+                Map.Entry::getKey, territory -> new ArrayList<>(List.of(territory.getValue()))));
+  }
+
+  private Optional<Polygon> findTerritoryPolygon(
+      final String territoryName, final Point center, final Collection<Point> allCenters) {
+    log.info("Detecting Polygon for:" + territoryName);
+    return findPolygon(center.x, center.y)
+        // the polygon often misses the center when there is an island right above it, as then
+        // the island is grabbed instead
+        .filter(polygon -> polygon.contains(center))
+        .filter(
+            polygon ->
+                allCenters.stream()
+                    .noneMatch(
+                        otherCenter ->
+                            !center.equals(otherCenter) && polygon.contains(otherCenter)))
+        // some islands do not have centers on them because they are island chains that are also
+        // part of an island or territory touching a sidewall or outside of this polygon
+        .filter(polygon -> !containsBlackInside(polygon));
+  }
+
+  /**
+   * Records the black pixels of the strips of an image. Each strip is drawn onto an ARGB image
+   * first, as the map is when shown, so that pixels count as black the same no matter how the image
+   * is stored; fully transparent pixels become black this way.
+   */
+  private static final class BlackPixelCollector implements ImageStripReader.StripConsumer {
+    private final BitSet blackPixels = new BitSet();
+    private int width;
+    private int height;
+    private BufferedImage argbStrip;
+
+    @Override
+    public void accept(final BufferedImage strip, final int y) {
+      if (argbStrip == null) {
+        width = strip.getWidth();
+        argbStrip = new BufferedImage(width, strip.getHeight(), BufferedImage.TYPE_INT_ARGB);
+      }
+      final int[] pixels = ((DataBufferInt) argbStrip.getRaster().getDataBuffer()).getData();
+      Arrays.fill(pixels, 0);
+      final Graphics2D g = argbStrip.createGraphics();
+      g.drawImage(strip, 0, 0, null);
+      g.dispose();
+      for (int row = 0; row < strip.getHeight(); row++) {
+        final int rowStart = row * width;
+        for (int x = 0; x < width; x++) {
+          if ((pixels[rowStart + x] & 0x00FFFFFF) == 0) {
+            blackPixels.set((y + row) * width + x);
+          }
+        }
+      }
+      height = y + strip.getHeight();
+    }
+  }
+}
@@ -9,7 +9,6 @@ import java.awt.Graphics;
 import java.awt.Image;
 import java.awt.Point;
 import java.awt.Polygon;
-import java.awt.Rectangle;
 import java.awt.event.InputEvent;
 import java.awt.event.KeyEvent;
 import java.awt.event.MouseAdapter;
@@ -25,6 +24,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import javax.swing.Action;
 import javax.swing.JCheckBoxMenuItem;
 import javax.swing.JFrame;
@@ -39,7 +40,9 @@ import javax.swing.JTextField;
 import javax.swing.KeyStroke;
 import javax.swing.SwingUtilities;
 import lombok.extern.slf4j.Slf4j;
+import org.triplea.java.AlphanumComparator;
 import org.triplea.swing.SwingAction;
+import org.triplea.util.ExitStatus;
 import org.triplea.util.PointFileReaderWriter;
 
 /**
@@ -68,6 +71,40 @@ public final class PolygonGrabber {
     }
   }
 
+  /**
+   * Finds the polygons around the centers of a map without any dialogs, like "Auto Find Polygons"
+   * does, for map makers scripting their map builds. The arguments are the map image, which is read
+   * in strips, the centers.txt file and the polygons.txt file to write. The territories whose
+   * polygons cannot be found this way are logged, they need to be grabbed with the interactive
+   * tool.
+   */
+  public static void main(final String[] args) throws IOException {
+    if (args.length != 3) {
+      log.error("Usage: PolygonGrabber <map image> <centers.txt> <polygons.txt>");
+      ExitStatus.FAILURE.exit();
+      return;
+    }
+    final Map<String, Point> centers = PointFileReaderWriter.readOneToOne(Path.of(args[1]));
+
+    final long start = System.nanoTime();
+    final Map<String, List<Polygon>> polygons =
+        PolygonFinder.read(Path.of(args[0])).findPolygons(centers);
+    log.info(
+        "Found polygons of {} territories in {} ms",
+        polygons.size(),
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
+    PointFileReaderWriter.writeOneToManyPolygons(Path.of(args[2]), polygons);
+    final List<String> missingTerritories =
+        centers.keySet().stream()
+            .filter(territory -> !polygons.containsKey(territory))
+            .sorted(new AlphanumComparator())
+            .collect(Collectors.toList());
+    if (!missingTerritories.isEmpty()) {
+      log.info("Territories to grab by hand: " + missingTerritories);
+    }
+  }
+
   private void runInternal() throws IOException {
     mapFolderLocation = MapFolderLocationSystemProperty.read();
     log.info("Select the map");
@@ -123,8 +160,8 @@ public final class PolygonGrabber {
     private Map<String, List<Polygon>> polygons = new HashMap<>();
     // holds the centers for the polygons
     private Map<String, Point> centers;
+    private final PolygonFinder polygonFinder;
     private final JLabel location = new JLabel();
-    private final Point testPoint = new Point();
 
     /**
      * Asks user to specify a file with center points. If not program will exit. We setup the mouse
@@ -169,6 +206,7 @@ public final class PolygonGrabber {
         }
       }
       bufferedImage = newBufferedImage(mapFolder);
+      polygonFinder = PolygonFinder.of(bufferedImage);
       final JPanel imagePanel = newMainPanel();
       /*
        * Add a mouse listener to show X : Y coordinates on the lower left corner of the screen.
@@ -233,50 +271,7 @@ public final class PolygonGrabber {
                             + "to capture each part of the territory."
                             + "</html>"));
                 current = new ArrayList<>();
-                final BufferedImage imageCopy =
-                    new BufferedImage(
-                        bufferedImage.getWidth(null),
-                        bufferedImage.getHeight(null),
-                        BufferedImage.TYPE_INT_ARGB);
-                final Graphics g = imageCopy.getGraphics();
-                g.drawImage(bufferedImage, 0, 0, null);
-                for (final String territoryName : centers.keySet()) {
-                  final Point center = centers.get(territoryName);
-                  log.info("Detecting Polygon for:" + territoryName);
-                  final Polygon p = findPolygon(center.x, center.y);
-                  // test if the poly contains the center point (this often fails when there is an
-                  // island right above (because findPolygon will grab the island instead)
-                  if (p == null || !p.contains(center)) {
-                    continue;
-                  }
-                  // test if this poly contains any other centers, and if so do not do this one. let
-                  // the user manually do it to make sure it gets done properly
-                  boolean hasIslands = false;
-                  for (final Point otherCenterPoint : centers.values()) {
-                    if (center.equals(otherCenterPoint)) {
-                      continue;
-                    }
-                    if (p.contains(otherCenterPoint)) {
-                      hasIslands = true;
-                      break;
-                    }
-                  }
-                  if (hasIslands) {
-                    continue;
-                  }
-                  // some islands do not have centers on them because they are island chains that
-                  // are also part of an island or
-                  // territory touching a sidewall or outside of this polygon. we should still skip
-                  // them.
-                  if (doesPolygonContainAnyBlackInside(p, imageCopy, g)) {
-                    continue;
-                  }
-                  final List<Polygon> polys = new ArrayList<>();
-                  polys.add(p);
-                  polygons.put(territoryName, polys);
-                }
-                g.dispose();
-                imageCopy.flush();
+                polygons.putAll(polygonFinder.findPolygons(centers));
                 repaint();
               });
       autoAction.putValue(Action.SHORT_DESCRIPTION, "Autodetect Polygons around Centers");
@@ -476,155 +471,27 @@ public final class PolygonGrabber {
       }
     }
 
-    /** Checks to see if the given point is of color black. */
-    private boolean isBlack(final Point p) {
-      return isBlack(p.x, p.y);
-    }
-
-    /**
-     * Checks to see if the x/y coordinates from a given point are inbounds and if so is it black.
-     */
-    private boolean isBlack(final int x, final int y) {
-      if (!inBounds(x, y)) {
-        // not inbounds, can't be black
-        return false;
-      }
-      // gets ARGB integer value and we LOGICAL AND mask it
-      // with ARGB value of 00,FF,FF,FF to determine if it black or not.
-      // maybe here ?
-      return (bufferedImage.getRGB(x, y) & 0x00FFFFFF) == 0;
-    }
-
-    private boolean isBlack(final int x, final int y, final BufferedImage bufferedImage) {
-      if (!inBounds(x, y, bufferedImage)) {
-        // not inbounds, can't be black
-        return false;
-      }
-      // gets ARGB integer value and we LOGICAL AND mask it
-      // with ARGB value of 00,FF,FF,FF to determine if it black or not.
-      // maybe here ?
-      return (bufferedImage.getRGB(x, y) & 0x00FFFFFF) == 0;
-    }
-
-    /** Checks if the given x/y coordinate point is inbounds or not. */
-    private boolean inBounds(final int x, final int y) {
-      return x >= 0
-          && x < bufferedImage.getWidth(null)
-          && y >= 0
-          && y < bufferedImage.getHeight(null);
-    }
-
-    private boolean inBounds(final int x, final int y, final Image image) {
-      return x >= 0 && x < image.getWidth(null) && y >= 0 && y < image.getHeight(null);
-    }
-
     /**
-     * Moves to a specified direction. Directions 0 - North 1 - North east 2 - East 3 - South east 4
-     * - South 5 - South west 6 - West 7 - North west
+     * Finds the polygon around the given point, telling the user if there is none.
+     *
+     * @return The found polygon or null if there is none.
      */
-    private void move(final Point p, final int direction) {
-      if (direction < 0 || direction > 7) {
-        throw new IllegalArgumentException("Not a direction :" + direction);
-      }
-      if (direction == 1 || direction == 2 || direction == 3) {
-        p.x++;
-      } else if (direction == 5 || direction == 6 || direction == 7) {
-        p.x--;
-      }
-      if (direction == 5 || direction == 4 || direction == 3) {
-        p.y++;
-      } else if (direction == 7 || direction == 0 || direction == 1) {
-        p.y--;
-      }
-    }
-
-    /** Checks to see if the direction we're going is on the edge. */
-    private boolean isOnEdge(final int direction, final Point currentPoint) {
-      testPoint.setLocation(currentPoint);
-      move(testPoint, direction);
-      return testPoint.x == 0
-          || testPoint.y == 0
-          || testPoint.y == bufferedImage.getHeight(this)
-          || testPoint.x == bufferedImage.getWidth(this)
-          || isBlack(testPoint);
-    }
-
-    private boolean doesPolygonContainAnyBlackInside(
-        final Polygon poly, final BufferedImage imageCopy, final Graphics imageCopyGraphics) {
-      // we would like to just test if each point is both black and contained within the polygon,
-      // but contains counts
-      // the borders, so we have to turn the border edges a different color (then later back to
-      // black again) using a
-      // copy of the image
-      imageCopyGraphics.setColor(Color.GREEN);
-      imageCopyGraphics.drawPolygon(poly.xpoints, poly.ypoints, poly.npoints);
-      final Rectangle rect = poly.getBounds();
-      for (int x = rect.x; x < rect.x + rect.width; x++) {
-        for (int y = rect.y; y < rect.y + rect.height; y++) {
-          if (isBlack(x, y, imageCopy) && poly.contains(new Point(x, y))) {
-            imageCopyGraphics.setColor(Color.BLACK);
-            imageCopyGraphics.drawPolygon(poly.xpoints, poly.ypoints, poly.npoints);
-            return true;
-          }
-        }
-      }
-      imageCopyGraphics.setColor(Color.BLACK);
-      imageCopyGraphics.drawPolygon(poly.xpoints, poly.ypoints, poly.npoints);
-      return false;
-    }
-
-    /** Algorithm to find a polygon given a x/y coordinates and returns the found polygon. */
     private Polygon findPolygon(final int x, final int y) {
-      // walk up, find the first black point
-      final Point startPoint = new Point(x, y);
-      while (inBounds(startPoint.x, startPoint.y - 1) && !isBlack(startPoint.x, startPoint.y)) {
-        startPoint.y--;
-      }
-      final List<Point> points = new ArrayList<>(100);
-      points.add(new Point(startPoint));
-      int currentDirection = 2;
-      Point currentPoint = new Point(startPoint);
-      int iterCount = 0;
-      while (!currentPoint.equals(startPoint) || points.size() == 1) {
-        iterCount++;
-        if (iterCount > 100000) {
-          JOptionPane.showMessageDialog(
-              this,
-              "Failed to grab the polygon. Failed at point: "
-                  + currentPoint.getX()
-                  + ","
-                  + currentPoint.getY()
-                  + "\r\n"
-                  + "Note that this is a common error and can usually be fixed by 'smoothing out' "
-                  + "the territory border and removing any anti-aliasing.");
-          return null;
-        }
-        for (int i = 2; i >= -3; i--) {
-          final int tempDirection = Math.floorMod(currentDirection + i, 8);
-          if (isOnEdge(tempDirection, currentPoint)) {
-            // if we need to change our course
-            if (i != 0) {
-              points.add(currentPoint);
-              currentPoint = new Point(currentPoint);
-              move(currentPoint, tempDirection);
-              currentDirection = tempDirection;
-            } else {
-              move(currentPoint, currentDirection);
-            }
-            break;
-          }
-        }
-      }
-      final int[] xpoints = new int[points.size()];
-      final int[] ypoints = new int[points.size()];
-      int i = 0;
-      for (final Point item : points) {
-        xpoints[i] = item.x;
-        ypoints[i] = item.y;
-        i++;
-      }
-      log.info("Done finding polygon. total points;" + xpoints.length);
-      return new Polygon(xpoints, ypoints, xpoints.length);
+      return polygonFinder
+          .findPolygon(x, y)
+          .orElseGet(
+              () -> {
+                JOptionPane.showMessageDialog(
+                    this,
+                    "Failed to grab the polygon around point: "
+                        + x
+                        + ","
+                        + y
+                        + "\r\n"
+                        + "Note that this is a common error and can usually be fixed by "
+                        + "'smoothing out' the territory border and removing any anti-aliasing.");
+                return null;
+              });
     }
   }
 }
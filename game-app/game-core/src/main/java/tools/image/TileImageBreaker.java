@@ -3,24 +3,30 @@ package tools.image;
 import static com.google.common.base.Preconditions.checkState;
 import static games.strategy.triplea.ui.screen.TileManager.TILE_SIZE;
 
-import java.awt.GraphicsConfiguration;
-import java.awt.GraphicsEnvironment;
-import java.awt.Image;
-import java.awt.MediaTracker;
-import java.awt.Panel;
-import java.awt.Rectangle;
-import java.awt.Toolkit;
-import java.awt.Transparency;
+import com.google.common.base.Throwables;
+import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
-import java.io.File;
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import javax.imageio.ImageIO;
-import javax.swing.JFrame;
 import javax.swing.JLabel;
 import javax.swing.JOptionPane;
 import javax.swing.SwingUtilities;
 import lombok.extern.slf4j.Slf4j;
+import org.triplea.java.ThreadRunner;
+import org.triplea.util.ExitStatus;
 
 /**
  * Utility for breaking an image into separate smaller images. User must make a new directory called
@@ -31,7 +37,6 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public final class TileImageBreaker {
   private Path location = null;
-  private final JFrame observer = new JFrame();
   private Path mapFolderLocation = null;
   private final JTextAreaOptionPane textOptionPane =
       new JTextAreaOptionPane(
@@ -55,14 +60,10 @@ public final class TileImageBreaker {
   public static void run() {
     checkState(SwingUtilities.isEventDispatchThread());
 
-    try {
-      new TileImageBreaker().runInternal();
-    } catch (final IOException e) {
-      log.error("failed to run tile image breaker", e);
-    }
+    new TileImageBreaker().runInternal();
   }
 
-  private void runInternal() throws IOException {
+  private void runInternal() {
     mapFolderLocation = MapFolderLocationSystemProperty.read();
     JOptionPane.showMessageDialog(
         null,
@@ -93,11 +94,13 @@ public final class TileImageBreaker {
 
   /**
    * One of the main methods that is used to create the actual maps. Calls on various methods to get
-   * user input and create the maps.
+   * user input and create the maps. The tiles are written on a background thread, listing each
+   * tile written.
    */
-  private void createMaps() throws IOException {
+  private void createMaps() {
     // ask user to input image location
-    final Image map = loadImage();
+    log.info("Select the map");
+    final Path map = new FileOpen("Select The Map", mapFolderLocation, ".gif", ".png").getFile();
     if (map == null) {
       log.info("You need to select a map image for this to work");
       log.info("Shutting down");
@@ -105,63 +108,119 @@ public final class TileImageBreaker {
     }
 
     textOptionPane.show();
-    for (int x = 0; x * TILE_SIZE < map.getWidth(null); x++) {
-      for (int y = 0; y * TILE_SIZE < map.getHeight(null); y++) {
-        final Rectangle bounds = new Rectangle(x * TILE_SIZE, y * TILE_SIZE, TILE_SIZE, TILE_SIZE);
-        final GraphicsConfiguration localGraphicSystem =
-            GraphicsEnvironment.getLocalGraphicsEnvironment()
-                .getDefaultScreenDevice()
-                .getDefaultConfiguration();
-        final BufferedImage relief =
-            localGraphicSystem.createCompatibleImage(
-                TILE_SIZE, TILE_SIZE, Transparency.TRANSLUCENT);
-        relief
-            .getGraphics()
-            .drawImage(
+    ThreadRunner.runInNewThread(
+        () -> {
+          try {
+            breakIntoTiles(
                 map,
-                0,
-                0,
-                TILE_SIZE,
-                TILE_SIZE,
-                bounds.x,
-                bounds.y,
-                bounds.x + TILE_SIZE,
-                bounds.y + TILE_SIZE,
-                observer);
+                location,
+                tile ->
+                    SwingUtilities.invokeLater(
+                        () -> textOptionPane.appendNewLine("wrote " + tile)));
+          } catch (final IOException e) {
+            log.error("failed to break map into tiles", e);
+          }
+          SwingUtilities.invokeLater(
+              () -> {
+                textOptionPane.appendNewLine("\r\nAll Finished!");
+                textOptionPane.countDown();
+                textOptionPane.dispose();
+                JOptionPane.showMessageDialog(null, new JLabel("All Finished"));
+              });
+        });
+  }
+
+  /**
+   * Breaks the image into square tiles of {@code TILE_SIZE} pixels, written as {@code
+   * <x>_<y>.png} to {@code tileFolder}. The image is read in strips one tile high and the tiles of
+   * a strip are encoded in parallel, so memory use depends on the width of the image only.
+   *
+   * @param tileWritten Called with each tile written, from the threads writing the tiles.
+   * @return The number of tiles written.
+   * @throws IOException If the image cannot be read or a tile cannot be written.
+   */
+  public static int breakIntoTiles(
+      final Path image, final Path tileFolder, final Consumer<Path> tileWritten)
+      throws IOException {
+    final ExecutorService executorService =
+        Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+    try {
+      final List<Future<?>> tilesOfPreviousStrip = new ArrayList<>();
+      final AtomicInteger tileCount = new AtomicInteger();
+      ImageStripReader.read(
+          image,
+          TILE_SIZE,
+          (strip, y) -> {
+            final List<Future<?>> tilesOfStrip = new ArrayList<>();
+            for (int x = 0; x < strip.getWidth(); x += TILE_SIZE) {
+              final int tileX = x;
+              final Path tile =
+                  tileFolder.resolve((x / TILE_SIZE) + "_" + (y / TILE_SIZE) + ".png");
+              tilesOfStrip.add(
+                  executorService.submit(
+                      () -> {
+                        writeTile(strip, tileX, tile);
+                        tileCount.incrementAndGet();
+                        tileWritten.accept(tile);
+                        return null;
+                      }));
+            }
+            // at most two strips are held in memory, one being read and one being written
+            awaitAll(tilesOfPreviousStrip);
+            tilesOfPreviousStrip.clear();
+            tilesOfPreviousStrip.addAll(tilesOfStrip);
+          });
+      awaitAll(tilesOfPreviousStrip);
+      return tileCount.get();
+    } finally {
+      executorService.shutdownNow();
+    }
+  }
 
-        final String outFileName = location + File.separator + x + "_" + y + ".png";
+  private static void writeTile(final BufferedImage strip, final int x, final Path tile)
+      throws IOException {
+    final BufferedImage tileImage =
+        new BufferedImage(TILE_SIZE, TILE_SIZE, BufferedImage.TYPE_INT_ARGB);
+    final Graphics2D g = tileImage.createGraphics();
+    g.drawImage(strip, -x, 0, null);
+    g.dispose();
+    ImageIO.write(tileImage, "png", tile.toFile());
+  }
 
-        ImageIO.write(relief, "png", new File(outFileName));
-        textOptionPane.appendNewLine("wrote " + outFileName);
+  private static void awaitAll(final Collection<Future<?>> futures) throws IOException {
+    try {
+      for (final Future<?> future : futures) {
+        future.get();
       }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("interrupted while writing tiles");
+    } catch (final ExecutionException e) {
+      Throwables.throwIfInstanceOf(e.getCause(), IOException.class);
+      Throwables.throwIfUnchecked(e.getCause());
+      throw new IOException(e.getCause());
     }
-    textOptionPane.appendNewLine("\r\nAll Finished!");
-    textOptionPane.countDown();
-    textOptionPane.dispose();
-    JOptionPane.showMessageDialog(null, new JLabel("All Finished"));
   }
 
   /**
-   * Asks the user to select an image and then it loads it up into an Image object and returns it to
-   * the calling class.
-   *
-   * @return The loaded image.
+   * Breaks a map image into tiles without any dialogs, for map makers scripting their map builds.
+   * The first argument is the map image, the second one the folder to write the tiles to, which is
+   * created if needed.
    */
-  private Image loadImage() {
-    log.info("Select the map");
-    final Path mapName =
-        new FileOpen("Select The Map", mapFolderLocation, ".gif", ".png").getFile();
-    if (mapName != null) {
-      final Image img = Toolkit.getDefaultToolkit().createImage(mapName.toString());
-      final MediaTracker tracker = new MediaTracker(new Panel());
-      tracker.addImage(img, 1);
-      try {
-        tracker.waitForAll();
-        return img;
-      } catch (final InterruptedException e) {
-        Thread.currentThread().interrupt();
-      }
+  public static void main(final String[] args) throws IOException {
+    if (args.length != 2) {
+      log.error("Usage: TileImageBreaker <map image> <tile folder>");
+      ExitStatus.FAILURE.exit();
+      return;
     }
-    return null;
+    final Path tileFolder = Files.createDirectories(Path.of(args[1]));
+
+    final long start = System.nanoTime();
+    final int tileCount = breakIntoTiles(Path.of(args[0]), tileFolder, tile -> {});
+    log.info(
+        "Wrote {} tiles to {} in {} ms",
+        tileCount,
+        tileFolder,
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
   }
 }
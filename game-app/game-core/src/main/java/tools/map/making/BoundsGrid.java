@@ -0,0 +1,59 @@
+package tools.map.making;
+
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongConsumer;
+
+/**
+ * A uniform grid of square cells over a set of rectangles. Finds the rectangles that may intersect
+ * a given one by looking only at the cells it covers, instead of testing every rectangle.
+ */
+final class BoundsGrid {
+  private final int cellSize;
+  private final Map<Long, List<Integer>> cells = new HashMap<>();
+  private int size = 0;
+
+  BoundsGrid(final int cellSize) {
+    this.cellSize = Math.max(1, cellSize);
+  }
+
+  /** Adds the given rectangle and returns its id, the ids are assigned in order from 0. */
+  int add(final Rectangle bounds) {
+    final int id = size++;
+    forEachCell(bounds, cell -> cells.computeIfAbsent(cell, key -> new ArrayList<>()).add(id));
+    return id;
+  }
+
+  /**
+   * Returns the ids of the rectangles that share a cell with the given one, a superset of the ids
+   * of the rectangles intersecting it.
+   */
+  BitSet findCandidates(final Rectangle bounds) {
+    final BitSet candidates = new BitSet(size);
+    forEachCell(
+        bounds,
+        cell -> {
+          final List<Integer> ids = cells.get(cell);
+          if (ids != null) {
+            ids.forEach(candidates::set);
+          }
+        });
+    return candidates;
+  }
+
+  private void forEachCell(final Rectangle bounds, final LongConsumer action) {
+    final int minX = Math.floorDiv(bounds.x, cellSize);
+    final int minY = Math.floorDiv(bounds.y, cellSize);
+    final int maxX = Math.floorDiv(bounds.x + bounds.width, cellSize);
+    final int maxY = Math.floorDiv(bounds.y + bounds.height, cellSize);
+    for (int x = minX; x <= maxX; x++) {
+      for (int y = minY; y <= maxY; y++) {
+        action.accept(((long) x << 32) | (y & 0xFFFFFFFFL));
+      }
+    }
+  }
+}
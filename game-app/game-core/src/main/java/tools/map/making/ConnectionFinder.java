@@ -5,6 +5,7 @@ import static com.google.common.base.Preconditions.checkState;
 import games.strategy.ui.Util;
 import java.awt.Dimension;
 import java.awt.Polygon;
+import java.awt.Rectangle;
 import java.awt.Shape;
 import java.awt.geom.AffineTransform;
 import java.awt.geom.Area;
@@ -16,13 +17,14 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.BitSet;
 import java.util.HashMap;
-import java.util.LinkedHashSet;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -31,6 +33,7 @@ import javax.swing.JOptionPane;
 import javax.swing.SwingUtilities;
 import lombok.extern.slf4j.Slf4j;
 import org.triplea.java.AlphanumComparator;
+import org.triplea.util.ExitStatus;
 import org.triplea.util.PointFileReaderWriter;
 import tools.image.FileOpen;
 import tools.image.FileSave;
@@ -105,14 +108,9 @@ public final class ConnectionFinder {
     if (mapFolderLocation == null) {
       mapFolderLocation = polyFile.getParent();
     }
-    final Map<String, List<Area>> territoryAreas = new HashMap<>();
     final Map<String, List<Polygon>> mapOfPolygons;
     try {
       mapOfPolygons = PointFileReaderWriter.readOneToManyPolygons(polyFile);
-      for (final Entry<String, List<Polygon>> entry : mapOfPolygons.entrySet()) {
-        territoryAreas.put(
-            entry.getKey(), entry.getValue().stream().map(Area::new).collect(Collectors.toList()));
-      }
     } catch (final IOException e) {
       log.error("Failed to load polygons: " + polyFile.toAbsolutePath(), e);
       return;
@@ -169,36 +167,8 @@ public final class ConnectionFinder {
     // future)
     final List<String> allTerritories = new ArrayList<>(mapOfPolygons.keySet());
     allTerritories.sort(new AlphanumComparator());
-    final List<String> allAreas = new ArrayList<>(territoryAreas.keySet());
-    allAreas.sort(new AlphanumComparator());
-    final Map<String, Collection<String>> connections = new HashMap<>();
-    for (final String territory : allTerritories) {
-      final Set<String> thisTerritoryConnections = new LinkedHashSet<>();
-      final List<Polygon> currentPolygons = mapOfPolygons.get(territory);
-      for (final Polygon currentPolygon : currentPolygons) {
-        final Shape scaledShape = scale(currentPolygon, scalePixels);
-        for (final String otherTerritory : allAreas) {
-          if (otherTerritory.equals(territory)) {
-            continue;
-          }
-          if (thisTerritoryConnections.contains(otherTerritory)) {
-            continue;
-          }
-          if (connections.get(otherTerritory) != null
-              && connections.get(otherTerritory).contains(territory)) {
-            continue;
-          }
-          for (final Area otherArea : territoryAreas.get(otherTerritory)) {
-            final Area testArea = new Area(scaledShape);
-            testArea.intersect(otherArea);
-            if (!testArea.isEmpty() && sizeOfArea(testArea) > minOverlap) {
-              thisTerritoryConnections.add(otherTerritory);
-            }
-          }
-        }
-        connections.put(territory, thisTerritoryConnections);
-      }
-    }
+    final Map<String, List<String>> connections =
+        findConnections(mapOfPolygons, scalePixels, minOverlap);
     if (JOptionPane.showConfirmDialog(
             null,
             "Do you also want to create the Territory Definitions?",
@@ -241,6 +211,192 @@ public final class ConnectionFinder {
     }
   }
 
+  /**
+   * Finds the connections of a polygons.txt file without any dialogs, for map makers iterating on
+   * their polygons and for checking maps in builds. The first argument is the polygons.txt file,
+   * the optional second one the file to write the connections to instead of logging them. The
+   * sizes are read from the same system properties as the interactive tool, e.g. {@code
+   * -Dtriplea.map.lineThickness=2}. Exits with a failure status if a territory has no connections.
+   */
+  public static void main(final String[] args) throws IOException {
+    if (args.length < 1 || args.length > 2) {
+      log.error("Usage: ConnectionFinder <polygons.txt> [<connections.txt>]");
+      ExitStatus.FAILURE.exit();
+      return;
+    }
+    final ConnectionFinder connectionFinder = new ConnectionFinder();
+    connectionFinder.handleSystemProperties();
+    final Map<String, List<Polygon>> polygons =
+        PointFileReaderWriter.readOneToManyPolygons(Path.of(args[0]));
+
+    final long start = System.nanoTime();
+    final Map<String, List<String>> connections =
+        findConnections(polygons, connectionFinder.scalePixels, connectionFinder.minOverlap);
+    log.info(
+        "Found connections of {} territories in {} ms",
+        polygons.size(),
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
+    final String connectionsString = convertToXml(connections).toString();
+    if (args.length == 2) {
+      Files.writeString(Path.of(args[1]), connectionsString);
+    } else {
+      log.info(connectionsString);
+    }
+    final List<String> unconnectedTerritories = findUnconnectedTerritories(connections);
+    if (!unconnectedTerritories.isEmpty()) {
+      log.error("Territories without connections: " + unconnectedTerritories);
+      ExitStatus.FAILURE.exit();
+    }
+  }
+
+  private static List<String> findUnconnectedTerritories(
+      final Map<String, List<String>> connections) {
+    final Set<String> connectedTerritories = new HashSet<>();
+    connections.forEach(
+        (territory, otherTerritories) -> {
+          if (!otherTerritories.isEmpty()) {
+            connectedTerritories.add(territory);
+            connectedTerritories.addAll(otherTerritories);
+          }
+        });
+    return connections.keySet().stream()
+        .filter(territory -> !connectedTerritories.contains(territory))
+        .sorted(new AlphanumComparator())
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Finds the territories whose polygons, enlarged by {@code scalePixels}, overlap the polygons of
+   * another territory with a bounding box larger than {@code minOverlap} pixels. Each connection is
+   * listed once, under the territory that comes first in alphanumeric order unless only the
+   * enlarged polygons of the other territory overlap.
+   *
+   * <p>Only the polygons whose bounding boxes overlap enough are compared, as found with a grid
+   * over all bounding boxes, and the territory pairs are compared in parallel.
+   *
+   * @return the connected territories of every territory in alphanumeric order
+   */
+  public static Map<String, List<String>> findConnections(
+      final Map<String, List<Polygon>> polygons, final int scalePixels, final double minOverlap) {
+    final List<String> territories = new ArrayList<>(polygons.keySet());
+    territories.sort(new AlphanumComparator());
+    final List<Outline> outlines = new ArrayList<>();
+    for (int i = 0; i < territories.size(); i++) {
+      for (final Polygon polygon : polygons.get(territories.get(i))) {
+        outlines.add(new Outline(i, polygon, scale(polygon, scalePixels)));
+      }
+    }
+
+    // broad phase: find the polygons whose bounding boxes overlap enough to be connected, grouped
+    // by territory pair
+    final BoundsGrid grid = new BoundsGrid(medianSize(outlines));
+    outlines.forEach(outline -> grid.add(outline.bounds));
+    final Map<Long, TerritoryPair> candidates = new HashMap<>();
+    for (int i = 0; i < outlines.size(); i++) {
+      final Outline outline = outlines.get(i);
+      final BitSet others = grid.findCandidates(outline.scaledBounds);
+      for (int j = others.nextSetBit(0); j >= 0; j = others.nextSetBit(j + 1)) {
+        final Outline other = outlines.get(j);
+        if (outline.territory != other.territory
+            && sizeOfArea(outline.scaledBounds.intersection(other.bounds)) > minOverlap) {
+          final int first = Math.min(outline.territory, other.territory);
+          final int second = Math.max(outline.territory, other.territory);
+          candidates
+              .computeIfAbsent(
+                  (long) first * territories.size() + second,
+                  key -> new TerritoryPair(first, second))
+              .add(outline, other);
+        }
+      }
+    }
+
+    // narrow phase: compare the actual shapes
+    final Map<String, List<String>> connections = new HashMap<>();
+    territories.forEach(territory -> connections.put(territory, new ArrayList<>()));
+    final List<int[]> connectedPairs =
+        candidates.values().parallelStream()
+            .map(pair -> pair.findConnection(minOverlap))
+            .flatMap(Optional::stream)
+            .collect(Collectors.toList());
+    for (final int[] connection : connectedPairs) {
+      connections.get(territories.get(connection[0])).add(territories.get(connection[1]));
+    }
+    connections.values().forEach(connected -> connected.sort(new AlphanumComparator()));
+    return connections;
+  }
+
+  private static int medianSize(final List<Outline> outlines) {
+    if (outlines.isEmpty()) {
+      return 1;
+    }
+    final int[] sizes =
+        outlines.stream()
+            .mapToInt(outline -> Math.max(outline.bounds.width, outline.bounds.height))
+            .sorted()
+            .toArray();
+    return sizes[sizes.length / 2];
+  }
+
+  /** A polygon of a territory with its area and its enlarged shape. */
+  private static final class Outline {
+    private final int territory;
+    private final Area area;
+    private final Rectangle bounds;
+    private final Shape scaledShape;
+    private final Rectangle scaledBounds;
+
+    Outline(final int territory, final Polygon polygon, final Shape scaledShape) {
+      this.territory = territory;
+      area = new Area(polygon);
+      bounds = area.getBounds();
+      this.scaledShape = scaledShape;
+      scaledBounds = scaledShape.getBounds();
+    }
+
+    boolean overlaps(final Outline other, final double minOverlap) {
+      final Area testArea = new Area(scaledShape);
+      testArea.intersect(other.area);
+      return !testArea.isEmpty() && sizeOfArea(testArea.getBounds()) > minOverlap;
+    }
+  }
+
+  /** Two territories whose polygons might be connected, the first one in alphanumeric order. */
+  private static final class TerritoryPair {
+    private final int first;
+    private final int second;
+    /** The enlarged polygons of the first territory and the polygons of the second they touch. */
+    private final List<Outline[]> fromFirst = new ArrayList<>();
+    /** The enlarged polygons of the second territory and the polygons of the first they touch. */
+    private final List<Outline[]> fromSecond = new ArrayList<>();
+
+    TerritoryPair(final int first, final int second) {
+      this.first = first;
+      this.second = second;
+    }
+
+    void add(final Outline scaled, final Outline other) {
+      (scaled.territory == first ? fromFirst : fromSecond).add(new Outline[] {scaled, other});
+    }
+
+    /**
+     * Returns the territory the connection is listed under and the connected territory, if they
+     * are connected.
+     */
+    Optional<int[]> findConnection(final double minOverlap) {
+      if (anyOverlaps(fromFirst, minOverlap)) {
+        return Optional.of(new int[] {first, second});
+      } else if (anyOverlaps(fromSecond, minOverlap)) {
+        return Optional.of(new int[] {second, first});
+      }
+      return Optional.empty();
+    }
+
+    private static boolean anyOverlaps(final List<Outline[]> outlines, final double minOverlap) {
+      return outlines.stream().anyMatch(pair -> pair[0].overlaps(pair[1], minOverlap));
+    }
+  }
+
   /**
    * Creates the xml territory definitions.
    *
@@ -275,7 +431,7 @@ public final class ConnectionFinder {
    * @param connections a map of connections between Territories
    * @return a StringBuilder containing XML representing these connections
    */
-  private static StringBuilder convertToXml(final Map<String, Collection<String>> connections) {
+  private static StringBuilder convertToXml(final Map<String, List<String>> connections) {
     final StringBuilder output = new StringBuilder();
     output.append("<!-- Territory Connections -->\r\n");
     // sort for pretty xml's
@@ -295,14 +451,14 @@ public final class ConnectionFinder {
   }
 
   /**
-   * Returns the size of the area of the bounding box of the polygon.
+   * Returns the size of the area of a bounding box.
    *
-   * @param area the area of which the boundingbox size is measured
-   * @return the size of the area of the boundingbox of this area
+   * @param bounds the bounding box of which the size is measured, empty if its width or height is
+   *     negative
+   * @return the size of the area of the bounding box
    */
-  private static double sizeOfArea(final Area area) {
-    final Dimension d = area.getBounds().getSize();
-    return d.getHeight() * d.getWidth();
+  private static double sizeOfArea(final Rectangle bounds) {
+    return bounds.isEmpty() ? 0 : bounds.getHeight() * bounds.getWidth();
   }
 
   /**
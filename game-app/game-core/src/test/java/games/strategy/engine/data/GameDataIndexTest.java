@@ -0,0 +1,161 @@
+package games.strategy.engine.data;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+import games.strategy.engine.data.changefactory.ChangeFactory;
+import games.strategy.triplea.Constants;
+import games.strategy.triplea.delegate.Matches;
+import games.strategy.triplea.xml.TestMapGameData;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.triplea.java.collections.CollectionUtils;
+import org.triplea.java.collections.IntegerMap;
+
+class GameDataIndexTest {
+  private final GameData gameData = TestMapGameData.TEST.getGameData();
+  private final GameMap map = gameData.getMap();
+  private final Territory canada = map.getTerritory("canada");
+  private final Territory us = map.getTerritory("us");
+  private final GamePlayer chretian = gameData.getPlayerList().getPlayerId("chretian");
+  private final GamePlayer bush = gameData.getPlayerList().getPlayerId("bush");
+  private final UnitType infantry =
+      gameData.getUnitTypeList().getUnitType(Constants.UNIT_TYPE_INF);
+
+  @BeforeEach
+  void buildIndex() {
+    gameData.getIndex();
+  }
+
+  private void assertIndexMatchesFullScan() {
+    for (final GamePlayer player : List.of(chretian, bush, GamePlayer.NULL_PLAYERID)) {
+      assertThat(
+          map.getTerritoriesOwnedBy(player),
+          is(CollectionUtils.getMatches(map.getTerritories(), Matches.isTerritoryOwnedBy(player))));
+      assertThat(
+          map.getTerritoriesWithUnitsOwnedBy(player),
+          is(
+              CollectionUtils.getMatches(
+                  map.getTerritories(), Matches.territoryHasUnitsOwnedBy(player))));
+      final IntegerMap<UnitType> unitCounts = new IntegerMap<>();
+      for (final Territory territory : map.getTerritories()) {
+        final IntegerMap<UnitType> territoryUnitCounts = new IntegerMap<>();
+        for (final Unit unit :
+            territory.getUnitCollection().getMatches(Matches.unitIsOwnedBy(player))) {
+          territoryUnitCounts.add(unit.getType(), 1);
+          unitCounts.add(unit.getType(), 1);
+        }
+        assertThat(
+            gameData.getIndex().getUnitCounts(territory, player), is(territoryUnitCounts));
+      }
+      assertThat(gameData.getIndex().getUnitCounts(player), is(unitCounts));
+    }
+    for (final Territory territory : map.getTerritories()) {
+      for (final Unit unit : territory.getUnitCollection()) {
+        assertThat(gameData.getIndex().getTerritory(unit), is(Optional.of(territory)));
+      }
+    }
+  }
+
+  @Test
+  void shouldMatchFullScanWhenBuilt() {
+    assertIndexMatchesFullScan();
+  }
+
+  @Test
+  void shouldTrackTerritoryOwnerChanges() {
+    final Change change = ChangeFactory.changeOwner(canada, bush);
+
+    gameData.performChange(change);
+    assertThat(map.getTerritoriesOwnedBy(bush).contains(canada), is(true));
+    assertIndexMatchesFullScan();
+
+    gameData.performChange(change.invert());
+    assertThat(map.getTerritoriesOwnedBy(bush).contains(canada), is(false));
+    assertIndexMatchesFullScan();
+  }
+
+  @Test
+  void shouldTrackAddedAndRemovedUnits() {
+    final Collection<Unit> units = infantry.create(3, bush);
+
+    gameData.performChange(ChangeFactory.addUnits(canada, units));
+    assertThat(map.getTerritoriesWithUnitsOwnedBy(bush).contains(canada), is(true));
+    assertIndexMatchesFullScan();
+
+    gameData.performChange(ChangeFactory.removeUnits(canada, units));
+    assertThat(map.getTerritoriesWithUnitsOwnedBy(bush).contains(canada), is(false));
+    units.forEach(unit -> assertThat(gameData.getIndex().getTerritory(unit), is(Optional.empty())));
+    assertIndexMatchesFullScan();
+  }
+
+  @Test
+  void shouldTrackMovedUnits() {
+    final Collection<Unit> units = infantry.create(2, bush);
+    gameData.performChange(ChangeFactory.addUnits(canada, units));
+
+    gameData.performChange(
+        new CompositeChange(
+            ChangeFactory.addUnits(us, units), ChangeFactory.removeUnits(canada, units)));
+
+    units.forEach(unit -> assertThat(gameData.getIndex().getTerritory(unit), is(Optional.of(us))));
+    assertIndexMatchesFullScan();
+  }
+
+  @Test
+  void shouldTrackUnitOwnerChanges() {
+    final Collection<Unit> units = infantry.create(2, bush);
+    gameData.performChange(ChangeFactory.addUnits(canada, units));
+
+    gameData.performChange(ChangeFactory.changeOwner(units, chretian, canada));
+
+    assertThat(map.getTerritoriesWithUnitsOwnedBy(chretian).contains(canada), is(true));
+    assertIndexMatchesFullScan();
+  }
+
+  @Test
+  void shouldTrackUnitOwnerChangesOutsideOfChanges() {
+    final Collection<Unit> units = infantry.create(2, bush);
+    gameData.performChange(ChangeFactory.addUnits(canada, units));
+
+    units.forEach(unit -> unit.setOwner(chretian));
+
+    assertThat(gameData.getIndex().getUnitCounts(canada, bush).getInt(infantry), is(0));
+    assertIndexMatchesFullScan();
+  }
+
+  @Test
+  void shouldNotBlockUnitsCreatedOnOtherThreadsWhileAChangeIsPerformed() {
+    final Collection<Unit> units = infantry.create(2, bush);
+    gameData.performChange(ChangeFactory.addUnits(canada, units));
+
+    gameData.performChange(
+        new Change() {
+          private static final long serialVersionUID = 1L;
+
+          @Override
+          protected void perform(final GameState data) {
+            units.forEach(unit -> unit.setOwner(chretian));
+            final Collection<Unit> tempUnits =
+                CompletableFuture.supplyAsync(() -> infantry.create(3, chretian))
+                    .orTimeout(10, TimeUnit.SECONDS)
+                    .join();
+            assertThat(tempUnits, hasSize(3));
+          }
+
+          @Override
+          public Change invert() {
+            throw new UnsupportedOperationException();
+          }
+        });
+
+    assertThat(gameData.getIndex().getUnitCounts(canada, bush).getInt(infantry), is(0));
+    assertIndexMatchesFullScan();
+  }
+}
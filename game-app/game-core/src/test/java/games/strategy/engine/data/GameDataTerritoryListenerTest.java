@@ -0,0 +1,76 @@
+package games.strategy.engine.data;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+
+import games.strategy.engine.data.changefactory.ChangeFactory;
+import games.strategy.engine.data.events.TerritoryChanges;
+import games.strategy.engine.data.events.TerritoryListener;
+import games.strategy.triplea.Constants;
+import games.strategy.triplea.xml.TestMapGameData;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class GameDataTerritoryListenerTest {
+  private final GameData gameData = TestMapGameData.TEST.getGameData();
+  private final Territory canada = gameData.getMap().getTerritory("canada");
+  private final UnitType infantry =
+      gameData.getUnitTypeList().getUnitType(Constants.UNIT_TYPE_INF);
+  private final RecordingTerritoryListener listener = new RecordingTerritoryListener();
+
+  private static class RecordingTerritoryListener implements TerritoryListener {
+    private final List<TerritoryChanges> batches = new ArrayList<>();
+    private final List<Territory> unitsChanged = new ArrayList<>();
+
+    @Override
+    public void unitsChanged(final Territory territory) {
+      unitsChanged.add(territory);
+    }
+
+    @Override
+    public void ownerChanged(final Territory territory) {}
+
+    @Override
+    public void attachmentChanged(final Territory territory) {}
+
+    @Override
+    public void territoriesChanged(final TerritoryChanges changes) {
+      batches.add(changes);
+    }
+  }
+
+  @BeforeEach
+  void addListener() {
+    gameData.addTerritoryListener(listener);
+  }
+
+  @Test
+  void performChangeShouldNotifyOnceWithEachTouchedTerritory() {
+    final GamePlayer player = gameData.getPlayerList().getPlayerId("bush");
+
+    gameData.performChange(
+        new CompositeChange(
+            ChangeFactory.addUnits(canada, infantry.create(1, player)),
+            ChangeFactory.addUnits(canada, infantry.create(2, player)),
+            ChangeFactory.changeOwner(canada, player)));
+
+    assertThat(listener.batches.size(), is(1));
+    final TerritoryChanges changes = listener.batches.get(0);
+    assertThat(changes.getUnitsChanged(), contains(canada));
+    assertThat(changes.getOwnerChanged(), contains(canada));
+    assertThat(changes.getAttachmentChanged(), is(empty()));
+    assertThat(listener.unitsChanged, is(empty()));
+  }
+
+  @Test
+  void changesOutsidePerformChangeShouldNotifyImmediately() {
+    canada.getUnitCollection().addAll(infantry.create(1, null));
+
+    assertThat(listener.batches, is(empty()));
+    assertThat(listener.unitsChanged, contains(canada));
+  }
+}
@@ -0,0 +1,183 @@
+package games.strategy.engine.data.gameparser;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.core.Is.is;
+
+import games.strategy.engine.data.GameData;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.triplea.util.Version;
+
+final class ParsedGameCacheTest {
+  private static final Version ENGINE_VERSION = new Version("2.0.0");
+  private static final String BUILD_ID = "build";
+
+  @TempDir Path tempDir;
+  private Path cacheFolder;
+  private Path xmlFile;
+  private final AtomicInteger parseCount = new AtomicInteger();
+  private final Function<Path, Optional<GameData>> parser =
+      file -> {
+        parseCount.incrementAndGet();
+        return GameParser.parse(file, new XmlGameElementMapper(), ENGINE_VERSION);
+      };
+
+  @BeforeEach
+  void setUp() throws Exception {
+    cacheFolder = tempDir.resolve("cache");
+    xmlFile = tempDir.resolve("game.xml");
+    final Path mapFile =
+        Path.of(
+            ParsedGameCacheTest.class.getClassLoader().getResource("v1_8_map__270BC.xml").toURI());
+    Files.copy(mapFile, xmlFile);
+  }
+
+  private ParsedGameCache newCache(final String buildId) {
+    return new ParsedGameCache(cacheFolder, ENGINE_VERSION, buildId, Long.MAX_VALUE);
+  }
+
+  private List<Path> listCacheFiles() throws IOException {
+    try (Stream<Path> cacheFiles = Files.list(cacheFolder)) {
+      return cacheFiles.collect(Collectors.toList());
+    }
+  }
+
+  @Test
+  void secondLoadIsReadFromCache() {
+    final ParsedGameCache cache = newCache(BUILD_ID);
+
+    final GameData parsed = cache.getOrParse(xmlFile, parser).orElseThrow();
+    final GameData cached = cache.getOrParse(xmlFile, parser).orElseThrow();
+
+    assertThat(parseCount.get(), is(1));
+    assertThat(cached.getGameName(), is(parsed.getGameName()));
+    assertThat(
+        cached.getMap().getTerritories().size(), is(parsed.getMap().getTerritories().size()));
+    assertThat(cached.getDelegates().size(), is(parsed.getDelegates().size()));
+  }
+
+  @Test
+  void changedXmlIsParsedAgain() throws Exception {
+    final ParsedGameCache cache = newCache(BUILD_ID);
+    cache.getOrParse(xmlFile, parser);
+
+    Files.writeString(xmlFile, "<!-- changed -->", StandardOpenOption.APPEND);
+    cache.getOrParse(xmlFile, parser);
+    cache.getOrParse(xmlFile, parser);
+
+    assertThat(parseCount.get(), is(2));
+  }
+
+  @Test
+  void otherEngineVersionParsesAgain() {
+    newCache(BUILD_ID).getOrParse(xmlFile, parser);
+
+    new ParsedGameCache(cacheFolder, new Version("2.1.0"), BUILD_ID, Long.MAX_VALUE)
+        .getOrParse(xmlFile, parser);
+
+    assertThat(parseCount.get(), is(2));
+  }
+
+  @Test
+  void otherBuildParsesAgain() {
+    newCache(BUILD_ID).getOrParse(xmlFile, parser);
+
+    newCache("other build").getOrParse(xmlFile, parser);
+
+    assertThat(parseCount.get(), is(2));
+  }
+
+  @Test
+  void unknownBuildIsNotCached() {
+    final ParsedGameCache cache = newCache(null);
+
+    assertThat(cache.getOrParse(xmlFile, parser).isPresent(), is(true));
+    cache.getOrParse(xmlFile, parser);
+
+    assertThat(parseCount.get(), is(2));
+    assertThat(Files.exists(cacheFolder), is(false));
+  }
+
+  @Test
+  void unreadableCacheFileIsDeleted() throws Exception {
+    newCache(BUILD_ID).getOrParse(xmlFile, parser);
+    Files.write(listCacheFiles().get(0), new byte[] {1, 2, 3});
+
+    assertThat(
+        newCache(BUILD_ID).getOrParse(xmlFile, file -> Optional.empty()), is(Optional.empty()));
+
+    assertThat(listCacheFiles(), is(empty()));
+  }
+
+  @Test
+  void leastRecentlyUsedFilesArePrunedDownToTheMaximumSize() throws Exception {
+    Files.createDirectories(cacheFolder);
+    final Path oldFile = Files.write(cacheFolder.resolve("old.ser"), new byte[100]);
+    final Path usedFile = Files.write(cacheFolder.resolve("used.ser"), new byte[100]);
+    final Path newFile = Files.write(cacheFolder.resolve("new.ser"), new byte[100]);
+    Files.setLastModifiedTime(oldFile, FileTime.fromMillis(1000));
+    Files.setLastModifiedTime(usedFile, FileTime.fromMillis(2000));
+    Files.setLastModifiedTime(newFile, FileTime.fromMillis(3000));
+
+    new ParsedGameCache(cacheFolder, ENGINE_VERSION, BUILD_ID, 200).prune();
+
+    assertThat(listCacheFiles(), containsInAnyOrder(usedFile, newFile));
+  }
+
+  @Test
+  void buildIdChangesWithTheJar() throws Exception {
+    final Path jar = Files.write(tempDir.resolve("game.jar"), new byte[] {1, 2, 3});
+    final String buildId = ParsedGameCache.buildIdOf(jar);
+
+    Files.write(jar, new byte[] {1, 2, 4});
+
+    assertThat(ParsedGameCache.buildIdOf(jar), is(not(buildId)));
+  }
+
+  @Test
+  void buildIdChangesWithTheClassFolder() throws Exception {
+    final Path classFolder = Files.createDirectory(tempDir.resolve("classes"));
+    final Path classFile = Files.write(classFolder.resolve("Game.class"), new byte[] {1, 2, 3});
+    final String buildId = ParsedGameCache.buildIdOf(classFolder);
+
+    Files.write(classFile, new byte[] {1, 2, 3, 4});
+
+    assertThat(ParsedGameCache.buildIdOf(classFolder), is(not(buildId)));
+  }
+
+  @Test
+  void unreadableCacheFileIsReplaced() throws Exception {
+    final ParsedGameCache cache = newCache(BUILD_ID);
+    cache.getOrParse(xmlFile, parser);
+    Files.write(listCacheFiles().get(0), new byte[] {1, 2, 3});
+
+    assertThat(cache.getOrParse(xmlFile, parser).isPresent(), is(true));
+    cache.getOrParse(xmlFile, parser);
+
+    assertThat(parseCount.get(), is(2));
+  }
+
+  @Test
+  void failedParseIsNotCached() throws Exception {
+    final ParsedGameCache cache = newCache(BUILD_ID);
+
+    assertThat(cache.getOrParse(xmlFile, file -> Optional.empty()).isPresent(), is(false));
+
+    assertThat(Files.exists(cacheFolder), is(false));
+  }
+}
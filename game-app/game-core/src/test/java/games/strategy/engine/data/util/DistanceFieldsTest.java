@@ -0,0 +1,68 @@
+package games.strategy.engine.data.util;
+
+import static games.strategy.triplea.delegate.GameDataTestUtil.territory;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import games.strategy.engine.data.GameMap;
+import games.strategy.engine.data.GameState;
+import games.strategy.engine.data.Territory;
+import games.strategy.triplea.xml.TestMapGameData;
+import java.util.List;
+import java.util.function.BiPredicate;
+import org.junit.jupiter.api.Test;
+
+class DistanceFieldsTest {
+  private final GameState gameData = TestMapGameData.BIG_WORLD_1942.getGameData();
+  private final GameMap map = gameData.getMap();
+  private final Territory moscow = territory("Moscow", gameData);
+  private final Territory swUsa = territory("Southwestern United States", gameData);
+
+  /** Land routes that can not leave territories starting with "E", so step direction matters. */
+  private final BiPredicate<Territory, Territory> oneWayLandRoutes =
+      (t1, t2) -> !t2.isWater() && !t1.getName().startsWith("E");
+
+  @Test
+  void distancesToTargetMatchSearchingFromEachTerritory() {
+    final DistanceFields distanceFields = new DistanceFields(map, oneWayLandRoutes);
+
+    for (final Territory target : List.of(moscow, swUsa)) {
+      final DistanceField field = distanceFields.to(target);
+      for (final Territory territory : map.getTerritories()) {
+        assertThat(
+            territory.getName() + " to " + target.getName(),
+            field.getDistance(territory),
+            is(map.getDistance(territory, target, oneWayLandRoutes)));
+      }
+    }
+  }
+
+  @Test
+  void fieldsToTargetsAreReused() {
+    final DistanceFields distanceFields = new DistanceFields(map, oneWayLandRoutes);
+
+    assertThat(distanceFields.to(moscow), is(sameInstance(distanceFields.to(moscow))));
+  }
+
+  @Test
+  void territoriesWithinDistanceFromSourceMatchNeighbors() {
+    final DistanceField field = new DistanceFields(map, oneWayLandRoutes).from(moscow, 3);
+
+    assertThat(
+        field.getTerritoriesWithin(2),
+        containsInAnyOrder(map.getNeighbors(moscow, 2, oneWayLandRoutes).toArray()));
+    assertThat(
+        field.getTerritoriesWithin(3),
+        containsInAnyOrder(map.getNeighbors(moscow, 3, oneWayLandRoutes).toArray()));
+  }
+
+  @Test
+  void territoriesBeyondMaxDistanceAreUnreachable() {
+    final DistanceField field = new DistanceFields(map, oneWayLandRoutes).from(moscow, 1);
+
+    assertThat(field.getDistance(moscow), is(0));
+    assertThat(field.getDistance(swUsa), is(DistanceField.UNREACHABLE));
+  }
+}
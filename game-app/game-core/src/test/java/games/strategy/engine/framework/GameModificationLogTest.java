@@ -0,0 +1,44 @@
+package games.strategy.engine.framework;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+
+import games.strategy.engine.data.Change;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GamePlayer;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.changefactory.ChangeFactory;
+import games.strategy.triplea.xml.TestMapGameData;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+class GameModificationLogTest {
+  private final GameData gameData = TestMapGameData.TEST.getGameData();
+  private final GamePlayer player = gameData.getPlayerList().getPlayerId("bush");
+  private final Territory canada = gameData.getMap().getTerritory("canada");
+
+  @Test
+  void replayShouldRepeatRecordedCallsInOrderAfterRoundTrip() throws Exception {
+    final GameModificationLog modificationLog = new GameModificationLog();
+    modificationLog.stepChanged("step", "delegate", player, 2, "Step", false);
+    modificationLog.startHistoryEvent("event");
+    modificationLog.gameDataChanged(ChangeFactory.changeOwner(canada, player));
+    modificationLog.addChildToEvent("child", null);
+
+    final GameModificationLog copy =
+        GameModificationLog.fromBytes(modificationLog.toBytes(), gameData);
+    final IGameModifiedChannel channel = mock(IGameModifiedChannel.class);
+    copy.replay(channel);
+
+    assertThat(copy.size(), is(4));
+    final InOrder inOrder = inOrder(channel);
+    inOrder.verify(channel).stepChanged("step", "delegate", player, 2, "Step", false);
+    inOrder.verify(channel).startHistoryEvent("event", null);
+    inOrder.verify(channel).gameDataChanged(any(Change.class));
+    inOrder.verify(channel).addChildToEvent(eq("child"), any());
+  }
+}
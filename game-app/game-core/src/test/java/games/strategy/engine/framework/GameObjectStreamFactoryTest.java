@@ -0,0 +1,118 @@
+package games.strategy.engine.framework;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import games.strategy.engine.data.Change;
+import games.strategy.engine.data.CompositeChange;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.changefactory.ChangeFactory;
+import games.strategy.engine.message.HubInvoke;
+import games.strategy.engine.message.RemoteMethodCall;
+import games.strategy.net.CompactObjectInputStream;
+import games.strategy.net.MessageHeader;
+import games.strategy.net.Node;
+import games.strategy.triplea.Constants;
+import games.strategy.triplea.xml.TestMapGameData;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.net.InetAddress;
+import org.junit.jupiter.api.Test;
+import org.triplea.io.IoUtils;
+import org.triplea.java.function.ThrowingFunction;
+
+class GameObjectStreamFactoryTest {
+  private final GameData gameData = TestMapGameData.TEST.getGameData();
+  private final GameObjectStreamFactory factory = new GameObjectStreamFactory(gameData);
+
+  private MessageHeader newMessage() throws Exception {
+    final Territory canada = gameData.getMap().getTerritory("canada");
+    final Change change =
+        new CompositeChange(
+            ChangeFactory.addUnits(
+                canada,
+                gameData.getUnitTypeList().getUnitType(Constants.UNIT_TYPE_INF).create(3, null)),
+            ChangeFactory.changeOwner(canada, gameData.getPlayerList().getPlayerId("chretian")));
+    final RemoteMethodCall call =
+        new RemoteMethodCall(
+            "games.strategy.engine.framework.IGameModifiedChannel.GAME_MODIFICATION_CHANNEL",
+            IGameModifiedChannel.class.getMethod("gameDataChanged", Change.class),
+            new Object[] {change});
+    final Node server = new Node("server", InetAddress.getLoopbackAddress(), 3300);
+    return new MessageHeader(null, server, new HubInvoke(null, false, call));
+  }
+
+  private static byte[] write(
+      final ThrowingFunction<OutputStream, ObjectOutputStream, IOException> streamFactory,
+      final Object object)
+      throws IOException {
+    return IoUtils.writeToMemory(
+        os -> {
+          try (ObjectOutputStream out = streamFactory.apply(os)) {
+            out.writeObject(object);
+          }
+        });
+  }
+
+  private Object read(final byte[] bytes) throws IOException {
+    return IoUtils.readFromMemory(
+        bytes,
+        is -> {
+          try (ObjectInputStream in = factory.create(is)) {
+            return in.readObject();
+          } catch (final ClassNotFoundException e) {
+            throw new IOException(e);
+          }
+        });
+  }
+
+  @Test
+  void compactEncodingShouldBeSmallerThanStandardEncoding() throws Exception {
+    final MessageHeader message = newMessage();
+
+    final byte[] standard = write(factory::create, message);
+    final byte[] compact = write(factory::createCompact, message);
+
+    assertThat(compact.length, is(lessThan(standard.length)));
+  }
+
+  @Test
+  void inputStreamShouldReadBothEncodings() throws Exception {
+    final MessageHeader message = newMessage();
+
+    for (final byte[] bytes :
+        new byte[][] {write(factory::create, message), write(factory::createCompact, message)}) {
+      final MessageHeader read = (MessageHeader) read(bytes);
+      assertThat(read.getFrom(), is(message.getFrom()));
+      assertThat(read.getMessage(), is(instanceOf(HubInvoke.class)));
+      final HubInvoke invoke = (HubInvoke) read.getMessage();
+      assertThat(invoke.call.getArgs()[0], is(instanceOf(CompositeChange.class)));
+    }
+  }
+
+  @Test
+  void inputStreamShouldReportEncoding() throws Exception {
+    final byte[] compact = write(factory::createCompact, "message");
+
+    final boolean isCompact =
+        IoUtils.readFromMemory(
+            compact, is -> ((CompactObjectInputStream) factory.create(is)).isCompact());
+
+    assertThat(isCompact, is(true));
+  }
+
+  @Test
+  void inputStreamShouldRejectUnknownCompactVersion() throws Exception {
+    final byte[] compact = write(factory::createCompact, "message");
+    compact[2] = (byte) (GameObjectStreamFactory.MESSAGE_TYPES.getVersion() + 1);
+
+    assertThrows(StreamCorruptedException.class, () -> read(compact));
+  }
+}
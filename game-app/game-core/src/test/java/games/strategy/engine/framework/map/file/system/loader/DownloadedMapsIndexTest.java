@@ -0,0 +1,138 @@
+package games.strategy.engine.framework.map.file.system.loader;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsCollectionWithSize.hasSize;
+import static org.hamcrest.core.Is.is;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.triplea.map.description.file.MapDescriptionYaml;
+
+class DownloadedMapsIndexTest {
+  private static final String MAP_YAML =
+      "map_name: Test Map\n"
+          + "version: 3\n"
+          + "games:\n"
+          + "- game_name: Test Game\n"
+          + "  file_name: test.xml\n";
+
+  @TempDir Path tempDir;
+
+  private Path mapsFolder;
+  private Path indexFile;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    mapsFolder = Files.createDirectory(tempDir.resolve("downloadedMaps"));
+    indexFile = tempDir.resolve("cache").resolve("index.yml");
+  }
+
+  private Path createMap(final String folderName) throws IOException {
+    final Path mapFolder = mapsFolder.resolve(folderName);
+    Files.createDirectories(mapFolder.resolve("map"));
+    Files.writeString(
+        mapFolder.resolve("map").resolve(MapDescriptionYaml.MAP_YAML_FILE_NAME), MAP_YAML);
+    return mapFolder;
+  }
+
+  @Test
+  void savedIndexIsLoadedWithItsEntries() throws IOException {
+    final Path mapFolder = createMap("test_map");
+    final Optional<MapDescriptionYaml> mapDescriptionYaml = MapDescriptionYaml.fromMap(mapFolder);
+    final DownloadedMapsIndex index = new DownloadedMapsIndex(indexFile);
+    index.put(mapFolder, mapDescriptionYaml);
+    index.save();
+
+    final DownloadedMapsIndex loadedIndex = DownloadedMapsIndex.load(indexFile);
+
+    assertThat(loadedIndex.isCurrent(mapFolder), is(true));
+    assertThat(loadedIndex.getMapDescriptionYaml(mapFolder), is(mapDescriptionYaml));
+  }
+
+  @Test
+  void saveReplacesTheIndexWithoutLeavingTemporaryFiles() throws IOException {
+    final Path mapFolder = createMap("test_map");
+    final DownloadedMapsIndex index = new DownloadedMapsIndex(indexFile);
+    index.save();
+    index.put(mapFolder, MapDescriptionYaml.fromMap(mapFolder));
+
+    index.save();
+
+    assertThat(DownloadedMapsIndex.load(indexFile).isCurrent(mapFolder), is(true));
+    try (Stream<Path> files = Files.list(indexFile.getParent())) {
+      assertThat(files.collect(Collectors.toList()), is(List.of(indexFile)));
+    }
+  }
+
+  @Test
+  void entryIsNotCurrentWhenMapYamlChanges() throws IOException {
+    final Path mapFolder = createMap("test_map");
+    final DownloadedMapsIndex index = new DownloadedMapsIndex(indexFile);
+    index.put(mapFolder, MapDescriptionYaml.fromMap(mapFolder));
+
+    Files.writeString(
+        mapFolder.resolve("map").resolve(MapDescriptionYaml.MAP_YAML_FILE_NAME),
+        MAP_YAML.replace("version: 3", "version: 30"));
+
+    assertThat(index.isCurrent(mapFolder), is(false));
+  }
+
+  @Test
+  void folderWithoutValidMapIsIndexed() throws IOException {
+    final Path mapFolder = Files.createDirectory(mapsFolder.resolve("not_a_map"));
+    final DownloadedMapsIndex index = new DownloadedMapsIndex(indexFile);
+    index.put(mapFolder, Optional.empty());
+    index.save();
+
+    final DownloadedMapsIndex loadedIndex = DownloadedMapsIndex.load(indexFile);
+
+    assertThat(loadedIndex.isCurrent(mapFolder), is(true));
+    assertThat(loadedIndex.getMapDescriptionYaml(mapFolder), is(Optional.empty()));
+  }
+
+  @Test
+  void folderWithoutValidMapIsNotCurrentWhenFileInSubFolderChanges() throws IOException {
+    final Path gamesFolder = Files.createDirectories(mapsFolder.resolve("not_a_map/games"));
+    final Path gameXml = Files.writeString(gamesFolder.resolve("game.xml"), "<game/>");
+    final DownloadedMapsIndex index = new DownloadedMapsIndex(indexFile);
+    index.put(mapsFolder.resolve("not_a_map"), Optional.empty());
+
+    Files.setLastModifiedTime(
+        gameXml, FileTime.fromMillis(Files.getLastModifiedTime(gameXml).toMillis() + 60_000));
+
+    assertThat(index.isCurrent(mapsFolder.resolve("not_a_map")), is(false));
+  }
+
+  @Test
+  void unreadableIndexIsIgnored() throws IOException {
+    Files.createDirectories(indexFile.getParent());
+    Files.writeString(indexFile, "not: [valid");
+
+    final DownloadedMapsIndex index = DownloadedMapsIndex.load(indexFile);
+
+    assertThat(index.isCurrent(mapsFolder), is(false));
+  }
+
+  @Test
+  void mapsFolderIsReadThroughIndex() throws IOException {
+    final Path mapFolder = createMap("test_map");
+    final DownloadedMapsIndex index = new DownloadedMapsIndex(indexFile);
+
+    final List<DownloadedMap> downloadedMaps =
+        List.copyOf(
+            DownloadedMapsListing.readMapYamlsAndGenerateMissingMapYamls(mapsFolder, index));
+
+    assertThat(downloadedMaps, hasSize(1));
+    assertThat(downloadedMaps.get(0).getMapName(), is("Test Map"));
+    assertThat(index.isCurrent(mapFolder), is(true));
+  }
+}
@@ -0,0 +1,117 @@
+package games.strategy.net.nio;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class WriteQueueTest {
+  private final WriteQueue writeQueue = new WriteQueue();
+
+  /** A channel that accepts at most {@code maxBytesPerWrite} bytes per write call. */
+  private static final class LimitedChannel implements GatheringByteChannel {
+    private final int maxBytesPerWrite;
+    private final ByteArrayOutputStream written = new ByteArrayOutputStream();
+    private int writeCalls;
+
+    LimitedChannel(final int maxBytesPerWrite) {
+      this.maxBytesPerWrite = maxBytesPerWrite;
+    }
+
+    @Override
+    public long write(final ByteBuffer[] srcs, final int offset, final int length) {
+      writeCalls++;
+      long count = 0;
+      for (int i = offset; i < offset + length && count < maxBytesPerWrite; i++) {
+        while (srcs[i].hasRemaining() && count < maxBytesPerWrite) {
+          written.write(srcs[i].get());
+          count++;
+        }
+      }
+      return count;
+    }
+
+    @Override
+    public long write(final ByteBuffer[] srcs) {
+      return write(srcs, 0, srcs.length);
+    }
+
+    @Override
+    public int write(final ByteBuffer src) {
+      return (int) write(new ByteBuffer[] {src});
+    }
+
+    @Override
+    public boolean isOpen() {
+      return true;
+    }
+
+    @Override
+    public void close() {}
+  }
+
+  private static byte[] expectedBytes(final List<SocketWriteData> packets) {
+    final ByteArrayOutputStream expected = new ByteArrayOutputStream();
+    for (final SocketWriteData packet : packets) {
+      final ByteBuffer buffer = packet.getBuffer().duplicate();
+      while (buffer.hasRemaining()) {
+        expected.write(buffer.get());
+      }
+    }
+    return expected.toByteArray();
+  }
+
+  private List<SocketWriteData> enqueuePackets(final int count) {
+    final List<SocketWriteData> packets = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      final SocketWriteData packet = new SocketWriteData(new byte[] {(byte) i, 1, 2, 3});
+      packets.add(packet);
+      writeQueue.add(packet);
+    }
+    return packets;
+  }
+
+  @Test
+  void allQueuedPacketsAreWrittenWithSingleWrite() throws Exception {
+    final List<SocketWriteData> packets = enqueuePackets(10);
+    final LimitedChannel channel = new LimitedChannel(Integer.MAX_VALUE);
+
+    assertThat(writeQueue.write(channel), is(true));
+
+    assertThat(channel.writeCalls, is(1));
+    assertThat(channel.written.toByteArray(), is(expectedBytes(packets)));
+    assertThat(writeQueue.getStatistics().getQueuedPackets(), is(0));
+    assertThat(writeQueue.getStatistics().getBytesWritten(), is(80L));
+  }
+
+  @Test
+  void partialWritesPreserveOrder() throws Exception {
+    final List<SocketWriteData> packets = enqueuePackets(WriteQueue.MAX_PACKETS_PER_WRITE + 5);
+    final LimitedChannel channel = new LimitedChannel(7);
+
+    int writes = 0;
+    while (!writeQueue.write(channel)) {
+      writes++;
+    }
+
+    assertThat(writes > 0, is(true));
+    assertThat(channel.written.toByteArray(), is(expectedBytes(packets)));
+    assertThat(writeQueue.isEmpty(), is(true));
+    assertThat(writeQueue.getStatistics().getQueuedBytes(), is(0L));
+  }
+
+  @Test
+  void queueIsScheduledOnlyOnce() {
+    assertThat(writeQueue.schedule(), is(true));
+    assertThat(writeQueue.schedule(), is(false));
+
+    writeQueue.unschedule();
+
+    assertThat(writeQueue.schedule(), is(true));
+  }
+}
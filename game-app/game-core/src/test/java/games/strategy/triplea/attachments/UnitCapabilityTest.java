@@ -0,0 +1,48 @@
+package games.strategy.triplea.attachments;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import games.strategy.engine.data.Change;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.UnitType;
+import games.strategy.engine.data.changefactory.ChangeFactory;
+import games.strategy.triplea.Constants;
+import games.strategy.triplea.xml.TestMapGameData;
+import org.junit.jupiter.api.Test;
+
+class UnitCapabilityTest {
+  private final GameData gameData = TestMapGameData.TEST.getGameData();
+  private final UnitType infantry =
+      gameData.getUnitTypeList().getUnitType(Constants.UNIT_TYPE_INF);
+
+  @Test
+  void capabilitiesShouldMatchUnitAttachment() {
+    final UnitAttachment unitAttachment = UnitAttachment.get(infantry);
+
+    assertThat(infantry.hasCapability(UnitCapability.SEA), is(unitAttachment.getIsSea()));
+    assertThat(infantry.hasCapability(UnitCapability.AIR), is(unitAttachment.getIsAir()));
+    assertThat(
+        infantry.hasCapability(UnitCapability.LAND),
+        is(!unitAttachment.getIsSea() && !unitAttachment.getIsAir()));
+    assertThat(
+        infantry.hasCapability(UnitCapability.INFRASTRUCTURE),
+        is(unitAttachment.getIsInfrastructure()));
+  }
+
+  @Test
+  void capabilitiesShouldFollowAttachmentChanges() {
+    assertThat(infantry.hasCapability(UnitCapability.SEA), is(false));
+    final Change change =
+        ChangeFactory.attachmentPropertyChange(
+            UnitAttachment.get(infantry), true, UnitAttachment.IS_SEA);
+
+    gameData.performChange(change);
+    assertThat(infantry.hasCapability(UnitCapability.SEA), is(true));
+    assertThat(infantry.hasCapability(UnitCapability.LAND), is(false));
+
+    gameData.performChange(change.invert());
+    assertThat(infantry.hasCapability(UnitCapability.SEA), is(false));
+    assertThat(infantry.hasCapability(UnitCapability.LAND), is(true));
+  }
+}
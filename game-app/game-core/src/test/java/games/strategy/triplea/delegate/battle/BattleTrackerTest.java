@@ -1,5 +1,8 @@
 package games.strategy.triplea.delegate.battle;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -20,6 +23,7 @@ import java.util.function.BiFunction;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,6 +41,8 @@ class BattleTrackerTest {
 
   @Mock private IBattle mockBattle;
 
+  @Mock private BattleDelegate mockBattleDelegate;
+
   private final BattleTracker testObj = new BattleTracker();
 
   @Test
@@ -73,4 +79,30 @@ class BattleTrackerTest {
 
     verify(mockBattle).fight(mockDelegateBridge);
   }
+
+  @Test
+  void getBlockedReturnsBattlesThatDependOnTheBlockingBattle() {
+    final IBattle blocked = Mockito.mock(IBattle.class);
+    final IBattle otherBlocked = Mockito.mock(IBattle.class);
+    testObj.addDependency(blocked, mockBattle);
+    testObj.addDependency(otherBlocked, mockBattle);
+
+    assertThat(testObj.getBlocked(mockBattle), containsInAnyOrder(blocked, otherBlocked));
+    assertThat(testObj.getDependentOn(blocked), containsInAnyOrder(mockBattle));
+    assertThat(testObj.getBlocked(blocked), empty());
+  }
+
+  @Test
+  void removeBattleRemovesTheDependenciesOnIt() {
+    final IBattle blocked = Mockito.mock(IBattle.class);
+    final Territory territory = new Territory("terrName", mockGameData);
+    when(mockBattle.getTerritory()).thenReturn(territory);
+    when(mockGameData.getBattleDelegate()).thenReturn(mockBattleDelegate);
+    testObj.addDependency(blocked, mockBattle);
+
+    testObj.removeBattle(mockBattle, mockGameData);
+
+    assertThat(testObj.getBlocked(mockBattle), empty());
+    assertThat(testObj.getDependentOn(blocked), empty());
+  }
 }
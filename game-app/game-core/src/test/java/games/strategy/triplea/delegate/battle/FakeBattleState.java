@@ -9,6 +9,7 @@ import games.strategy.engine.data.GamePlayer;
 import games.strategy.engine.data.Territory;
 import games.strategy.engine.data.TerritoryEffect;
 import games.strategy.engine.data.Unit;
+import games.strategy.triplea.delegate.power.calculator.SupportCache;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -74,6 +75,9 @@ public class FakeBattleState implements BattleState {
   @Getter(onMethod = @__({@Override}))
   final @Nonnull Collection<Unit> bombardingUnits;
 
+  @Getter(onMethod = @__({@Override}))
+  final SupportCache supportCache;
+
   @Override
   public Collection<Unit> getDependentUnits(final Collection<Unit> units) {
     return dependentUnits;
@@ -184,6 +188,7 @@ public class FakeBattleState implements BattleState {
         .attacker(mock(GamePlayer.class))
         .defender(mock(GamePlayer.class))
         .bombardingUnits(List.of())
+        .supportCache(new SupportCache())
         .dependentUnits(List.of())
         .killed(List.of())
         .retreatUnits(new ArrayList<>())
@@ -19,12 +19,20 @@ import games.strategy.triplea.delegate.HeavyBomberAdvance;
 import games.strategy.triplea.delegate.ImprovedArtillerySupportAdvance;
 import games.strategy.triplea.delegate.TechAdvance;
 import games.strategy.triplea.delegate.battle.BattleState;
+import games.strategy.triplea.delegate.battle.UnitBattleComparator;
 import games.strategy.triplea.delegate.power.calculator.CombatValueBuilder;
+import games.strategy.triplea.delegate.power.calculator.PowerStrengthAndRolls;
+import games.strategy.triplea.delegate.power.calculator.UnitPowerStrengthAndRolls;
 import games.strategy.triplea.xml.TestMapGameData;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import lombok.experimental.UtilityClass;
@@ -392,4 +400,166 @@ class CasualtyOrderOfLossesTestOnGlobal {
     assertThat(result.get(2).getType(), is(ARTILLERY));
     assertThat(result.get(3).getType(), is(TANK)); // attack at 3
   }
+
+  private static List<Unit> randomUnits(final Random random) {
+    final List<Unit> units = new ArrayList<>();
+    units.addAll(DataFactory.britishInfantry(random.nextInt(8)));
+    units.addAll(DataFactory.britishTank(random.nextInt(4)));
+    units.addAll(DataFactory.britishMarine(random.nextInt(4)));
+    units.addAll(DataFactory.britishArtillery(random.nextInt(6)));
+    units.addAll(DataFactory.britishBomber(random.nextInt(3)));
+    Collections.shuffle(units, random);
+    return units;
+  }
+
+  @Test
+  void indexedUnitsCompareLikeTheComparator() {
+    final List<Unit> units = randomUnits(new Random(1));
+    final UnitBattleComparator comparator =
+        new UnitBattleComparator(
+            COST_MAP, data, attackingWith(units).getCombatValue(), true, false);
+    final UnitBattleComparator.IndexedUnits indexedUnits = comparator.index(units);
+
+    for (int i = 0; i < units.size(); i++) {
+      for (int j = 0; j < units.size(); j++) {
+        assertThat(
+            Integer.signum(indexedUnits.compare(i, j)),
+            is(Integer.signum(comparator.compare(units.get(i), units.get(j)))));
+      }
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 2, 3, 4, 5, 6, 7, 8})
+  void unitsAreSortedAsWithUnitMaps(final int seed) {
+    final List<Unit> units = randomUnits(new Random(seed));
+    final CasualtyOrderOfLosses.Parameters parameters =
+        seed % 2 == 0 ? attackingWith(units) : defendingWith(units);
+
+    final List<Unit> result = CasualtyOrderOfLosses.sortUnitsForCasualtiesWithSupport(parameters);
+
+    assertThat(result, is(sortWithUnitMaps(parameters)));
+  }
+
+  /** Sorts the units as was done with maps by unit before, to check the sorting by index. */
+  private static List<Unit> sortWithUnitMaps(final CasualtyOrderOfLosses.Parameters parameters) {
+    final List<Unit> sortedUnitsList = new ArrayList<>(parameters.getTargetsToPickFrom());
+    sortedUnitsList.sort(
+        new UnitBattleComparator(
+                parameters.getCosts(),
+                parameters.getData(),
+                parameters.getCombatValue().buildWithNoUnitSupports(),
+                true,
+                false)
+            .reversed());
+    final UnitBattleComparator unitComparatorWithoutPrimaryPower =
+        new UnitBattleComparator(
+            parameters.getCosts(),
+            parameters.getData(),
+            parameters.getCombatValue().buildWithNoUnitSupports(),
+            true,
+            true);
+    final PowerStrengthAndRolls unitPowerAndRolls =
+        PowerStrengthAndRolls.buildWithPreSortedUnits(
+            sortedUnitsList, parameters.getCombatValue());
+    final Map<Unit, IntegerMap<Unit>> unitSupportPowerMap =
+        unitPowerAndRolls.getUnitSupportPowerMap();
+    final Map<Unit, IntegerMap<Unit>> unitSupportRollsMap =
+        unitPowerAndRolls.getUnitSupportRollsMap();
+    final Map<Unit, UnitPowerStrengthAndRolls> unitPowerAndRollsMap =
+        unitPowerAndRolls.getTotalStrengthAndTotalRollsByUnit();
+    Collections.reverse(sortedUnitsList);
+    final List<Unit> sortedWellEnoughUnitsList = new ArrayList<>();
+    final Map<Unit, UnitPowerStrengthAndRolls> originalUnitPowerAndRollsMap =
+        new HashMap<>(unitPowerAndRollsMap);
+    for (int i = 0; i < sortedUnitsList.size(); ++i) {
+      Unit worstUnit = null;
+      int minPower = Integer.MAX_VALUE;
+      final Set<UnitType> unitTypes = new HashSet<>();
+      for (final Unit u : sortedUnitsList) {
+        if (!unitTypes.add(u.getType())) {
+          continue;
+        }
+        int power = originalUnitPowerAndRollsMap.get(u).getPower();
+        final IntegerMap<Unit> unitSupportPowerMapForUnit = unitSupportPowerMap.get(u);
+        if (unitSupportPowerMapForUnit != null) {
+          for (final Unit supportedUnit : unitSupportPowerMapForUnit.keySet()) {
+            UnitPowerStrengthAndRolls strengthAndRolls = unitPowerAndRollsMap.get(supportedUnit);
+            if (strengthAndRolls == null) {
+              continue;
+            }
+            final IntegerMap<Unit> unitSupportRollsMapForUnit = unitSupportRollsMap.get(u);
+            if (unitSupportRollsMapForUnit != null) {
+              strengthAndRolls =
+                  strengthAndRolls.subtractRolls(unitSupportRollsMapForUnit.getInt(supportedUnit));
+            }
+            if (strengthAndRolls.getRolls() == 1) {
+              power += unitSupportPowerMapForUnit.getInt(supportedUnit);
+              continue;
+            }
+            power +=
+                strengthAndRolls.getPower()
+                    - strengthAndRolls
+                        .subtractStrength(unitSupportPowerMapForUnit.getInt(supportedUnit))
+                        .getPower();
+          }
+        }
+        final IntegerMap<Unit> unitSupportRollsMapForUnit = unitSupportRollsMap.get(u);
+        if (unitSupportRollsMapForUnit != null) {
+          for (final Unit supportedUnit : unitSupportRollsMapForUnit.keySet()) {
+            final UnitPowerStrengthAndRolls strengthAndRolls =
+                unitPowerAndRollsMap.get(supportedUnit);
+            if (strengthAndRolls != null) {
+              power +=
+                  strengthAndRolls.getPower()
+                      - strengthAndRolls
+                          .subtractRolls(unitSupportRollsMapForUnit.getInt(supportedUnit))
+                          .getPower();
+            }
+          }
+        }
+        if (power < minPower
+            || (power == minPower && unitComparatorWithoutPrimaryPower.compare(u, worstUnit) < 0)) {
+          worstUnit = u;
+          minPower = power;
+        }
+      }
+      final IntegerMap<Unit> unitSupportPowerMapForUnit = unitSupportPowerMap.get(worstUnit);
+      if (unitSupportPowerMapForUnit != null) {
+        for (final Unit supportedUnit : unitSupportPowerMapForUnit.keySet()) {
+          final UnitPowerStrengthAndRolls strengthAndRolls =
+              unitPowerAndRollsMap.get(supportedUnit);
+          if (strengthAndRolls != null) {
+            unitPowerAndRollsMap.put(
+                supportedUnit,
+                strengthAndRolls.subtractStrength(
+                    unitSupportPowerMapForUnit.getInt(supportedUnit)));
+            sortedUnitsList.remove(supportedUnit);
+            sortedUnitsList.add(0, supportedUnit);
+          }
+        }
+      }
+      final IntegerMap<Unit> unitSupportRollsMapForUnit = unitSupportRollsMap.get(worstUnit);
+      if (unitSupportRollsMapForUnit != null) {
+        for (final Unit supportedUnit : unitSupportRollsMapForUnit.keySet()) {
+          final UnitPowerStrengthAndRolls strengthAndRolls =
+              unitPowerAndRollsMap.get(supportedUnit);
+          if (strengthAndRolls != null) {
+            unitPowerAndRollsMap.put(
+                supportedUnit,
+                strengthAndRolls.subtractRolls(unitSupportRollsMapForUnit.getInt(supportedUnit)));
+            sortedUnitsList.remove(supportedUnit);
+            sortedUnitsList.add(0, supportedUnit);
+          }
+        }
+      }
+      sortedWellEnoughUnitsList.add(worstUnit);
+      sortedUnitsList.remove(worstUnit);
+      unitPowerAndRollsMap.remove(worstUnit);
+      unitSupportPowerMap.remove(worstUnit);
+      unitSupportRollsMap.remove(worstUnit);
+    }
+    sortedWellEnoughUnitsList.addAll(sortedUnitsList);
+    return sortedWellEnoughUnitsList;
+  }
 }
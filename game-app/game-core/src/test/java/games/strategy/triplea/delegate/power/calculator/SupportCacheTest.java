@@ -0,0 +1,102 @@
+package games.strategy.triplea.delegate.power.calculator;
+
+import static games.strategy.triplea.delegate.battle.steps.MockGameData.givenGameData;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GamePlayer;
+import games.strategy.engine.data.Unit;
+import games.strategy.engine.data.UnitType;
+import games.strategy.engine.data.gameparser.GameParseException;
+import games.strategy.triplea.attachments.UnitSupportAttachment;
+import games.strategy.triplea.delegate.battle.BattleState;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SupportCacheTest {
+  private final SupportCache supportCache = new SupportCache();
+  private List<Unit> units;
+  private UnitSupportAttachment rule;
+
+  @BeforeEach
+  void setUp() throws GameParseException {
+    final GameData gameData = givenGameData().build();
+    final GamePlayer owner = mock(GamePlayer.class);
+    final UnitType unitType = new UnitType("unit", gameData);
+    units = unitType.createTemp(3, owner);
+    rule = new UnitSupportAttachment("rule", unitType, gameData);
+    rule.setSide("offence")
+        .setFaction("allied")
+        .setPlayers(List.of(owner))
+        .setUnitType(Set.of(mock(UnitType.class)))
+        .setBonusType("bonus")
+        .setNumber(1);
+  }
+
+  private SupportCalculator getSupportCalculator(
+      final List<Unit> unitsGivingTheSupport, final List<UnitSupportAttachment> rules) {
+    return supportCache.getSupportCalculator(
+        unitsGivingTheSupport, rules, BattleState.Side.OFFENSE, true);
+  }
+
+  @Test
+  void supportersAreTheSameAsWithoutCache() {
+    final SupportCalculator supportCalculator = getSupportCalculator(units, List.of(rule));
+
+    assertThat(
+        supportCalculator.getSupportUnits(),
+        is(
+            new SupportCalculator(units, List.of(rule), BattleState.Side.OFFENSE, true)
+                .getSupportUnits()));
+    assertThat(supportCalculator.getSupport(rule), is(3));
+  }
+
+  @Test
+  void removedUnitsNoLongerGiveSupport() {
+    getSupportCalculator(units, List.of(rule));
+
+    final SupportCalculator supportCalculator =
+        getSupportCalculator(List.of(units.get(0), units.get(2)), List.of(rule));
+
+    assertThat(supportCalculator.getSupport(rule), is(2));
+    assertThat(
+        supportCalculator.getSupportUnits().get(rule).keySet(),
+        contains(units.get(0), units.get(2)));
+  }
+
+  @Test
+  void addedUnitsGiveSupport() {
+    getSupportCalculator(List.of(units.get(0)), List.of(rule));
+
+    final SupportCalculator supportCalculator = getSupportCalculator(units, List.of(rule));
+
+    assertThat(supportCalculator.getSupport(rule), is(3));
+  }
+
+  @Test
+  void reorderedUnitsGiveSupportInTheirNewOrder() {
+    getSupportCalculator(units, List.of(rule));
+
+    final SupportCalculator supportCalculator =
+        getSupportCalculator(List.of(units.get(2), units.get(0)), List.of(rule));
+
+    assertThat(
+        supportCalculator.getSupportUnits().get(rule).keySet(),
+        contains(units.get(2), units.get(0)));
+  }
+
+  @Test
+  void changedRulesAreApplied() {
+    getSupportCalculator(units, List.of(rule));
+
+    final SupportCalculator supportCalculator = getSupportCalculator(units, List.of());
+
+    assertThat(supportCalculator.getSupport(rule), is(0));
+    assertThat(supportCalculator.getSupportRules().isEmpty(), is(true));
+  }
+}
@@ -0,0 +1,156 @@
+package games.strategy.triplea.image;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import java.awt.image.BufferedImage;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+final class DecodedTileCacheTest {
+  @TempDir Path tempDir;
+  private Path cacheFolder;
+  private Path sourceFile;
+  private URL source;
+  private final AtomicInteger decodeCount = new AtomicInteger();
+
+  @BeforeEach
+  void setUp() throws Exception {
+    cacheFolder = tempDir.resolve("cache");
+    sourceFile = tempDir.resolve("0_0.png");
+    Files.writeString(sourceFile, "tile");
+    source = sourceFile.toUri().toURL();
+  }
+
+  private Supplier<BufferedImage> decoder(final int imageType) {
+    return () -> {
+      decodeCount.incrementAndGet();
+      final BufferedImage image = new BufferedImage(7, 5, imageType);
+      for (int x = 0; x < image.getWidth(); x++) {
+        for (int y = 0; y < image.getHeight(); y++) {
+          image.setRGB(x, y, 0xFF000000 | (x * 0x251234) ^ (y * 0x0A0B0C));
+        }
+      }
+      return image;
+    };
+  }
+
+  private static void assertSamePixels(final BufferedImage actual, final BufferedImage expected) {
+    assertThat(actual.getType(), is(expected.getType()));
+    assertThat(actual.getWidth(), is(expected.getWidth()));
+    assertThat(actual.getHeight(), is(expected.getHeight()));
+    for (int x = 0; x < expected.getWidth(); x++) {
+      for (int y = 0; y < expected.getHeight(); y++) {
+        assertThat(actual.getRGB(x, y), is(expected.getRGB(x, y)));
+      }
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      ints = {
+        BufferedImage.TYPE_INT_ARGB,
+        BufferedImage.TYPE_INT_RGB,
+        BufferedImage.TYPE_3BYTE_BGR,
+        BufferedImage.TYPE_4BYTE_ABGR
+      })
+  void secondLoadIsReadFromCache(final int imageType) {
+    final DecodedTileCache cache = new DecodedTileCache(cacheFolder, Long.MAX_VALUE);
+
+    final BufferedImage decoded = cache.getOrDecode("plain", List.of(source), decoder(imageType));
+    final BufferedImage cached = cache.getOrDecode("plain", List.of(source), decoder(imageType));
+
+    assertThat(decodeCount.get(), is(1));
+    assertSamePixels(cached, decoded);
+  }
+
+  @Test
+  void changedSourceIsDecodedAgain() throws Exception {
+    final DecodedTileCache cache = new DecodedTileCache(cacheFolder, Long.MAX_VALUE);
+    cache.getOrDecode("plain", List.of(source), decoder(BufferedImage.TYPE_INT_RGB));
+
+    Files.writeString(sourceFile, " changed", StandardOpenOption.APPEND);
+    cache.getOrDecode("plain", List.of(source), decoder(BufferedImage.TYPE_INT_RGB));
+
+    assertThat(decodeCount.get(), is(2));
+  }
+
+  @Test
+  void variantsAreCachedSeparately() {
+    final DecodedTileCache cache = new DecodedTileCache(cacheFolder, Long.MAX_VALUE);
+
+    cache.getOrDecode("plain", List.of(source), decoder(BufferedImage.TYPE_INT_RGB));
+    cache.getOrDecode("blended", List.of(source), decoder(BufferedImage.TYPE_INT_ARGB));
+
+    assertThat(decodeCount.get(), is(2));
+  }
+
+  @Test
+  void corruptCacheFileIsReplaced() throws Exception {
+    final DecodedTileCache cache = new DecodedTileCache(cacheFolder, Long.MAX_VALUE);
+    final BufferedImage decoded =
+        cache.getOrDecode("plain", List.of(source), decoder(BufferedImage.TYPE_INT_RGB));
+    try (var files = Files.list(cacheFolder)) {
+      for (final Path file : (Iterable<Path>) files::iterator) {
+        Files.write(file, new byte[] {1, 2, 3});
+      }
+    }
+
+    final BufferedImage redecoded =
+        cache.getOrDecode("plain", List.of(source), decoder(BufferedImage.TYPE_INT_RGB));
+    final BufferedImage cached =
+        cache.getOrDecode("plain", List.of(source), decoder(BufferedImage.TYPE_INT_RGB));
+
+    assertThat(decodeCount.get(), is(2));
+    assertSamePixels(redecoded, decoded);
+    assertSamePixels(cached, decoded);
+  }
+
+  @Test
+  void leastRecentlyUsedFilesArePrunedDownToTheMaximumSize() throws Exception {
+    final DecodedTileCache unboundedCache = new DecodedTileCache(cacheFolder, Long.MAX_VALUE);
+    for (final String variant : List.of("first", "second", "third")) {
+      unboundedCache.getOrDecode(variant, List.of(source), decoder(BufferedImage.TYPE_INT_RGB));
+    }
+    final long fileSize;
+    try (var files = Files.list(cacheFolder)) {
+      final List<Path> cacheFiles = files.collect(Collectors.toList());
+      fileSize = Files.size(cacheFiles.get(0));
+      for (final Path file : cacheFiles) {
+        Files.setLastModifiedTime(file, FileTime.fromMillis(0));
+      }
+    }
+    unboundedCache.getOrDecode("first", List.of(source), decoder(BufferedImage.TYPE_INT_RGB));
+
+    new DecodedTileCache(cacheFolder, 2 * fileSize).prune();
+    decodeCount.set(0);
+    unboundedCache.getOrDecode("first", List.of(source), decoder(BufferedImage.TYPE_INT_RGB));
+
+    try (var files = Files.list(cacheFolder)) {
+      assertThat(files.count(), is(2L));
+    }
+    assertThat(decodeCount.get(), is(0));
+  }
+
+  @Test
+  void imagesWithCustomLayoutAreNotCached() {
+    final DecodedTileCache cache = new DecodedTileCache(cacheFolder, Long.MAX_VALUE);
+
+    cache.getOrDecode("plain", List.of(source), decoder(BufferedImage.TYPE_BYTE_GRAY));
+    cache.getOrDecode("plain", List.of(source), decoder(BufferedImage.TYPE_BYTE_GRAY));
+
+    assertThat(decodeCount.get(), is(2));
+  }
+}
@@ -0,0 +1,107 @@
+package games.strategy.triplea.ui.panel.move;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import games.strategy.engine.data.Change;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GamePlayer;
+import games.strategy.engine.data.Route;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import games.strategy.engine.data.UnitType;
+import games.strategy.triplea.delegate.AbstractMoveDelegate.MoveType;
+import games.strategy.triplea.ui.panel.move.MovableUnitsFilter.FilterOperationResult;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ReachabilityCacheTest {
+  @Mock private GameData gameData;
+  @Mock private Supplier<Route> routeFinder;
+  @Mock private Supplier<FilterOperationResult> unitsFilter;
+
+  private final ReachabilityCache reachabilityCache = new ReachabilityCache();
+
+  private Territory territory(final String name) {
+    return new Territory(name, gameData);
+  }
+
+  private Unit unit() {
+    final GamePlayer player = new GamePlayer("player", gameData);
+    return new Unit(new UnitType("infantry", gameData), player, gameData);
+  }
+
+  @Test
+  void routeIsFoundOnceForTheSameUnits() {
+    final Territory start = territory("start");
+    final Territory end = territory("end");
+    final List<Unit> units = List.of(unit(), unit());
+    final Route route = new Route(start, end);
+    when(routeFinder.get()).thenReturn(route);
+
+    reachabilityCache.getRoute(start, end, units, routeFinder);
+    final Route cachedRoute =
+        reachabilityCache.getRoute(start, end, List.of(units.get(1), units.get(0)), routeFinder);
+
+    assertThat(cachedRoute, is(sameInstance(route)));
+    verify(routeFinder).get();
+  }
+
+  @Test
+  void missingRouteIsCached() {
+    final Territory start = territory("start");
+    final Territory end = territory("end");
+    final List<Unit> units = List.of(unit());
+
+    reachabilityCache.getRoute(start, end, units, routeFinder);
+
+    assertThat(reachabilityCache.getRoute(start, end, units, routeFinder), is(nullValue()));
+    verify(routeFinder).get();
+  }
+
+  @Test
+  void routeIsFoundAgainAfterGameDataChanged() {
+    final Territory start = territory("start");
+    final Territory end = territory("end");
+    final List<Unit> units = List.of(unit());
+
+    reachabilityCache.getRoute(start, end, units, routeFinder);
+    reachabilityCache.gameDataChanged(mock(Change.class));
+    reachabilityCache.getRoute(start, end, units, routeFinder);
+
+    verify(routeFinder, times(2)).get();
+  }
+
+  @Test
+  void movableUnitsAreFilteredAgainWhenDependentUnitsChange() {
+    final Route route = new Route(territory("start"), territory("end"));
+    final Unit transport = unit();
+    final Unit cargo = unit();
+    final List<Unit> units = List.of(transport);
+    final FilterOperationResult result = mock(FilterOperationResult.class);
+    when(unitsFilter.get()).thenReturn(result);
+
+    reachabilityCache.getMovableUnits(
+        units, route, false, MoveType.DEFAULT, Map.of(), unitsFilter);
+    final FilterOperationResult cachedResult =
+        reachabilityCache.getMovableUnits(
+            units, route, false, MoveType.DEFAULT, Map.of(), unitsFilter);
+    reachabilityCache.getMovableUnits(
+        units, route, false, MoveType.DEFAULT, Map.of(transport, List.of(cargo)), unitsFilter);
+
+    assertThat(cachedResult, is(sameInstance(result)));
+    verify(unitsFilter, times(2)).get();
+  }
+}
@@ -0,0 +1,121 @@
+package tools.image;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+final class ImageStripReaderTest {
+  private static final int WIDTH = 300;
+  private static final int HEIGHT = 250;
+
+  @TempDir Path tempDir;
+
+  private static BufferedImage newImage(final int imageType) {
+    final BufferedImage image = new BufferedImage(WIDTH, HEIGHT, imageType);
+    final Graphics2D g = image.createGraphics();
+    for (int i = 0; i < 40; i++) {
+      g.setColor(new Color(i * 0x3F1E7, true));
+      g.fillOval(i * 7, i * 5, 60 + i, 40 + i * 2);
+    }
+    g.dispose();
+    return image;
+  }
+
+  private Path write(final BufferedImage image, final String format) throws IOException {
+    final Path file = tempDir.resolve("map." + format);
+    ImageIO.write(image, format, file.toFile());
+    return file;
+  }
+
+  private static void assertSamePixels(
+      final BufferedImage strip, final BufferedImage image, final int y) {
+    assertThat(strip.getWidth(), is(image.getWidth()));
+    for (int row = 0; row < strip.getHeight(); row++) {
+      for (int x = 0; x < strip.getWidth(); x++) {
+        assertThat(strip.getRGB(x, row), is(image.getRGB(x, y + row)));
+      }
+    }
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+    BufferedImage.TYPE_INT_ARGB + ",png",
+    BufferedImage.TYPE_3BYTE_BGR + ",png",
+    BufferedImage.TYPE_BYTE_INDEXED + ",png",
+    BufferedImage.TYPE_BYTE_BINARY + ",png",
+    BufferedImage.TYPE_BYTE_INDEXED + ",gif",
+    BufferedImage.TYPE_3BYTE_BGR + ",bmp"
+  })
+  void stripsHoldThePixelsOfTheImage(final int imageType, final String format)
+      throws IOException {
+    final Path file = write(newImage(imageType), format);
+    final BufferedImage image = ImageIO.read(file.toFile());
+    final List<Integer> stripStarts = new ArrayList<>();
+
+    ImageStripReader.read(
+        file,
+        100,
+        (strip, y) -> {
+          stripStarts.add(y);
+          assertThat(strip.getHeight(), is(Math.min(100, HEIGHT - y)));
+          assertSamePixels(strip, image, y);
+        });
+
+    assertThat(stripStarts, contains(0, 100, 200));
+  }
+
+  @Test
+  void stripsMayBeHigherThanTheImage() throws IOException {
+    final Path file = write(newImage(BufferedImage.TYPE_INT_ARGB), "png");
+    final BufferedImage image = ImageIO.read(file.toFile());
+    final List<Integer> stripStarts = new ArrayList<>();
+
+    ImageStripReader.read(
+        file,
+        1000,
+        (strip, y) -> {
+          stripStarts.add(y);
+          assertThat(strip.getHeight(), is(HEIGHT));
+          assertSamePixels(strip, image, y);
+        });
+
+    assertThat(stripStarts, contains(0));
+  }
+
+  @Test
+  void errorsOfTheConsumerArePassedOn() throws IOException {
+    final Path file = write(newImage(BufferedImage.TYPE_INT_ARGB), "png");
+
+    assertThrows(
+        IOException.class,
+        () ->
+            ImageStripReader.read(
+                file,
+                100,
+                (strip, y) -> {
+                  throw new IOException("failed to write tile");
+                }));
+  }
+
+  @Test
+  void filesThatAreNoImagesCannotBeRead() throws IOException {
+    final Path file = Files.writeString(tempDir.resolve("map.png"), "no image");
+
+    assertThrows(IOException.class, () -> ImageStripReader.read(file, 100, (strip, y) -> {}));
+  }
+}
@@ -0,0 +1,100 @@
+package tools.image;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Point;
+import java.awt.Polygon;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class PolygonFinderTest {
+  private static final Map<String, Point> CENTERS =
+      Map.of(
+          "Left", new Point(50, 50),
+          "Right", new Point(150, 50),
+          "Sea", new Point(30, 150),
+          "Island", new Point(100, 160));
+
+  /**
+   * Returns a map with two territories in the top half, a sea zone in the bottom half, and an
+   * island in the sea zone.
+   */
+  private static BufferedImage newMap() {
+    final BufferedImage map = new BufferedImage(200, 200, BufferedImage.TYPE_INT_ARGB);
+    final Graphics2D g = map.createGraphics();
+    g.setColor(Color.WHITE);
+    g.fillRect(0, 0, 200, 200);
+    g.setColor(Color.BLACK);
+    g.drawLine(0, 100, 199, 100);
+    g.drawLine(100, 0, 100, 100);
+    g.drawOval(80, 140, 40, 40);
+    g.dispose();
+    return map;
+  }
+
+  @Test
+  void blackPixelsAreTheBorders() {
+    final PolygonFinder polygonFinder = PolygonFinder.of(newMap());
+
+    assertThat(polygonFinder.isBlack(100, 50), is(true));
+    assertThat(polygonFinder.isBlack(50, 100), is(true));
+    assertThat(polygonFinder.isBlack(50, 50), is(false));
+    assertThat(polygonFinder.isBlack(-1, 50), is(false));
+    assertThat(polygonFinder.isBlack(100, 200), is(false));
+  }
+
+  @Test
+  void findPolygonFollowsTheBorder() {
+    final Polygon polygon = PolygonFinder.of(newMap()).findPolygon(50, 50).orElseThrow();
+
+    assertThat(polygon.contains(50, 50), is(true));
+    assertThat(polygon.contains(10, 90), is(true));
+    assertThat(polygon.contains(150, 50), is(false));
+    assertThat(polygon.contains(50, 150), is(false));
+  }
+
+  @Test
+  void containsBlackInsideFindsIslands() {
+    final PolygonFinder polygonFinder = PolygonFinder.of(newMap());
+
+    assertThat(
+        polygonFinder.containsBlackInside(polygonFinder.findPolygon(50, 50).orElseThrow()),
+        is(false));
+    assertThat(
+        polygonFinder.containsBlackInside(polygonFinder.findPolygon(30, 150).orElseThrow()),
+        is(true));
+  }
+
+  @Test
+  void findPolygonsLeavesOutTerritoriesWithIslands() {
+    final Map<String, List<Polygon>> polygons = PolygonFinder.of(newMap()).findPolygons(CENTERS);
+
+    assertThat(polygons.keySet(), containsInAnyOrder("Left", "Right", "Island"));
+    assertThat(polygons.get("Island"), hasSize(1));
+    assertThat(polygons.get("Island").get(0).contains(CENTERS.get("Island")), is(true));
+  }
+
+  @Test
+  void polygonsFoundInImageFileAreTheSame(@TempDir final Path tempDir) throws IOException {
+    final BufferedImage map = newMap();
+    final Path file = tempDir.resolve("map.png");
+    ImageIO.write(map, "png", file.toFile());
+
+    final Polygon expected = PolygonFinder.of(map).findPolygon(150, 50).orElseThrow();
+    final Polygon actual = PolygonFinder.read(file).findPolygon(150, 50).orElseThrow();
+
+    assertThat(actual.npoints, is(expected.npoints));
+    assertThat(actual.getBounds(), is(expected.getBounds()));
+  }
+}
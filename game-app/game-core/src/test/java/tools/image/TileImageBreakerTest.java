@@ -0,0 +1,58 @@
+package tools.image;
+
+import static games.strategy.triplea.ui.screen.TileManager.TILE_SIZE;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class TileImageBreakerTest {
+  @TempDir Path tempDir;
+
+  @Test
+  void imageIsBrokenIntoTiles() throws IOException {
+    final BufferedImage map =
+        new BufferedImage(TILE_SIZE + 10, TILE_SIZE + 20, BufferedImage.TYPE_INT_RGB);
+    final Graphics2D g = map.createGraphics();
+    g.setColor(Color.RED);
+    g.fillRect(0, 0, TILE_SIZE, TILE_SIZE);
+    g.setColor(Color.BLUE);
+    g.fillRect(TILE_SIZE, TILE_SIZE, 10, 20);
+    g.dispose();
+    final Path image = tempDir.resolve("map.png");
+    ImageIO.write(map, "png", image.toFile());
+    final Path tileFolder = Files.createDirectory(tempDir.resolve("baseTiles"));
+    final Collection<Path> tilesWritten = new ConcurrentLinkedQueue<>();
+
+    final int tileCount = TileImageBreaker.breakIntoTiles(image, tileFolder, tilesWritten::add);
+
+    assertThat(tileCount, is(4));
+    assertThat(
+        tilesWritten,
+        containsInAnyOrder(
+            tileFolder.resolve("0_0.png"),
+            tileFolder.resolve("1_0.png"),
+            tileFolder.resolve("0_1.png"),
+            tileFolder.resolve("1_1.png")));
+    final BufferedImage firstTile = ImageIO.read(tileFolder.resolve("0_0.png").toFile());
+    assertThat(firstTile.getRGB(0, 0), is(Color.RED.getRGB()));
+    assertThat(firstTile.getRGB(TILE_SIZE - 1, TILE_SIZE - 1), is(Color.RED.getRGB()));
+    final BufferedImage lastTile = ImageIO.read(tileFolder.resolve("1_1.png").toFile());
+    assertThat(lastTile.getWidth(), is(TILE_SIZE));
+    assertThat(lastTile.getHeight(), is(TILE_SIZE));
+    assertThat(lastTile.getRGB(9, 19), is(Color.BLUE.getRGB()));
+    // the part of the tile outside of the image is transparent
+    assertThat(lastTile.getRGB(10, 20), is(0));
+  }
+}
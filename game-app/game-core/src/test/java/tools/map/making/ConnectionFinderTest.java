@@ -0,0 +1,57 @@
+package tools.map.making;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+
+import java.awt.Polygon;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+final class ConnectionFinderTest {
+  private static Polygon square(final int x, final int y, final int size) {
+    return new Polygon(
+        new int[] {x, x + size, x + size, x}, new int[] {y, y, y + size, y + size}, 4);
+  }
+
+  @Test
+  void territoriesSharingBordersAreConnectedOnce() {
+    final Map<String, List<Polygon>> polygons =
+        Map.of(
+            "b", List.of(square(100, 0, 100)),
+            "a", List.of(square(0, 0, 100)),
+            "c", List.of(square(0, 100, 100), square(1000, 1000, 100)));
+
+    final Map<String, List<String>> connections =
+        ConnectionFinder.findConnections(polygons, 8, 32);
+
+    assertThat(connections.get("a"), contains("b", "c"));
+    assertThat(connections.get("b"), is(empty()));
+    assertThat(connections.get("c"), is(empty()));
+  }
+
+  @Test
+  void distantTerritoriesAreNotConnected() {
+    final Map<String, List<Polygon>> polygons =
+        Map.of("a", List.of(square(0, 0, 100)), "b", List.of(square(200, 0, 100)));
+
+    final Map<String, List<String>> connections =
+        ConnectionFinder.findConnections(polygons, 8, 32);
+
+    assertThat(connections.get("a"), is(empty()));
+    assertThat(connections.get("b"), is(empty()));
+  }
+
+  @Test
+  void cornersOverlappingLessThanTheMinimumAreNotConnected() {
+    final Map<String, List<Polygon>> polygons =
+        Map.of("a", List.of(square(0, 0, 100)), "b", List.of(square(100, 100, 100)));
+
+    final Map<String, List<String>> connections =
+        ConnectionFinder.findConnections(polygons, 8, 32);
+
+    assertThat(connections.get("a"), is(empty()));
+  }
+}
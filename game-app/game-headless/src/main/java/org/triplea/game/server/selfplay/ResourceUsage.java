@@ -0,0 +1,62 @@
+package org.triplea.game.server.selfplay;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Value;
+
+/**
+ * Garbage collection and allocation totals of the JVM. Allocations are counted per thread, bytes
+ * allocated by threads that end before the usage is measured again are not included.
+ */
+@Value
+class ResourceUsage {
+  long gcCount;
+  long gcMillis;
+  Map<Long, Long> allocatedBytesByThread;
+
+  static ResourceUsage measure() {
+    long gcCount = 0;
+    long gcMillis = 0;
+    for (final GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+      gcCount += Math.max(gc.getCollectionCount(), 0);
+      gcMillis += Math.max(gc.getCollectionTime(), 0);
+    }
+    return new ResourceUsage(gcCount, gcMillis, measureAllocatedBytes());
+  }
+
+  private static Map<Long, Long> measureAllocatedBytes() {
+    final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    if (!(threads instanceof com.sun.management.ThreadMXBean)) {
+      return Map.of();
+    }
+    final long[] threadIds = threads.getAllThreadIds();
+    final long[] allocatedBytes =
+        ((com.sun.management.ThreadMXBean) threads).getThreadAllocatedBytes(threadIds);
+    final Map<Long, Long> allocatedBytesByThread = new HashMap<>();
+    for (int i = 0; i < threadIds.length; i++) {
+      if (allocatedBytes[i] >= 0) {
+        allocatedBytesByThread.put(threadIds[i], allocatedBytes[i]);
+      }
+    }
+    return allocatedBytesByThread;
+  }
+
+  long gcCountSince(final ResourceUsage earlier) {
+    return gcCount - earlier.gcCount;
+  }
+
+  long gcMillisSince(final ResourceUsage earlier) {
+    return gcMillis - earlier.gcMillis;
+  }
+
+  long allocatedBytesSince(final ResourceUsage earlier) {
+    return allocatedBytesByThread.entrySet().stream()
+        .mapToLong(
+            e -> e.getValue() - earlier.allocatedBytesByThread.getOrDefault(e.getKey(), 0L))
+        .filter(bytes -> bytes > 0)
+        .sum();
+  }
+}
@@ -0,0 +1,61 @@
+package org.triplea.game.server.selfplay;
+
+import games.strategy.engine.chat.Chat;
+import games.strategy.engine.display.IDisplay;
+import games.strategy.engine.framework.HeadlessAutoSaveFileUtils;
+import games.strategy.engine.framework.IGame;
+import games.strategy.engine.framework.LocalPlayers;
+import games.strategy.engine.framework.ServerGame;
+import games.strategy.engine.framework.startup.launcher.LaunchAction;
+import games.strategy.engine.framework.startup.mc.ServerModel;
+import games.strategy.engine.framework.startup.ui.panels.main.game.selector.GameSelectorModel;
+import games.strategy.engine.player.Player;
+import games.strategy.triplea.ui.display.HeadlessDisplay;
+import java.nio.file.Path;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.triplea.sound.HeadlessSoundChannel;
+import org.triplea.sound.ISound;
+
+/** Launches a self-play game without display, sound or waiting for players to join. */
+@Slf4j
+class SelfPlayLaunchAction implements LaunchAction {
+  @Override
+  public void handleGameInterruption(
+      final GameSelectorModel gameSelectorModel, final ServerModel serverModel) {}
+
+  @Override
+  public void onGameInterrupt() {}
+
+  @Override
+  public void onEnd(final String message) {
+    log.info(message);
+  }
+
+  @Override
+  public IDisplay startGame(
+      final LocalPlayers localPlayers,
+      final IGame game,
+      final Set<Player> players,
+      final Chat chat) {
+    return new HeadlessDisplay();
+  }
+
+  @Override
+  public ISound getSoundChannel(final LocalPlayers localPlayers) {
+    return new HeadlessSoundChannel();
+  }
+
+  @Override
+  public Path getAutoSaveFile() {
+    return getAutoSaveFileUtils().getHeadlessAutoSaveFile();
+  }
+
+  @Override
+  public void onLaunch(final ServerGame serverGame) {}
+
+  @Override
+  public HeadlessAutoSaveFileUtils getAutoSaveFileUtils() {
+    return new HeadlessAutoSaveFileUtils();
+  }
+}
@@ -0,0 +1,124 @@
+package org.triplea.game.server.selfplay;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.Builder;
+import lombok.Value;
+import org.triplea.game.server.selfplay.StepTimer.Stats;
+import org.triplea.performance.MetricSnapshot;
+import org.triplea.performance.MetricsReporter;
+
+/** The timings and resource usage of a self-play game. */
+@Builder
+@Value
+class SelfPlayReport {
+  private static final String BATTLE_CALCULATOR_RUNS = "battle-calculator.runs";
+  private static final String GAME_DATA_CLONE_BYTES = "game-data.clone-bytes";
+
+  enum Outcome {
+    /** All requested rounds were played. */
+    COMPLETED,
+    /** The game ended with a victory before all requested rounds were played. */
+    GAME_OVER,
+    /** The game was stopped because it took longer than allowed. */
+    TIMED_OUT,
+    /** The game was stopped by an error. */
+    FAILED
+  }
+
+  String gameName;
+  String playerType;
+  long diceSeed;
+  int rounds;
+  int roundsStarted;
+  Outcome outcome;
+  long wallTimeNanos;
+  Map<String, Stats> turnTimes;
+  Map<String, Stats> phaseTimes;
+  Map<String, MetricSnapshot> metrics;
+  long gcCount;
+  long gcMillis;
+  long allocatedBytes;
+
+  boolean isSuccess() {
+    return outcome == Outcome.COMPLETED || outcome == Outcome.GAME_OVER;
+  }
+
+  /** Formats the report as plain text, one table or total per paragraph. */
+  String format() {
+    final StringBuilder report = new StringBuilder();
+    report.append(
+        String.format(
+            Locale.ROOT,
+            "Self-play of %s by %s, dice seed %d: %s after %d of %d rounds in %d ms%n",
+            gameName,
+            playerType,
+            diceSeed,
+            outcome,
+            roundsStarted,
+            rounds,
+            TimeUnit.NANOSECONDS.toMillis(wallTimeNanos)));
+    appendTable(report, "Player turns", turnTimes);
+    appendTable(report, "Phases", phaseTimes);
+    final MetricSnapshot battleCalculatorRuns = getMetric(BATTLE_CALCULATOR_RUNS);
+    report.append(
+        String.format(
+            Locale.ROOT,
+            "%nBattle calculator: %d calls, %d runs%n",
+            battleCalculatorRuns.getCount(),
+            battleCalculatorRuns.getSum()));
+    final MetricSnapshot cloneBytes = getMetric(GAME_DATA_CLONE_BYTES);
+    report.append(
+        String.format(
+            Locale.ROOT,
+            "Game data clones: %d clones, %.1f MB%n",
+            cloneBytes.getCount(),
+            toMegabytes(cloneBytes.getSum())));
+    report.append(
+        String.format(
+            Locale.ROOT,
+            "Garbage collection: %d collections, %d ms%n",
+            gcCount,
+            gcMillis));
+    report.append(
+        String.format(Locale.ROOT, "Allocated: %.1f MB%n", toMegabytes(allocatedBytes)));
+    report.append(String.format(Locale.ROOT, "%nEngine metrics%n"));
+    MetricsReporter.toLogLines(metrics)
+        .forEach(line -> report.append(String.format(Locale.ROOT, "%s%n", line)));
+    return report.toString();
+  }
+
+  private MetricSnapshot getMetric(final String name) {
+    return metrics.getOrDefault(
+        name, MetricSnapshot.builder().type(MetricSnapshot.Type.HISTOGRAM).build());
+  }
+
+  private static void appendTable(
+      final StringBuilder report, final String title, final Map<String, Stats> times) {
+    report.append(
+        String.format(
+            Locale.ROOT,
+            "%n%-24s %8s %12s %10s %10s%n",
+            title,
+            "count",
+            "total ms",
+            "mean ms",
+            "max ms"));
+    times.forEach(
+        (name, stats) ->
+            report.append(
+                String.format(
+                    Locale.ROOT,
+                    "%-24s %8d %12d %10d %10d%n",
+                    name,
+                    stats.getCount(),
+                    TimeUnit.NANOSECONDS.toMillis(stats.getTotalNanos()),
+                    TimeUnit.NANOSECONDS.toMillis(stats.meanNanos()),
+                    TimeUnit.NANOSECONDS.toMillis(stats.getMaxNanos()))));
+  }
+
+  private static double toMegabytes(final long bytes) {
+    return bytes / (1024.0 * 1024.0);
+  }
+}
@@ -0,0 +1,238 @@
+package org.triplea.game.server.selfplay;
+
+import static games.strategy.engine.framework.CliProperties.TRIPLEA_GAME;
+import static games.strategy.engine.framework.CliProperties.TRIPLEA_NAME;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GameDataEvent;
+import games.strategy.engine.data.GamePlayer;
+import games.strategy.engine.data.gameparser.GameParser;
+import games.strategy.engine.framework.ArgParser;
+import games.strategy.engine.framework.GameRunner;
+import games.strategy.engine.framework.ServerGame;
+import games.strategy.engine.framework.message.PlayerListing;
+import games.strategy.engine.framework.startup.ui.PlayerTypes;
+import games.strategy.engine.player.Player;
+import games.strategy.engine.random.PlainRandomSource;
+import games.strategy.net.LocalNoOpMessenger;
+import games.strategy.net.Messengers;
+import games.strategy.net.websocket.ClientNetworkBridge;
+import games.strategy.triplea.settings.ClientSetting;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+import org.triplea.config.product.ProductVersionReader;
+import org.triplea.game.server.selfplay.SelfPlayReport.Outcome;
+import org.triplea.injection.Injections;
+import org.triplea.java.Interruptibles;
+import org.triplea.performance.Metrics;
+import org.triplea.util.ExitStatus;
+
+/**
+ * Plays a game with the same AI for all players, without display and network, and reports where
+ * the time went. Runs are not reproducible: only the dice are rolled with a seeded random source.
+ * The AIs draw random numbers of their own, and their decisions depend on battle calculator
+ * simulations run on several threads, so two runs with the same dice seed still play different
+ * games. Compare the timings of several runs rather than of single runs.
+ *
+ * <p>The process exits with a failure status if the game fails or takes longer than allowed, so
+ * that the runner can be used as a performance regression check in a build.
+ */
+@Slf4j
+@Builder
+public final class SelfPlayRunner {
+  public static final String SELF_PLAY_AI = "triplea.selfplay.ai";
+  public static final String SELF_PLAY_ROUNDS = "triplea.selfplay.rounds";
+  public static final String SELF_PLAY_DICE_SEED = "triplea.selfplay.diceSeed";
+  public static final String SELF_PLAY_MAX_SECONDS = "triplea.selfplay.maxSeconds";
+  public static final String SELF_PLAY_REPORT = "triplea.selfplay.report";
+
+  private static final String AUTO_SAVE_PREFIX = "SelfPlay";
+  private static final long STOP_TIMEOUT_MILLIS = 30_000;
+  private static final Map<String, PlayerTypes.Type> AI_TYPES =
+      Map.of(
+          "pro", PlayerTypes.PRO_AI,
+          "fast", PlayerTypes.FAST_AI,
+          "weak", PlayerTypes.WEAK_AI);
+
+  private final Path gameFile;
+  private final PlayerTypes.Type playerType;
+  private final int rounds;
+  private final long diceSeed;
+  /** Maximum wall time of the game in seconds, zero for no limit. */
+  private final long maxSeconds;
+
+  /**
+   * Entry point of the self-play runner. Arguments are passed as "-Pkey=value":
+   *
+   * <ul>
+   *   <li>{@value games.strategy.engine.framework.CliProperties#TRIPLEA_GAME}: the game XML file
+   *   <li>{@value #SELF_PLAY_AI}: pro, fast or weak, defaults to pro
+   *   <li>{@value #SELF_PLAY_ROUNDS}: the number of rounds to play, defaults to 3
+   *   <li>{@value #SELF_PLAY_DICE_SEED}: the seed of the dice, defaults to 0
+   *   <li>{@value #SELF_PLAY_MAX_SECONDS}: the time limit of the game, defaults to no limit
+   *   <li>{@value #SELF_PLAY_REPORT}: a file to also write the report to
+   * </ul>
+   */
+  public static void main(final String[] args) {
+    Injections.init(
+        Injections.builder()
+            .engineVersion(new ProductVersionReader().getVersion())
+            .playerTypes(PlayerTypes.getBuiltInPlayerTypes())
+            .build());
+    ClientSetting.initialize();
+    System.setProperty(GameRunner.TRIPLEA_HEADLESS, "true");
+    ArgParser.handleCommandLineArgs(args);
+    if (System.getProperty(TRIPLEA_NAME, "").isEmpty()) {
+      // keep auto-saves apart from the auto-saves of games played by the user
+      System.setProperty(TRIPLEA_NAME, AUTO_SAVE_PREFIX);
+    }
+
+    final String gameFile = System.getProperty(TRIPLEA_GAME, "");
+    final String aiName = System.getProperty(SELF_PLAY_AI, "pro");
+    Preconditions.checkArgument(!gameFile.isEmpty(), "Missing argument: %s", TRIPLEA_GAME);
+    Preconditions.checkArgument(AI_TYPES.containsKey(aiName), "Unknown AI: %s", aiName);
+
+    final SelfPlayReport report =
+        SelfPlayRunner.builder()
+            .gameFile(Path.of(gameFile))
+            .playerType(AI_TYPES.get(aiName))
+            .rounds(Integer.parseInt(System.getProperty(SELF_PLAY_ROUNDS, "3")))
+            .diceSeed(Long.parseLong(System.getProperty(SELF_PLAY_DICE_SEED, "0")))
+            .maxSeconds(Long.parseLong(System.getProperty(SELF_PLAY_MAX_SECONDS, "0")))
+            .build()
+            .run();
+    final String formattedReport = report.format();
+    log.info("\n{}", formattedReport);
+    Optional.ofNullable(System.getProperty(SELF_PLAY_REPORT))
+        .ifPresent(reportFile -> writeReport(Path.of(reportFile), formattedReport));
+    (report.isSuccess() ? ExitStatus.SUCCESS : ExitStatus.FAILURE).exit();
+  }
+
+  private static void writeReport(final Path reportFile, final String report) {
+    try {
+      Files.writeString(reportFile, report);
+    } catch (final IOException e) {
+      log.error("Failed to write report: " + reportFile.toAbsolutePath(), e);
+    }
+  }
+
+  /** Plays the game until the requested rounds are played, and reports on it. */
+  public SelfPlayReport run() {
+    Preconditions.checkArgument(rounds > 0, "rounds must be > 0");
+    final GameData gameData =
+        GameParser.parse(gameFile)
+            .orElseThrow(() -> new IllegalArgumentException("Failed to parse game: " + gameFile));
+    final ServerGame game = newGame(gameData);
+    final StepTimer stepTimer = new StepTimer(gameData, rounds);
+    gameData.addGameDataEventListener(GameDataEvent.GAME_STEP_CHANGED, stepTimer);
+
+    Metrics.setEnabled(true);
+    Metrics.reset();
+    final ResourceUsage usageBefore = ResourceUsage.measure();
+    final long start = System.nanoTime();
+    final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+    final Thread gameThread =
+        new Thread(
+            () -> {
+              try {
+                game.startGame();
+              } catch (final RuntimeException e) {
+                log.error("Self-play game failed", e);
+                failure.set(e);
+              } finally {
+                stepTimer.stop();
+              }
+            },
+            "Self-play game");
+    gameThread.start();
+
+    if (maxSeconds > 0) {
+      Interruptibles.await(
+          () -> stepTimer.getLastRoundPlayed().await(maxSeconds, TimeUnit.SECONDS));
+    } else {
+      Interruptibles.await(stepTimer.getLastRoundPlayed());
+    }
+    final boolean inTime = stepTimer.getLastRoundPlayed().getCount() == 0;
+    stepTimer.stop();
+    final long wallTimeNanos = System.nanoTime() - start;
+    if (gameThread.isAlive()) {
+      game.stopGame();
+      Interruptibles.await(() -> gameThread.join(STOP_TIMEOUT_MILLIS));
+    }
+    final ResourceUsage usageAfter = ResourceUsage.measure();
+
+    return SelfPlayReport.builder()
+        .gameName(gameData.getGameName())
+        .playerType(playerType.getLabel())
+        .diceSeed(diceSeed)
+        .rounds(rounds)
+        .roundsStarted(stepTimer.getRoundsStarted())
+        .outcome(outcomeOf(failure.get() != null, inTime, stepTimer.isAllRoundsPlayed()))
+        .wallTimeNanos(wallTimeNanos)
+        .turnTimes(stepTimer.getTurnTimes())
+        .phaseTimes(stepTimer.getPhaseTimes())
+        .metrics(Metrics.snapshot())
+        .gcCount(usageAfter.gcCountSince(usageBefore))
+        .gcMillis(usageAfter.gcMillisSince(usageBefore))
+        .allocatedBytes(usageAfter.allocatedBytesSince(usageBefore))
+        .build();
+  }
+
+  @VisibleForTesting
+  static Outcome outcomeOf(
+      final boolean failed, final boolean inTime, final boolean allRoundsPlayed) {
+    if (failed) {
+      return Outcome.FAILED;
+    } else if (!inTime) {
+      return Outcome.TIMED_OUT;
+    }
+    return allRoundsPlayed ? Outcome.COMPLETED : Outcome.GAME_OVER;
+  }
+
+  /** Sets up the game like a local game, with an AI of the requested type for every player. */
+  private ServerGame newGame(final GameData gameData) {
+    final Map<String, Boolean> playersEnabled = new HashMap<>();
+    final Map<String, PlayerTypes.Type> playerTypes = new HashMap<>();
+    for (final GamePlayer player : gameData.getPlayerList().getPlayers()) {
+      playersEnabled.put(player.getName(), true);
+      playerTypes.put(player.getName(), playerType);
+    }
+    final PlayerListing playerListing =
+        new PlayerListing(
+            playersEnabled,
+            playerTypes,
+            gameData.getGameName(),
+            String.valueOf(gameData.getSequence().getRound()));
+    gameData.doPreGameStartDataModifications(playerListing);
+
+    final SelfPlayLaunchAction launchAction = new SelfPlayLaunchAction();
+    final Set<Player> gamePlayers =
+        gameData
+            .getGameLoader()
+            .newPlayers(
+                playerListing.getLocalPlayerTypeMap(
+                    new PlayerTypes(Injections.getInstance().getPlayerTypes())));
+    final ServerGame game =
+        new ServerGame(
+            gameData,
+            gamePlayers,
+            new HashMap<>(),
+            new Messengers(new LocalNoOpMessenger()),
+            ClientNetworkBridge.NO_OP_SENDER,
+            launchAction);
+    game.setRandomSource(new PlainRandomSource(diceSeed));
+    gameData.getGameLoader().startGame(game, gamePlayers, launchAction, null);
+    return game;
+  }
+}
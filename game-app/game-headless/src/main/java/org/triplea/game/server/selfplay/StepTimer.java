@@ -0,0 +1,110 @@
+package org.triplea.game.server.selfplay;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GamePlayer;
+import games.strategy.engine.data.GameStep;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import javax.annotation.Nullable;
+import lombok.Getter;
+import lombok.Value;
+
+/**
+ * Measures the wall time of game steps, listening to step changes of a running game. A step lasts
+ * from its step change to the next one, so the time includes the AI deciding its moves as well as
+ * the delegate and the auto-save of the step. Steps are grouped into player turns, the consecutive
+ * steps of a player within a round, and into phases by the delegate that runs them. Move steps are
+ * split into combat and non-combat moves, which are separate phases for the AIs.
+ */
+class StepTimer implements Runnable {
+  private final GameData gameData;
+  private final int firstRound;
+  private final int lastRound;
+  @Getter private final CountDownLatch lastRoundPlayed = new CountDownLatch(1);
+
+  @Getter private final Map<String, Stats> turnTimes = new TreeMap<>();
+  @Getter private final Map<String, Stats> phaseTimes = new TreeMap<>();
+  @Getter private int roundsStarted;
+  @Getter private boolean allRoundsPlayed;
+
+  @Nullable private GamePlayer currentPlayer;
+  private int currentRound;
+  @Nullable private String currentPhase;
+  private long stepStart;
+  private long turnStart;
+
+  /** The number, the total and the maximum duration of the measured turns or steps. */
+  @Value
+  static class Stats {
+    int count;
+    long totalNanos;
+    long maxNanos;
+
+    static Stats of(final long nanos) {
+      return new Stats(1, nanos, nanos);
+    }
+
+    Stats plus(final Stats other) {
+      return new Stats(
+          count + other.count, totalNanos + other.totalNanos, Math.max(maxNanos, other.maxNanos));
+    }
+
+    long meanNanos() {
+      return count == 0 ? 0 : totalNanos / count;
+    }
+  }
+
+  StepTimer(final GameData gameData, final int rounds) {
+    this.gameData = gameData;
+    firstRound = gameData.getSequence().getRound();
+    lastRound = firstRound + rounds - 1;
+  }
+
+  /** Called on every step change, ends the timing of the previous step and starts the next one. */
+  @Override
+  public synchronized void run() {
+    if (lastRoundPlayed.getCount() == 0) {
+      return;
+    }
+    final long now = System.nanoTime();
+    final GameStep step = gameData.getSequence().getStep();
+    final int round = gameData.getSequence().getRound();
+    final GamePlayer player = step.getPlayerId();
+
+    if (currentPhase != null) {
+      phaseTimes.merge(currentPhase, Stats.of(now - stepStart), Stats::plus);
+    }
+    if (currentPlayer != null && (!currentPlayer.equals(player) || currentRound != round)) {
+      turnTimes.merge(currentPlayer.getName(), Stats.of(now - turnStart), Stats::plus);
+      currentPlayer = null;
+    }
+    if (round > lastRound) {
+      allRoundsPlayed = true;
+      stop();
+      return;
+    }
+    if (player != null && currentPlayer == null) {
+      turnStart = now;
+    }
+    roundsStarted = round - firstRound + 1;
+    currentPlayer = player;
+    currentRound = round;
+    currentPhase = player == null ? null : phaseOf(step);
+    stepStart = now;
+  }
+
+  /** Stops timing, the remaining steps of an unfinished turn are not counted. */
+  synchronized void stop() {
+    currentPlayer = null;
+    currentPhase = null;
+    lastRoundPlayed.countDown();
+  }
+
+  private static String phaseOf(final GameStep step) {
+    if (GameStep.isMoveStep(step.getName())) {
+      return step.isNonCombat() ? "nonCombatMove" : "combatMove";
+    }
+    return step.getDelegate().getName();
+  }
+}
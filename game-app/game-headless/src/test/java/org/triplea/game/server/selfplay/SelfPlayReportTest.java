@@ -0,0 +1,72 @@
+package org.triplea.game.server.selfplay;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.triplea.game.server.selfplay.SelfPlayReport.Outcome;
+import org.triplea.game.server.selfplay.StepTimer.Stats;
+import org.triplea.performance.MetricSnapshot;
+
+class SelfPlayReportTest {
+  private static SelfPlayReport.SelfPlayReportBuilder givenReport() {
+    return SelfPlayReport.builder()
+        .gameName("Test Game")
+        .playerType("Hard (AI)")
+        .diceSeed(42)
+        .rounds(3)
+        .roundsStarted(3)
+        .outcome(Outcome.COMPLETED)
+        .wallTimeNanos(TimeUnit.SECONDS.toNanos(2))
+        .turnTimes(Map.of("Germans", new Stats(3, TimeUnit.MILLISECONDS.toNanos(300), 0)))
+        .phaseTimes(Map.of())
+        .metrics(Map.of())
+        .gcCount(5)
+        .gcMillis(20)
+        .allocatedBytes(3 * 1024 * 1024);
+  }
+
+  @ParameterizedTest
+  @EnumSource(value = Outcome.class, names = {"COMPLETED", "GAME_OVER"})
+  void finishedGamesAreSuccessful(final Outcome outcome) {
+    assertThat(givenReport().outcome(outcome).build().isSuccess(), is(true));
+  }
+
+  @ParameterizedTest
+  @EnumSource(value = Outcome.class, names = {"TIMED_OUT", "FAILED"})
+  void stoppedGamesAreNotSuccessful(final Outcome outcome) {
+    assertThat(givenReport().outcome(outcome).build().isSuccess(), is(false));
+  }
+
+  @Test
+  void formatContainsTimesAndTotals() {
+    final String report =
+        givenReport()
+            .metrics(
+                Map.of(
+                    "battle-calculator.runs",
+                    MetricSnapshot.builder()
+                        .type(MetricSnapshot.Type.HISTOGRAM)
+                        .count(2)
+                        .sum(4000)
+                        .build()))
+            .build()
+            .format();
+
+    assertThat(
+        report,
+        containsString(
+            "Self-play of Test Game by Hard (AI), dice seed 42: COMPLETED after 3 of 3 rounds"
+                + " in 2000 ms"));
+    assertThat(report, containsString("Germans"));
+    assertThat(report, containsString("Battle calculator: 2 calls, 4000 runs"));
+    assertThat(report, containsString("Game data clones: 0 clones, 0.0 MB"));
+    assertThat(report, containsString("Garbage collection: 5 collections, 20 ms"));
+    assertThat(report, containsString("Allocated: 3.0 MB"));
+  }
+}
@@ -0,0 +1,36 @@
+package org.triplea.game.server.selfplay;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.triplea.game.server.selfplay.SelfPlayReport.Outcome;
+
+class SelfPlayRunnerTest {
+  @Test
+  void failureIsReportedBeforeTimeout() {
+    assertThat(SelfPlayRunner.outcomeOf(true, false, false), is(Outcome.FAILED));
+    assertThat(SelfPlayRunner.outcomeOf(true, true, true), is(Outcome.FAILED));
+  }
+
+  @Test
+  void gameStoppedByTimeLimitTimedOut() {
+    assertThat(SelfPlayRunner.outcomeOf(false, false, false), is(Outcome.TIMED_OUT));
+  }
+
+  @Test
+  void gameEndedInTimeCompletedOrIsOver() {
+    assertThat(SelfPlayRunner.outcomeOf(false, true, true), is(Outcome.COMPLETED));
+    assertThat(SelfPlayRunner.outcomeOf(false, true, false), is(Outcome.GAME_OVER));
+  }
+
+  @Test
+  void atLeastOneRoundMustBePlayed() {
+    final SelfPlayRunner runner =
+        SelfPlayRunner.builder().gameFile(Path.of("game.xml")).rounds(0).build();
+
+    assertThrows(IllegalArgumentException.class, runner::run);
+  }
+}
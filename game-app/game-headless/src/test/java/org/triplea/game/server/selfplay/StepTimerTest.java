@@ -0,0 +1,117 @@
+package org.triplea.game.server.selfplay;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GamePlayer;
+import games.strategy.engine.data.GameSequence;
+import games.strategy.engine.data.GameStep;
+import games.strategy.engine.delegate.IDelegate;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.triplea.game.server.selfplay.StepTimer.Stats;
+
+@ExtendWith(MockitoExtension.class)
+class StepTimerTest {
+  @Mock private GameData gameData;
+  @Mock private GameSequence sequence;
+  @Mock private GamePlayer germans;
+  @Mock private GamePlayer russians;
+
+  @BeforeEach
+  void setUp() {
+    when(gameData.getSequence()).thenReturn(sequence);
+  }
+
+  private static GameStep givenStep(final String name, final GamePlayer player) {
+    final GameStep step = mock(GameStep.class);
+    when(step.getName()).thenReturn(name);
+    when(step.getPlayerId()).thenReturn(player);
+    return step;
+  }
+
+  private static GameStep givenDelegateStep(
+      final String name, final GamePlayer player, final String delegateName) {
+    final GameStep step = givenStep(name, player);
+    final IDelegate delegate = mock(IDelegate.class);
+    when(delegate.getName()).thenReturn(delegateName);
+    when(step.getDelegate()).thenReturn(delegate);
+    return step;
+  }
+
+  private static GameStep givenMoveStep(
+      final String name, final GamePlayer player, final boolean nonCombat) {
+    final GameStep step = givenStep(name, player);
+    when(step.isNonCombat()).thenReturn(nonCombat);
+    return step;
+  }
+
+  private static GameStep givenNextRoundStep(final GamePlayer player) {
+    final GameStep step = mock(GameStep.class);
+    when(step.getPlayerId()).thenReturn(player);
+    return step;
+  }
+
+  @Test
+  void stepsAreGroupedIntoTurnsAndPhasesUntilTheLastRoundIsPlayed() {
+    when(germans.getName()).thenReturn("Germans");
+    when(russians.getName()).thenReturn("Russians");
+    when(sequence.getRound()).thenReturn(1, 1, 1, 1, 1, 2);
+    when(sequence.getStep())
+        .thenReturn(
+            givenDelegateStep("germansPurchase", germans, "purchase"),
+            givenMoveStep("germansCombatMove", germans, false),
+            givenMoveStep("germansNonCombatMove", germans, true),
+            givenDelegateStep("russiansPurchase", russians, "purchase"),
+            givenNextRoundStep(germans));
+    final StepTimer stepTimer = new StepTimer(gameData, 1);
+
+    for (int i = 0; i < 5; i++) {
+      stepTimer.run();
+    }
+
+    assertThat(stepTimer.isAllRoundsPlayed(), is(true));
+    assertThat(stepTimer.getLastRoundPlayed().getCount(), is(0L));
+    assertThat(stepTimer.getRoundsStarted(), is(1));
+    assertThat(stepTimer.getTurnTimes().keySet(), is(Set.of("Germans", "Russians")));
+    assertThat(stepTimer.getTurnTimes().get("Germans").getCount(), is(1));
+    assertThat(
+        stepTimer.getPhaseTimes().keySet(), is(Set.of("purchase", "combatMove", "nonCombatMove")));
+    assertThat(stepTimer.getPhaseTimes().get("purchase").getCount(), is(2));
+    assertThat(stepTimer.getPhaseTimes().get("combatMove").getCount(), is(1));
+  }
+
+  @Test
+  void stepsAfterStopAreNotTimed() {
+    when(sequence.getRound()).thenReturn(1);
+    when(sequence.getStep()).thenReturn(givenDelegateStep("germansPurchase", germans, "purchase"));
+    final StepTimer stepTimer = new StepTimer(gameData, 3);
+
+    stepTimer.run();
+    stepTimer.stop();
+    stepTimer.run();
+
+    assertThat(stepTimer.isAllRoundsPlayed(), is(false));
+    assertThat(stepTimer.getRoundsStarted(), is(1));
+    assertThat(stepTimer.getTurnTimes().isEmpty(), is(true));
+    assertThat(stepTimer.getPhaseTimes().isEmpty(), is(true));
+  }
+
+  @Test
+  void statsAddUp() {
+    final Stats stats = Stats.of(10).plus(Stats.of(30)).plus(Stats.of(20));
+
+    assertThat(stats.getCount(), is(3));
+    assertThat(stats.getTotalNanos(), is(60L));
+    assertThat(stats.getMaxNanos(), is(30L));
+    assertThat(stats.meanNanos(), is(20L));
+    assertThat(new Stats(0, 0, 0).meanNanos(), is(0L));
+  }
+}
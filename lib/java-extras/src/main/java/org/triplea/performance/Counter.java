@@ -0,0 +1,30 @@
+package org.triplea.performance;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/** Counts events, for example the number of bytes written. */
+public final class Counter implements Metric {
+  private final LongAdder count = new LongAdder();
+
+  Counter() {}
+
+  public void increment() {
+    add(1);
+  }
+
+  public void add(final long amount) {
+    if (Metrics.isEnabled()) {
+      count.add(amount);
+    }
+  }
+
+  @Override
+  public MetricSnapshot snapshot() {
+    return MetricSnapshot.builder().type(MetricSnapshot.Type.COUNTER).count(count.sum()).build();
+  }
+
+  @Override
+  public void reset() {
+    count.reset();
+  }
+}
@@ -0,0 +1,100 @@
+package org.triplea.performance;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the distribution of values, for example the size of a queue. Values are counted in
+ * buckets of powers of two, so percentiles are reported as the upper bound of their bucket, at
+ * most twice the actual value. Recording never blocks, concurrent recordings are spread over
+ * striped adders.
+ */
+public final class Histogram implements Metric {
+  private static final int BUCKET_COUNT = Long.SIZE;
+
+  private final MetricSnapshot.Type type;
+  private final LongAdder sum = new LongAdder();
+  private final LongAccumulator min = new LongAccumulator(Math::min, Long.MAX_VALUE);
+  private final LongAccumulator max = new LongAccumulator(Math::max, Long.MIN_VALUE);
+  // bucket i counts the values of bit length i, i.e. the values from 2^(i-1) to 2^i - 1
+  private final LongAdder[] buckets = new LongAdder[BUCKET_COUNT];
+
+  Histogram() {
+    this(MetricSnapshot.Type.HISTOGRAM);
+  }
+
+  Histogram(final MetricSnapshot.Type type) {
+    this.type = type;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      buckets[i] = new LongAdder();
+    }
+  }
+
+  /** Records a value, negative values are recorded as zero. */
+  public void record(final long value) {
+    if (!Metrics.isEnabled()) {
+      return;
+    }
+    final long recorded = Math.max(value, 0);
+    sum.add(recorded);
+    min.accumulate(recorded);
+    max.accumulate(recorded);
+    buckets[bucketOf(recorded)].increment();
+  }
+
+  private static int bucketOf(final long value) {
+    return Long.SIZE - Long.numberOfLeadingZeros(value);
+  }
+
+  private static long upperBoundOf(final int bucket) {
+    // for the last bucket the shift overflows to Long.MIN_VALUE, minus one is Long.MAX_VALUE
+    return bucket == 0 ? 0 : (1L << bucket) - 1;
+  }
+
+  @Override
+  public MetricSnapshot snapshot() {
+    final long[] bucketCounts = new long[BUCKET_COUNT];
+    long total = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      bucketCounts[i] = buckets[i].sum();
+      total += bucketCounts[i];
+    }
+    if (total == 0) {
+      return MetricSnapshot.builder().type(type).build();
+    }
+    final long maxValue = max.get();
+    return MetricSnapshot.builder()
+        .type(type)
+        .count(total)
+        .sum(sum.sum())
+        .min(min.get())
+        .max(maxValue)
+        .p50(percentile(bucketCounts, total, 0.50, maxValue))
+        .p90(percentile(bucketCounts, total, 0.90, maxValue))
+        .p99(percentile(bucketCounts, total, 0.99, maxValue))
+        .build();
+  }
+
+  private static long percentile(
+      final long[] bucketCounts, final long total, final double quantile, final long maxValue) {
+    final long rank = (long) Math.ceil(quantile * total);
+    long counted = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      counted += bucketCounts[i];
+      if (counted >= rank) {
+        return Math.min(upperBoundOf(i), maxValue);
+      }
+    }
+    return maxValue;
+  }
+
+  @Override
+  public void reset() {
+    sum.reset();
+    min.reset();
+    max.reset();
+    for (final LongAdder bucket : buckets) {
+      bucket.reset();
+    }
+  }
+}
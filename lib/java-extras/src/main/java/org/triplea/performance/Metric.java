@@ -0,0 +1,8 @@
+package org.triplea.performance;
+
+/** A named value recorded by the engine, see {@link Metrics}. */
+interface Metric {
+  MetricSnapshot snapshot();
+
+  void reset();
+}
@@ -0,0 +1,32 @@
+package org.triplea.performance;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * The values recorded by a metric. A counter only has a count, timers and histograms have the
+ * number of recorded values in {@code count}. Timer values are in nanoseconds.
+ */
+@Value
+@Builder
+public class MetricSnapshot {
+  /** The kind of metric a snapshot was taken of. */
+  public enum Type {
+    COUNTER,
+    TIMER,
+    HISTOGRAM
+  }
+
+  Type type;
+  long count;
+  long sum;
+  long min;
+  long max;
+  long p50;
+  long p90;
+  long p99;
+
+  public long getMean() {
+    return count == 0 ? 0 : sum / count;
+  }
+}
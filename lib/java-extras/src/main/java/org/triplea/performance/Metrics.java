@@ -0,0 +1,77 @@
+package org.triplea.performance;
+
+import com.google.common.base.Preconditions;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Registry of the engine's counters, timers and histograms. Metrics are created once, typically as
+ * static fields of the measured class, and are recorded without locks:
+ *
+ * <pre><code>
+ *   private static final Timer saveGameTimer = Metrics.timer("server-game.save-game");
+ * </code></pre>
+ *
+ * <p>Recording is off by default, then recording a value costs a single volatile read. Metrics are
+ * turned on with {@link #setEnabled(boolean)} or by starting the JVM with {@value
+ * #ENABLED_PROPERTY}=true, and exported with {@link MetricsReporter}.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class Metrics {
+  public static final String ENABLED_PROPERTY = "triplea.metrics.enabled";
+
+  private static final Map<String, Metric> metrics = new ConcurrentHashMap<>();
+  private static volatile boolean enabled = Boolean.getBoolean(ENABLED_PROPERTY);
+
+  public static boolean isEnabled() {
+    return enabled;
+  }
+
+  public static void setEnabled(final boolean enabled) {
+    Metrics.enabled = enabled;
+  }
+
+  /** Returns the counter with the given name, creating it if needed. */
+  public static Counter counter(final String name) {
+    return get(name, Counter.class, Counter::new);
+  }
+
+  /** Returns the timer with the given name, creating it if needed. */
+  public static Timer timer(final String name) {
+    return get(name, Timer.class, Timer::new);
+  }
+
+  /** Returns the histogram with the given name, creating it if needed. */
+  public static Histogram histogram(final String name) {
+    return get(name, Histogram.class, Histogram::new);
+  }
+
+  private static <T extends Metric> T get(
+      final String name, final Class<T> type, final Supplier<T> factory) {
+    final Metric metric = metrics.computeIfAbsent(name, key -> factory.get());
+    Preconditions.checkArgument(
+        type.isInstance(metric),
+        "Metric %s is a %s, not a %s",
+        name,
+        metric.getClass().getSimpleName(),
+        type.getSimpleName());
+    return type.cast(metric);
+  }
+
+  /** Returns the values recorded by every metric, sorted by metric name. */
+  public static SortedMap<String, MetricSnapshot> snapshot() {
+    final SortedMap<String, MetricSnapshot> snapshots = new TreeMap<>();
+    metrics.forEach((name, metric) -> snapshots.put(name, metric.snapshot()));
+    return snapshots;
+  }
+
+  /** Discards the values recorded so far, for example to measure a single run of a game. */
+  public static void reset() {
+    metrics.values().forEach(Metric::reset);
+  }
+}
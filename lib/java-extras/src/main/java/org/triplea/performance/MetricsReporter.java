@@ -0,0 +1,130 @@
+package org.triplea.performance;
+
+import com.google.common.base.Preconditions;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import javax.annotation.Nullable;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.triplea.java.timer.ScheduledTimer;
+import org.triplea.java.timer.Timers;
+
+/** Exports the values recorded by {@link Metrics} as log lines or as a JSON document. */
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MetricsReporter {
+  /**
+   * Turns metrics on and starts logging them every {@code periodSeconds}. If {@code jsonFile} is
+   * given, a JSON snapshot is written to it as well, replacing the previous snapshot.
+   */
+  public static ScheduledTimer startPeriodicReport(
+      final long periodSeconds, @Nullable final Path jsonFile) {
+    Preconditions.checkArgument(periodSeconds > 0);
+    Metrics.setEnabled(true);
+    return Timers.fixedRateTimer("Metrics-Reporter")
+        .period(periodSeconds, TimeUnit.SECONDS)
+        .delay(periodSeconds, TimeUnit.SECONDS)
+        .task(() -> report(jsonFile))
+        .start();
+  }
+
+  private static void report(@Nullable final Path jsonFile) {
+    final Map<String, MetricSnapshot> snapshots = Metrics.snapshot();
+    toLogLines(snapshots).forEach(log::info);
+    if (jsonFile != null) {
+      writeJson(snapshots, jsonFile);
+    }
+  }
+
+  private static void writeJson(final Map<String, MetricSnapshot> snapshots, final Path jsonFile) {
+    try {
+      final Path tempFile =
+          Files.createTempFile(jsonFile.toAbsolutePath().getParent(), "metrics", ".json");
+      Files.writeString(tempFile, toJson(snapshots));
+      Files.move(
+          tempFile, jsonFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (final IOException e) {
+      log.warn("Failed to write metrics to: " + jsonFile.toAbsolutePath(), e);
+    }
+  }
+
+  /** Formats every metric that recorded values as a log line, timer values in milliseconds. */
+  public static List<String> toLogLines(final Map<String, MetricSnapshot> snapshots) {
+    return snapshots.entrySet().stream()
+        .filter(entry -> entry.getValue().getCount() > 0)
+        .map(entry -> toLogLine(entry.getKey(), entry.getValue()))
+        .collect(Collectors.toList());
+  }
+
+  private static String toLogLine(final String name, final MetricSnapshot snapshot) {
+    switch (snapshot.getType()) {
+      case COUNTER:
+        return String.format(Locale.ROOT, "%s: %d", name, snapshot.getCount());
+      case TIMER:
+        return String.format(
+            Locale.ROOT,
+            "%s: count=%d total=%.1fms mean=%.3fms p50=%.3fms p90=%.3fms p99=%.3fms max=%.3fms",
+            name,
+            snapshot.getCount(),
+            toMillis(snapshot.getSum()),
+            toMillis(snapshot.getMean()),
+            toMillis(snapshot.getP50()),
+            toMillis(snapshot.getP90()),
+            toMillis(snapshot.getP99()),
+            toMillis(snapshot.getMax()));
+      default:
+        return String.format(
+            Locale.ROOT,
+            "%s: count=%d sum=%d mean=%d p50=%d p90=%d p99=%d max=%d",
+            name,
+            snapshot.getCount(),
+            snapshot.getSum(),
+            snapshot.getMean(),
+            snapshot.getP50(),
+            snapshot.getP90(),
+            snapshot.getP99(),
+            snapshot.getMax());
+    }
+  }
+
+  private static double toMillis(final long nanos) {
+    return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+  }
+
+  /**
+   * Formats all metrics as a JSON object with one member per metric, timer values in nanoseconds.
+   */
+  public static String toJson(final Map<String, MetricSnapshot> snapshots) {
+    return snapshots.entrySet().stream()
+        .map(entry -> quote(entry.getKey()) + ":" + toJson(entry.getValue()))
+        .collect(Collectors.joining(",", "{", "}"));
+  }
+
+  private static String toJson(final MetricSnapshot snapshot) {
+    return String.format(
+        Locale.ROOT,
+        "{\"type\":\"%s\",\"count\":%d,\"sum\":%d,\"min\":%d,\"max\":%d,\"mean\":%d,"
+            + "\"p50\":%d,\"p90\":%d,\"p99\":%d}",
+        snapshot.getType(),
+        snapshot.getCount(),
+        snapshot.getSum(),
+        snapshot.getMin(),
+        snapshot.getMax(),
+        snapshot.getMean(),
+        snapshot.getP50(),
+        snapshot.getP90(),
+        snapshot.getP99());
+  }
+
+  private static String quote(final String value) {
+    return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+  }
+}
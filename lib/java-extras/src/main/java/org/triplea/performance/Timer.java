@@ -0,0 +1,47 @@
+package org.triplea.performance;
+
+/**
+ * Records the duration of an operation in nanoseconds. Usage:
+ *
+ * <pre><code>
+ *   final long start = timer.start();
+ *   try {
+ *     // code to be timed
+ *   } finally {
+ *     timer.stop(start);
+ *   }
+ * </code></pre>
+ */
+public final class Timer implements Metric {
+  private static final long NOT_STARTED = 0;
+
+  private final Histogram durations = new Histogram(MetricSnapshot.Type.TIMER);
+
+  Timer() {}
+
+  /** Returns the start time to pass to {@link #stop(long)}, without reading the clock if off. */
+  public long start() {
+    return Metrics.isEnabled() ? System.nanoTime() : NOT_STARTED;
+  }
+
+  /** Records the time since {@code start}, a value returned by {@link #start()}. */
+  public void stop(final long start) {
+    if (start != NOT_STARTED) {
+      durations.record(System.nanoTime() - start);
+    }
+  }
+
+  public void record(final long nanos) {
+    durations.record(nanos);
+  }
+
+  @Override
+  public MetricSnapshot snapshot() {
+    return durations.snapshot();
+  }
+
+  @Override
+  public void reset() {
+    durations.reset();
+  }
+}
@@ -0,0 +1,124 @@
+package org.triplea.performance;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Map;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MetricsTest {
+  @BeforeEach
+  void setUp() {
+    Metrics.setEnabled(true);
+    Metrics.reset();
+  }
+
+  @AfterEach
+  void tearDown() {
+    Metrics.setEnabled(false);
+  }
+
+  @Test
+  void sameNameReturnsSameMetric() {
+    assertThat(Metrics.counter("test.same"), is(sameInstance(Metrics.counter("test.same"))));
+  }
+
+  @Test
+  void sameNameOfOtherTypeIsRejected() {
+    Metrics.counter("test.type");
+
+    assertThrows(IllegalArgumentException.class, () -> Metrics.timer("test.type"));
+  }
+
+  @Test
+  void nothingIsRecordedWhileDisabled() {
+    final Counter counter = Metrics.counter("test.disabled.counter");
+    final Timer timer = Metrics.timer("test.disabled.timer");
+    Metrics.setEnabled(false);
+
+    counter.add(5);
+    timer.stop(timer.start());
+
+    assertThat(counter.snapshot().getCount(), is(0L));
+    assertThat(timer.snapshot().getCount(), is(0L));
+  }
+
+  @Test
+  void counterAddsUp() {
+    final Counter counter = Metrics.counter("test.counter");
+
+    counter.increment();
+    counter.add(41);
+
+    assertThat(counter.snapshot().getCount(), is(42L));
+  }
+
+  @Test
+  void histogramReportsPercentilesAsBucketUpperBounds() {
+    final Histogram histogram = Metrics.histogram("test.histogram");
+
+    IntStream.rangeClosed(1, 100).forEach(histogram::record);
+
+    final MetricSnapshot snapshot = histogram.snapshot();
+    assertThat(snapshot.getCount(), is(100L));
+    assertThat(snapshot.getSum(), is(5050L));
+    assertThat(snapshot.getMin(), is(1L));
+    assertThat(snapshot.getMax(), is(100L));
+    assertThat(snapshot.getMean(), is(50L));
+    assertThat(snapshot.getP50(), is(63L));
+    assertThat(snapshot.getP99(), is(100L));
+  }
+
+  @Test
+  void timerRecordsElapsedTime() {
+    final Timer timer = Metrics.timer("test.timer");
+
+    timer.stop(timer.start());
+
+    assertThat(timer.snapshot().getCount(), is(1L));
+    assertThat(timer.snapshot().getType(), is(MetricSnapshot.Type.TIMER));
+  }
+
+  @Test
+  void resetDiscardsRecordedValues() {
+    final Histogram histogram = Metrics.histogram("test.reset");
+    histogram.record(3);
+
+    Metrics.reset();
+
+    assertThat(histogram.snapshot().getCount(), is(0L));
+  }
+
+  @Test
+  void reporterFormatsSnapshotsAsJson() {
+    final Map<String, MetricSnapshot> snapshots =
+        Map.of(
+            "test.json",
+            MetricSnapshot.builder().type(MetricSnapshot.Type.COUNTER).count(7).build());
+
+    assertThat(
+        MetricsReporter.toJson(snapshots),
+        is(
+            "{\"test.json\":{\"type\":\"COUNTER\",\"count\":7,\"sum\":0,\"min\":0,\"max\":0,"
+                + "\"mean\":0,\"p50\":0,\"p90\":0,\"p99\":0}}"));
+  }
+
+  @Test
+  void reporterLogsOnlyMetricsWithValues() {
+    Metrics.counter("test.log.empty");
+    Metrics.timer("test.log.timer").record(1_500_000);
+
+    final var lines = MetricsReporter.toLogLines(Metrics.snapshot());
+
+    assertThat(lines.stream().noneMatch(line -> line.contains("test.log.empty")), is(true));
+    assertThat(lines.size(), is(greaterThan(0)));
+    assertThat(String.join("\n", lines), containsString("test.log.timer: count=1 total=1.5ms"));
+  }
+}
@@ -0,0 +1,36 @@
+package org.triplea.http.client.web.socket;
+
+import java.util.Arrays;
+import java.util.List;
+import javax.annotation.Nullable;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * The ways a {@link MessageEnvelope} can be written to a websocket. Clients offer the formats as
+ * websocket subprotocols when connecting and the server picks one, peers that do not know about
+ * subprotocols use {@link #LEGACY}.
+ */
+@AllArgsConstructor
+public enum EnvelopeFormat {
+  /** The payload is a JSON string inside the envelope, understood by all versions. */
+  LEGACY(""),
+  /** The payload is a JSON object inside the envelope, written and read in a single pass. */
+  INLINE("triplea-envelope-inline"),
+  /** Like {@link #INLINE}, and large messages are sent deflate compressed as binary messages. */
+  INLINE_DEFLATE("triplea-envelope-inline-deflate");
+
+  /** The subprotocols to offer when connecting, most preferred first. */
+  public static final List<String> SUBPROTOCOLS =
+      List.of(INLINE_DEFLATE.subprotocol, INLINE.subprotocol);
+
+  @Getter private final String subprotocol;
+
+  /** Returns the format of a negotiated subprotocol, {@link #LEGACY} if none was negotiated. */
+  public static EnvelopeFormat fromSubprotocol(@Nullable final String subprotocol) {
+    return Arrays.stream(values())
+        .filter(format -> format.subprotocol.equals(subprotocol))
+        .findAny()
+        .orElse(LEGACY);
+  }
+}
@@ -0,0 +1,80 @@
+package org.triplea.http.client.web.socket;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+
+/**
+ * Writes a {@link MessageEnvelope} as a JSON object with the message type id and the payload, and
+ * reads it in a single pass. The payload is written either as a JSON object or, for {@link
+ * EnvelopeFormat#LEGACY}, as a JSON string containing the payload JSON. Both are read.
+ */
+class EnvelopeTypeAdapter extends TypeAdapter<MessageEnvelope> {
+  private static final String MESSAGE_TYPE_ID = "messageTypeId";
+  private static final String PAYLOAD = "payload";
+  private static final Gson gson = new Gson();
+
+  private final boolean inlinePayload;
+
+  /** Creates an adapter writing the legacy format, used by Gson for {@link MessageEnvelope}. */
+  EnvelopeTypeAdapter() {
+    this(false);
+  }
+
+  EnvelopeTypeAdapter(final boolean inlinePayload) {
+    this.inlinePayload = inlinePayload;
+  }
+
+  @Override
+  public void write(final JsonWriter out, final MessageEnvelope envelope) throws IOException {
+    out.beginObject();
+    out.name(MESSAGE_TYPE_ID).value(envelope.getMessageTypeId());
+    out.name(PAYLOAD);
+    if (inlinePayload) {
+      if (envelope.message != null) {
+        gson.toJson(envelope.message, envelope.message.getClass(), out);
+      } else {
+        gson.toJson(envelope.getPayloadJson(), out);
+      }
+    } else {
+      out.value(
+          envelope.message != null
+              ? gson.toJson(envelope.message)
+              : gson.toJson(envelope.getPayloadJson()));
+    }
+    out.endObject();
+  }
+
+  @Override
+  public MessageEnvelope read(final JsonReader in) throws IOException {
+    String messageTypeId = null;
+    JsonElement payload = null;
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case MESSAGE_TYPE_ID:
+          messageTypeId = in.nextString();
+          break;
+        case PAYLOAD:
+          payload =
+              in.peek() == JsonToken.STRING
+                  ? JsonParser.parseString(in.nextString())
+                  : JsonParser.parseReader(in);
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    if (messageTypeId == null || payload == null) {
+      throw new JsonSyntaxException("Message envelope is missing its message type id or payload");
+    }
+    return MessageEnvelope.fromPayload(messageTypeId, payload);
+  }
+}
@@ -2,7 +2,6 @@ package org.triplea.http.client.web.socket;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
-import com.google.gson.Gson;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -31,8 +30,6 @@ import org.triplea.http.client.web.socket.messages.envelopes.ServerErrorMessage;
  */
 @Slf4j
 public class GenericWebSocketClient implements WebSocket, WebSocketConnectionListener {
-  private static final Gson gson = new Gson();
-
   /** These are called whenever connection is closed, whether by us or server. */
   private final Collection<Runnable> connectionClosedListeners = new ArrayList<>();
 
@@ -104,7 +101,7 @@ public class GenericWebSocketClient implements WebSocket, WebSocketConnectionLis
 
   @Override
   public void sendMessage(final WebSocketMessage message) {
-    webSocketConnection.sendMessage(gson.toJson(message.toEnvelope()));
+    webSocketConnection.sendMessage(message.toEnvelope());
   }
 
   @Override
@@ -119,7 +116,7 @@ public class GenericWebSocketClient implements WebSocket, WebSocketConnectionLis
 
   @Override
   public void messageReceived(final String message) {
-    final MessageEnvelope converted = gson.fromJson(message, MessageEnvelope.class);
+    final MessageEnvelope converted = MessageEnvelopeCodec.decode(message);
 
     listeners.stream()
         .filter(listener -> converted.messageTypeIs(listener.messageType))
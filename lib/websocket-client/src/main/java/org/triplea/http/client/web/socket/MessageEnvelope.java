@@ -1,40 +1,93 @@
 package org.triplea.http.client.web.socket;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.annotations.JsonAdapter;
+import java.util.Objects;
 import javax.annotation.Nonnull;
-import lombok.AccessLevel;
-import lombok.AllArgsConstructor;
-import lombok.EqualsAndHashCode;
+import javax.annotation.Nullable;
 import lombok.Getter;
-import lombok.ToString;
 import org.triplea.http.client.web.socket.messages.MessageType;
 import org.triplea.http.client.web.socket.messages.WebSocketMessage;
 
-/** Generic message carrier over websocket. Payload is serialized as JSON text. */
-@AllArgsConstructor(access = AccessLevel.PRIVATE)
-@EqualsAndHashCode
-@ToString
+/**
+ * Generic message carrier over websocket. A packaged message is kept as is and written straight
+ * into the envelope when sent, a received payload is kept as parsed JSON until a listener asks for
+ * it as a specific type. See {@link MessageEnvelopeCodec} for how envelopes are written and read.
+ */
+@JsonAdapter(EnvelopeTypeAdapter.class)
 public class MessageEnvelope {
   private static final Gson gson = new Gson();
 
   @Getter @Nonnull private final String messageTypeId;
+  /** The packaged message, null if the envelope was received. */
+  @Nullable final WebSocketMessage message;
   /**
-   * Payload itself is a JSON string. This is so we can preserve any underlying data objects. If we
-   * try to store this as a generic object, then we'd have to know the generic type when
-   * de-serializing from String.
+   * The payload as JSON, this is so we can preserve any underlying data objects. If we try to store
+   * this as a generic object, then we'd have to know the generic type when de-serializing.
    */
-  @Nonnull private final String payload;
+  @Nullable private volatile JsonElement payload;
+
+  // The encodings of this envelope, kept by MessageEnvelopeCodec so that a broadcast encodes a
+  // message only once per format.
+  @Nullable volatile String legacyText;
+  @Nullable volatile String inlineText;
+  @Nullable volatile byte[] deflatedText;
+
+  private MessageEnvelope(
+      final String messageTypeId,
+      @Nullable final WebSocketMessage message,
+      @Nullable final JsonElement payload) {
+    this.messageTypeId = messageTypeId;
+    this.message = message;
+    this.payload = payload;
+  }
 
   public static <T extends WebSocketMessage> MessageEnvelope packageMessage(
       final MessageType<T> messageType, final T data) {
-    return new MessageEnvelope(messageType.getMessageTypeId(), gson.toJson(data));
+    return new MessageEnvelope(messageType.getMessageTypeId(), data, null);
+  }
+
+  static MessageEnvelope fromPayload(final String messageTypeId, final JsonElement payload) {
+    return new MessageEnvelope(messageTypeId, null, payload);
   }
 
   public <T> T getPayload(final Class<T> type) {
-    return gson.fromJson(payload, type);
+    return gson.fromJson(getPayloadJson(), type);
+  }
+
+  JsonElement getPayloadJson() {
+    JsonElement json = payload;
+    if (json == null) {
+      json = gson.toJsonTree(message);
+      payload = json;
+    }
+    return json;
   }
 
   public boolean messageTypeIs(final MessageType<?> messageType) {
     return messageType.getMessageTypeId().equals(this.messageTypeId);
   }
+
+  @Override
+  public boolean equals(final Object obj) {
+    if (obj == this) {
+      return true;
+    } else if (!(obj instanceof MessageEnvelope)) {
+      return false;
+    }
+    final MessageEnvelope other = (MessageEnvelope) obj;
+    return messageTypeId.equals(other.messageTypeId)
+        && getPayloadJson().equals(other.getPayloadJson());
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(messageTypeId, getPayloadJson());
+  }
+
+  @Override
+  public String toString() {
+    return "MessageEnvelope(messageTypeId=" + messageTypeId + ", payload=" + getPayloadJson() + ")";
+  }
 }
@@ -0,0 +1,136 @@
+package org.triplea.http.client.web.socket;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonSyntaxException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Writes and reads {@link MessageEnvelope}s in the {@link EnvelopeFormat} negotiated with a peer.
+ * Encodings are kept on the envelope, so broadcasting a message to many sessions serializes (and
+ * compresses) it once per format rather than once per session.
+ */
+@UtilityClass
+public class MessageEnvelopeCodec {
+  /** Messages shorter than this are sent as text even if compression was negotiated. */
+  static final int MIN_DEFLATE_LENGTH = 1024;
+  /** Upper bound of an inflated message, guards against messages that inflate without end. */
+  static final int MAX_INFLATED_LENGTH = 16 * 1024 * 1024;
+
+  private static final byte[] NOT_DEFLATED = new byte[0];
+
+  private static final Gson legacyGson = new Gson();
+  private static final Gson inlineGson =
+      new GsonBuilder()
+          .registerTypeAdapter(MessageEnvelope.class, new EnvelopeTypeAdapter(true))
+          .create();
+
+  /** Returns the envelope as JSON text in the given format. */
+  public static String encode(final MessageEnvelope envelope, final EnvelopeFormat format) {
+    if (format == EnvelopeFormat.LEGACY) {
+      String text = envelope.legacyText;
+      if (text == null) {
+        text = legacyGson.toJson(envelope);
+        envelope.legacyText = text;
+      }
+      return text;
+    }
+    String text = envelope.inlineText;
+    if (text == null) {
+      text = inlineGson.toJson(envelope);
+      envelope.inlineText = text;
+    }
+    return text;
+  }
+
+  /**
+   * Sends the envelope in the given format, as a binary message holding the deflated JSON text if
+   * compression was negotiated and the message is large enough to benefit, otherwise as text.
+   */
+  public static void send(
+      final MessageEnvelope envelope,
+      final EnvelopeFormat format,
+      final Consumer<String> textSender,
+      final Consumer<ByteBuffer> binarySender) {
+    final String text = encode(envelope, format);
+    if (format != EnvelopeFormat.INLINE_DEFLATE) {
+      textSender.accept(text);
+      return;
+    }
+    byte[] deflated = envelope.deflatedText;
+    if (deflated == null) {
+      deflated = text.length() < MIN_DEFLATE_LENGTH ? NOT_DEFLATED : deflate(text);
+      envelope.deflatedText = deflated;
+    }
+    if (deflated == NOT_DEFLATED) {
+      textSender.accept(text);
+    } else {
+      binarySender.accept(ByteBuffer.wrap(deflated).asReadOnlyBuffer());
+    }
+  }
+
+  /**
+   * Reads an envelope written in any {@link EnvelopeFormat}.
+   *
+   * @throws JsonSyntaxException If the text is not a valid message envelope.
+   */
+  public static MessageEnvelope decode(final String text) {
+    final MessageEnvelope envelope;
+    try {
+      envelope = legacyGson.fromJson(text, MessageEnvelope.class);
+    } catch (final JsonParseException | IllegalStateException e) {
+      throw new JsonSyntaxException("Invalid message envelope: " + e.getMessage(), e);
+    }
+    if (envelope == null) {
+      throw new JsonSyntaxException("Empty message envelope");
+    }
+    return envelope;
+  }
+
+  /**
+   * Returns the JSON text of a binary message sent with {@link EnvelopeFormat#INLINE_DEFLATE}.
+   *
+   * @throws JsonSyntaxException If the data is not deflate compressed or inflates to more than
+   *     {@link #MAX_INFLATED_LENGTH} bytes.
+   */
+  public static String inflate(final ByteBuffer data) {
+    final byte[] compressed = new byte[data.remaining()];
+    data.get(compressed);
+    try (InputStream in = new InflaterInputStream(new ByteArrayInputStream(compressed))) {
+      final ByteArrayOutputStream out = new ByteArrayOutputStream(compressed.length * 4);
+      final byte[] buffer = new byte[8192];
+      int read;
+      while ((read = in.read(buffer)) != -1) {
+        if (out.size() + read > MAX_INFLATED_LENGTH) {
+          throw new JsonSyntaxException("Inflated message exceeds " + MAX_INFLATED_LENGTH);
+        }
+        out.write(buffer, 0, read);
+      }
+      return out.toString(StandardCharsets.UTF_8);
+    } catch (final IOException e) {
+      throw new JsonSyntaxException("Invalid compressed message: " + e.getMessage(), e);
+    }
+  }
+
+  private static byte[] deflate(final String text) {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream(text.length() / 4);
+    try (OutputStream out = new DeflaterOutputStream(bytes)) {
+      out.write(text.getBytes(StandardCharsets.UTF_8));
+    } catch (final IOException e) {
+      // cannot happen writing to memory
+      throw new IllegalStateException(e);
+    }
+    return bytes.toByteArray();
+  }
+}
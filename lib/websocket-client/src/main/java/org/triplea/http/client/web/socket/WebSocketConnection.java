@@ -2,6 +2,9 @@ package org.triplea.http.client.web.socket;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.gson.JsonParseException;
+import java.io.ByteArrayOutputStream;
+import java.net.ProtocolException;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.WebSocket;
@@ -48,7 +51,13 @@ class WebSocketConnection {
    * If sending messages before a connection is opened, they will be queued. When the connection is
    * opened, the queue is flushed and messages will be sent in order.
    */
-  private final Queue<String> queuedMessages = new ArrayDeque<>();
+  private final Queue<MessageEnvelope> queuedMessages = new ArrayDeque<>();
+
+  /**
+   * The format the server accepted when the connection was opened, this value is set and read
+   * under the same synchronization lock as {@code connectionIsOpen}.
+   */
+  private EnvelopeFormat envelopeFormat = EnvelopeFormat.LEGACY;
 
   /**
    * State variable to track open connection, this value is set and checked under the same
@@ -165,6 +174,10 @@ class WebSocketConnection {
     return httpClient
         .newWebSocketBuilder()
         .connectTimeout(Duration.ofMillis(DEFAULT_CONNECT_TIMEOUT_MILLIS))
+        .subprotocols(
+            EnvelopeFormat.SUBPROTOCOLS.get(0),
+            EnvelopeFormat.SUBPROTOCOLS.subList(1, EnvelopeFormat.SUBPROTOCOLS.size())
+                .toArray(String[]::new))
         .buildAsync(this.serverUri, internalListener)
         .thenRun(pingSender::start);
   }
@@ -180,11 +193,12 @@ class WebSocketConnection {
   }
 
   /**
-   * Sends a message asynchronously. Messages are queued until a connection has been established.
+   * Sends a message asynchronously. Messages are queued until a connection has been established
+   * and are written in the envelope format the server accepted.
    *
    * @throws IllegalStateException If the connection has been closed.
    */
-  void sendMessage(final String message) {
+  void sendMessage(final MessageEnvelope message) {
     Preconditions.checkState(!closed);
 
     // Synchronized to make sure that the connection does not open right after we check it.
@@ -194,35 +208,41 @@ class WebSocketConnection {
       if (!connectionIsOpen) {
         queuedMessages.add(message);
       } else {
-        client
-            .sendText(message, true)
-            .exceptionally(
-                e -> {
-                  log.error("Failed to send text", e);
-                  return null;
-                });
+        send(message, "Failed to send text");
       }
     }
   }
 
+  private void send(final MessageEnvelope message, final String failureMessage) {
+    MessageEnvelopeCodec.send(
+        message,
+        envelopeFormat,
+        text -> logFailure(client.sendText(text, true), failureMessage),
+        data -> logFailure(client.sendBinary(data, true), failureMessage));
+  }
+
+  private static void logFailure(
+      final CompletableFuture<WebSocket> sent, final String failureMessage) {
+    sent.exceptionally(
+        e -> {
+          log.error(failureMessage, e);
+          return null;
+        });
+  }
+
   @VisibleForTesting
   class InternalWebSocketListener implements Listener {
     private final StringBuilder textAccumulator = new StringBuilder();
+    private final ByteArrayOutputStream binaryAccumulator = new ByteArrayOutputStream();
+    private boolean discardingBinaryMessage;
 
     @Override
     public void onOpen(final WebSocket webSocket) {
       synchronized (queuedMessages) {
         client = webSocket;
+        envelopeFormat = EnvelopeFormat.fromSubprotocol(webSocket.getSubprotocol());
         connectionIsOpen = true;
-        queuedMessages.forEach(
-            message ->
-                client
-                    .sendText(message, true)
-                    .exceptionally(
-                        e -> {
-                          log.error("Failed to send queued text.", e);
-                          return null;
-                        }));
+        queuedMessages.forEach(message -> send(message, "Failed to send queued text."));
         queuedMessages.clear();
       }
       // Allow onText to be called at least once, WebSocketConnection is initialized
@@ -244,6 +264,42 @@ class WebSocketConnection {
       return null;
     }
 
+    @Override
+    public CompletionStage<?> onBinary(
+        final WebSocket webSocket, final ByteBuffer data, final boolean last) {
+      // Binary messages are deflate compressed envelopes, sent if the server accepted compression
+      // compressed messages are no longer than their inflated form, which is bounded by the codec
+      if (!discardingBinaryMessage
+          && binaryAccumulator.size() + data.remaining()
+              > MessageEnvelopeCodec.MAX_INFLATED_LENGTH) {
+        discardingBinaryMessage = true;
+        binaryAccumulator.reset();
+        listener.handleError(
+            new ProtocolException(
+                "Binary message exceeds " + MessageEnvelopeCodec.MAX_INFLATED_LENGTH + " bytes"));
+      }
+      if (discardingBinaryMessage) {
+        // the rest of an oversized message is dropped rather than accumulated without bound
+        discardingBinaryMessage = !last;
+        webSocket.request(1);
+        return null;
+      }
+      final byte[] bytes = new byte[data.remaining()];
+      data.get(bytes);
+      binaryAccumulator.writeBytes(bytes);
+      if (last) {
+        final ByteBuffer message = ByteBuffer.wrap(binaryAccumulator.toByteArray());
+        binaryAccumulator.reset();
+        try {
+          listener.messageReceived(MessageEnvelopeCodec.inflate(message));
+        } catch (final JsonParseException e) {
+          listener.handleError(e);
+        }
+      }
+      webSocket.request(1);
+      return null;
+    }
+
     @Override
     public CompletionStage<?> onClose(
         final WebSocket webSocket, final int statusCode, final String reason) {
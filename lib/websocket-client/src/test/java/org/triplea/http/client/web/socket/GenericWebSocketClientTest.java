@@ -82,6 +82,6 @@ class GenericWebSocketClientTest {
 
     genericWebSocketClient.sendMessage(playerLeftMessage);
 
-    verify(webSocketConnection).sendMessage(gson.toJson(playerLeftMessage.toEnvelope()));
+    verify(webSocketConnection).sendMessage(playerLeftMessage.toEnvelope());
   }
 }
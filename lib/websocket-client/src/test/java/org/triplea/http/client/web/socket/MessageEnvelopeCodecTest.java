@@ -0,0 +1,138 @@
+package org.triplea.http.client.web.socket;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.google.common.base.Strings;
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class MessageEnvelopeCodecTest {
+  private static final ExampleMessage MESSAGE = new ExampleMessage("message \"data\" é");
+
+  @Test
+  void legacyFormatIsUnchanged() {
+    final MessageEnvelope envelope = MESSAGE.toEnvelope();
+
+    final String text = MessageEnvelopeCodec.encode(envelope, EnvelopeFormat.LEGACY);
+
+    assertThat(text, is(new Gson().toJson(envelope)));
+    assertThat(
+        text,
+        is(
+            "{\"messageTypeId\":\"org.triplea.http.client.web.socket.ExampleMessage\","
+                + "\"payload\":\"{\\\"messageData\\\":\\\"message \\\\\\\"data\\\\\\\" é\\\"}\"}"));
+  }
+
+  @Test
+  void inlineFormatWritesThePayloadAsObject() {
+    final String text = MessageEnvelopeCodec.encode(MESSAGE.toEnvelope(), EnvelopeFormat.INLINE);
+
+    assertThat(
+        text,
+        is(
+            "{\"messageTypeId\":\"org.triplea.http.client.web.socket.ExampleMessage\","
+                + "\"payload\":{\"messageData\":\"message \\\"data\\\" é\"}}"));
+  }
+
+  @ParameterizedTest
+  @EnumSource(EnvelopeFormat.class)
+  void decodeReadsAllFormats(final EnvelopeFormat format) {
+    final String text = MessageEnvelopeCodec.encode(MESSAGE.toEnvelope(), format);
+
+    final MessageEnvelope envelope = MessageEnvelopeCodec.decode(text);
+
+    assertThat(envelope.messageTypeIs(ExampleMessage.TYPE), is(true));
+    assertThat(envelope.getPayload(ExampleMessage.class), is(MESSAGE));
+    assertThat(envelope, is(MESSAGE.toEnvelope()));
+  }
+
+  @Test
+  void receivedEnvelopesCanBeSentOn() {
+    final MessageEnvelope received =
+        MessageEnvelopeCodec.decode(
+            MessageEnvelopeCodec.encode(MESSAGE.toEnvelope(), EnvelopeFormat.INLINE));
+
+    assertThat(
+        MessageEnvelopeCodec.encode(received, EnvelopeFormat.LEGACY),
+        is(MessageEnvelopeCodec.encode(MESSAGE.toEnvelope(), EnvelopeFormat.LEGACY)));
+  }
+
+  @Test
+  void encodingIsCachedPerFormat() {
+    final MessageEnvelope envelope = MESSAGE.toEnvelope();
+
+    assertThat(
+        MessageEnvelopeCodec.encode(envelope, EnvelopeFormat.INLINE),
+        sameInstance(MessageEnvelopeCodec.encode(envelope, EnvelopeFormat.INLINE_DEFLATE)));
+    assertThat(
+        MessageEnvelopeCodec.encode(envelope, EnvelopeFormat.LEGACY),
+        sameInstance(MessageEnvelopeCodec.encode(envelope, EnvelopeFormat.LEGACY)));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"", "not json", "[]", "{\"messageTypeId\":\"id\"}", "{\"payload\":{}}"})
+  void decodeRejectsInvalidEnvelopes(final String text) {
+    assertThrows(JsonSyntaxException.class, () -> MessageEnvelopeCodec.decode(text));
+  }
+
+  @Test
+  void smallMessagesAreSentAsTextEvenIfCompressionIsNegotiated() {
+    final AtomicReference<String> text = new AtomicReference<>();
+    final AtomicReference<ByteBuffer> binary = new AtomicReference<>();
+
+    MessageEnvelopeCodec.send(
+        MESSAGE.toEnvelope(), EnvelopeFormat.INLINE_DEFLATE, text::set, binary::set);
+
+    assertThat(text.get(), containsString("message"));
+    assertThat(binary.get(), is(nullValue()));
+  }
+
+  @Test
+  void largeMessagesAreSentCompressed() {
+    final MessageEnvelope envelope =
+        new ExampleMessage(Strings.repeat("message data ", 1000)).toEnvelope();
+    final AtomicReference<String> text = new AtomicReference<>();
+    final AtomicReference<ByteBuffer> binary = new AtomicReference<>();
+
+    MessageEnvelopeCodec.send(envelope, EnvelopeFormat.INLINE_DEFLATE, text::set, binary::set);
+
+    assertThat(text.get(), is(nullValue()));
+    assertThat(binary.get(), is(notNullValue()));
+    final String inlineText = MessageEnvelopeCodec.encode(envelope, EnvelopeFormat.INLINE);
+    assertThat(binary.get().remaining(), is(lessThan(inlineText.length() / 10)));
+    assertThat(MessageEnvelopeCodec.inflate(binary.get()), is(inlineText));
+  }
+
+  @Test
+  void largeMessagesAreSentAsTextWithoutCompression() {
+    final MessageEnvelope envelope =
+        new ExampleMessage(Strings.repeat("message data ", 1000)).toEnvelope();
+    final AtomicReference<String> text = new AtomicReference<>();
+    final AtomicReference<ByteBuffer> binary = new AtomicReference<>();
+
+    MessageEnvelopeCodec.send(envelope, EnvelopeFormat.INLINE, text::set, binary::set);
+
+    assertThat(text.get(), is(MessageEnvelopeCodec.encode(envelope, EnvelopeFormat.INLINE)));
+    assertThat(binary.get(), is(nullValue()));
+  }
+
+  @Test
+  void inflateRejectsInvalidData() {
+    assertThrows(
+        JsonSyntaxException.class,
+        () -> MessageEnvelopeCodec.inflate(ByteBuffer.wrap(new byte[] {1, 2, 3})));
+  }
+}
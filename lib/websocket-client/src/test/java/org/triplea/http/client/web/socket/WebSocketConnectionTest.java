@@ -12,9 +12,12 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.google.common.base.Strings;
+import java.net.ProtocolException;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.WebSocket;
+import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
@@ -24,6 +27,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -31,6 +35,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class WebSocketConnectionTest {
   private static final URI INVALID_URI = URI.create("wss://server.invalid");
   private static final String MESSAGE = "message";
+  private static final MessageEnvelope ENVELOPE = new ExampleMessage(MESSAGE).toEnvelope();
   private static final String REASON = "reason";
 
   private static final Exception exception = new Exception();
@@ -81,6 +86,49 @@ class WebSocketConnectionTest {
       verify(webSocketConnectionListener).messageReceived("45");
     }
 
+    @Test
+    void onBinaryInflatesCompressedMessages() {
+      final MessageEnvelope envelope = new ExampleMessage(Strings.repeat("a", 5000)).toEnvelope();
+      final ByteBuffer[] sent = new ByteBuffer[1];
+      MessageEnvelopeCodec.send(
+          envelope, EnvelopeFormat.INLINE_DEFLATE, text -> {}, data -> sent[0] = data);
+      final ByteBuffer data = sent[0];
+      final ByteBuffer firstPart = data.duplicate().limit(data.position() + 10);
+      final ByteBuffer secondPart = data.duplicate().position(data.position() + 10);
+
+      listener.onBinary(mock(WebSocket.class), firstPart, false);
+      listener.onBinary(mock(WebSocket.class), secondPart, true);
+
+      verify(webSocketConnectionListener)
+          .messageReceived(MessageEnvelopeCodec.encode(envelope, EnvelopeFormat.INLINE));
+    }
+
+    @Test
+    void onBinaryWithInvalidDataIsAnError() {
+      listener.onBinary(mock(WebSocket.class), ByteBuffer.wrap(new byte[] {1, 2, 3}), true);
+      verify(webSocketConnectionListener).handleError(any());
+    }
+
+    @Test
+    void onBinaryDropsMessagesLargerThanTheInflatedLimit() {
+      final byte[] bytes = new byte[MessageEnvelopeCodec.MAX_INFLATED_LENGTH / 2 + 1];
+      listener.onBinary(mock(WebSocket.class), ByteBuffer.wrap(bytes), false);
+      listener.onBinary(mock(WebSocket.class), ByteBuffer.wrap(bytes), false);
+      listener.onBinary(mock(WebSocket.class), ByteBuffer.wrap(bytes), true);
+
+      verify(webSocketConnectionListener).handleError(any(ProtocolException.class));
+      verify(webSocketConnectionListener, never()).messageReceived(anyString());
+
+      final MessageEnvelope envelope = new ExampleMessage(Strings.repeat("a", 5000)).toEnvelope();
+      MessageEnvelopeCodec.send(
+          envelope,
+          EnvelopeFormat.INLINE_DEFLATE,
+          text -> {},
+          data -> listener.onBinary(mock(WebSocket.class), data, true));
+      verify(webSocketConnectionListener)
+          .messageReceived(MessageEnvelopeCodec.encode(envelope, EnvelopeFormat.INLINE));
+    }
+
     @Test
     void onCloseDueToClientDisconnect() {
       listener.onClose(mock(WebSocket.class), 0, WebSocketConnection.CLIENT_DISCONNECT_MESSAGE);
@@ -104,7 +152,7 @@ class WebSocketConnectionTest {
     void queuedMessagesAreFlushedOnConnectionOpen() {
       final WebSocket mockedWebSocket = mockWebSocket();
       // not connected, this message should be queued
-      webSocketConnection.sendMessage(MESSAGE);
+      webSocketConnection.sendMessage(ENVELOPE);
       verify(mockedWebSocket, never()).sendText(any(), anyBoolean());
 
       // onOpen should trigger message send
@@ -152,9 +200,7 @@ class WebSocketConnectionTest {
 
       @BeforeEach
       void setUp() {
-        final WebSocket.Builder builder = mock(WebSocket.Builder.class);
-        when(builder.connectTimeout(any())).thenReturn(builder);
-
+        final WebSocket.Builder builder = mock(WebSocket.Builder.class, Answers.RETURNS_SELF);
         when(builder.buildAsync(any(), any()))
             .thenReturn(CompletableFuture.completedFuture(webSocket));
 
@@ -169,6 +215,10 @@ class WebSocketConnectionTest {
 
         verify(httpClient.newWebSocketBuilder())
             .connectTimeout(Duration.ofMillis(WebSocketConnection.DEFAULT_CONNECT_TIMEOUT_MILLIS));
+        verify(httpClient.newWebSocketBuilder())
+            .subprotocols(
+                EnvelopeFormat.INLINE_DEFLATE.getSubprotocol(),
+                EnvelopeFormat.INLINE.getSubprotocol());
         verifyPingerIsStarted();
       }
     }
@@ -199,15 +249,43 @@ class WebSocketConnectionTest {
       webSocketConnection.getInternalListener().onOpen(webSocket);
       webSocketConnection.setConnectionIsOpen(true);
 
-      webSocketConnection.sendMessage(MESSAGE);
+      webSocketConnection.sendMessage(ENVELOPE);
+
+      verify(webSocket)
+          .sendText(MessageEnvelopeCodec.encode(ENVELOPE, EnvelopeFormat.LEGACY), true);
+    }
+
+    @Test
+    @DisplayName("Send will write messages in the format accepted by the server")
+    void sendMessageInNegotiatedFormat() {
+      requiresSendTextAction();
+      when(webSocket.getSubprotocol()).thenReturn(EnvelopeFormat.INLINE.getSubprotocol());
+      webSocketConnection.getInternalListener().onOpen(webSocket);
+
+      webSocketConnection.sendMessage(ENVELOPE);
+
+      verify(webSocket)
+          .sendText(MessageEnvelopeCodec.encode(ENVELOPE, EnvelopeFormat.INLINE), true);
+    }
 
-      verify(webSocket).sendText(MESSAGE, true);
+    @Test
+    @DisplayName("Send will compress large messages if the server accepted compression")
+    void sendLargeMessageCompressed() {
+      when(webSocket.sendBinary(any(), anyBoolean()))
+          .thenReturn(CompletableFuture.completedFuture(null));
+      when(webSocket.getSubprotocol()).thenReturn(EnvelopeFormat.INLINE_DEFLATE.getSubprotocol());
+      webSocketConnection.getInternalListener().onOpen(webSocket);
+
+      webSocketConnection.sendMessage(new ExampleMessage(Strings.repeat("a", 5000)).toEnvelope());
+
+      verify(webSocket).sendBinary(any(), eq(true));
+      verify(webSocket, never()).sendText(anyString(), anyBoolean());
     }
 
     @Test
     @DisplayName("Send will queue messages if connection is not open")
     void sendMessageWillQueueMessagesIfConnectionIsNotOpen() {
-      webSocketConnection.sendMessage(MESSAGE);
+      webSocketConnection.sendMessage(ENVELOPE);
 
       verify(webSocket, never()).sendText(anyString(), anyBoolean());
     }
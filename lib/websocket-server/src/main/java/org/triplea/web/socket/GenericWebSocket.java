@@ -4,9 +4,9 @@ import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
-import com.google.gson.Gson;
 import com.google.gson.JsonSyntaxException;
 import java.net.InetAddress;
+import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
@@ -22,6 +22,7 @@ import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.java_websocket.WebSocket;
 import org.triplea.http.client.web.socket.MessageEnvelope;
+import org.triplea.http.client.web.socket.MessageEnvelopeCodec;
 import org.triplea.http.client.web.socket.messages.envelopes.ServerErrorMessage;
 import org.triplea.java.StringUtils;
 
@@ -36,7 +37,6 @@ import org.triplea.java.StringUtils;
 public class GenericWebSocket {
   @VisibleForTesting static final int MAX_BAD_MESSAGES = 2;
 
-  private static final Gson GSON = new Gson();
   private static final Cache<InetAddress, AtomicInteger> badMessageCache =
       Caffeine.newBuilder().expireAfterWrite(Duration.ofSeconds(30)).build();
   private static final Map<Class<?>, GenericWebSocket> websockets = new HashMap<>();
@@ -122,6 +122,43 @@ public class GenericWebSocket {
         .ifPresent(envelope -> webSocketMessagingBus.onMessage(session, envelope));
   }
 
+  public void onMessage(final WebSocket webSocket, final ByteBuffer message) {
+    onMessage(WebSocketSessionAdapter.fromWebSocket(webSocket), message, badMessageCache);
+  }
+
+  public void onMessage(final Session session, final ByteBuffer message) {
+    onMessage(WebSocketSessionAdapter.fromSession(session), message, badMessageCache);
+  }
+
+  public void onMessage(final WebSocketSession session, final ByteBuffer message) {
+    onMessage(session, message, badMessageCache);
+  }
+
+  /**
+   * Handles a binary message, which is a deflate compressed JSON message sent by clients that
+   * negotiated compression. Data that cannot be inflated counts as a bad message.
+   */
+  @VisibleForTesting
+  void onMessage(
+      final WebSocketSession session,
+      final ByteBuffer message,
+      final Cache<InetAddress, AtomicInteger> badMessageCache) {
+    if (burnMessagesFromThisSession(session, badMessageCache)) {
+      return;
+    }
+
+    final int length = message.remaining();
+    final String inflated;
+    try {
+      inflated = MessageEnvelopeCodec.inflate(message);
+    } catch (final JsonSyntaxException e) {
+      rejectBadMessage(
+          session, "<" + length + " bytes of invalid compressed data>", badMessageCache);
+      return;
+    }
+    onMessage(session, inflated, badMessageCache);
+  }
+
   /**
    * Checks if session has sent too many bad messages, if so we ignore messages from that session
    * and return an empty. Otherwise we will convert the message JSON string to a {@code
@@ -140,16 +177,22 @@ public class GenericWebSocket {
     }
 
     try {
-      return Optional.of(GSON.fromJson(message, MessageEnvelope.class));
+      return Optional.of(MessageEnvelopeCodec.decode(message));
     } catch (final JsonSyntaxException e) {
-      final InetAddress inetAddress = session.getRemoteAddress();
-      incrementBadMessageCount(session, badMessageCache);
-      logBadMessage(inetAddress, message);
-      respondWithServerError(messageSender, session);
+      rejectBadMessage(session, message, badMessageCache);
       return Optional.empty();
     }
   }
 
+  private void rejectBadMessage(
+      final WebSocketSession session,
+      final String message,
+      final Cache<InetAddress, AtomicInteger> badMessageCache) {
+    incrementBadMessageCount(session, badMessageCache);
+    logBadMessage(session.getRemoteAddress(), message);
+    respondWithServerError(messageSender, session);
+  }
+
   private static boolean burnMessagesFromThisSession(
       final WebSocketSession session, final Cache<InetAddress, AtomicInteger> badMessageCache) {
     final InetAddress inetAddress = session.getRemoteAddress();
@@ -1,14 +1,15 @@
 package org.triplea.web.socket;
 
-import com.google.gson.Gson;
 import java.util.function.BiConsumer;
 import org.triplea.http.client.web.socket.MessageEnvelope;
+import org.triplea.http.client.web.socket.MessageEnvelopeCodec;
 import org.triplea.java.Interruptibles;
 
-/** Sends a server message (encoded as a JSON string) to a specific connected websocket sessions. */
+/**
+ * Sends a server message (encoded as a JSON string) to a specific connected websocket sessions. The
+ * message is encoded in the format the session agreed to, each format only once per message.
+ */
 public class MessageSender implements BiConsumer<WebSocketSession, MessageEnvelope> {
-  private static final Gson GSON = new Gson();
-
   @Override
   public void accept(final WebSocketSession session, final MessageEnvelope message) {
     if (session.isOpen()) {
@@ -18,7 +19,8 @@ public class MessageSender implements BiConsumer<WebSocketSession, MessageEnvelo
 
   private void sendMessage(final WebSocketSession session, final MessageEnvelope message) {
     if (session.isOpen()) {
-      session.sendText(GSON.toJson(message));
+      MessageEnvelopeCodec.send(
+          message, session.getEnvelopeFormat(), session::sendText, session::sendBinary);
     }
   }
 }
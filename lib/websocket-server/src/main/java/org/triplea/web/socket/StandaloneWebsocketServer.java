@@ -1,11 +1,19 @@
 package org.triplea.web.socket;
 
 import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import javax.websocket.CloseReason;
 import lombok.extern.slf4j.Slf4j;
 import org.java_websocket.WebSocket;
+import org.java_websocket.drafts.Draft_6455;
 import org.java_websocket.handshake.ClientHandshake;
+import org.java_websocket.protocols.IProtocol;
+import org.java_websocket.protocols.Protocol;
 import org.java_websocket.server.WebSocketServer;
+import org.triplea.http.client.web.socket.EnvelopeFormat;
 
 @Slf4j
 public class StandaloneWebsocketServer extends WebSocketServer {
@@ -17,10 +25,20 @@ public class StandaloneWebsocketServer extends WebSocketServer {
   }
 
   public StandaloneWebsocketServer(final GenericWebSocket genericWebSocket, final int portToOpen) {
-    super(new InetSocketAddress(portToOpen));
+    super(new InetSocketAddress(portToOpen), List.of(new Draft_6455(List.of(), protocols())));
     this.genericWebSocket = genericWebSocket;
   }
 
+  /**
+   * The envelope formats accepted from clients in order of preference, ending with the empty
+   * protocol that accepts clients not asking for any.
+   */
+  private static List<IProtocol> protocols() {
+    return Stream.concat(EnvelopeFormat.SUBPROTOCOLS.stream(), Stream.of(""))
+        .map(Protocol::new)
+        .collect(Collectors.toList());
+  }
+
   @Override
   public void onOpen(final WebSocket webSocket, final ClientHandshake handshake) {
     genericWebSocket.onOpen(webSocket);
@@ -37,6 +55,11 @@ public class StandaloneWebsocketServer extends WebSocketServer {
     genericWebSocket.onMessage(webSocket, message);
   }
 
+  @Override
+  public void onMessage(final WebSocket webSocket, final ByteBuffer message) {
+    genericWebSocket.onMessage(webSocket, message);
+  }
+
   @Override
   public void onError(final WebSocket webSocket, final Exception exception) {
     genericWebSocket.onError(webSocket, exception);
@@ -1,7 +1,9 @@
 package org.triplea.web.socket;
 
 import java.net.InetAddress;
+import java.nio.ByteBuffer;
 import javax.websocket.CloseReason;
+import org.triplea.http.client.web.socket.EnvelopeFormat;
 
 public interface WebSocketSession {
   boolean isOpen();
@@ -16,5 +18,10 @@ public interface WebSocketSession {
 
   void sendText(String text);
 
+  void sendBinary(ByteBuffer data);
+
+  /** Returns the format of messages sent to this session, as agreed when the session opened. */
+  EnvelopeFormat getEnvelopeFormat();
+
   String getId();
 }
@@ -2,13 +2,17 @@ package org.triplea.web.socket;
 
 import java.io.IOException;
 import java.net.InetAddress;
+import java.nio.ByteBuffer;
 import java.util.UUID;
 import java.util.concurrent.ExecutionException;
 import javax.websocket.CloseReason;
 import javax.websocket.Session;
 import lombok.experimental.UtilityClass;
 import org.java_websocket.WebSocket;
+import org.java_websocket.drafts.Draft;
+import org.java_websocket.drafts.Draft_6455;
 import org.slf4j.LoggerFactory;
+import org.triplea.http.client.web.socket.EnvelopeFormat;
 
 /**
  * Converts 'session' objects that we receive as parameters to websocket servers to implementations
@@ -48,6 +52,21 @@ public class WebSocketSessionAdapter {
         }
       }
 
+      @Override
+      public void sendBinary(final ByteBuffer data) {
+        try {
+          session.getAsyncRemote().sendBinary(data).get();
+        } catch (final InterruptedException | ExecutionException e) {
+          LoggerFactory.getLogger(WebSocketSessionAdapter.class)
+              .error("Error sending websocket message", e);
+        }
+      }
+
+      @Override
+      public EnvelopeFormat getEnvelopeFormat() {
+        return EnvelopeFormat.fromSubprotocol(session.getNegotiatedSubprotocol());
+      }
+
       @Override
       public String getId() {
         return session.getId();
@@ -79,6 +98,20 @@ public class WebSocketSessionAdapter {
         webSocket.send(text);
       }
 
+      @Override
+      public void sendBinary(final ByteBuffer data) {
+        webSocket.send(data);
+      }
+
+      @Override
+      public EnvelopeFormat getEnvelopeFormat() {
+        final Draft draft = webSocket.getDraft();
+        return draft instanceof Draft_6455
+            ? EnvelopeFormat.fromSubprotocol(
+                ((Draft_6455) draft).getProtocol().getProvidedProtocol())
+            : EnvelopeFormat.LEGACY;
+      }
+
       @Override
       public String getId() {
         return id;
@@ -10,11 +10,14 @@ import static org.mockito.Mockito.when;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.base.Strings;
 import com.google.gson.Gson;
 import java.net.InetAddress;
+import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -25,7 +28,9 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.triplea.http.client.web.socket.EnvelopeFormat;
 import org.triplea.http.client.web.socket.MessageEnvelope;
+import org.triplea.http.client.web.socket.MessageEnvelopeCodec;
 import org.triplea.http.client.web.socket.messages.envelopes.ServerErrorMessage;
 import org.triplea.java.IpAddressParser;
 
@@ -147,4 +152,32 @@ class GenericWebSocketTest {
 
     verify(webSocketMessagingBus).onMessage(session, messageEnvelope);
   }
+
+  @Test
+  @DisplayName("Compressed messages are inflated and processed")
+  void validCompressedMessage() {
+    givenIpInSession("1.1.1.1");
+    final var messageEnvelope = new ExampleMessage(Strings.repeat("status", 1000)).toEnvelope();
+    final AtomicReference<ByteBuffer> compressed = new AtomicReference<>();
+    MessageEnvelopeCodec.send(
+        messageEnvelope, EnvelopeFormat.INLINE_DEFLATE, text -> {}, compressed::set);
+
+    genericWebSocket.onMessage(session, compressed.get(), cache);
+
+    verify(webSocketMessagingBus).onMessage(session, messageEnvelope);
+  }
+
+  @Test
+  @DisplayName("Compressed data that cannot be inflated is a bad message")
+  void invalidCompressedMessage() {
+    givenIpInSession("1.1.1.1");
+
+    genericWebSocket.onMessage(session, ByteBuffer.wrap(new byte[] {1, 2, 3}), cache);
+
+    verify(webSocketMessagingBus, never()).onMessage(any(), any());
+    verify(messageSender).accept(eq(session), messageCaptor.capture());
+    assertThat(
+        messageCaptor.getValue().getMessageTypeId(),
+        is(ServerErrorMessage.TYPE.getMessageTypeId()));
+  }
 }
@@ -6,13 +6,17 @@ import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.google.common.base.Strings;
 import com.google.gson.Gson;
+import java.nio.ByteBuffer;
 import lombok.AllArgsConstructor;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.triplea.http.client.web.socket.EnvelopeFormat;
 import org.triplea.http.client.web.socket.MessageEnvelope;
+import org.triplea.http.client.web.socket.MessageEnvelopeCodec;
 import org.triplea.http.client.web.socket.messages.MessageType;
 import org.triplea.http.client.web.socket.messages.WebSocketMessage;
 
@@ -50,9 +54,33 @@ class MessageSenderTest {
   @Test
   void sendMessage() {
     when(session.isOpen()).thenReturn(true);
+    when(session.getEnvelopeFormat()).thenReturn(EnvelopeFormat.LEGACY);
 
     new MessageSender().accept(session, MESSAGE_ENVELOPE);
 
     verify(session, timeout(1000)).sendText(SERVER_MESSAGE_JSON);
   }
+
+  @Test
+  void sendMessageInNegotiatedFormat() {
+    when(session.isOpen()).thenReturn(true);
+    when(session.getEnvelopeFormat()).thenReturn(EnvelopeFormat.INLINE_DEFLATE);
+
+    new MessageSender().accept(session, MESSAGE_ENVELOPE);
+
+    verify(session, timeout(1000))
+        .sendText(MessageEnvelopeCodec.encode(MESSAGE_ENVELOPE, EnvelopeFormat.INLINE));
+  }
+
+  @Test
+  void sendLargeMessageCompressed() {
+    when(session.isOpen()).thenReturn(true);
+    when(session.getEnvelopeFormat()).thenReturn(EnvelopeFormat.INLINE_DEFLATE);
+
+    new MessageSender()
+        .accept(session, new StringMessage(Strings.repeat("message!", 1000)).toEnvelope());
+
+    verify(session, timeout(1000)).sendBinary(any(ByteBuffer.class));
+    verify(session, never()).sendText(any());
+  }
 }
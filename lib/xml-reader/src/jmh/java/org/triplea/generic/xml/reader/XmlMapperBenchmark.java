@@ -0,0 +1,49 @@
+package org.triplea.generic.xml.reader;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.triplea.generic.xml.reader.exceptions.XmlParsingException;
+import org.triplea.map.data.elements.Game;
+
+/**
+ * Measures mapping the largest test game XMLs to {@link Game}. Run with {@code ./gradlew
+ * :lib:xml-reader:jmh}, results are written to {@code build/results/jmh/results.json}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class XmlMapperBenchmark {
+  @Param({"Total_World_War_Dec1941.xml", "ww2_g40_balanced.xml", "Napoleonic_Empires.xml"})
+  public String gameXml;
+
+  private byte[] xml;
+
+  @Setup
+  public void readGameXml() throws IOException {
+    xml = Files.readAllBytes(Path.of(System.getProperty("gameXmlDir"), gameXml));
+  }
+
+  @Benchmark
+  public Game mapXmlToObject() throws XmlParsingException {
+    try (XmlMapper xmlMapper = new XmlMapper(new ByteArrayInputStream(xml))) {
+      return xmlMapper.mapXmlToObject(Game.class);
+    }
+  }
+}
@@ -7,22 +7,28 @@ import java.util.Optional;
 import org.triplea.generic.xml.reader.annotations.Attribute;
 import org.triplea.generic.xml.reader.exceptions.XmlDataException;
 
+/**
+ * Converts attribute values to the type of the annotated field. Instances are immutable and are
+ * created once per field, see {@link TagMapping}.
+ */
 class AttributeValueCasting {
 
   private final Field field;
+  private final Class<?> type;
   private final Attribute attributeAnnotation;
 
   AttributeValueCasting(final Field field) {
     this.field = field;
+    type = field.getType();
     attributeAnnotation = Preconditions.checkNotNull(field.getAnnotation(Attribute.class));
   }
 
   Object castAttributeValue(final String attributeValue) throws XmlDataException {
-    if (field.getType() == Integer.class || field.getType() == Integer.TYPE) {
+    if (type == Integer.class || type == Integer.TYPE) {
       return castToInt(attributeValue);
-    } else if (field.getType() == Double.class || field.getType() == Double.TYPE) {
+    } else if (type == Double.class || type == Double.TYPE) {
       return castToDouble(attributeValue);
-    } else if (field.getType() == Boolean.class || field.getType() == Boolean.TYPE) {
+    } else if (type == Boolean.class || type == Boolean.TYPE) {
       return castToBoolean(attributeValue);
     } else {
       // type is a String
@@ -40,11 +46,11 @@ class AttributeValueCasting {
    */
   private Integer castToInt(final String attributeValue) throws XmlDataException {
     if (attributeValue == null
-        && field.getType() == Integer.class
-        && field.getAnnotation(Attribute.class).defaultInt() == 0) {
+        && type == Integer.class
+        && attributeAnnotation.defaultInt() == 0) {
       return null;
     } else if (attributeValue == null) {
-      return field.getAnnotation(Attribute.class).defaultInt();
+      return attributeAnnotation.defaultInt();
     } else {
       try {
         return Integer.valueOf(attributeValue);
@@ -57,11 +63,11 @@ class AttributeValueCasting {
 
   private Double castToDouble(final String attributeValue) throws XmlDataException {
     if (attributeValue == null
-        && field.getType() == Double.class
-        && field.getAnnotation(Attribute.class).defaultDouble() == 0.0) {
+        && type == Double.class
+        && attributeAnnotation.defaultDouble() == 0.0) {
       return null;
     } else if (attributeValue == null) {
-      return field.getAnnotation(Attribute.class).defaultDouble();
+      return attributeAnnotation.defaultDouble();
     } else {
       try {
         return Double.valueOf(attributeValue);
@@ -74,11 +80,11 @@ class AttributeValueCasting {
 
   private Boolean castToBoolean(final String attributeValue) throws XmlDataException {
     if (attributeValue == null
-        && field.getType() == Boolean.class
-        && !field.getAnnotation(Attribute.class).defaultBoolean()) {
+        && type == Boolean.class
+        && !attributeAnnotation.defaultBoolean()) {
       return null;
     } else if (attributeValue == null) {
-      return field.getAnnotation(Attribute.class).defaultBoolean();
+      return attributeAnnotation.defaultBoolean();
     } else {
       if (!attributeValue.equalsIgnoreCase("true") && !attributeValue.equalsIgnoreCase("false")) {
         throw new XmlDataException(
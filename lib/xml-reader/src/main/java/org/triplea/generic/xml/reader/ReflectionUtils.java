@@ -1,19 +1,33 @@
 package org.triplea.generic.xml.reader;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
 import lombok.experimental.UtilityClass;
 import org.triplea.generic.xml.reader.exceptions.JavaDataModelException;
 
 @UtilityClass
 class ReflectionUtils {
-  <T> T newInstance(final Class<T> pojo) throws JavaDataModelException {
+  /**
+   * Returns a method handle of type {@code ()Object} that invokes the no-arg constructor of the
+   * given class.
+   */
+  MethodHandle newInstanceHandle(final Class<?> pojo) throws JavaDataModelException {
+    if (pojo.isInterface() || Modifier.isAbstract(pojo.getModifiers())) {
+      throw new JavaDataModelException(
+          "Unable to instantiate class, check that it is not marked as abstract "
+              + "and is not an interface");
+    }
     try {
-      final Constructor<T> constructor = pojo.getDeclaredConstructor();
+      final Constructor<?> constructor = pojo.getDeclaredConstructor();
       constructor.setAccessible(true);
-      return constructor.newInstance();
+      return MethodHandles.lookup()
+          .unreflectConstructor(constructor)
+          .asType(MethodType.methodType(Object.class));
     } catch (final IllegalAccessException e) {
       throw new JavaDataModelException(
           "Unexpected illegal access error while constructing class", e);
@@ -22,16 +36,21 @@ class ReflectionUtils {
           "Cannot instantiate, make sure class is static if it is a nested class, "
               + "and has a no-args constructor.",
           e);
-    } catch (final InvocationTargetException e) {
-      throw new JavaDataModelException(
-          "An exception was thrown when invoking the no arg constructor. This not expected, the "
-              + "no-args constructor is expected to a no-op, a simple default constructor.",
-          e);
-    } catch (final InstantiationException e) {
-      throw new JavaDataModelException(
-          "Unable to instantiate class, check that it is not marked as abstract "
-              + "and is not an interface",
-          e);
+    }
+  }
+
+  /**
+   * Returns a method handle of type {@code (Object, Object)void} that sets the value of the given
+   * field. Primitive fields are unboxed by the handle.
+   */
+  MethodHandle setterHandle(final Field field) throws JavaDataModelException {
+    try {
+      field.setAccessible(true);
+      return MethodHandles.lookup()
+          .unreflectSetter(field)
+          .asType(MethodType.methodType(void.class, Object.class, Object.class));
+    } catch (final IllegalAccessException e) {
+      throw new JavaDataModelException(field, "Unexpected illegal access", e);
     }
   }
 
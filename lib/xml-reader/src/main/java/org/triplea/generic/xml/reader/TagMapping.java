@@ -0,0 +1,174 @@
+package org.triplea.generic.xml.reader;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import javax.xml.stream.XMLStreamReader;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.triplea.generic.xml.reader.annotations.Attribute;
+import org.triplea.generic.xml.reader.annotations.Tag;
+import org.triplea.generic.xml.reader.annotations.TagList;
+import org.triplea.generic.xml.reader.exceptions.JavaDataModelException;
+
+/**
+ * Describes how to map an XML tag onto a Java model class. A mapping is computed once per class
+ * from its {@link AnnotatedFields} and is then cached, so mapping a tag only invokes precomputed
+ * method handles instead of repeating the reflective scan of the class and its annotations.
+ */
+class TagMapping {
+  private static final ClassValue<TagMapping> mappings =
+      new ClassValue<>() {
+        @Override
+        protected TagMapping computeValue(final Class<?> pojo) {
+          return new TagMapping(pojo);
+        }
+      };
+
+  private final MethodHandle constructor;
+  private final List<AttributeMapping> attributes = new ArrayList<>();
+  /** Attribute fields by attribute name, a field with multiple names is listed under each name. */
+  private final Map<String, List<AttributeName>> attributesByName = new HashMap<>();
+
+  @Getter private final List<ChildTagMapping> tags = new ArrayList<>();
+  @Getter private final List<ChildTagMapping> tagLists = new ArrayList<>();
+  private final FieldSetter bodyText;
+
+  /** A field that is set with a method handle of type {@code (Object, Object)void}. */
+  @AllArgsConstructor
+  static class FieldSetter {
+    @Getter private final Field field;
+    private final MethodHandle setter;
+
+    FieldSetter(final Field field) {
+      this(field, ReflectionUtils.setterHandle(field));
+    }
+
+    void set(final Object instance, final Object value) throws Throwable {
+      setter.invokeExact(instance, value);
+    }
+  }
+
+  private static class AttributeMapping extends FieldSetter {
+    private final AttributeValueCasting casting;
+
+    AttributeMapping(final Field field) {
+      super(field);
+      casting = new AttributeValueCasting(field);
+    }
+  }
+
+  /** Position of a field in {@link #attributes} and the priority of one of its names. */
+  @AllArgsConstructor
+  private static class AttributeName {
+    private final int index;
+    private final int priority;
+  }
+
+  /** A field that is mapped from child tags. */
+  @Getter
+  static class ChildTagMapping extends FieldSetter {
+    /** The names of the child tag. */
+    private final List<String> names;
+    /** The type of the field, or the element type if the field is a list. */
+    private final Class<?> type;
+
+    ChildTagMapping(final Field field, final String[] names, final Class<?> type) {
+      super(field);
+      this.names = List.of(getNamesOrDefault(names, type.getSimpleName()));
+      this.type = type;
+    }
+  }
+
+  private TagMapping(final Class<?> pojo) throws JavaDataModelException {
+    constructor = ReflectionUtils.newInstanceHandle(pojo);
+    final AnnotatedFields<?> annotatedFields = new AnnotatedFields<>(pojo);
+
+    for (final Field field : annotatedFields.getAttributeFields()) {
+      final String[] attributeNames =
+          getNamesOrDefault(field.getAnnotation(Attribute.class).names(), field.getName());
+      for (int i = 0; i < attributeNames.length; i++) {
+        attributesByName
+            .computeIfAbsent(attributeNames[i], name -> new ArrayList<>())
+            .add(new AttributeName(attributes.size(), i));
+      }
+      attributes.add(new AttributeMapping(field));
+    }
+    for (final Field field : annotatedFields.getTagFields()) {
+      tags.add(
+          new ChildTagMapping(field, field.getAnnotation(Tag.class).names(), field.getType()));
+    }
+    for (final Field field : annotatedFields.getTagListFields()) {
+      tagLists.add(
+          new ChildTagMapping(
+              field,
+              field.getAnnotation(TagList.class).names(),
+              ReflectionUtils.getGenericType(field)));
+    }
+    bodyText =
+        annotatedFields.getBodyTextFields().isEmpty()
+            ? null
+            : new FieldSetter(annotatedFields.getBodyTextFields().get(0));
+  }
+
+  static TagMapping of(final Class<?> pojo) throws JavaDataModelException {
+    return mappings.get(pojo);
+  }
+
+  private static String[] getNamesOrDefault(
+      final String[] annotationValues, final String defaultValue) {
+    return annotationValues.length == 1 && annotationValues[0].isEmpty()
+        ? new String[] {defaultValue}
+        : annotationValues;
+  }
+
+  Object newInstance() throws Throwable {
+    return constructor.invokeExact();
+  }
+
+  Optional<FieldSetter> getBodyText() {
+    return Optional.ofNullable(bodyText);
+  }
+
+  /** Returns true if the tag has no child tags or body text that need to be mapped. */
+  boolean hasAttributesOnly() {
+    return tags.isEmpty() && tagLists.isEmpty() && bodyText == null;
+  }
+
+  /**
+   * Sets every attribute field of {@code instance} from the attributes of the current start tag.
+   * The attributes are read in a single pass. If a field has multiple names and more than one of
+   * them is present, the value of the name listed first in the annotation is used.
+   */
+  void setAttributes(final XMLStreamReader xmlStreamReader, final Object instance)
+      throws Throwable {
+    if (attributes.isEmpty()) {
+      return;
+    }
+    final String[] values = new String[attributes.size()];
+    final int[] priorities = new int[attributes.size()];
+    Arrays.fill(priorities, Integer.MAX_VALUE);
+
+    for (int i = 0, count = xmlStreamReader.getAttributeCount(); i < count; i++) {
+      final List<AttributeName> attributeNames =
+          attributesByName.get(xmlStreamReader.getAttributeLocalName(i));
+      if (attributeNames != null) {
+        for (final AttributeName attributeName : attributeNames) {
+          if (attributeName.priority < priorities[attributeName.index]) {
+            priorities[attributeName.index] = attributeName.priority;
+            values[attributeName.index] = xmlStreamReader.getAttributeValue(i);
+          }
+        }
+      }
+    }
+    for (int i = 0; i < values.length; i++) {
+      final AttributeMapping attribute = attributes.get(i);
+      attribute.set(instance, attribute.casting.castAttributeValue(values[i]));
+    }
+  }
+}
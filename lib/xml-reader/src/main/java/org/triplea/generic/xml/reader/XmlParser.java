@@ -24,7 +24,7 @@ class XmlParser {
   }
 
   void parse(final XMLStreamReader streamReader) throws Throwable {
-    StringBuilder textElementBuilder = new StringBuilder();
+    final StringBuilder textElementBuilder = new StringBuilder();
     while (streamReader.hasNext()) {
       final int event = streamReader.next();
       switch (event) {
@@ -45,7 +45,7 @@ class XmlParser {
           if (bodyHandler != null) {
             bodyHandler.accept(textElementBuilder.toString().trim());
           }
-          textElementBuilder = new StringBuilder();
+          textElementBuilder.setLength(0);
 
           final String endTagName = streamReader.getLocalName();
           if (endTagName.equalsIgnoreCase(tagName)) {
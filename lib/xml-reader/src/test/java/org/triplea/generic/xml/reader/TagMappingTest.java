@@ -0,0 +1,46 @@
+package org.triplea.generic.xml.reader;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsSame.sameInstance;
+
+import org.junit.jupiter.api.Test;
+import org.triplea.generic.xml.reader.annotations.Attribute;
+import org.triplea.generic.xml.reader.annotations.Tag;
+
+@SuppressWarnings("UnmatchedTest")
+public class TagMappingTest extends AbstractXmlMapperTest {
+  TagMappingTest() {
+    super("simple-tag.xml");
+  }
+
+  public static class TagExample {
+    @Tag private SingleChild singleChild;
+
+    public static class SingleChild {
+      @Attribute(names = {"numberAttribute", "integerObjectAttribute"})
+      int firstNamePresent;
+
+      @Attribute(names = {"missingAttribute", "integerObjectAttribute", "numberAttribute"})
+      int secondNamePresent;
+
+      @Attribute(names = {"numberAttribute"})
+      int sharedName;
+    }
+  }
+
+  @Test
+  void mappingIsComputedOncePerClass() {
+    assertThat(TagMapping.of(TagExample.class), is(sameInstance(TagMapping.of(TagExample.class))));
+  }
+
+  @Test
+  void firstListedAttributeNameThatIsPresentIsUsed() throws Exception {
+    final TagExample.SingleChild singleChild =
+        xmlMapper.mapXmlToObject(TagExample.class).singleChild;
+
+    assertThat(singleChild.firstNamePresent, is(1));
+    assertThat(singleChild.secondNamePresent, is(-1));
+    assertThat(singleChild.sharedName, is(1));
+  }
+}
@@ -1,16 +1,12 @@
 package org.triplea.dropwizard.common;
 
-import com.codahale.metrics.MetricRegistry;
-import com.github.benmanes.caffeine.cache.Caffeine;
 import io.dropwizard.auth.AuthDynamicFeature;
 import io.dropwizard.auth.AuthValueFactoryProvider;
 import io.dropwizard.auth.Authenticator;
 import io.dropwizard.auth.Authorizer;
-import io.dropwizard.auth.CachingAuthenticator;
 import io.dropwizard.auth.oauth.OAuthCredentialAuthFilter;
 import io.dropwizard.setup.Environment;
 import java.security.Principal;
-import java.time.Duration;
 import lombok.experimental.UtilityClass;
 import org.glassfish.jersey.server.filter.RolesAllowedDynamicFeature;
 import org.triplea.http.client.AuthenticationHeaders;
@@ -20,11 +16,11 @@ public class AuthenticationConfiguration {
 
   /**
    * Enables configuration via OAuth token. Endpoints annotated with @RolesAllowed will be activated
-   * and will require a user to have been a given role during per-request authentication.
+   * and will require a user to have been a given role during per-request authentication. The
+   * authenticator is called for every request, it is up to the authenticator to cache results.
    */
   public static <UserT extends Principal> void enableAuthentication(
       final Environment environment,
-      final MetricRegistry metrics,
       final Authenticator<String, UserT> authenticator,
       final Authorizer<UserT> authorizer,
       final Class<UserT> principalClass) {
@@ -33,13 +29,7 @@ public class AuthenticationConfiguration {
         .register(
             new AuthDynamicFeature(
                 new OAuthCredentialAuthFilter.Builder<UserT>()
-                    .setAuthenticator(
-                        new CachingAuthenticator<>(
-                            metrics,
-                            authenticator,
-                            Caffeine.newBuilder()
-                                .expireAfterAccess(Duration.ofMinutes(10))
-                                .maximumSize(10000)))
+                    .setAuthenticator(authenticator)
                     .setAuthorizer(authorizer)
                     .setPrefix(AuthenticationHeaders.KEY_BEARER_PREFIX)
                     .buildAuthFilter()));
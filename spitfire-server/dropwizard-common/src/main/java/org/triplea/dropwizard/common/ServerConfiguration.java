@@ -26,6 +26,12 @@ public class ServerConfiguration<T extends Configuration> {
   public static class WebsocketConfig {
     private final Class<?> websocketClass;
     private final String path;
+    /** The subprotocols the websocket accepts in order of preference, may be empty. */
+    private final List<String> subprotocols;
+
+    public WebsocketConfig(final Class<?> websocketClass, final String path) {
+      this(websocketClass, path, List.of());
+    }
   }
 
   private ServerConfiguration(
@@ -42,6 +48,7 @@ public class ServerConfiguration<T extends Configuration> {
             websocketConfig ->
                 ServerEndpointConfig.Builder.create(
                         websocketConfig.websocketClass, websocketConfig.path)
+                    .subprotocols(websocketConfig.subprotocols)
                     .build())
         .toArray(ServerEndpointConfig[]::new);
   }
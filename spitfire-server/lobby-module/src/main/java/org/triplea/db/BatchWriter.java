@@ -0,0 +1,201 @@
+package org.triplea.db;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import io.dropwizard.lifecycle.Managed;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import javax.annotation.Nonnull;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Write-behind queue for database inserts that callers do not need to wait for, like chat history
+ * and access log records. Records are queued in memory and a background thread writes them with
+ * batch inserts, once {@code maxBatchSize} records are queued or once the oldest queued record has
+ * waited for {@code flushInterval}. Queued records are written when the server stops, records
+ * offered after that are dropped.
+ *
+ * <p>When the queue is full, {@link #offer} waits up to {@code offerTimeout} for space and then
+ * drops the record. When a batch insert fails, its records are written again one by one so that a
+ * single bad record does not lose the whole batch. The number of written, dropped and failed
+ * records is reported as metrics.
+ *
+ * @param <T> Type of the records written.
+ */
+@Slf4j
+public class BatchWriter<T> implements Managed {
+  private final String name;
+  private final BlockingQueue<T> queue;
+  private final int maxBatchSize;
+  private final Duration flushInterval;
+  private final Duration offerTimeout;
+  private final Consumer<List<T>> batchInsert;
+  private final Counter written;
+  private final Counter dropped;
+  private final Counter failed;
+  private final Thread worker;
+  private volatile boolean running;
+  private volatile boolean stopped;
+  private volatile boolean dropping;
+
+  /**
+   * Creates a new batch writer, the writer must be started before queued records are written.
+   *
+   * @param name Name of the writer, used for the worker thread and metric names.
+   * @param capacity Maximum number of records waiting to be written.
+   * @param maxBatchSize Maximum number of records written by a single batch insert.
+   * @param flushInterval Maximum time a record waits for more records to fill its batch.
+   * @param offerTimeout Maximum time to wait for space in a full queue before a record is dropped,
+   *     zero to drop records immediately.
+   * @param batchInsert Writes a batch of records to database.
+   * @param metrics Registry of the written, dropped and failed record counts.
+   */
+  @Builder
+  public BatchWriter(
+      @Nonnull final String name,
+      final int capacity,
+      final int maxBatchSize,
+      @Nonnull final Duration flushInterval,
+      @Nonnull final Duration offerTimeout,
+      @Nonnull final Consumer<List<T>> batchInsert,
+      @Nonnull final MetricRegistry metrics) {
+    Preconditions.checkArgument(capacity > 0);
+    Preconditions.checkArgument(maxBatchSize > 0);
+    this.name = name;
+    queue = new ArrayBlockingQueue<>(capacity);
+    this.maxBatchSize = maxBatchSize;
+    this.flushInterval = flushInterval;
+    this.offerTimeout = offerTimeout;
+    this.batchInsert = batchInsert;
+    written = metrics.counter(MetricRegistry.name(BatchWriter.class, name, "written"));
+    dropped = metrics.counter(MetricRegistry.name(BatchWriter.class, name, "dropped"));
+    failed = metrics.counter(MetricRegistry.name(BatchWriter.class, name, "failed"));
+    metrics.register(
+        MetricRegistry.name(BatchWriter.class, name, "queued"), (Gauge<Integer>) queue::size);
+    worker = new Thread(this::writeUntilStopped, "BatchWriter-" + name);
+    worker.setDaemon(true);
+  }
+
+  /**
+   * Queues a record to be written. Returns false if the record is dropped because the writer is
+   * stopped or the queue stayed full for {@code offerTimeout}.
+   */
+  public boolean offer(final T record) {
+    if (stopped) {
+      dropped.inc();
+      return false;
+    }
+    try {
+      if (queue.offer(record, offerTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+        if (dropping) {
+          dropping = false;
+        }
+        return true;
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    dropped.inc();
+    if (!dropping) {
+      dropping = true;
+      log.warn("{} queue is full, dropping records until there is space", name);
+    }
+    return false;
+  }
+
+  @Override
+  public void start() {
+    running = true;
+    worker.start();
+  }
+
+  /**
+   * Stops the background thread once all queued records are written. Takes up to {@code
+   * flushInterval} longer than writing the records. Records offered from then on are dropped.
+   */
+  @Override
+  public void stop() throws InterruptedException {
+    stopped = true;
+    running = false;
+    worker.join();
+    // records offered while the worker was finishing
+    flush();
+  }
+
+  private void writeUntilStopped() {
+    final List<T> batch = new ArrayList<>(maxBatchSize);
+    while (running) {
+      try {
+        collectBatch(batch);
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        running = false;
+      }
+      write(batch);
+      batch.clear();
+    }
+    flush();
+  }
+
+  /**
+   * Waits up to {@code flushInterval} for a first record, then up to {@code flushInterval} for the
+   * batch to fill.
+   */
+  private void collectBatch(final List<T> batch) throws InterruptedException {
+    final T first = queue.poll(flushInterval.toNanos(), TimeUnit.NANOSECONDS);
+    if (first == null) {
+      return;
+    }
+    batch.add(first);
+    final long deadline = System.nanoTime() + flushInterval.toNanos();
+    while (batch.size() < maxBatchSize) {
+      queue.drainTo(batch, maxBatchSize - batch.size());
+      final long remaining = deadline - System.nanoTime();
+      if (batch.size() >= maxBatchSize || remaining <= 0) {
+        return;
+      }
+      final T record = queue.poll(remaining, TimeUnit.NANOSECONDS);
+      if (record == null) {
+        return;
+      }
+      batch.add(record);
+    }
+  }
+
+  /** Writes all queued records on the calling thread. */
+  @VisibleForTesting
+  void flush() {
+    final List<T> batch = new ArrayList<>(maxBatchSize);
+    while (queue.drainTo(batch, maxBatchSize) > 0) {
+      write(batch);
+      batch.clear();
+    }
+  }
+
+  private void write(final List<T> batch) {
+    if (batch.isEmpty()) {
+      return;
+    }
+    try {
+      batchInsert.accept(batch);
+      written.inc(batch.size());
+    } catch (final RuntimeException e) {
+      if (batch.size() == 1) {
+        failed.inc();
+        log.error("{} failed to write a record to database", name, e);
+      } else {
+        log.warn("{} failed to write {} records, retrying one by one", name, batch.size(), e);
+        batch.forEach(record -> write(List.of(record)));
+      }
+    }
+  }
+}
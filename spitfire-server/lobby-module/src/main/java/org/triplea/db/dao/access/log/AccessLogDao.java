@@ -2,6 +2,8 @@ package org.triplea.db.dao.access.log;
 
 import java.util.List;
 import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.customizer.BindBean;
+import org.jdbi.v3.sqlobject.statement.SqlBatch;
 import org.jdbi.v3.sqlobject.statement.SqlQuery;
 import org.jdbi.v3.sqlobject.statement.SqlUpdate;
 
@@ -41,4 +43,14 @@ public interface AccessLogDao {
           + "  (select id from lobby_user where username = :username))")
   int insertUserAccessRecord(
       @Bind("username") String username, @Bind("ip") String ip, @Bind("systemId") String systemId);
+
+  /** Inserts access log records with a single batch statement. */
+  @SqlBatch(
+      "insert into access_log(username, ip, system_id, lobby_user_id)\n"
+          + "values ("
+          + "  :username,"
+          + "  :ip::inet,"
+          + "  :systemId,"
+          + "  (select id from lobby_user where username = :username))")
+  void insertUserAccessRecords(@BindBean List<InsertAccessLogParams> records);
 }
@@ -0,0 +1,18 @@
+package org.triplea.db.dao.access.log;
+
+import lombok.Builder;
+import lombok.Value;
+
+/** Parameter object for inserting a record of a user entering the lobby. */
+@Value
+@Builder
+public class InsertAccessLogParams {
+  /** The name the user entered the lobby with. */
+  String username;
+
+  /** The IP address of the user. */
+  String ip;
+
+  /** SystemId of the user. */
+  String systemId;
+}
@@ -0,0 +1,31 @@
+package org.triplea.db.dao.chat.history;
+
+import lombok.Builder;
+import lombok.Value;
+import org.triplea.http.client.web.socket.messages.envelopes.chat.ChatReceivedMessage;
+import org.triplea.java.StringUtils;
+
+/** Parameter object for inserting a lobby chat message record. */
+@Value
+@Builder
+public class InsertChatMessageParams {
+  /** The name of the user that sent the chat message. */
+  String username;
+
+  /** The ID of the API key the user used to sign in to the lobby. */
+  int apiKeyId;
+
+  /** The chat message contents, truncated to the length of the message column. */
+  String message;
+
+  public static InsertChatMessageParams of(
+      final ChatReceivedMessage chatReceivedMessage, final int apiKeyId) {
+    return InsertChatMessageParams.builder()
+        .username(chatReceivedMessage.getSender().getValue())
+        .apiKeyId(apiKeyId)
+        .message(
+            StringUtils.truncate(
+                chatReceivedMessage.getMessage(), LobbyChatHistoryDao.MESSAGE_COLUMN_LENGTH))
+        .build();
+  }
+}
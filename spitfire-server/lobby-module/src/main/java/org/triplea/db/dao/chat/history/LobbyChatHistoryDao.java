@@ -1,21 +1,15 @@
 package org.triplea.db.dao.chat.history;
 
+import java.util.List;
 import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.customizer.BindBean;
+import org.jdbi.v3.sqlobject.statement.SqlBatch;
 import org.jdbi.v3.sqlobject.statement.SqlUpdate;
-import org.triplea.http.client.web.socket.messages.envelopes.chat.ChatReceivedMessage;
-import org.triplea.java.StringUtils;
 
 /** Lobby chat history records lobby chat messages. */
 public interface LobbyChatHistoryDao {
   int MESSAGE_COLUMN_LENGTH = 240;
 
-  default void recordMessage(ChatReceivedMessage chatReceivedMessage, int apiKeyId) {
-    insertMessage(
-        chatReceivedMessage.getSender().getValue(),
-        apiKeyId,
-        StringUtils.truncate(chatReceivedMessage.getMessage(), MESSAGE_COLUMN_LENGTH));
-  }
-
   /**
    * Stores a chat message record to database.
    *
@@ -31,4 +25,10 @@ public interface LobbyChatHistoryDao {
       @Bind("username") String username,
       @Bind("apiKeyId") int apiKeyId,
       @Bind("message") String message);
+
+  /** Stores chat message records to database with a single batch statement. */
+  @SqlBatch(
+      "insert into lobby_chat_history (username, lobby_api_key_id, message) "
+          + "values(:username, :apiKeyId, :message)")
+  void insertMessages(@BindBean List<InsertChatMessageParams> messages);
 }
@@ -16,8 +16,4 @@ public interface BadWordsDao {
 
   @SqlUpdate("delete from bad_word where word = :word")
   int removeBadWord(@Bind("word") String badWordToRemove);
-
-  @SqlQuery(
-      "select exists (select * from bad_word where lower(:word) like '%' || lower(word) || '%')")
-  boolean containsBadWord(@Bind("word") String word);
 }
@@ -1,20 +1,26 @@
 package org.triplea.http;
 
-import com.codahale.metrics.MetricRegistry;
 import com.google.common.collect.ImmutableList;
 import io.dropwizard.Application;
 import io.dropwizard.jdbi3.JdbiFactory;
 import io.dropwizard.setup.Bootstrap;
 import io.dropwizard.setup.Environment;
+import java.time.Duration;
 import java.util.List;
 import org.jdbi.v3.core.Jdbi;
+import org.triplea.db.BatchWriter;
 import org.triplea.db.JdbiDatabase;
+import org.triplea.db.dao.access.log.AccessLogDao;
+import org.triplea.db.dao.access.log.InsertAccessLogParams;
+import org.triplea.db.dao.chat.history.InsertChatMessageParams;
+import org.triplea.db.dao.chat.history.LobbyChatHistoryDao;
 import org.triplea.dropwizard.common.AuthenticationConfiguration;
 import org.triplea.dropwizard.common.ServerConfiguration;
 import org.triplea.dropwizard.common.ServerConfiguration.WebsocketConfig;
+import org.triplea.http.client.web.socket.EnvelopeFormat;
 import org.triplea.http.client.web.socket.WebsocketPaths;
-import org.triplea.modules.access.authentication.ApiKeyAuthenticator;
 import org.triplea.modules.access.authentication.AuthenticatedUser;
+import org.triplea.modules.access.authentication.CachingApiKeyAuthenticator;
 import org.triplea.modules.access.authorization.BannedPlayerFilter;
 import org.triplea.modules.access.authorization.RoleAuthorizer;
 import org.triplea.modules.chat.ChatMessagingService;
@@ -28,6 +34,7 @@ import org.triplea.modules.game.lobby.watcher.LobbyWatcherController;
 import org.triplea.modules.game.participants.PlayersInGameController;
 import org.triplea.modules.moderation.access.log.AccessLogController;
 import org.triplea.modules.moderation.audit.history.ModeratorAuditHistoryController;
+import org.triplea.modules.moderation.bad.words.BadWords;
 import org.triplea.modules.moderation.bad.words.BadWordsController;
 import org.triplea.modules.moderation.ban.name.UsernameBanController;
 import org.triplea.modules.moderation.ban.user.UserBanController;
@@ -72,9 +79,14 @@ public class LobbyServer extends Application<LobbyServerConfig> {
     serverConfiguration =
         ServerConfiguration.build(
                 bootstrap,
-                new WebsocketConfig(GameConnectionWebSocket.class, WebsocketPaths.GAME_CONNECTIONS),
                 new WebsocketConfig(
-                    PlayerConnectionWebSocket.class, WebsocketPaths.PLAYER_CONNECTIONS))
+                    GameConnectionWebSocket.class,
+                    WebsocketPaths.GAME_CONNECTIONS,
+                    EnvelopeFormat.SUBPROTOCOLS),
+                new WebsocketConfig(
+                    PlayerConnectionWebSocket.class,
+                    WebsocketPaths.PLAYER_CONNECTIONS,
+                    EnvelopeFormat.SUBPROTOCOLS))
             .enableEnvironmentVariablesInConfig()
             .enableBetterJdbiExceptions();
   }
@@ -94,11 +106,10 @@ public class LobbyServer extends Application<LobbyServerConfig> {
     serverConfiguration.registerRequestFilter(
         environment, BannedPlayerFilter.newBannedPlayerFilter(jdbi));
 
-    final MetricRegistry metrics = new MetricRegistry();
+    final var apiKeyAuthenticator = CachingApiKeyAuthenticator.build(jdbi, environment.metrics());
     AuthenticationConfiguration.enableAuthentication(
         environment,
-        metrics,
-        ApiKeyAuthenticator.build(jdbi),
+        apiKeyAuthenticator,
         new RoleAuthorizer(),
         AuthenticatedUser.class);
 
@@ -114,11 +125,43 @@ public class LobbyServer extends Application<LobbyServerConfig> {
     GenericWebSocket.init(
         PlayerConnectionWebSocket.class, playerConnectionMessagingBus, sessionIsBannedCheck);
 
+    // chat history is not worth blocking a websocket thread, it is dropped when the queue is full;
+    // logins wait for a moment to keep the access log that moderators search complete
+    final BatchWriter<InsertChatMessageParams> chatHistoryWriter =
+        BatchWriter.<InsertChatMessageParams>builder()
+            .name("lobby-chat-history")
+            .capacity(10_000)
+            .maxBatchSize(500)
+            .flushInterval(Duration.ofSeconds(1))
+            .offerTimeout(Duration.ZERO)
+            .batchInsert(jdbi.onDemand(LobbyChatHistoryDao.class)::insertMessages)
+            .metrics(environment.metrics())
+            .build();
+    final BatchWriter<InsertAccessLogParams> accessLogWriter =
+        BatchWriter.<InsertAccessLogParams>builder()
+            .name("access-log")
+            .capacity(5_000)
+            .maxBatchSize(200)
+            .flushInterval(Duration.ofSeconds(1))
+            .offerTimeout(Duration.ofSeconds(1))
+            .batchInsert(jdbi.onDemand(AccessLogDao.class)::insertUserAccessRecords)
+            .metrics(environment.metrics())
+            .build();
+    environment.lifecycle().manage(chatHistoryWriter);
+    environment.lifecycle().manage(accessLogWriter);
+
     final var chatters = Chatters.build();
-    ChatMessagingService.build(chatters, jdbi).configure(playerConnectionMessagingBus);
+    ChatMessagingService.build(chatters, jdbi, chatHistoryWriter)
+        .configure(playerConnectionMessagingBus);
 
     endPointControllers(
-            configuration, jdbi, chatters, playerConnectionMessagingBus, gameConnectionMessagingBus)
+            configuration,
+            jdbi,
+            chatters,
+            apiKeyAuthenticator,
+            accessLogWriter,
+            playerConnectionMessagingBus,
+            gameConnectionMessagingBus)
         .forEach(controller -> environment.jersey().register(controller));
   }
 
@@ -126,25 +169,29 @@ public class LobbyServer extends Application<LobbyServerConfig> {
       final LobbyServerConfig appConfig,
       final Jdbi jdbi,
       final Chatters chatters,
+      final CachingApiKeyAuthenticator apiKeyAuthenticator,
+      final BatchWriter<InsertAccessLogParams> accessLogWriter,
       final WebSocketMessagingBus playerMessagingBus,
       final WebSocketMessagingBus gameMessagingBus) {
     final GameListing gameListing = GameListing.build(jdbi, playerMessagingBus);
+    final BadWords badWords = BadWords.build(jdbi);
     return ImmutableList.of(
         AccessLogController.build(jdbi),
-        BadWordsController.build(jdbi),
-        CreateAccountController.build(jdbi),
-        DisconnectUserController.build(jdbi, chatters, playerMessagingBus),
+        BadWordsController.build(jdbi, badWords),
+        CreateAccountController.build(jdbi, badWords),
+        DisconnectUserController.build(jdbi, chatters, apiKeyAuthenticator, playerMessagingBus),
         ForgotPasswordController.build(appConfig, jdbi),
         GameChatHistoryController.build(jdbi),
         GameHostingController.build(jdbi),
         GameListingController.build(gameListing),
         LobbyWatcherController.build(appConfig, jdbi, gameListing),
-        LoginController.build(jdbi, chatters),
+        LoginController.build(jdbi, chatters, badWords, accessLogWriter),
         UsernameBanController.build(jdbi),
-        UserBanController.build(jdbi, chatters, playerMessagingBus, gameMessagingBus),
+        UserBanController.build(
+            jdbi, chatters, apiKeyAuthenticator, playerMessagingBus, gameMessagingBus),
         ErrorReportController.build(appConfig, jdbi),
         ModeratorAuditHistoryController.build(jdbi),
-        ModeratorsController.build(jdbi),
+        ModeratorsController.build(jdbi, apiKeyAuthenticator),
         MuteUserController.build(chatters),
         PlayerInfoController.build(jdbi, chatters, gameListing),
         PlayersInGameController.build(gameListing),
@@ -0,0 +1,118 @@
+package org.triplea.modules.access.authentication;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.google.common.annotations.VisibleForTesting;
+import io.dropwizard.auth.Authenticator;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import org.jdbi.v3.core.Jdbi;
+
+/**
+ * Caches the results of {@link ApiKeyAuthenticator}. Most authenticated requests, game keep-alives
+ * and game updates in particular, re-validate the same few thousand API keys and each validation
+ * costs a key hash and up to two database lookups.
+ *
+ * <p>Valid keys are cached for a short time only, so role changes and deleted keys take effect
+ * shortly even when nobody invalidates them. Unknown keys are cached for an even shorter time so
+ * that a flood of requests with bad keys does not reach the database. Moderator actions that change
+ * what a key grants invalidate the cached keys of the affected user explicitly.
+ */
+public class CachingApiKeyAuthenticator implements Authenticator<String, AuthenticatedUser> {
+  @VisibleForTesting static final Duration VALID_KEY_TTL = Duration.ofMinutes(2);
+  @VisibleForTesting static final Duration UNKNOWN_KEY_TTL = Duration.ofSeconds(30);
+  private static final int MAXIMUM_SIZE = 20_000;
+
+  private final ApiKeyAuthenticator apiKeyAuthenticator;
+  private final Cache<String, Optional<AuthenticatedUser>> cache;
+  private final Counter rejectedKeys;
+  /** Counts the invalidations, to detect those made while a key was being looked up. */
+  private final AtomicLong invalidations = new AtomicLong();
+
+  @VisibleForTesting
+  CachingApiKeyAuthenticator(
+      final ApiKeyAuthenticator apiKeyAuthenticator,
+      final Ticker ticker,
+      final MetricRegistry metrics) {
+    this.apiKeyAuthenticator = apiKeyAuthenticator;
+    cache =
+        Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .expireAfter(new TimeToLive())
+            .ticker(ticker)
+            .recordStats()
+            .build();
+    rejectedKeys = metrics.counter(metricName("rejected-keys"));
+    metrics.register(metricName("hit-rate"), (Gauge<Double>) () -> cache.stats().hitRate());
+    metrics.register(metricName("size"), (Gauge<Long>) cache::estimatedSize);
+    metrics.register(metricName("evictions"), (Gauge<Long>) () -> cache.stats().evictionCount());
+  }
+
+  public static CachingApiKeyAuthenticator build(final Jdbi jdbi, final MetricRegistry metrics) {
+    return new CachingApiKeyAuthenticator(
+        ApiKeyAuthenticator.build(jdbi), Ticker.systemTicker(), metrics);
+  }
+
+  private static String metricName(final String name) {
+    return MetricRegistry.name(CachingApiKeyAuthenticator.class, name);
+  }
+
+  /** Expires valid and unknown keys after their respective time to live. */
+  private static class TimeToLive implements Expiry<String, Optional<AuthenticatedUser>> {
+    @Override
+    public long expireAfterCreate(
+        final String apiKey, final Optional<AuthenticatedUser> user, final long currentTime) {
+      return (user.isPresent() ? VALID_KEY_TTL : UNKNOWN_KEY_TTL).toNanos();
+    }
+
+    @Override
+    public long expireAfterUpdate(
+        final String apiKey,
+        final Optional<AuthenticatedUser> user,
+        final long currentTime,
+        final long currentDuration) {
+      return expireAfterCreate(apiKey, user, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(
+        final String apiKey,
+        final Optional<AuthenticatedUser> user,
+        final long currentTime,
+        final long currentDuration) {
+      return currentDuration;
+    }
+  }
+
+  @Override
+  public Optional<AuthenticatedUser> authenticate(final String apiKey) {
+    final long invalidationsBefore = invalidations.get();
+    final Optional<AuthenticatedUser> user = cache.get(apiKey, apiKeyAuthenticator::authenticate);
+    if (invalidations.get() != invalidationsBefore) {
+      // the key might have been looked up before the invalidation and stored after it
+      cache.asMap().remove(apiKey, user);
+    }
+    if (user.isEmpty()) {
+      rejectedKeys.inc();
+    }
+    return user;
+  }
+
+  /**
+   * Drops the cached keys of the given user, their next request is authenticated against the
+   * database again.
+   */
+  public void invalidateUser(final String username) {
+    invalidations.incrementAndGet();
+    cache
+        .asMap()
+        .values()
+        .removeIf(user -> user.isPresent() && username.equals(user.get().getName()));
+  }
+}
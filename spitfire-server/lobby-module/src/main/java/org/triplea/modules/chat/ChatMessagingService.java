@@ -3,6 +3,8 @@ package org.triplea.modules.chat;
 import com.google.common.base.Preconditions;
 import lombok.Builder;
 import org.jdbi.v3.core.Jdbi;
+import org.triplea.db.BatchWriter;
+import org.triplea.db.dao.chat.history.InsertChatMessageParams;
 import org.triplea.http.client.web.socket.messages.envelopes.chat.ChatSentMessage;
 import org.triplea.http.client.web.socket.messages.envelopes.chat.ConnectToChatMessage;
 import org.triplea.http.client.web.socket.messages.envelopes.chat.PlayerSlapSentMessage;
@@ -22,11 +24,14 @@ public class ChatMessagingService {
   private final SlapListener slapListener;
   private final PlayerLeftListener playerLeftListener;
 
-  public static ChatMessagingService build(final Chatters chatters, final Jdbi jdbi) {
+  public static ChatMessagingService build(
+      final Chatters chatters,
+      final Jdbi jdbi,
+      final BatchWriter<InsertChatMessageParams> chatHistoryWriter) {
     Preconditions.checkNotNull(chatters);
     return ChatMessagingService.builder()
         .playerConnectedListener(PlayerConnectedListener.build(chatters, jdbi))
-        .chatMessageListener(ChatMessageListener.build(chatters, jdbi))
+        .chatMessageListener(ChatMessageListener.build(chatters, chatHistoryWriter))
         .statusUpdateListener(new StatusUpdateListener(chatters))
         .slapListener(new SlapListener(chatters))
         .playerLeftListener(new PlayerLeftListener(chatters))
@@ -5,29 +5,27 @@ import java.time.Instant;
 import java.util.function.Consumer;
 import javax.annotation.Nonnull;
 import lombok.Builder;
-import lombok.extern.slf4j.Slf4j;
-import org.jdbi.v3.core.Jdbi;
-import org.triplea.db.dao.chat.history.LobbyChatHistoryDao;
+import org.triplea.db.BatchWriter;
+import org.triplea.db.dao.chat.history.InsertChatMessageParams;
 import org.triplea.domain.data.ChatParticipant;
 import org.triplea.http.client.web.socket.messages.envelopes.chat.ChatEventReceivedMessage;
 import org.triplea.http.client.web.socket.messages.envelopes.chat.ChatReceivedMessage;
 import org.triplea.http.client.web.socket.messages.envelopes.chat.ChatSentMessage;
-import org.triplea.java.concurrency.AsyncRunner;
 import org.triplea.modules.chat.ChatterSession;
 import org.triplea.modules.chat.Chatters;
 import org.triplea.web.socket.WebSocketMessageContext;
 
 @Builder
-@Slf4j
 public class ChatMessageListener implements Consumer<WebSocketMessageContext<ChatSentMessage>> {
 
   @Nonnull private final Chatters chatters;
-  @Nonnull private final LobbyChatHistoryDao lobbyChatHistoryDao;
+  @Nonnull private final BatchWriter<InsertChatMessageParams> chatHistoryWriter;
 
-  public static ChatMessageListener build(final Chatters chatters, final Jdbi jdbi) {
+  public static ChatMessageListener build(
+      final Chatters chatters, final BatchWriter<InsertChatMessageParams> chatHistoryWriter) {
     return ChatMessageListener.builder()
         .chatters(chatters)
-        .lobbyChatHistoryDao(jdbi.onDemand(LobbyChatHistoryDao.class))
+        .chatHistoryWriter(chatHistoryWriter)
         .build();
   }
 
@@ -67,8 +65,6 @@ public class ChatMessageListener implements Consumer<WebSocketMessageContext<Cha
 
   private void recordInHistory(
       final ChatReceivedMessage chatReceivedMessage, final ChatterSession session) {
-    AsyncRunner.runAsync(
-            () -> lobbyChatHistoryDao.recordMessage(chatReceivedMessage, session.getApiKeyId()))
-        .exceptionally(e -> log.error("Error recording chat message in database history table", e));
+    chatHistoryWriter.offer(InsertChatMessageParams.of(chatReceivedMessage, session.getApiKeyId()));
   }
 }
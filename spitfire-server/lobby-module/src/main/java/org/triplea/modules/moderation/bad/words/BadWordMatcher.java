@@ -0,0 +1,90 @@
+package org.triplea.modules.moderation.bad.words;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * Immutable Aho-Corasick automaton over a set of bad words. Checks whether a text contains any of
+ * the words, ignoring case, in time linear in the length of the text no matter how many words there
+ * are. Words are matched literally, '%' and '_' are not wildcards.
+ */
+class BadWordMatcher {
+  private final Node root = new Node();
+
+  private static class Node {
+    private final Map<Character, Node> children = new HashMap<>();
+    private Node fail;
+    /** True if a word ends here or at any node reachable through fail links. */
+    private boolean matches;
+  }
+
+  BadWordMatcher(final Collection<String> words) {
+    for (final String word : words) {
+      final String normalizedWord = normalize(word);
+      if (normalizedWord.isEmpty()) {
+        continue;
+      }
+      Node node = root;
+      for (final char c : normalizedWord.toCharArray()) {
+        node = node.children.computeIfAbsent(c, k -> new Node());
+      }
+      node.matches = true;
+    }
+    linkFailTransitions();
+  }
+
+  private static String normalize(final String text) {
+    return text.toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * Points the fail link of every node to the node of its longest proper suffix in the trie,
+   * visiting nodes breadth first so that the links of shallower nodes are already set.
+   */
+  private void linkFailTransitions() {
+    final Queue<Node> queue = new ArrayDeque<>();
+    root.fail = root;
+    for (final Node child : root.children.values()) {
+      child.fail = root;
+      queue.add(child);
+    }
+    while (!queue.isEmpty()) {
+      final Node node = queue.remove();
+      for (final Map.Entry<Character, Node> entry : node.children.entrySet()) {
+        final Node child = entry.getValue();
+        child.fail = next(node.fail, entry.getKey());
+        child.matches |= child.fail.matches;
+        queue.add(child);
+      }
+    }
+  }
+
+  private Node next(final Node from, final char c) {
+    Node node = from;
+    while (true) {
+      final Node child = node.children.get(c);
+      if (child != null) {
+        return child;
+      } else if (node == root) {
+        return root;
+      }
+      node = node.fail;
+    }
+  }
+
+  /** Returns true if the given text contains any of the bad words, ignoring case. */
+  boolean containsBadWord(final String text) {
+    Node node = root;
+    for (final char c : normalize(text).toCharArray()) {
+      node = next(node, c);
+      if (node.matches) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,34 @@
+package org.triplea.modules.moderation.bad.words;
+
+import com.google.common.annotations.VisibleForTesting;
+import org.jdbi.v3.core.Jdbi;
+import org.triplea.db.dao.moderator.BadWordsDao;
+
+/**
+ * Keeps the words of the bad-word table in memory so that names can be checked without querying
+ * the database. The words are reloaded whenever moderators add or remove a bad word.
+ */
+public class BadWords {
+  private final BadWordsDao badWordsDao;
+  private volatile BadWordMatcher matcher;
+
+  @VisibleForTesting
+  BadWords(final BadWordsDao badWordsDao) {
+    this.badWordsDao = badWordsDao;
+    reload();
+  }
+
+  public static BadWords build(final Jdbi jdbi) {
+    return new BadWords(jdbi.onDemand(BadWordsDao.class));
+  }
+
+  /** Returns true if the given text contains any bad word, ignoring case. */
+  public boolean containsBadWord(final String text) {
+    return matcher.containsBadWord(text);
+  }
+
+  /** Reloads the bad words from database, to be called after the bad-word table was modified. */
+  synchronized void reload() {
+    matcher = new BadWordMatcher(badWordsDao.getBadWords());
+  }
+}
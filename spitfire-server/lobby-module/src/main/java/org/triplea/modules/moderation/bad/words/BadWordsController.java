@@ -21,9 +21,9 @@ import org.triplea.modules.access.authentication.AuthenticatedUser;
 public class BadWordsController extends HttpController {
   @Nonnull private final BadWordsService badWordsService;
 
-  public static BadWordsController build(final Jdbi jdbi) {
+  public static BadWordsController build(final Jdbi jdbi, final BadWords badWords) {
     return BadWordsController.builder() //
-        .badWordsService(BadWordsService.build(jdbi))
+        .badWordsService(BadWordsService.build(jdbi, badWords))
         .build();
   }
 
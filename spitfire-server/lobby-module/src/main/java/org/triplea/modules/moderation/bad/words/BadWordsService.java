@@ -10,10 +10,13 @@ import org.triplea.db.dao.moderator.ModeratorAuditHistoryDao;
 class BadWordsService {
   private final BadWordsDao badWordsDao;
   private final ModeratorAuditHistoryDao moderatorAuditHistoryDao;
+  private final BadWords badWords;
 
-  public static BadWordsService build(final Jdbi jdbi) {
+  public static BadWordsService build(final Jdbi jdbi, final BadWords badWords) {
     return new BadWordsService(
-        jdbi.onDemand(BadWordsDao.class), jdbi.onDemand(ModeratorAuditHistoryDao.class));
+        jdbi.onDemand(BadWordsDao.class),
+        jdbi.onDemand(ModeratorAuditHistoryDao.class),
+        badWords);
   }
 
   /**
@@ -26,6 +29,7 @@ class BadWordsService {
   boolean removeBadWord(final int moderatorUserId, final String badWord) {
     final boolean success = badWordsDao.removeBadWord(badWord) == 1;
     if (success) {
+      badWords.reload();
       moderatorAuditHistoryDao.addAuditRecord(
           ModeratorAuditHistoryDao.AuditArgs.builder()
               .moderatorUserId(moderatorUserId)
@@ -46,6 +50,7 @@ class BadWordsService {
   boolean addBadWord(final int moderatorUserId, final String badWord) {
     final boolean success = badWordsDao.addBadWord(badWord) == 1;
     if (success) {
+      badWords.reload();
       moderatorAuditHistoryDao.addAuditRecord(
           ModeratorAuditHistoryDao.AuditArgs.builder()
               .moderatorUserId(moderatorUserId)
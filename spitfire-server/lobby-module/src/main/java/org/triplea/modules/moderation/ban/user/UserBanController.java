@@ -17,6 +17,7 @@ import org.triplea.http.client.lobby.moderator.ModeratorChatClient;
 import org.triplea.http.client.lobby.moderator.toolbox.banned.user.ToolboxUserBanClient;
 import org.triplea.http.client.lobby.moderator.toolbox.banned.user.UserBanParams;
 import org.triplea.modules.access.authentication.AuthenticatedUser;
+import org.triplea.modules.access.authentication.CachingApiKeyAuthenticator;
 import org.triplea.modules.chat.Chatters;
 import org.triplea.web.socket.WebSocketMessagingBus;
 
@@ -29,6 +30,7 @@ public class UserBanController extends HttpController {
   public static UserBanController build(
       final Jdbi jdbi,
       final Chatters chatters,
+      final CachingApiKeyAuthenticator apiKeyAuthenticator,
       final WebSocketMessagingBus chatMessagingBus,
       final WebSocketMessagingBus gameMessagingBus) {
     return UserBanController.builder()
@@ -36,6 +38,7 @@ public class UserBanController extends HttpController {
             UserBanService.builder()
                 .jdbi(jdbi)
                 .chatters(chatters)
+                .apiKeyAuthenticator(apiKeyAuthenticator)
                 .chatMessagingBus(chatMessagingBus)
                 .gameMessagingBus(gameMessagingBus)
                 .build())
@@ -21,6 +21,7 @@ import org.triplea.http.client.lobby.moderator.toolbox.banned.user.UserBanParams
 import org.triplea.http.client.web.socket.messages.envelopes.chat.ChatEventReceivedMessage;
 import org.triplea.http.client.web.socket.messages.envelopes.remote.actions.PlayerBannedMessage;
 import org.triplea.java.IpAddressParser;
+import org.triplea.modules.access.authentication.CachingApiKeyAuthenticator;
 import org.triplea.modules.chat.Chatters;
 import org.triplea.web.socket.WebSocketMessagingBus;
 
@@ -36,6 +37,7 @@ public class UserBanService {
   private final Supplier<String> publicIdSupplier;
   private final Chatters chatters;
   private final PlayerApiKeyDaoWrapper apiKeyDaoWrapper;
+  private final CachingApiKeyAuthenticator apiKeyAuthenticator;
   private final WebSocketMessagingBus chatMessagingBus;
   private final WebSocketMessagingBus gameMessagingBus;
 
@@ -43,6 +45,7 @@ public class UserBanService {
   public UserBanService(
       final Jdbi jdbi,
       final Chatters chatters,
+      final CachingApiKeyAuthenticator apiKeyAuthenticator,
       final WebSocketMessagingBus chatMessagingBus,
       final WebSocketMessagingBus gameMessagingBus) {
     moderatorAuditHistoryDao = jdbi.onDemand(ModeratorAuditHistoryDao.class);
@@ -50,6 +53,7 @@ public class UserBanService {
     publicIdSupplier = () -> UUID.randomUUID().toString();
     this.chatters = chatters;
     this.apiKeyDaoWrapper = PlayerApiKeyDaoWrapper.build(jdbi);
+    this.apiKeyAuthenticator = apiKeyAuthenticator;
     this.chatMessagingBus = chatMessagingBus;
     this.gameMessagingBus = gameMessagingBus;
   }
@@ -101,6 +105,7 @@ public class UserBanService {
 
   void banUser(final int moderatorId, final UserBanParams userBanParams) {
     persistUserBanToDatabase(userBanParams);
+    apiKeyAuthenticator.invalidateUser(userBanParams.getUsername());
 
     if (removePlayerFromChat(userBanParams)) {
       broadcastToChattersPlayerBannedMessage(userBanParams);
@@ -8,6 +8,7 @@ import org.triplea.db.dao.api.key.PlayerIdentifiersByApiKeyLookup;
 import org.triplea.db.dao.moderator.ModeratorAuditHistoryDao;
 import org.triplea.domain.data.PlayerChatId;
 import org.triplea.http.client.web.socket.messages.envelopes.chat.ChatEventReceivedMessage;
+import org.triplea.modules.access.authentication.CachingApiKeyAuthenticator;
 import org.triplea.modules.chat.Chatters;
 import org.triplea.web.socket.WebSocketMessagingBus;
 
@@ -16,14 +17,19 @@ public class DisconnectUserAction {
 
   @Nonnull private final PlayerApiKeyDaoWrapper apiKeyDaoWrapper;
   @Nonnull private final Chatters chatters;
+  @Nonnull private final CachingApiKeyAuthenticator apiKeyAuthenticator;
   @Nonnull private final WebSocketMessagingBus playerConnections;
   @Nonnull private final ModeratorAuditHistoryDao moderatorAuditHistoryDao;
 
   static DisconnectUserAction build(
-      final Jdbi jdbi, final Chatters chatters, final WebSocketMessagingBus playerConnections) {
+      final Jdbi jdbi,
+      final Chatters chatters,
+      final CachingApiKeyAuthenticator apiKeyAuthenticator,
+      final WebSocketMessagingBus playerConnections) {
     return DisconnectUserAction.builder()
         .apiKeyDaoWrapper(PlayerApiKeyDaoWrapper.build(jdbi))
         .chatters(chatters)
+        .apiKeyAuthenticator(apiKeyAuthenticator)
         .playerConnections(playerConnections)
         .moderatorAuditHistoryDao(jdbi.onDemand(ModeratorAuditHistoryDao.class))
         .build();
@@ -40,6 +46,7 @@ public class DisconnectUserAction {
       return false;
     }
 
+    apiKeyAuthenticator.invalidateUser(gamePlayerLookup.getUserName().getValue());
     if (chatters.disconnectPlayerByName(
         gamePlayerLookup.getUserName(), "Disconnected by moderator")) {
       playerConnections.broadcastMessage(
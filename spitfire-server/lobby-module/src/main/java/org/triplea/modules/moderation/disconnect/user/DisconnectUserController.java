@@ -14,6 +14,7 @@ import org.triplea.domain.data.PlayerChatId;
 import org.triplea.http.HttpController;
 import org.triplea.http.client.lobby.moderator.ModeratorChatClient;
 import org.triplea.modules.access.authentication.AuthenticatedUser;
+import org.triplea.modules.access.authentication.CachingApiKeyAuthenticator;
 import org.triplea.modules.chat.Chatters;
 import org.triplea.web.socket.WebSocketMessagingBus;
 
@@ -24,9 +25,12 @@ public class DisconnectUserController extends HttpController {
   private final DisconnectUserAction disconnectUserAction;
 
   public static DisconnectUserController build(
-      final Jdbi jdbi, final Chatters chatters, final WebSocketMessagingBus playerConnections) {
+      final Jdbi jdbi,
+      final Chatters chatters,
+      final CachingApiKeyAuthenticator apiKeyAuthenticator,
+      final WebSocketMessagingBus playerConnections) {
     return new DisconnectUserController(
-        DisconnectUserAction.build(jdbi, chatters, playerConnections));
+        DisconnectUserAction.build(jdbi, chatters, apiKeyAuthenticator, playerConnections));
   }
 
   @POST
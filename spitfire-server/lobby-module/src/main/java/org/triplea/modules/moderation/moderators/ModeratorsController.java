@@ -13,6 +13,7 @@ import org.triplea.db.dao.user.role.UserRole;
 import org.triplea.http.HttpController;
 import org.triplea.http.client.lobby.moderator.toolbox.management.ToolboxModeratorManagementClient;
 import org.triplea.modules.access.authentication.AuthenticatedUser;
+import org.triplea.modules.access.authentication.CachingApiKeyAuthenticator;
 
 /**
  * Provides endpoint for moderator maintenance actions and to support the moderators toolbox
@@ -24,9 +25,10 @@ public class ModeratorsController extends HttpController {
   @Nonnull private final ModeratorsService moderatorsService;
 
   /** Factory method , instantiates {@code ModeratorsController} with dependencies. */
-  public static ModeratorsController build(final Jdbi jdbi) {
+  public static ModeratorsController build(
+      final Jdbi jdbi, final CachingApiKeyAuthenticator apiKeyAuthenticator) {
     return ModeratorsController.builder() //
-        .moderatorsService(ModeratorsService.build(jdbi))
+        .moderatorsService(ModeratorsService.build(jdbi, apiKeyAuthenticator))
         .build();
   }
 
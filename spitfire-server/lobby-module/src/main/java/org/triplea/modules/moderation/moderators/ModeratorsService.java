@@ -14,6 +14,7 @@ import org.triplea.db.dao.moderator.ModeratorsDao;
 import org.triplea.db.dao.user.UserJdbiDao;
 import org.triplea.db.dao.user.role.UserRole;
 import org.triplea.http.client.lobby.moderator.toolbox.management.ModeratorInfo;
+import org.triplea.modules.access.authentication.CachingApiKeyAuthenticator;
 
 @Builder
 @Slf4j
@@ -21,12 +22,15 @@ class ModeratorsService {
   @Nonnull private final ModeratorsDao moderatorsDao;
   @Nonnull private final UserJdbiDao userJdbiDao;
   @Nonnull private final ModeratorAuditHistoryDao moderatorAuditHistoryDao;
+  @Nonnull private final CachingApiKeyAuthenticator apiKeyAuthenticator;
 
-  public static ModeratorsService build(final Jdbi jdbi) {
+  public static ModeratorsService build(
+      final Jdbi jdbi, final CachingApiKeyAuthenticator apiKeyAuthenticator) {
     return ModeratorsService.builder()
         .moderatorsDao(jdbi.onDemand(ModeratorsDao.class))
         .userJdbiDao(jdbi.onDemand(UserJdbiDao.class))
         .moderatorAuditHistoryDao(jdbi.onDemand(ModeratorAuditHistoryDao.class))
+        .apiKeyAuthenticator(apiKeyAuthenticator)
         .build();
   }
 
@@ -54,6 +58,7 @@ class ModeratorsService {
                 () -> new IllegalArgumentException("Unable to find username: " + username));
 
     Preconditions.checkState(moderatorsDao.setRole(userId, UserRole.MODERATOR) == 1);
+    apiKeyAuthenticator.invalidateUser(username);
     moderatorAuditHistoryDao.addAuditRecord(
         ModeratorAuditHistoryDao.AuditArgs.builder()
             .moderatorUserId(moderatorIdRequesting)
@@ -76,6 +81,7 @@ class ModeratorsService {
     Preconditions.checkState(
         moderatorsDao.setRole(userId, UserRole.PLAYER) == 1,
         "Failed to remove moderator status for: " + moderatorNameToRemove);
+    apiKeyAuthenticator.invalidateUser(moderatorNameToRemove);
 
     moderatorAuditHistoryDao.addAuditRecord(
         ModeratorAuditHistoryDao.AuditArgs.builder()
@@ -97,6 +103,7 @@ class ModeratorsService {
     Preconditions.checkState(
         moderatorsDao.setRole(userId, UserRole.ADMIN) == 1,
         "Failed to add super moderator status for: " + username);
+    apiKeyAuthenticator.invalidateUser(username);
     moderatorAuditHistoryDao.addAuditRecord(
         ModeratorAuditHistoryDao.AuditArgs.builder()
             .moderatorUserId(moderatorIdRequesting)
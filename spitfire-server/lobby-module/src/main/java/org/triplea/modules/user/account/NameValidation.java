@@ -5,24 +5,24 @@ import java.util.function.Function;
 import javax.annotation.Nonnull;
 import lombok.Builder;
 import org.jdbi.v3.core.Jdbi;
-import org.triplea.db.dao.moderator.BadWordsDao;
 import org.triplea.db.dao.user.UserJdbiDao;
 import org.triplea.db.dao.username.ban.UsernameBanDao;
 import org.triplea.domain.data.UserName;
+import org.triplea.modules.moderation.bad.words.BadWords;
 
 @Builder
 public class NameValidation implements Function<String, Optional<String>> {
 
   @Nonnull private final Function<String, Optional<String>> syntaxValidation;
-  @Nonnull private final BadWordsDao badWordsDao;
+  @Nonnull private final BadWords badWords;
   @Nonnull private final UserJdbiDao userJdbiDao;
   @Nonnull private final UsernameBanDao usernameBanDao;
 
-  public static NameValidation build(final Jdbi jdbi) {
+  public static NameValidation build(final Jdbi jdbi, final BadWords badWords) {
     return NameValidation.builder()
         .userJdbiDao(jdbi.onDemand(UserJdbiDao.class))
         .syntaxValidation(name -> Optional.ofNullable(UserName.validate(name)))
-        .badWordsDao(jdbi.onDemand(BadWordsDao.class))
+        .badWords(badWords)
         .usernameBanDao(jdbi.onDemand(UsernameBanDao.class))
         .build();
   }
@@ -33,7 +33,7 @@ public class NameValidation implements Function<String, Optional<String>> {
         .apply(playerName)
         .or(
             () ->
-                badWordsDao.containsBadWord(playerName)
+                badWords.containsBadWord(playerName)
                         || usernameBanDao.nameIsBanned(playerName.trim())
                     ? Optional.of("That is not a nice name")
                     : Optional.empty());
@@ -11,15 +11,16 @@ import org.triplea.http.HttpController;
 import org.triplea.http.client.lobby.login.CreateAccountRequest;
 import org.triplea.http.client.lobby.login.CreateAccountResponse;
 import org.triplea.http.client.lobby.login.LobbyLoginClient;
+import org.triplea.modules.moderation.bad.words.BadWords;
 
 @Builder
 public class CreateAccountController extends HttpController {
 
   @Nonnull private final Function<CreateAccountRequest, CreateAccountResponse> createAccountModule;
 
-  public static CreateAccountController build(final Jdbi jdbi) {
+  public static CreateAccountController build(final Jdbi jdbi, final BadWords badWords) {
     return CreateAccountController.builder()
-        .createAccountModule(CreateAccountModule.build(jdbi))
+        .createAccountModule(CreateAccountModule.build(jdbi, badWords))
         .build();
   }
 
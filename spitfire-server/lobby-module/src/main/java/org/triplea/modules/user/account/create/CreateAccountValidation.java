@@ -6,6 +6,7 @@ import javax.annotation.Nonnull;
 import lombok.Builder;
 import org.jdbi.v3.core.Jdbi;
 import org.triplea.http.client.lobby.login.CreateAccountRequest;
+import org.triplea.modules.moderation.bad.words.BadWords;
 import org.triplea.modules.user.account.NameIsAvailableValidation;
 import org.triplea.modules.user.account.NameValidation;
 
@@ -27,9 +28,9 @@ class CreateAccountValidation implements Function<CreateAccountRequest, Optional
   @Nonnull private final Function<String, Optional<String>> emailValidator;
   @Nonnull private final Function<String, Optional<String>> passwordValidator;
 
-  public static CreateAccountValidation build(final Jdbi jdbi) {
+  public static CreateAccountValidation build(final Jdbi jdbi, final BadWords badWords) {
     return CreateAccountValidation.builder()
-        .nameValidator(NameValidation.build(jdbi))
+        .nameValidator(NameValidation.build(jdbi, badWords))
         .emailValidator(new EmailValidation())
         .passwordValidator(new PasswordValidation())
         .nameIsAvailableValidator(NameIsAvailableValidation.build(jdbi))
@@ -3,29 +3,27 @@ package org.triplea.modules.user.account.login;
 import java.util.function.Consumer;
 import javax.annotation.Nonnull;
 import lombok.Builder;
-import org.jdbi.v3.core.Jdbi;
-import org.triplea.db.dao.access.log.AccessLogDao;
-import org.triplea.java.Postconditions;
+import org.triplea.db.BatchWriter;
+import org.triplea.db.dao.access.log.InsertAccessLogParams;
 
 @Builder
 class AccessLogUpdater implements Consumer<LoginRecord> {
 
-  @Nonnull private final AccessLogDao accessLogDao;
+  @Nonnull private final BatchWriter<InsertAccessLogParams> accessLogWriter;
 
-  public static AccessLogUpdater build(final Jdbi jdbi) {
+  public static AccessLogUpdater build(final BatchWriter<InsertAccessLogParams> accessLogWriter) {
     return AccessLogUpdater.builder() //
-        .accessLogDao(jdbi.onDemand(AccessLogDao.class))
+        .accessLogWriter(accessLogWriter)
         .build();
   }
 
   @Override
   public void accept(final LoginRecord loginRecord) {
-    final int updateCount =
-        accessLogDao.insertUserAccessRecord(
-            loginRecord.getUserName().getValue(),
-            loginRecord.getIp(),
-            loginRecord.getSystemId().getValue());
-
-    Postconditions.assertState(updateCount == 1);
+    accessLogWriter.offer(
+        InsertAccessLogParams.builder()
+            .username(loginRecord.getUserName().getValue())
+            .ip(loginRecord.getIp())
+            .systemId(loginRecord.getSystemId().getValue())
+            .build());
   }
 }
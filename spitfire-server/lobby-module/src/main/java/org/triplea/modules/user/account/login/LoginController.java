@@ -8,20 +8,27 @@ import javax.ws.rs.Path;
 import javax.ws.rs.core.Context;
 import lombok.Builder;
 import org.jdbi.v3.core.Jdbi;
+import org.triplea.db.BatchWriter;
+import org.triplea.db.dao.access.log.InsertAccessLogParams;
 import org.triplea.http.HttpController;
 import org.triplea.http.client.SystemIdHeader;
 import org.triplea.http.client.lobby.login.LobbyLoginClient;
 import org.triplea.http.client.lobby.login.LobbyLoginResponse;
 import org.triplea.http.client.lobby.login.LoginRequest;
 import org.triplea.modules.chat.Chatters;
+import org.triplea.modules.moderation.bad.words.BadWords;
 
 @Builder
 public class LoginController extends HttpController {
   @Nonnull private final LoginModule loginModule;
 
-  public static LoginController build(final Jdbi jdbi, final Chatters chatters) {
+  public static LoginController build(
+      final Jdbi jdbi,
+      final Chatters chatters,
+      final BadWords badWords,
+      final BatchWriter<InsertAccessLogParams> accessLogWriter) {
     return LoginController.builder() //
-        .loginModule(LoginModule.build(jdbi, chatters))
+        .loginModule(LoginModule.build(jdbi, chatters, badWords, accessLogWriter))
         .build();
   }
 
@@ -8,6 +8,8 @@ import java.util.function.Predicate;
 import javax.annotation.Nonnull;
 import lombok.Builder;
 import org.jdbi.v3.core.Jdbi;
+import org.triplea.db.BatchWriter;
+import org.triplea.db.dao.access.log.InsertAccessLogParams;
 import org.triplea.db.dao.user.UserJdbiDao;
 import org.triplea.db.dao.user.role.UserRole;
 import org.triplea.domain.data.ApiKey;
@@ -17,6 +19,7 @@ import org.triplea.domain.data.UserName;
 import org.triplea.http.client.lobby.login.LobbyLoginResponse;
 import org.triplea.http.client.lobby.login.LoginRequest;
 import org.triplea.modules.chat.Chatters;
+import org.triplea.modules.moderation.bad.words.BadWords;
 import org.triplea.modules.user.account.NameValidation;
 import org.triplea.modules.user.account.login.authorizer.anonymous.AnonymousLogin;
 import org.triplea.modules.user.account.login.authorizer.registered.PasswordCheck;
@@ -32,15 +35,19 @@ class LoginModule {
   @Nonnull private final UserJdbiDao userJdbiDao;
   @Nonnull private final Function<String, Optional<String>> nameValidation;
 
-  public static LoginModule build(final Jdbi jdbi, final Chatters chatters) {
+  public static LoginModule build(
+      final Jdbi jdbi,
+      final Chatters chatters,
+      final BadWords badWords,
+      final BatchWriter<InsertAccessLogParams> accessLogWriter) {
     return LoginModule.builder()
         .userJdbiDao(jdbi.onDemand(UserJdbiDao.class))
-        .accessLogUpdater(AccessLogUpdater.build(jdbi))
+        .accessLogUpdater(AccessLogUpdater.build(accessLogWriter))
         .apiKeyGenerator(ApiKeyGenerator.build(jdbi))
         .anonymousLogin(AnonymousLogin.build(jdbi, chatters))
         .tempPasswordLogin(TempPasswordLogin.build(jdbi))
         .registeredLogin(PasswordCheck.build(jdbi))
-        .nameValidation(NameValidation.build(jdbi))
+        .nameValidation(NameValidation.build(jdbi, badWords))
         .build();
   }
 
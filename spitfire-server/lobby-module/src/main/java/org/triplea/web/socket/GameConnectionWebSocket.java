@@ -1,5 +1,6 @@
 package org.triplea.web.socket;
 
+import java.nio.ByteBuffer;
 import javax.websocket.CloseReason;
 import javax.websocket.OnClose;
 import javax.websocket.OnError;
@@ -21,6 +22,11 @@ public class GameConnectionWebSocket {
     GenericWebSocket.getInstance(this.getClass()).onMessage(session, message);
   }
 
+  @OnMessage
+  public void onMessage(final Session session, final ByteBuffer message) {
+    GenericWebSocket.getInstance(this.getClass()).onMessage(session, message);
+  }
+
   @OnClose
   public void onClose(final Session session, final CloseReason closeReason) {
     GenericWebSocket.getInstance(this.getClass()).onClose(session, closeReason);
@@ -0,0 +1,120 @@
+package org.triplea.db;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import com.codahale.metrics.MetricRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class BatchWriterTest {
+  private final MetricRegistry metrics = new MetricRegistry();
+  private final List<List<Integer>> batches = new ArrayList<>();
+
+  private BatchWriter<Integer> newBatchWriter(
+      final int capacity, final Consumer<List<Integer>> batchInsert) {
+    return BatchWriter.<Integer>builder()
+        .name("test")
+        .capacity(capacity)
+        .maxBatchSize(3)
+        .flushInterval(Duration.ofMillis(10))
+        .offerTimeout(Duration.ZERO)
+        .batchInsert(batchInsert)
+        .metrics(metrics)
+        .build();
+  }
+
+  private long count(final String metric) {
+    return metrics.counter(MetricRegistry.name(BatchWriter.class, "test", metric)).getCount();
+  }
+
+  @Test
+  void queuedRecordsAreWrittenInBatchesByTheTimeTheWriterIsStopped() throws Exception {
+    final BatchWriter<Integer> batchWriter =
+        newBatchWriter(100, batch -> batches.add(List.copyOf(batch)));
+    batchWriter.start();
+
+    IntStream.range(0, 10).forEach(batchWriter::offer);
+    batchWriter.stop();
+
+    assertThat(
+        batches.stream().flatMap(Collection::stream).collect(Collectors.toList()),
+        contains(0, 1, 2, 3, 4, 5, 6, 7, 8, 9));
+    assertThat(batches, everyItem(hasSize(lessThanOrEqualTo(3))));
+    assertThat(count("written"), is(10L));
+  }
+
+  @Test
+  void recordsAreDroppedWhenTheQueueIsFull() {
+    final BatchWriter<Integer> batchWriter =
+        newBatchWriter(2, batch -> batches.add(List.copyOf(batch)));
+
+    assertThat(batchWriter.offer(1), is(true));
+    assertThat(batchWriter.offer(2), is(true));
+    assertThat(batchWriter.offer(3), is(false));
+    batchWriter.flush();
+
+    assertThat(batches, contains(List.of(1, 2)));
+    assertThat(count("dropped"), is(1L));
+  }
+
+  @Test
+  void failedBatchesAreCounted() {
+    final BatchWriter<Integer> batchWriter =
+        newBatchWriter(
+            10,
+            batch -> {
+              throw new IllegalStateException("simulated database failure");
+            });
+
+    batchWriter.offer(1);
+    batchWriter.offer(2);
+    batchWriter.flush();
+
+    assertThat(batches, is(empty()));
+    assertThat(count("failed"), is(2L));
+    assertThat(count("written"), is(0L));
+  }
+
+  @Test
+  void recordsOfFailedBatchesAreRetriedOneByOne() {
+    final BatchWriter<Integer> batchWriter =
+        newBatchWriter(
+            10,
+            batch -> {
+              if (batch.contains(2)) {
+                throw new IllegalStateException("simulated constraint violation");
+              }
+              batches.add(List.copyOf(batch));
+            });
+
+    IntStream.range(1, 4).forEach(batchWriter::offer);
+    batchWriter.flush();
+
+    assertThat(batches, contains(List.of(1), List.of(3)));
+    assertThat(count("failed"), is(1L));
+    assertThat(count("written"), is(2L));
+  }
+
+  @Test
+  void recordsOfferedAfterStopAreDropped() throws Exception {
+    final BatchWriter<Integer> batchWriter =
+        newBatchWriter(10, batch -> batches.add(List.copyOf(batch)));
+    batchWriter.start();
+    batchWriter.stop();
+
+    assertThat(batchWriter.offer(1), is(false));
+    assertThat(count("dropped"), is(1L));
+  }
+}
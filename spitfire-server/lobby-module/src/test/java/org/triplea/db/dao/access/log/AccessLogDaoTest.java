@@ -114,4 +114,22 @@ class AccessLogDaoTest extends LobbyServerTest {
     accessLogDao.insertUserAccessRecord("anonymous", "127.0.0.50", "anonymous-system-id");
     accessLogDao.insertUserAccessRecord("registered_user", "127.0.0.20", "registered-system-id");
   }
+
+  @Test
+  @DataSet(cleanBefore = true, value = EMPTY_ACCESS_LOG, useSequenceFiltering = false)
+  @ExpectedDataSet(value = "access_log/access_log_post_insert.yml", orderBy = "username")
+  void insertAccessLogRecordsInBatch() {
+    accessLogDao.insertUserAccessRecords(
+        List.of(
+            InsertAccessLogParams.builder()
+                .username("anonymous")
+                .ip("127.0.0.50")
+                .systemId("anonymous-system-id")
+                .build(),
+            InsertAccessLogParams.builder()
+                .username("registered_user")
+                .ip("127.0.0.20")
+                .systemId("registered-system-id")
+                .build()));
+  }
 }
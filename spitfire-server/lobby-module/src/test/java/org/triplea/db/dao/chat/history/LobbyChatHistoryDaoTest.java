@@ -2,6 +2,7 @@ package org.triplea.db.dao.chat.history;
 
 import com.github.database.rider.core.api.dataset.DataSet;
 import com.github.database.rider.core.api.dataset.ExpectedDataSet;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.Test;
 import org.triplea.http.LobbyServerTest;
@@ -22,4 +23,22 @@ class LobbyChatHistoryDaoTest extends LobbyServerTest {
   void insertChatMessage() {
     lobbyChatHistoryDao.insertMessage("username", 3000, "message");
   }
+
+  @Test
+  @DataSet(
+      value =
+          "lobby_chat_history/user_role.yml,"
+              + "lobby_chat_history/lobby_user.yml,"
+              + "lobby_chat_history/lobby_api_key.yml",
+      useSequenceFiltering = false)
+  @ExpectedDataSet("lobby_chat_history/lobby_chat_history_post_insert.yml")
+  void insertChatMessages() {
+    lobbyChatHistoryDao.insertMessages(
+        List.of(
+            InsertChatMessageParams.builder()
+                .username("username")
+                .apiKeyId(3000)
+                .message("message")
+                .build()));
+  }
 }
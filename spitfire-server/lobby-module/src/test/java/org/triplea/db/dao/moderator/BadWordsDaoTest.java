@@ -5,13 +5,9 @@ import static org.hamcrest.core.Is.is;
 
 import com.github.database.rider.core.api.dataset.DataSet;
 import com.github.database.rider.core.api.dataset.ExpectedDataSet;
-import java.util.ArrayList;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.params.ParameterizedTest;
-import org.junit.jupiter.params.provider.MethodSource;
-import org.junit.jupiter.params.provider.ValueSource;
 import org.triplea.http.LobbyServerTest;
 
 @DataSet(value = "bad_words/bad_word.yml", useSequenceFiltering = false)
@@ -41,23 +37,4 @@ class BadWordsDaoTest extends LobbyServerTest {
 
     expectedBadWords.forEach(badWord -> assertThat(badWordsDao.removeBadWord(badWord), is(1)));
   }
-
-  @SuppressWarnings("unused")
-  private static List<String> badWordContains() {
-    final List<String> badWords = new ArrayList<>(List.of("zzZz", "_two_"));
-    badWords.addAll(expectedBadWords);
-    return badWords;
-  }
-
-  @ParameterizedTest
-  @MethodSource
-  void badWordContains(final String badWord) {
-    assertThat(badWordsDao.containsBadWord(badWord), is(true));
-  }
-
-  @ParameterizedTest
-  @ValueSource(strings = {"zz", "", "some string not containing any bad words"})
-  void notBadWordContains(final String notInBadWords) {
-    assertThat(badWordsDao.containsBadWord(notInBadWords), is(false));
-  }
 }
@@ -0,0 +1,124 @@
+package org.triplea.modules.access.authentication;
+
+import static com.github.npathai.hamcrestopt.OptionalMatchers.isEmpty;
+import static com.github.npathai.hamcrestopt.OptionalMatchers.isPresentAndIs;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.codahale.metrics.MetricRegistry;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.triplea.db.dao.user.role.UserRole;
+import org.triplea.domain.data.ApiKey;
+import org.triplea.modules.TestData;
+
+@ExtendWith(MockitoExtension.class)
+class CachingApiKeyAuthenticatorTest {
+  private static final String API_KEY = TestData.API_KEY.getValue();
+  private static final AuthenticatedUser USER =
+      AuthenticatedUser.builder()
+          .apiKey(ApiKey.of(API_KEY))
+          .userId(100)
+          .name("player-name")
+          .userRole(UserRole.PLAYER)
+          .build();
+
+  @Mock private ApiKeyAuthenticator apiKeyAuthenticator;
+
+  private final AtomicLong nanoTime = new AtomicLong();
+  private final MetricRegistry metrics = new MetricRegistry();
+  private CachingApiKeyAuthenticator authenticator;
+
+  @BeforeEach
+  void setUp() {
+    authenticator = new CachingApiKeyAuthenticator(apiKeyAuthenticator, nanoTime::get, metrics);
+  }
+
+  private void advanceTime(final Duration duration) {
+    nanoTime.addAndGet(duration.toNanos());
+  }
+
+  @Test
+  void validKeyIsLookedUpOnceWithinTimeToLive() {
+    when(apiKeyAuthenticator.authenticate(API_KEY)).thenReturn(Optional.of(USER));
+
+    assertThat(authenticator.authenticate(API_KEY), isPresentAndIs(USER));
+    advanceTime(CachingApiKeyAuthenticator.VALID_KEY_TTL.minusSeconds(1));
+    assertThat(authenticator.authenticate(API_KEY), isPresentAndIs(USER));
+    verify(apiKeyAuthenticator, times(1)).authenticate(API_KEY);
+
+    advanceTime(Duration.ofSeconds(2));
+    assertThat(authenticator.authenticate(API_KEY), isPresentAndIs(USER));
+    verify(apiKeyAuthenticator, times(2)).authenticate(API_KEY);
+  }
+
+  @Test
+  void unknownKeyIsCachedForShorterTime() {
+    when(apiKeyAuthenticator.authenticate(API_KEY)).thenReturn(Optional.empty());
+
+    assertThat(authenticator.authenticate(API_KEY), isEmpty());
+    assertThat(authenticator.authenticate(API_KEY), isEmpty());
+    verify(apiKeyAuthenticator, times(1)).authenticate(API_KEY);
+
+    advanceTime(CachingApiKeyAuthenticator.UNKNOWN_KEY_TTL.plusSeconds(1));
+    assertThat(authenticator.authenticate(API_KEY), isEmpty());
+    verify(apiKeyAuthenticator, times(2)).authenticate(API_KEY);
+    assertThat(
+        metrics
+            .counter(MetricRegistry.name(CachingApiKeyAuthenticator.class, "rejected-keys"))
+            .getCount(),
+        is(3L));
+  }
+
+  @Test
+  void invalidatedUserIsLookedUpAgain() {
+    when(apiKeyAuthenticator.authenticate(API_KEY)).thenReturn(Optional.of(USER));
+    authenticator.authenticate(API_KEY);
+
+    authenticator.invalidateUser("other-player");
+    authenticator.authenticate(API_KEY);
+    verify(apiKeyAuthenticator, times(1)).authenticate(API_KEY);
+
+    authenticator.invalidateUser(USER.getName());
+    authenticator.authenticate(API_KEY);
+    verify(apiKeyAuthenticator, times(2)).authenticate(API_KEY);
+  }
+
+  @Test
+  void userInvalidatedWhileLookingUpKeyIsLookedUpAgain() {
+    when(apiKeyAuthenticator.authenticate(API_KEY))
+        .thenAnswer(
+            invocation -> {
+              authenticator.invalidateUser(USER.getName());
+              return Optional.of(USER);
+            })
+        .thenReturn(Optional.of(USER));
+
+    authenticator.authenticate(API_KEY);
+    authenticator.authenticate(API_KEY);
+    authenticator.authenticate(API_KEY);
+
+    verify(apiKeyAuthenticator, times(2)).authenticate(API_KEY);
+  }
+
+  @Test
+  void hitRateIsExposedAsMetric() {
+    when(apiKeyAuthenticator.authenticate(API_KEY)).thenReturn(Optional.of(USER));
+    authenticator.authenticate(API_KEY);
+    authenticator.authenticate(API_KEY);
+
+    final String hitRate = MetricRegistry.name(CachingApiKeyAuthenticator.class, "hit-rate");
+    assertThat(metrics.getGauges(), hasKey(hitRate));
+    assertThat((Double) metrics.getGauges().get(hitRate).getValue(), is(0.5));
+  }
+}
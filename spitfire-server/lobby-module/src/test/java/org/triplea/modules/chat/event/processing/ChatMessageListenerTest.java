@@ -3,9 +3,7 @@ package org.triplea.modules.chat.event.processing;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.never;
-import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -19,7 +17,8 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.triplea.db.dao.chat.history.LobbyChatHistoryDao;
+import org.triplea.db.BatchWriter;
+import org.triplea.db.dao.chat.history.InsertChatMessageParams;
 import org.triplea.domain.data.ChatParticipant;
 import org.triplea.domain.data.PlayerChatId;
 import org.triplea.domain.data.UserName;
@@ -36,7 +35,7 @@ import org.triplea.web.socket.WebSocketSession;
 class ChatMessageListenerTest {
 
   @Mock private Chatters chatters;
-  @Mock private LobbyChatHistoryDao lobbyChatHistoryDao;
+  @Mock private BatchWriter<InsertChatMessageParams> chatHistoryWriter;
   @InjectMocks private ChatMessageListener chatMessageListener;
 
   @Mock private WebSocketSession session;
@@ -72,7 +71,7 @@ class ChatMessageListenerTest {
     chatMessageListener.accept(messageContext);
 
     verify(messageContext, never()).broadcastMessage(any());
-    verify(lobbyChatHistoryDao, never()).recordMessage(any(), anyInt());
+    verify(chatHistoryWriter, never()).offer(any());
   }
 
   @Test
@@ -92,7 +91,7 @@ class ChatMessageListenerTest {
     assertThat(
         chatReceivedMessage.getSender(),
         is(UserName.of(chatterSession.getChatParticipant().getUserName().getValue())));
-    verify(lobbyChatHistoryDao, timeout(1000)).recordMessage(chatReceivedMessage, 123);
+    verify(chatHistoryWriter).offer(InsertChatMessageParams.of(chatReceivedMessage, 123));
   }
 
   @Test
@@ -0,0 +1,39 @@
+package org.triplea.modules.moderation.bad.words;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import java.util.List;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class BadWordMatcherTest {
+  private final BadWordMatcher matcher = new BadWordMatcher(List.of("she", "he", "hers", "BAD"));
+
+  @ParameterizedTest
+  @ValueSource(strings = {"bad", "Bad", "xxBADxx", "she", "ushers", "ahe", "hers!"})
+  void containsBadWord(final String text) {
+    assertThat(matcher.containsBadWord(text), is(true));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"", "ba", "b-a-d", "hs", "sh", "ba d", "good name"})
+  void doesNotContainBadWord(final String text) {
+    assertThat(matcher.containsBadWord(text), is(false));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"a_c", "x%y"})
+  void wildcardCharactersMatchLiterally(final String text) {
+    final BadWordMatcher wildcardMatcher = new BadWordMatcher(List.of("a_c", "x%y"));
+
+    assertThat(wildcardMatcher.containsBadWord(text), is(true));
+    assertThat(wildcardMatcher.containsBadWord(text.replaceAll("[_%]", "b")), is(false));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"", "any text"})
+  void emptyWordListMatchesNothing(final String text) {
+    assertThat(new BadWordMatcher(List.of()).containsBadWord(text), is(false));
+  }
+}
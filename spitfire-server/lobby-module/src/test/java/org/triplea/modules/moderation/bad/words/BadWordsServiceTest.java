@@ -27,6 +27,7 @@ class BadWordsServiceTest {
 
   @Mock private BadWordsDao badWordsDao;
   @Mock private ModeratorAuditHistoryDao moderatorAuditHistoryDao;
+  @Mock private BadWords badWords;
 
   @InjectMocks private BadWordsService badWordsService;
 
@@ -43,6 +44,7 @@ class BadWordsServiceTest {
                 .actionName(ModeratorAuditHistoryDao.AuditAction.REMOVE_BAD_WORD)
                 .actionTarget(TEST_VALUE)
                 .build());
+    verify(badWords).reload();
   }
 
   @Test
@@ -52,6 +54,7 @@ class BadWordsServiceTest {
     assertThat(badWordsService.removeBadWord(MODERATOR_ID, TEST_VALUE), is(false));
 
     verify(moderatorAuditHistoryDao, never()).addAuditRecord(any());
+    verify(badWords, never()).reload();
   }
 
   @Test
@@ -67,6 +70,7 @@ class BadWordsServiceTest {
                 .actionName(ModeratorAuditHistoryDao.AuditAction.ADD_BAD_WORD)
                 .actionTarget(TEST_VALUE)
                 .build());
+    verify(badWords).reload();
   }
 
   @Test
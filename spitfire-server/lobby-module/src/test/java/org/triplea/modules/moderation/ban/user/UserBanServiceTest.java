@@ -28,6 +28,7 @@ import org.triplea.db.dao.user.ban.UserBanRecord;
 import org.triplea.http.client.lobby.moderator.toolbox.banned.user.UserBanData;
 import org.triplea.http.client.lobby.moderator.toolbox.banned.user.UserBanParams;
 import org.triplea.java.IpAddressParser;
+import org.triplea.modules.access.authentication.CachingApiKeyAuthenticator;
 import org.triplea.modules.chat.Chatters;
 import org.triplea.web.socket.WebSocketMessagingBus;
 
@@ -74,6 +75,7 @@ class UserBanServiceTest {
   @Mock
   private PlayerApiKeyDaoWrapper apiKeyDaoWrapper;
 
+  @Mock private CachingApiKeyAuthenticator apiKeyAuthenticator;
   @Mock private WebSocketMessagingBus chatMessagingBus;
   @Mock private WebSocketMessagingBus gameMessagingBus;
 
@@ -88,6 +90,7 @@ class UserBanServiceTest {
             publicIdSupplier,
             chatters,
             apiKeyDaoWrapper,
+            apiKeyAuthenticator,
             chatMessagingBus,
             gameMessagingBus);
   }
@@ -183,5 +186,6 @@ class UserBanServiceTest {
 
     verify(chatMessagingBus).broadcastMessage(any());
     verify(gameMessagingBus).broadcastMessage(any());
+    verify(apiKeyAuthenticator).invalidateUser(USERNAME);
   }
 }
@@ -23,6 +23,7 @@ import org.triplea.db.dao.api.key.PlayerIdentifiersByApiKeyLookup;
 import org.triplea.db.dao.moderator.ModeratorAuditHistoryDao;
 import org.triplea.domain.data.PlayerChatId;
 import org.triplea.http.client.web.socket.messages.envelopes.chat.ChatEventReceivedMessage;
+import org.triplea.modules.access.authentication.CachingApiKeyAuthenticator;
 import org.triplea.modules.chat.Chatters;
 import org.triplea.web.socket.WebSocketMessagingBus;
 
@@ -41,6 +42,7 @@ class DisconnectUserActionTest {
 
   @Mock private PlayerApiKeyDaoWrapper apiKeyDaoWrapper;
   @Mock private Chatters chatters;
+  @Mock private CachingApiKeyAuthenticator apiKeyAuthenticator;
   @Mock private WebSocketMessagingBus playerConnections;
   @Mock private ModeratorAuditHistoryDao moderatorAuditHistoryDao;
 
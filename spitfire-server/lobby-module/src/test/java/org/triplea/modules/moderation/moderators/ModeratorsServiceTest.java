@@ -17,6 +17,7 @@ import org.triplea.db.dao.moderator.ModeratorAuditHistoryDao;
 import org.triplea.db.dao.moderator.ModeratorsDao;
 import org.triplea.db.dao.user.UserJdbiDao;
 import org.triplea.db.dao.user.role.UserRole;
+import org.triplea.modules.access.authentication.CachingApiKeyAuthenticator;
 
 @ExtendWith(MockitoExtension.class)
 class ModeratorsServiceTest {
@@ -28,6 +29,7 @@ class ModeratorsServiceTest {
   @Mock private ModeratorsDao moderatorsDao;
   @Mock private UserJdbiDao userJdbiDao;
   @Mock private ModeratorAuditHistoryDao moderatorAuditHistoryDao;
+  @Mock private CachingApiKeyAuthenticator apiKeyAuthenticator;
 
   @InjectMocks private ModeratorsService moderatorsService;
 
@@ -64,6 +66,7 @@ class ModeratorsServiceTest {
                   .actionName(ModeratorAuditHistoryDao.AuditAction.ADD_MODERATOR)
                   .actionTarget(USERNAME)
                   .build());
+      verify(apiKeyAuthenticator).invalidateUser(USERNAME);
     }
   }
 
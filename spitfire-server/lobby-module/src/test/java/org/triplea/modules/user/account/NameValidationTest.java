@@ -13,9 +13,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.triplea.db.dao.moderator.BadWordsDao;
 import org.triplea.db.dao.user.UserJdbiDao;
 import org.triplea.db.dao.username.ban.UsernameBanDao;
+import org.triplea.modules.moderation.bad.words.BadWords;
 
 @ExtendWith(MockitoExtension.class)
 class NameValidationTest {
@@ -24,7 +24,7 @@ class NameValidationTest {
   private static final String ERROR_MESSAGE = "error-sample";
 
   @Mock private Function<String, Optional<String>> syntaxValidation;
-  @Mock private BadWordsDao badWordsDao;
+  @Mock private BadWords badWords;
   @Mock private UserJdbiDao userJdbiDao;
   @Mock private UsernameBanDao usernameBanDao;
 
@@ -35,7 +35,7 @@ class NameValidationTest {
     nameValidation =
         NameValidation.builder()
             .syntaxValidation(syntaxValidation)
-            .badWordsDao(badWordsDao)
+            .badWords(badWords)
             .userJdbiDao(userJdbiDao)
             .usernameBanDao(usernameBanDao)
             .build();
@@ -53,7 +53,7 @@ class NameValidationTest {
   @Test
   void containsBadWord() {
     when(syntaxValidation.apply(NAME)).thenReturn(Optional.empty());
-    when(badWordsDao.containsBadWord(NAME)).thenReturn(true);
+    when(badWords.containsBadWord(NAME)).thenReturn(true);
 
     final Optional<String> result = nameValidation.apply(NAME);
 
@@ -63,7 +63,7 @@ class NameValidationTest {
   @Test
   void valid() {
     when(syntaxValidation.apply(NAME)).thenReturn(Optional.empty());
-    when(badWordsDao.containsBadWord(NAME)).thenReturn(false);
+    when(badWords.containsBadWord(NAME)).thenReturn(false);
 
     final Optional<String> result = nameValidation.apply(NAME);
 
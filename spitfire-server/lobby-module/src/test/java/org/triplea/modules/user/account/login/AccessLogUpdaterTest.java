@@ -1,15 +1,14 @@
 package org.triplea.modules.user.account.login;
 
-import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.triplea.db.dao.access.log.AccessLogDao;
+import org.triplea.db.BatchWriter;
+import org.triplea.db.dao.access.log.InsertAccessLogParams;
 import org.triplea.domain.data.PlayerChatId;
 import org.triplea.domain.data.SystemId;
 import org.triplea.domain.data.UserName;
@@ -25,25 +24,25 @@ class AccessLogUpdaterTest {
           .userName(UserName.of("player-name"))
           .build();
 
-  @Mock private AccessLogDao accessLogDao;
+  @Mock private BatchWriter<InsertAccessLogParams> accessLogWriter;
 
   private AccessLogUpdater accessLogUpdater;
 
   @BeforeEach
   void setUp() {
-    accessLogUpdater = AccessLogUpdater.builder().accessLogDao(accessLogDao).build();
+    accessLogUpdater = AccessLogUpdater.builder().accessLogWriter(accessLogWriter).build();
   }
 
   @Test
   void insertUserAccessRecord() {
-    when(accessLogDao.insertUserAccessRecord(any(), any(), any())).thenReturn(1);
-
     accessLogUpdater.accept(REGISTERED_LOGIN_RECORD);
 
-    verify(accessLogDao)
-        .insertUserAccessRecord(
-            REGISTERED_LOGIN_RECORD.getUserName().getValue(),
-            REGISTERED_LOGIN_RECORD.getIp(),
-            REGISTERED_LOGIN_RECORD.getSystemId().getValue());
+    verify(accessLogWriter)
+        .offer(
+            InsertAccessLogParams.builder()
+                .username(REGISTERED_LOGIN_RECORD.getUserName().getValue())
+                .ip(REGISTERED_LOGIN_RECORD.getIp())
+                .systemId(REGISTERED_LOGIN_RECORD.getSystemId().getValue())
+                .build());
   }
 }